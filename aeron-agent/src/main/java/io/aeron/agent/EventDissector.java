@@ -35,6 +35,7 @@ public class EventDissector
     private static final StatusMessageFlyweight SM_HEADER = new StatusMessageFlyweight();
     private static final NakFlyweight NAK_HEADER = new NakFlyweight();
     private static final SetupFlyweight SETUP_HEADER = new SetupFlyweight();
+    private static final FecHeaderFlyweight FEC_HEADER = new FecHeaderFlyweight();
     private static final PublicationMessageFlyweight PUB_MESSAGE = new PublicationMessageFlyweight();
     private static final SubscriptionMessageFlyweight SUB_MESSAGE = new SubscriptionMessageFlyweight();
     private static final PublicationBuffersReadyFlyweight PUBLICATION_READY = new PublicationBuffersReadyFlyweight();
@@ -59,6 +60,7 @@ public class EventDissector
         {
             case HeaderFlyweight.HDR_TYPE_PAD:
             case HeaderFlyweight.HDR_TYPE_DATA:
+            case HeaderFlyweight.HDR_TYPE_CDATA:
                 final DataHeaderFlyweight dataFrame = DATA_HEADER;
                 dataFrame.wrap(buffer, frameOffset, buffer.capacity() - frameOffset);
                 builder.append(dissect(dataFrame));
@@ -82,6 +84,12 @@ public class EventDissector
                 builder.append(dissect(setupFrame));
                 break;
 
+            case HeaderFlyweight.HDR_TYPE_FEC:
+                final FecHeaderFlyweight fecFrame = FEC_HEADER;
+                fecFrame.wrap(buffer,  frameOffset, buffer.capacity() - frameOffset);
+                builder.append(dissect(fecFrame));
+                break;
+
             default:
                 builder.append("FRAME_UNKNOWN");
                 break;
@@ -266,6 +274,21 @@ public class EventDissector
             msg.receiverWindowLength());
     }
 
+    private static String dissect(final FecHeaderFlyweight msg)
+    {
+        return String.format(
+            "FEC 0x%x len %d %d:%d:%d @%x parity %d/%d packets %d",
+            msg.flags(),
+            msg.frameLength(),
+            msg.sessionId(),
+            msg.streamId(),
+            msg.termId(),
+            msg.termOffset(),
+            msg.parityIndex(),
+            msg.parityCount(),
+            msg.packetCount());
+    }
+
     private static String dissect(final NakFlyweight msg)
     {
         return String.format(
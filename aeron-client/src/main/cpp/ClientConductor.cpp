@@ -97,6 +97,11 @@ std::shared_ptr<Publication> ClientConductor::findPublication(std::int64_t regis
 
             case RegistrationStatus::REGISTERED_MEDIA_DRIVER:
                 {
+                    if (!isCounterInCncFile(state.m_positionLimitCounterId))
+                    {
+                        throw counterSegmentNotSupported(state.m_positionLimitCounterId);
+                    }
+
                     UnsafeBufferPosition publicationLimit(m_counterValuesBuffer, state.m_positionLimitCounterId);
 
                     pub = std::make_shared<Publication>(*this, state.m_channel, state.m_registrationId, state.m_streamId,
@@ -325,6 +330,14 @@ void ClientConductor::onAvailableImage(
                     {
                         if (subscription->registrationId() == subscriberPositions[i].registrationId)
                         {
+                            if (!isCounterInCncFile(subscriberPositions[i].indicatorId))
+                            {
+                                IllegalStateException exception =
+                                    counterSegmentNotSupported(subscriberPositions[i].indicatorId);
+                                m_errorHandler(exception);
+                                break;
+                            }
+
                             std::shared_ptr<LogBuffers> logBuffers = std::make_shared<LogBuffers>(logFilename.c_str());
 
                             UnsafeBufferPosition subscriberPosition(m_counterValuesBuffer, subscriberPositions[i].indicatorId);
@@ -60,7 +60,7 @@ public:
         long interServiceTimeoutNs,
         long publicationConnectionTimeoutMs) :
         m_driverProxy(driverProxy),
-        m_driverListenerAdapter(broadcastReceiver, *this),
+        m_driverListenerAdapter(broadcastReceiver, *this, driverProxy.clientId()),
         m_counterValuesBuffer(counterValuesBuffer),
         m_onNewPublicationHandler(newPublicationHandler),
         m_onNewSubscriptionHandler(newSubscriptionHandler),
@@ -242,6 +242,23 @@ private:
 
     std::atomic<bool> m_driverActive;
 
+    /**
+     * Counters allocated by the driver beyond the CnC file are in segment files which this client does not map, so
+     * refuse them rather than reading past the end of the CnC counters values buffer.
+     */
+    inline bool isCounterInCncFile(std::int32_t counterId)
+    {
+        return (CountersReader::counterOffset(counterId) + CountersReader::COUNTER_LENGTH) <=
+            m_counterValuesBuffer.capacity();
+    }
+
+    inline IllegalStateException counterSegmentNotSupported(std::int32_t counterId)
+    {
+        return IllegalStateException(
+            strPrintf("Counter id %d is in a counters segment beyond the CnC file, not supported by this client", counterId),
+            SOURCEINFO);
+    }
+
     inline int onHeartbeatCheckTimeouts()
     {
         // TODO: use system nano clock since it is quicker to poll, then use epochClock only for driver activity
@@ -48,7 +48,7 @@ using namespace aeron::concurrent;
 *  +----------------------------+
 * </pre>
 *
-* Meta Data Layout (CnC Version 4)
+* Meta Data Layout (CnC Version 5)
 * <pre>
 *  +----------------------------+
 *  |   to-driver buffer length  |
@@ -64,13 +64,15 @@ using namespace aeron::concurrent;
 *  +----------------------------+
 *  |      Error Log length      |
 *  +----------------------------+
+*  |   Counters segment count   |
+*  +----------------------------+
 * </pre>
 */
 namespace CncFileDescriptor {
 
 static const std::string CNC_FILE = "cnc.dat";
 
-static const std::int32_t CNC_VERSION = 4;
+static const std::int32_t CNC_VERSION = 5;
 
 #pragma pack(push)
 #pragma pack(4)
@@ -83,6 +85,7 @@ struct MetaDataDefn
     std::int32_t counterValuesBufferLength;
     std::int64_t clientLivenessTimeout;
     std::int32_t errorLogBufferLength;
+    std::int32_t counterSegmentCount;
 };
 #pragma pack(pop)
 
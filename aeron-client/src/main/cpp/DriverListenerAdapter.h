@@ -30,21 +30,36 @@ using namespace aeron::command;
 using namespace aeron::concurrent;
 using namespace aeron::concurrent::broadcast;
 
+/**
+ * Each message from the driver is preceded by the id of the client it is for, or ALL_CLIENTS.
+ */
+static const std::int64_t ALL_CLIENTS = -1;
+static const util::index_t CLIENT_RESPONSE_HEADER_LENGTH = sizeof(std::int64_t);
+
 template <class DriverListener>
 class DriverListenerAdapter
 {
 public:
-    DriverListenerAdapter(CopyBroadcastReceiver& broadcastReceiver, DriverListener& driverListener) :
+    DriverListenerAdapter(CopyBroadcastReceiver& broadcastReceiver, DriverListener& driverListener, std::int64_t clientId) :
         m_broadcastReceiver(broadcastReceiver),
-        m_driverListener(driverListener)
+        m_driverListener(driverListener),
+        m_clientId(clientId)
     {
     }
 
     int receiveMessages()
     {
         return m_broadcastReceiver.receive(
-            [&](std::int32_t msgTypeId, AtomicBuffer& buffer, util::index_t offset, util::index_t length)
+            [&](std::int32_t msgTypeId, AtomicBuffer& buffer, util::index_t headerOffset, util::index_t length)
             {
+                const std::int64_t targetClientId = buffer.getInt64(headerOffset);
+                if (targetClientId != m_clientId && targetClientId != ALL_CLIENTS)
+                {
+                    return;
+                }
+
+                const util::index_t offset = headerOffset + CLIENT_RESPONSE_HEADER_LENGTH;
+
                 switch (msgTypeId)
                 {
                     case ControlProtocolEvents::ON_PUBLICATION_READY:
@@ -113,6 +128,7 @@ public:
 private:
     CopyBroadcastReceiver& m_broadcastReceiver;
     DriverListener& m_driverListener;
+    std::int64_t m_clientId;
 };
 
 }
@@ -42,6 +42,11 @@ public:
     DriverProxy(const DriverProxy& proxy) = delete;
     DriverProxy& operator=(const DriverProxy& proxy) = delete;
 
+    inline std::int64_t clientId() const
+    {
+        return m_clientId;
+    }
+
     inline std::int64_t timeOfLastDriverKeepalive()
     {
         return m_toDriverCommandBuffer.consumerHeartbeatTime();
@@ -76,6 +81,7 @@ public:
         {
             RemoveMessageFlyweight removeMessage(buffer, 0);
 
+            removeMessage.clientId(m_clientId);
             removeMessage.correlationId(correlationId);
             removeMessage.registrationId(registrationId);
 
@@ -117,6 +123,7 @@ public:
         {
             RemoveMessageFlyweight removeMessage(buffer, 0);
 
+            removeMessage.clientId(m_clientId);
             removeMessage.correlationId(correlationId);
             removeMessage.registrationId(registrationId);
 
@@ -24,41 +24,54 @@ using namespace aeron::concurrent::logbuffer;
 LogBuffers::LogBuffers(const char *filename)
 {
     const std::int64_t logLength = MemoryMappedFile::getFileSize(filename);
-    const std::int64_t termLength = LogBufferDescriptor::computeTermLength(logLength);
-
-    LogBufferDescriptor::checkTermLength(termLength);
+    const std::int64_t metaDataSectionOffset = LogBufferDescriptor::computeMetaDataSectionOffset(logLength);
 
     if (logLength < LogBufferDescriptor::MAX_SINGLE_MAPPING_SIZE)
     {
         m_memoryMappedFiles.push_back(MemoryMappedFile::mapExisting(filename));
 
-        const index_t metaDataSectionOffset = (index_t) (termLength * LogBufferDescriptor::PARTITION_COUNT);
-
         std::uint8_t *basePtr = m_memoryMappedFiles[0]->getMemoryPtr();
 
+        m_buffers[2 * LogBufferDescriptor::PARTITION_COUNT]
+            .wrap(basePtr + (logLength - LogBufferDescriptor::LOG_META_DATA_LENGTH),
+                LogBufferDescriptor::LOG_META_DATA_LENGTH);
+
+        const index_t termLength =
+            LogBufferDescriptor::termLength(m_buffers[2 * LogBufferDescriptor::PARTITION_COUNT]);
+
+        LogBufferDescriptor::checkTermLength(termLength);
+
         for (int i = 0; i < LogBufferDescriptor::PARTITION_COUNT; i++)
         {
-            const index_t metaDataOffset = metaDataSectionOffset + (i * LogBufferDescriptor::TERM_META_DATA_LENGTH);
+            const index_t metaDataOffset =
+                (index_t)metaDataSectionOffset + (i * LogBufferDescriptor::TERM_META_DATA_LENGTH);
 
             m_buffers[i].wrap(basePtr + (i * termLength), termLength);
             m_buffers[i + LogBufferDescriptor::PARTITION_COUNT]
                 .wrap(basePtr + metaDataOffset, LogBufferDescriptor::TERM_META_DATA_LENGTH);
         }
-
-        m_buffers[2 * LogBufferDescriptor::PARTITION_COUNT]
-            .wrap(basePtr + (logLength - LogBufferDescriptor::LOG_META_DATA_LENGTH),
-                LogBufferDescriptor::LOG_META_DATA_LENGTH);
     }
     else
     {
-        const std::int64_t metaDataSectionOffset = (index_t) (termLength * LogBufferDescriptor::PARTITION_COUNT);
-        const std::int64_t metaDataSectionLength = (index_t) (logLength - metaDataSectionOffset);
+        // the meta data section may not start on a page boundary when the log is padded so map from the page it is in
+        const std::int64_t pageLength = (std::int64_t)MemoryMappedFile::getPageSize();
+        const std::int64_t mappingOffset = metaDataSectionOffset & ~(pageLength - 1);
+        const std::int64_t mappingDelta = metaDataSectionOffset - mappingOffset;
 
         // one single map for all meta data (terms and log)
-        m_memoryMappedFiles.push_back(
-            MemoryMappedFile::mapExisting(filename, metaDataSectionOffset, metaDataSectionLength));
+        m_memoryMappedFiles.push_back(MemoryMappedFile::mapExisting(
+            filename, mappingOffset, mappingDelta + LogBufferDescriptor::META_DATA_SECTION_LENGTH));
+
+        std::uint8_t *metaDataBasePtr = m_memoryMappedFiles[0]->getMemoryPtr() + mappingDelta;
+
+        m_buffers[2 * LogBufferDescriptor::PARTITION_COUNT]
+            .wrap(metaDataBasePtr + (LogBufferDescriptor::META_DATA_SECTION_LENGTH - LogBufferDescriptor::LOG_META_DATA_LENGTH),
+                LogBufferDescriptor::LOG_META_DATA_LENGTH);
+
+        const std::int64_t termLength =
+            LogBufferDescriptor::termLength(m_buffers[2 * LogBufferDescriptor::PARTITION_COUNT]);
 
-        std::uint8_t *metaDataBasePtr = m_memoryMappedFiles[0]->getMemoryPtr();
+        LogBufferDescriptor::checkTermLength(termLength);
 
         for (int i = 0; i < LogBufferDescriptor::PARTITION_COUNT; i++)
         {
@@ -72,10 +85,6 @@ LogBuffers::LogBuffers(const char *filename)
                 .wrap(metaDataBasePtr + (i * LogBufferDescriptor::TERM_META_DATA_LENGTH),
                     LogBufferDescriptor::TERM_META_DATA_LENGTH);
         }
-
-        m_buffers[2 * LogBufferDescriptor::PARTITION_COUNT]
-            .wrap(metaDataBasePtr + (metaDataSectionLength - LogBufferDescriptor::LOG_META_DATA_LENGTH),
-                LogBufferDescriptor::LOG_META_DATA_LENGTH);
     }
 }
 
@@ -33,6 +33,8 @@ struct ControlProtocolEvents
     static const std::int32_t ADD_PUBLICATION = 0x01;
     /** Remove Publication */
     static const std::int32_t REMOVE_PUBLICATION = 0x02;
+    /** Add Exclusive Publication with its own session and log buffer */
+    static const std::int32_t ADD_EXCLUSIVE_PUBLICATION = 0x03;
     /** Add Subscriber */
     static const std::int32_t ADD_SUBSCRIPTION = 0x04;
     /** Remove Subscriber */
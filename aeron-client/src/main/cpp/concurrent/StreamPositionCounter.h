@@ -26,6 +26,8 @@ static const std::int32_t PUBLISHER_LIMIT_TYPE_ID = 1;
 static const std::int32_t SENDER_POSITION_TYPE_ID = 2;
 static const std::int32_t RECEIVER_HWM_TYPE_ID = 3;
 static const std::int32_t SUBSCRIBER_POSITION_TYPE_ID = 4;
+static const std::int32_t RECEIVER_WINDOW_TYPE_ID = 5;
+static const std::int32_t RECEIVE_SOCKET_DROPS_TYPE_ID = 6;
 
 #pragma pack(push)
 #pragma pack(4)
@@ -40,6 +42,13 @@ struct StreamPositionCounterKeyMetaDataDefn
         std::int8_t  channelData[1];
     } channel;
 };
+
+/** Key of a receive socket drops counter which is keyed by channel only. */
+struct ReceiveSocketDropsKeyMetaDataDefn
+{
+    std::int32_t channelLength;
+    std::int8_t  channelData[1];
+};
 #pragma pack(pop)
 
 }}}
@@ -55,6 +55,8 @@ static const int PARTITION_COUNT = 3;
  *  +----------------------------+
  *  |           Term 2           |
  *  +----------------------------+
+ *  |   Padding to File Page     |
+ *  +----------------------------+
  *  |      Term Meta Data 0      |
  *  +----------------------------+
  *  |      Term Meta Data 1      |
@@ -64,6 +66,9 @@ static const int PARTITION_COUNT = 3;
  *  |        Log Meta Data       |
  *  +----------------------------+
  * </pre>
+ *
+ * The length of the log may be padded to a multiple of the page length of the file system holding it, such as for
+ * hugetlbfs. The meta data is always at the end of the log and the term length is stored in the log meta data.
  */
 
 static const util::index_t TERM_TAIL_COUNTER_OFFSET = (util::BitUtil::CACHE_LINE_LENGTH * 2);
@@ -88,6 +93,17 @@ static const util::index_t LOG_META_DATA_SECTION_INDEX = PARTITION_COUNT * 2;
  *  |                      Cache Line Padding                      ...
  * ...                                                              |
  *  +---------------------------------------------------------------+
+ *  |                       Wakeup Sequence                         |
+ *  |                                                               |
+ *  +---------------------------------------------------------------+
+ *  |                      Cache Line Padding                      ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ *  |                         Waiter Count                          |
+ *  +---------------------------------------------------------------+
+ *  |                      Cache Line Padding                      ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
  *  |                 Registration / Correlation ID                 |
  *  |                                                               |
  *  +---------------------------------------------------------------+
@@ -97,6 +113,8 @@ static const util::index_t LOG_META_DATA_SECTION_INDEX = PARTITION_COUNT * 2;
  *  +---------------------------------------------------------------+
  *  |                          MTU Length                           |
  *  +---------------------------------------------------------------+
+ *  |                          Term Length                          |
+ *  +---------------------------------------------------------------+
  *  |                      Cache Line Padding                      ...
  * ...                                                              |
  *  +---------------------------------------------------------------+
@@ -116,21 +134,30 @@ struct LogMetaDataDefn
     std::int8_t pad1[(2 * util::BitUtil::CACHE_LINE_LENGTH) - sizeof(std::int32_t)];
     std::int64_t timeOfLastStatusMessage;
     std::int8_t pad2[(2 * util::BitUtil::CACHE_LINE_LENGTH) - sizeof(std::int64_t)];
+    std::int64_t wakeupSequence;
+    std::int8_t pad3[(2 * util::BitUtil::CACHE_LINE_LENGTH) - sizeof(std::int64_t)];
+    std::int32_t waiterCount;
+    std::int8_t pad4[(2 * util::BitUtil::CACHE_LINE_LENGTH) - sizeof(std::int32_t)];
     std::int64_t correlationId;
     std::int32_t initialTermId;
     std::int32_t defaultFrameHeaderLength;
     std::int32_t mtuLength;
-    std::int8_t pad3[(util::BitUtil::CACHE_LINE_LENGTH) - (5 * sizeof(std::int32_t))];
+    std::int32_t termLength;
+    std::int8_t pad5[(util::BitUtil::CACHE_LINE_LENGTH) - (6 * sizeof(std::int32_t))];
 };
 #pragma pack(pop)
 
 static const util::index_t LOG_ACTIVE_PARTITION_INDEX_OFFSET = offsetof(LogMetaDataDefn, activePartitionIndex);
 static const util::index_t LOG_TIME_OF_LAST_STATUS_MESSAGE_OFFSET = offsetof(LogMetaDataDefn, timeOfLastStatusMessage);
+static const util::index_t LOG_WAKEUP_SEQUENCE_OFFSET = offsetof(LogMetaDataDefn, wakeupSequence);
+static const util::index_t LOG_WAITER_COUNT_OFFSET = offsetof(LogMetaDataDefn, waiterCount);
 static const util::index_t LOG_INITIAL_TERM_ID_OFFSET = offsetof(LogMetaDataDefn, initialTermId);
 static const util::index_t LOG_DEFAULT_FRAME_HEADER_LENGTH_OFFSET = offsetof(LogMetaDataDefn, defaultFrameHeaderLength);
 static const util::index_t LOG_MTU_LENGTH_OFFSET = offsetof(LogMetaDataDefn, mtuLength);
+static const util::index_t LOG_TERM_LENGTH_OFFSET = offsetof(LogMetaDataDefn, termLength);
 static const util::index_t LOG_DEFAULT_FRAME_HEADER_OFFSET = sizeof(LogMetaDataDefn);
 static const util::index_t LOG_META_DATA_LENGTH = sizeof(LogMetaDataDefn) + LOG_DEFAULT_FRAME_HEADER_MAX_LENGTH;
+static const util::index_t META_DATA_SECTION_LENGTH = (TERM_META_DATA_LENGTH * PARTITION_COUNT) + LOG_META_DATA_LENGTH;
 
 inline static void checkTermLength(std::int64_t termLength)
 {
@@ -170,6 +197,16 @@ inline static std::int32_t mtuLength(AtomicBuffer& logMetaDataBuffer)
     return logMetaDataBuffer.getInt32(LOG_MTU_LENGTH_OFFSET);
 }
 
+inline static std::int32_t termLength(AtomicBuffer& logMetaDataBuffer)
+{
+    return logMetaDataBuffer.getInt32(LOG_TERM_LENGTH_OFFSET);
+}
+
+inline static void termLength(AtomicBuffer& logMetaDataBuffer, std::int32_t termLength)
+{
+    logMetaDataBuffer.putInt32(LOG_TERM_LENGTH_OFFSET, termLength);
+}
+
 inline static std::int32_t activePartitionIndex(AtomicBuffer& logMetaDataBuffer)
 {
     return logMetaDataBuffer.getInt32Volatile(LOG_ACTIVE_PARTITION_INDEX_OFFSET);
@@ -235,10 +272,26 @@ inline static std::int64_t computeLogLength(std::int64_t termLength)
     return (termLength * PARTITION_COUNT) + (TERM_META_DATA_LENGTH * PARTITION_COUNT) + LOG_META_DATA_LENGTH;
 }
 
+inline static std::int64_t computeLogLength(std::int64_t termLength, std::int64_t filePageLength)
+{
+    const std::int64_t mask = filePageLength - 1;
+    return (computeLogLength(termLength) + mask) & ~mask;
+}
+
+/**
+ * The log may be padded to a multiple of the file page length so the meta data is found from the end of the log.
+ */
+inline static std::int64_t computeMetaDataSectionOffset(std::int64_t logLength)
+{
+    return logLength - META_DATA_SECTION_LENGTH;
+}
+
+/**
+ * Term length of a log which is not padded, otherwise the term length is read from the log meta data.
+ */
 inline static std::int64_t computeTermLength(std::int64_t logLength)
 {
-    const std::int64_t metaDataSectionLength = (TERM_META_DATA_LENGTH * PARTITION_COUNT) + LOG_META_DATA_LENGTH;
-    return (logLength - metaDataSectionLength) / 3;
+    return computeMetaDataSectionOffset(logLength) / PARTITION_COUNT;
 }
 
 inline static AtomicBuffer defaultFrameHeader(AtomicBuffer& logMetaDataBuffer)
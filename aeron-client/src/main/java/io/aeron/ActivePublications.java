@@ -16,6 +16,7 @@
 package io.aeron;
 
 import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
 
 import java.util.*;
 
@@ -28,6 +29,7 @@ import static org.agrona.collections.CollectionUtil.getOrDefault;
 public class ActivePublications
 {
     private final Map<String, Int2ObjectHashMap<Publication>> publicationsByChannelMap = new HashMap<>();
+    private final Long2ObjectHashMap<Publication> exclusivePublicationByRegistrationIdMap = new Long2ObjectHashMap<>();
 
     public Publication get(final String channel, final int streamId)
     {
@@ -65,13 +67,30 @@ public class ActivePublications
         return publication;
     }
 
+    public Publication getExclusive(final long registrationId)
+    {
+        return exclusivePublicationByRegistrationIdMap.get(registrationId);
+    }
+
+    public Publication putExclusive(final Publication publication)
+    {
+        return exclusivePublicationByRegistrationIdMap.put(publication.registrationId(), publication);
+    }
+
+    public Publication removeExclusive(final long registrationId)
+    {
+        return exclusivePublicationByRegistrationIdMap.remove(registrationId);
+    }
+
     public void close()
     {
-        publicationsByChannelMap
+        final List<Publication> publications = publicationsByChannelMap
             .values()
             .stream()
             .flatMap((publicationByStreamIdMap) -> publicationByStreamIdMap.values().stream())
-            .collect(toList())
-            .forEach(Publication::release);
+            .collect(toList());
+
+        publications.addAll(exclusivePublicationByRegistrationIdMap.values());
+        publications.forEach(Publication::release);
     }
 }
@@ -19,10 +19,10 @@ import io.aeron.exceptions.DriverTimeoutException;
 import org.agrona.*;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.broadcast.BroadcastReceiver;
-import org.agrona.concurrent.broadcast.CopyBroadcastReceiver;
 import org.agrona.concurrent.ringbuffer.ManyToOneRingBuffer;
 import org.agrona.concurrent.ringbuffer.RingBuffer;
 
+import java.io.File;
 import java.nio.MappedByteBuffer;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -76,7 +76,7 @@ public final class Aeron implements AutoCloseable
             ctx.nanoClock,
             ctx.toClientBuffer,
             ctx.logBuffersFactory,
-            ctx.countersValuesBuffer(),
+            ctx.countersReader(),
             new DriverProxy(ctx.toDriverBuffer),
             ctx.errorHandler,
             ctx.availableImageHandler,
@@ -84,9 +84,11 @@ public final class Aeron implements AutoCloseable
             ctx.keepAliveInterval(),
             ctx.driverTimeoutMs(),
             ctx.interServiceTimeout(),
-            ctx.publicationConnectionTimeout());
+            ctx.publicationConnectionTimeout(),
+            ctx.driverAgent());
 
-        conductorRunner = new AgentRunner(ctx.idleStrategy, ctx.errorHandler, null, conductor);
+        conductorRunner = ctx.useConductorInvoker() ?
+            null : new AgentRunner(ctx.idleStrategy, ctx.errorHandler, null, conductor);
     }
 
     /**
@@ -104,7 +106,8 @@ public final class Aeron implements AutoCloseable
     /**
      * Create an Aeron instance and connect to the media driver.
      * <p>
-     * Threads required for interacting with the media driver are created and managed within the Aeron instance.
+     * Threads required for interacting with the media driver are created and managed within the Aeron instance,
+     * unless {@link Context#useConductorInvoker(boolean)} is set in which case none are created.
      *
      * @param ctx for configuration of the client.
      * @return the new {@link Aeron} instance connected to the Media Driver.
@@ -119,10 +122,42 @@ public final class Aeron implements AutoCloseable
      */
     public void close()
     {
-        conductorRunner.close();
+        if (null != conductorRunner)
+        {
+            conductorRunner.close();
+        }
+        else
+        {
+            conductor.onClose();
+        }
+
         ctx.close();
     }
 
+    /**
+     * Run one duty cycle of the client conductor on the calling thread, when the client has been connected with
+     * {@link Context#useConductorInvoker(boolean)} so no conductor thread has been started.
+     * <p>
+     * This must be called from the duty cycle of the application often enough to send keep-alives, so at least
+     * every {@link Context#keepAliveInterval()}, and always within the {@link Context#interServiceTimeout()} after
+     * which the client is closed. It delivers available and unavailable image notifications and completes
+     * registrations made with {@link #asyncAddPublication(String, int)} and
+     * {@link #asyncAddSubscription(String, int)}. The blocking registration methods do not need it as they run the
+     * conductor on the calling thread until the media driver responds.
+     *
+     * @return the amount of work done.
+     * @throws IllegalStateException if the client has a conductor thread.
+     */
+    public int invokeConductor()
+    {
+        if (null != conductorRunner)
+        {
+            throw new IllegalStateException("Client conductor runs on its own thread");
+        }
+
+        return conductor.doWork();
+    }
+
     /**
      * Add a {@link Publication} for publishing messages to subscribers.
      *
@@ -135,6 +170,20 @@ public final class Aeron implements AutoCloseable
         return conductor.addPublication(channel, streamId);
     }
 
+    /**
+     * Add a {@link Publication} with its own session and log buffer which is not shared with other calls for the same
+     * channel and stream, in this or any other client. Subscribers see each exclusive publication as a separate
+     * {@link Image}, and publishers do not contend with, or get blocked by, publishers in other processes.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the new Publication.
+     */
+    public Publication addExclusivePublication(final String channel, final int streamId)
+    {
+        return conductor.addExclusivePublication(channel, streamId);
+    }
+
     /**
      * Add a new {@link Subscription} for subscribing to messages from publishers.
      *
@@ -147,11 +196,96 @@ public final class Aeron implements AutoCloseable
         return conductor.addSubscription(channel, streamId);
     }
 
+    /**
+     * Add a {@link Publication} without waiting for the media driver to respond, so many can be added at once without
+     * blocking the calling thread. Poll {@link #getPublication(long)} with the returned registration id for the
+     * {@link Publication} once the media driver has responded.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the {@link Publication}.
+     */
+    public long asyncAddPublication(final String channel, final int streamId)
+    {
+        return conductor.asyncAddPublication(channel, streamId);
+    }
+
+    /**
+     * Add a {@link Subscription} without waiting for the media driver to respond, so many can be added at once without
+     * blocking the calling thread. Poll {@link #getSubscription(long)} with the returned registration id for the
+     * {@link Subscription} once the media driver has responded.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the {@link Subscription}.
+     */
+    public long asyncAddSubscription(final String channel, final int streamId)
+    {
+        return conductor.asyncAddSubscription(channel, streamId);
+    }
+
+    /**
+     * Get the {@link Publication} added by {@link #asyncAddPublication(String, int)} if the media driver has responded.
+     * Once returned, or an exception thrown, the registration id is no longer known. If not collected within the
+     * {@link Context#driverTimeoutMs()} of the media driver responding the {@link Publication} is closed.
+     *
+     * @param registrationId returned by {@link #asyncAddPublication(String, int)}.
+     * @return the new {@link Publication} or null if the media driver has yet to respond.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the publication.
+     * @throws io.aeron.exceptions.DriverTimeoutException if the media driver did not respond within the timeout.
+     * @throws IllegalArgumentException if the registration id is not known.
+     */
+    public Publication getPublication(final long registrationId)
+    {
+        return conductor.getPublication(registrationId);
+    }
+
+    /**
+     * Get the {@link Subscription} added by {@link #asyncAddSubscription(String, int)} if the media driver has
+     * responded. Once returned, or an exception thrown, the registration id is no longer known. If not collected within
+     * the {@link Context#driverTimeoutMs()} of the media driver responding the {@link Subscription} is closed.
+     *
+     * @param registrationId returned by {@link #asyncAddSubscription(String, int)}.
+     * @return the new {@link Subscription} or null if the media driver has yet to respond.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver rejected the subscription.
+     * @throws io.aeron.exceptions.DriverTimeoutException if the media driver did not respond within the timeout.
+     * @throws IllegalArgumentException if the registration id is not known.
+     */
+    public Subscription getSubscription(final long registrationId)
+    {
+        return conductor.getSubscription(registrationId);
+    }
+
+    /**
+     * Close a {@link Publication} without waiting for the media driver to respond. Errors from the media driver are
+     * reported to the {@link Context#errorHandler(ErrorHandler)}.
+     *
+     * @param publication to be closed.
+     */
+    public void asyncRemovePublication(final Publication publication)
+    {
+        publication.asyncClose();
+    }
+
+    /**
+     * Close a {@link Subscription} without waiting for the media driver to respond. Errors from the media driver are
+     * reported to the {@link Context#errorHandler(ErrorHandler)}.
+     *
+     * @param subscription to be closed.
+     */
+    public void asyncRemoveSubscription(final Subscription subscription)
+    {
+        subscription.asyncClose();
+    }
+
     private Aeron start()
     {
-        final Thread thread = new Thread(conductorRunner);
-        thread.setName("aeron-client-conductor");
-        thread.start();
+        if (null != conductorRunner)
+        {
+            final Thread thread = new Thread(conductorRunner);
+            thread.setName("aeron-client-conductor");
+            thread.start();
+        }
 
         return this;
     }
@@ -168,10 +302,11 @@ public final class Aeron implements AutoCloseable
         private EpochClock epochClock;
         private NanoClock nanoClock;
         private IdleStrategy idleStrategy;
-        private CopyBroadcastReceiver toClientBuffer;
+        private FilteredBroadcastReceiver toClientBuffer;
         private RingBuffer toDriverBuffer;
         private MappedByteBuffer cncByteBuffer;
-        private DirectBuffer cncMetaDataBuffer;
+        private UnsafeBuffer cncMetaDataBuffer;
+        private SegmentedCountersReader countersReader;
         private LogBuffersFactory logBuffersFactory;
         private ErrorHandler errorHandler;
         private AvailableImageHandler availableImageHandler;
@@ -179,6 +314,8 @@ public final class Aeron implements AutoCloseable
         private long keepAliveInterval = KEEPALIVE_INTERVAL_NS;
         private long interServiceTimeout = INTER_SERVICE_TIMEOUT_NS;
         private long publicationConnectionTimeout = PUBLICATION_CONNECTION_TIMEOUT_MS;
+        private boolean useConductorInvoker = false;
+        private Agent driverAgent;
 
         /**
          * This is called automatically by {@link Aeron#connect(Aeron.Context)} and its overloads.
@@ -210,7 +347,7 @@ public final class Aeron implements AutoCloseable
 
                 if (cncFile() != null)
                 {
-                    cncByteBuffer = mapExistingFile(cncFile(), CncFileDescriptor.CNC_FILE);
+                    cncByteBuffer = mapCncFile();
                     cncMetaDataBuffer = CncFileDescriptor.createMetaDataBuffer(cncByteBuffer);
 
                     final int cncVersion = cncMetaDataBuffer.getInt(CncFileDescriptor.cncVersionOffset(0));
@@ -225,7 +362,7 @@ public final class Aeron implements AutoCloseable
                 {
                     final BroadcastReceiver receiver = new BroadcastReceiver(
                         CncFileDescriptor.createToClientsBuffer(cncByteBuffer, cncMetaDataBuffer));
-                    toClientBuffer = new CopyBroadcastReceiver(receiver);
+                    toClientBuffer = new FilteredBroadcastReceiver(receiver);
                 }
 
                 if (null == toDriverBuffer)
@@ -244,11 +381,17 @@ public final class Aeron implements AutoCloseable
                     countersValuesBuffer(CncFileDescriptor.createCountersValuesBuffer(cncByteBuffer, cncMetaDataBuffer));
                 }
 
+                if (null == countersReader)
+                {
+                    countersReader = new SegmentedCountersReader(
+                        countersMetaDataBuffer(), countersValuesBuffer(), new File(aeronDirectoryName()), cncMetaDataBuffer);
+                }
+
                 interServiceTimeout = CncFileDescriptor.clientLivenessTimeout(cncMetaDataBuffer);
 
                 if (null == logBuffersFactory)
                 {
-                    logBuffersFactory = new MappedLogBuffersFactory();
+                    logBuffersFactory = new MappedLogBuffersFactory(preTouchMappedMemory());
                 }
 
                 if (null == errorHandler)
@@ -321,10 +464,10 @@ public final class Aeron implements AutoCloseable
         /**
          * This method is used for testing and debugging.
          *
-         * @param toClientBuffer Injected CopyBroadcastReceiver
+         * @param toClientBuffer Injected FilteredBroadcastReceiver
          * @return this Aeron.Context for method chaining.
          */
-        public Context toClientBuffer(final CopyBroadcastReceiver toClientBuffer)
+        public Context toClientBuffer(final FilteredBroadcastReceiver toClientBuffer)
         {
             this.toClientBuffer = toClientBuffer;
             return this;
@@ -393,6 +536,54 @@ public final class Aeron implements AutoCloseable
             return this;
         }
 
+        /**
+         * Should the client conductor be run by the application calling {@link Aeron#invokeConductor()} from its own
+         * duty cycle rather than on a thread started by the client. The {@link #idleStrategy(IdleStrategy)} is not
+         * used when true.
+         *
+         * @param useConductorInvoker true to run the conductor from the application without a thread of its own.
+         * @return this Aeron.Context for method chaining.
+         */
+        public Context useConductorInvoker(final boolean useConductorInvoker)
+        {
+            this.useConductorInvoker = useConductorInvoker;
+            return this;
+        }
+
+        /**
+         * Is the client conductor run by the application calling {@link Aeron#invokeConductor()}.
+         *
+         * @return true if the client conductor is run by the application without a thread of its own.
+         */
+        public boolean useConductorInvoker()
+        {
+            return useConductorInvoker;
+        }
+
+        /**
+         * Set the agent of a media driver in the same process which has no threads of its own, so the client invokes
+         * it while waiting for the media driver to respond to a registration. Without it a registration made on the
+         * thread which invokes the media driver cannot complete.
+         *
+         * @param driverAgent of the media driver in the same process, or null if the media driver has its own threads.
+         * @return this Aeron.Context for method chaining.
+         */
+        public Context driverAgent(final Agent driverAgent)
+        {
+            this.driverAgent = driverAgent;
+            return this;
+        }
+
+        /**
+         * Get the agent of a media driver in the same process which the client invokes while waiting for responses.
+         *
+         * @return the agent of the media driver in the same process or null if the media driver has its own threads.
+         */
+        public Agent driverAgent()
+        {
+            return driverAgent;
+        }
+
         /**
          * Set the interval in nanoseconds for which the client will perform keep-alive operations.
          *
@@ -445,6 +636,17 @@ public final class Aeron implements AutoCloseable
             return interServiceTimeout;
         }
 
+        private MappedByteBuffer mapCncFile()
+        {
+            final MappedByteBuffer cncByteBuffer = mapExistingFile(cncFile(), CncFileDescriptor.CNC_FILE);
+            if (preTouchMappedMemory())
+            {
+                cncByteBuffer.load();
+            }
+
+            return cncByteBuffer;
+        }
+
         /**
          * @see CommonContext#aeronDirectoryName(String)
          */
@@ -454,6 +656,15 @@ public final class Aeron implements AutoCloseable
             return this;
         }
 
+        /**
+         * @see CommonContext#preTouchMappedMemory(boolean)
+         */
+        public Context preTouchMappedMemory(final boolean preTouchMappedMemory)
+        {
+            super.preTouchMappedMemory(preTouchMappedMemory);
+            return this;
+        }
+
         /**
          * Set the amount of time, in milliseconds, that this client will use to determine if a {@link Publication}
          * has active subscribers or not.
@@ -478,6 +689,28 @@ public final class Aeron implements AutoCloseable
             return publicationConnectionTimeout;
         }
 
+        /**
+         * Set the reader for the counters, which may be held in many segments, published by the driver.
+         *
+         * @param countersReader for the counters published by the driver.
+         * @return this Aeron.Context for method chaining.
+         */
+        public Context countersReader(final SegmentedCountersReader countersReader)
+        {
+            this.countersReader = countersReader;
+            return this;
+        }
+
+        /**
+         * Get the reader for the counters, which may be held in many segments, published by the driver.
+         *
+         * @return the reader for the counters published by the driver.
+         */
+        public SegmentedCountersReader countersReader()
+        {
+            return countersReader;
+        }
+
         /**
          * Clean up all resources that the client uses to communicate with the Media Driver.
          */
@@ -485,6 +718,11 @@ public final class Aeron implements AutoCloseable
         {
             if (isClosed.compareAndSet(false, true))
             {
+                if (null != countersReader)
+                {
+                    countersReader.close();
+                }
+
                 IoUtil.unmap(cncByteBuffer);
 
                 super.close();
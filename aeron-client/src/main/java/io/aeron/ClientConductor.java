@@ -21,12 +21,10 @@ import io.aeron.exceptions.RegistrationException;
 import org.agrona.ErrorHandler;
 import org.agrona.ManagedResource;
 import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.Agent;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.NanoClock;
-import org.agrona.concurrent.UnsafeBuffer;
-import org.agrona.concurrent.broadcast.CopyBroadcastReceiver;
-import org.agrona.concurrent.status.UnsafeBufferPosition;
 
 import java.util.ArrayList;
 import java.util.concurrent.TimeUnit;
@@ -60,20 +58,24 @@ class ClientConductor implements Agent, DriverListener
     private final ActivePublications activePublications = new ActivePublications();
     private final ActiveSubscriptions activeSubscriptions = new ActiveSubscriptions();
     private final ArrayList<ManagedResource> lingeringResources = new ArrayList<>();
-    private final UnsafeBuffer counterValuesBuffer;
+    private final Long2ObjectHashMap<AsyncRegistration> asyncRegistrations = new Long2ObjectHashMap<>();
+    private final ArrayList<AsyncRegistration> expiredAsyncRegistrations = new ArrayList<>();
+    private final SegmentedCountersReader countersReader;
     private final DriverProxy driverProxy;
     private final ErrorHandler errorHandler;
     private final AvailableImageHandler availableImageHandler;
     private final UnavailableImageHandler unavailableImageHandler;
+    private final Agent driverAgent;
 
     private RegistrationException driverException;
+    private long exclusivePublicationCorrelationId = NO_CORRELATION_ID;
 
     ClientConductor(
         final EpochClock epochClock,
         final NanoClock nanoClock,
-        final CopyBroadcastReceiver broadcastReceiver,
+        final FilteredBroadcastReceiver broadcastReceiver,
         final LogBuffersFactory logBuffersFactory,
-        final UnsafeBuffer counterValuesBuffer,
+        final SegmentedCountersReader countersReader,
         final DriverProxy driverProxy,
         final ErrorHandler errorHandler,
         final AvailableImageHandler availableImageHandler,
@@ -81,7 +83,8 @@ class ClientConductor implements Agent, DriverListener
         final long keepAliveIntervalNs,
         final long driverTimeoutMs,
         final long interServiceTimeoutNs,
-        final long publicationConnectionTimeoutMs)
+        final long publicationConnectionTimeoutMs,
+        final Agent driverAgent)
     {
         this.epochClock = epochClock;
         this.nanoClock = nanoClock;
@@ -89,7 +92,7 @@ class ClientConductor implements Agent, DriverListener
         this.timeOfLastCheckResources = nanoClock.nanoTime();
         this.timeOfLastWork = nanoClock.nanoTime();
         this.errorHandler = errorHandler;
-        this.counterValuesBuffer = counterValuesBuffer;
+        this.countersReader = countersReader;
         this.driverProxy = driverProxy;
         this.logBuffersFactory = logBuffersFactory;
         this.availableImageHandler = availableImageHandler;
@@ -99,8 +102,9 @@ class ClientConductor implements Agent, DriverListener
         this.driverTimeoutNs = MILLISECONDS.toNanos(driverTimeoutMs);
         this.interServiceTimeoutNs = interServiceTimeoutNs;
         this.publicationConnectionTimeoutMs = publicationConnectionTimeoutMs;
+        this.driverAgent = driverAgent;
 
-        this.driverListener = new DriverListenerAdapter(broadcastReceiver, this);
+        this.driverListener = new DriverListenerAdapter(broadcastReceiver, this, driverProxy.clientId());
     }
 
     public synchronized void onClose()
@@ -143,11 +147,28 @@ class ClientConductor implements Agent, DriverListener
         return publication;
     }
 
+    synchronized Publication addExclusivePublication(final String channel, final int streamId)
+    {
+        verifyDriverIsActive();
+
+        final long correlationId = driverProxy.addExclusivePublication(channel, streamId);
+        final long timeout = nanoClock.nanoTime() + driverTimeoutNs;
+
+        exclusivePublicationCorrelationId = correlationId;
+        doWorkUntil(correlationId, timeout, channel);
+
+        final Publication publication = activePublications.getExclusive(correlationId);
+        publication.incRef();
+
+        return publication;
+    }
+
     synchronized void releasePublication(final Publication publication)
     {
         verifyDriverIsActive();
 
-        if (publication == activePublications.remove(publication.channel(), publication.streamId()))
+        if (publication == activePublications.removeExclusive(publication.registrationId()) ||
+            publication == activePublications.remove(publication.channel(), publication.streamId()))
         {
             final long correlationId = driverProxy.removePublication(publication.registrationId());
 
@@ -185,6 +206,62 @@ class ClientConductor implements Agent, DriverListener
         activeSubscriptions.remove(subscription);
     }
 
+    synchronized long asyncAddPublication(final String channel, final int streamId)
+    {
+        verifyDriverIsActive();
+
+        final long correlationId = driverProxy.addPublication(channel, streamId);
+        final AsyncRegistration registration = new AsyncRegistration(
+            AsyncRegistration.Type.ADD_PUBLICATION, correlationId, channel, nanoClock.nanoTime() + driverTimeoutNs);
+        asyncRegistrations.put(correlationId, registration);
+
+        return correlationId;
+    }
+
+    synchronized long asyncAddSubscription(final String channel, final int streamId)
+    {
+        verifyDriverIsActive();
+
+        final long correlationId = driverProxy.addSubscription(channel, streamId);
+        final AsyncRegistration registration = new AsyncRegistration(
+            AsyncRegistration.Type.ADD_SUBSCRIPTION, correlationId, channel, nanoClock.nanoTime() + driverTimeoutNs);
+        registration.resource = new Subscription(this, channel, streamId, correlationId);
+        asyncRegistrations.put(correlationId, registration);
+        activeSubscriptions.add((Subscription)registration.resource);
+
+        return correlationId;
+    }
+
+    synchronized Publication getPublication(final long registrationId)
+    {
+        return (Publication)completeAsyncRegistration(registrationId, AsyncRegistration.Type.ADD_PUBLICATION);
+    }
+
+    synchronized Subscription getSubscription(final long registrationId)
+    {
+        return (Subscription)completeAsyncRegistration(registrationId, AsyncRegistration.Type.ADD_SUBSCRIPTION);
+    }
+
+    synchronized void asyncReleasePublication(final Publication publication)
+    {
+        verifyDriverIsActive();
+
+        if (publication == activePublications.removeExclusive(publication.registrationId()) ||
+            publication == activePublications.remove(publication.channel(), publication.streamId()))
+        {
+            lingerResource(publication.managedResource());
+            asyncRemove(driverProxy.removePublication(publication.registrationId()), publication.channel());
+        }
+    }
+
+    synchronized void asyncReleaseSubscription(final Subscription subscription)
+    {
+        verifyDriverIsActive();
+
+        activeSubscriptions.remove(subscription);
+        asyncRemove(driverProxy.removeSubscription(subscription.registrationId()), subscription.channel());
+    }
+
     public void onNewPublication(
         final String channel,
         final int streamId,
@@ -193,16 +270,90 @@ class ClientConductor implements Agent, DriverListener
         final String logFileName,
         final long correlationId)
     {
+        final boolean isExclusive = correlationId == exclusivePublicationCorrelationId;
+        if (!isExclusive && null != activePublications.get(channel, streamId))
+        {
+            asyncRemove(driverProxy.removePublication(correlationId), channel);
+            return;
+        }
+
         final Publication publication = new Publication(
             this,
             channel,
             streamId,
             sessionId,
-            new UnsafeBufferPosition(counterValuesBuffer, publicationLimitId),
+            countersReader.newPosition(publicationLimitId),
             logBuffersFactory.map(logFileName),
             correlationId);
 
-        activePublications.put(channel, streamId, publication);
+        if (isExclusive)
+        {
+            activePublications.putExclusive(publication);
+        }
+        else
+        {
+            activePublications.put(channel, streamId, publication);
+        }
+    }
+
+    public void onAsyncNewPublication(
+        final int streamId,
+        final int sessionId,
+        final int publicationLimitId,
+        final String logFileName,
+        final long correlationId)
+    {
+        final AsyncRegistration registration = asyncRegistrations.get(correlationId);
+        if (null != registration && AsyncRegistration.Type.ADD_PUBLICATION == registration.type)
+        {
+            onNewPublication(registration.channel, streamId, sessionId, publicationLimitId, logFileName, correlationId);
+
+            final Publication publication = activePublications.get(registration.channel, streamId);
+            publication.incRef();
+            registration.resource = publication;
+            onAsyncRegistrationComplete(registration);
+        }
+    }
+
+    public void onAsyncOperationSuccess(final long correlationId)
+    {
+        final AsyncRegistration registration = asyncRegistrations.get(correlationId);
+        if (null != registration)
+        {
+            if (AsyncRegistration.Type.REMOVE == registration.type)
+            {
+                asyncRegistrations.remove(correlationId);
+            }
+            else
+            {
+                onAsyncRegistrationComplete(registration);
+            }
+        }
+    }
+
+    public void onAsyncError(final ErrorCode errorCode, final String message, final long correlationId)
+    {
+        final AsyncRegistration registration = asyncRegistrations.get(correlationId);
+        if (null != registration)
+        {
+            final RegistrationException ex = new RegistrationException(errorCode, message);
+            if (AsyncRegistration.Type.REMOVE == registration.type)
+            {
+                asyncRegistrations.remove(correlationId);
+                errorHandler.onError(ex);
+            }
+            else
+            {
+                if (AsyncRegistration.Type.ADD_SUBSCRIPTION == registration.type)
+                {
+                    activeSubscriptions.remove((Subscription)registration.resource);
+                    registration.resource = null;
+                }
+
+                registration.exception = ex;
+                onAsyncRegistrationComplete(registration);
+            }
+        }
     }
 
     public void onAvailableImage(
@@ -226,7 +377,7 @@ class ClientConductor implements Agent, DriverListener
                         final Image image = new Image(
                             subscription,
                             sessionId,
-                            new UnsafeBufferPosition(counterValuesBuffer, (int)positionId),
+                            countersReader.newPosition((int)positionId),
                             logBuffersFactory.map(logFileName),
                             errorHandler,
                             sourceIdentity,
@@ -281,6 +432,53 @@ class ClientConductor implements Agent, DriverListener
         return unavailableImageHandler;
     }
 
+    private Object completeAsyncRegistration(final long registrationId, final AsyncRegistration.Type type)
+    {
+        final AsyncRegistration registration = asyncRegistrations.get(registrationId);
+        if (null == registration || type != registration.type)
+        {
+            throw new IllegalArgumentException("Unknown registration id: " + registrationId);
+        }
+
+        if (!registration.isComplete)
+        {
+            if (nanoClock.nanoTime() > registration.timeoutNs)
+            {
+                asyncRegistrations.remove(registrationId);
+                if (AsyncRegistration.Type.ADD_SUBSCRIPTION == type)
+                {
+                    activeSubscriptions.remove((Subscription)registration.resource);
+                }
+
+                throw new DriverTimeoutException("No response from driver within timeout");
+            }
+
+            return null;
+        }
+
+        asyncRegistrations.remove(registrationId);
+        if (null != registration.exception)
+        {
+            throw registration.exception;
+        }
+
+        return registration.resource;
+    }
+
+    private void onAsyncRegistrationComplete(final AsyncRegistration registration)
+    {
+        registration.isComplete = true;
+        registration.timeoutNs = nanoClock.nanoTime() + driverTimeoutNs;
+    }
+
+    private void asyncRemove(final long correlationId, final String channel)
+    {
+        asyncRegistrations.put(
+            correlationId,
+            new AsyncRegistration(
+                AsyncRegistration.Type.REMOVE, correlationId, channel, nanoClock.nanoTime() + driverTimeoutNs));
+    }
+
     private void checkDriverHeartbeat()
     {
         final long now = epochClock.time();
@@ -326,6 +524,7 @@ class ClientConductor implements Agent, DriverListener
 
         do
         {
+            invokeDriverAgent();
             doWork(correlationId, expectedChannel);
 
             if (driverListener.lastReceivedCorrelationId() == correlationId)
@@ -343,6 +542,21 @@ class ClientConductor implements Agent, DriverListener
         throw new DriverTimeoutException("No response from driver within timeout");
     }
 
+    private void invokeDriverAgent()
+    {
+        if (null != driverAgent)
+        {
+            try
+            {
+                driverAgent.doWork();
+            }
+            catch (final Exception ex)
+            {
+                errorHandler.onError(ex);
+            }
+        }
+    }
+
     private int onCheckTimeouts()
     {
         final long now = nanoClock.nanoTime();
@@ -379,10 +593,97 @@ class ClientConductor implements Agent, DriverListener
                 }
             }
 
+            checkAsyncRegistrations(now);
+
             timeOfLastCheckResources = now;
             result++;
         }
 
         return result;
     }
+
+    private void checkAsyncRegistrations(final long now)
+    {
+        if (asyncRegistrations.isEmpty())
+        {
+            return;
+        }
+
+        final ArrayList<AsyncRegistration> expiredAsyncRegistrations = this.expiredAsyncRegistrations;
+        for (final AsyncRegistration registration : asyncRegistrations.values())
+        {
+            if (now > registration.timeoutNs)
+            {
+                expiredAsyncRegistrations.add(registration);
+            }
+        }
+
+        try
+        {
+            for (int i = 0, size = expiredAsyncRegistrations.size(); i < size; i++)
+            {
+                final AsyncRegistration registration = expiredAsyncRegistrations.get(i);
+                asyncRegistrations.remove(registration.correlationId);
+                onAsyncRegistrationExpired(registration);
+            }
+        }
+        finally
+        {
+            expiredAsyncRegistrations.clear();
+        }
+    }
+
+    private void onAsyncRegistrationExpired(final AsyncRegistration registration)
+    {
+        if (AsyncRegistration.Type.ADD_PUBLICATION == registration.type)
+        {
+            if (null != registration.resource)
+            {
+                ((Publication)registration.resource).asyncClose();
+            }
+        }
+        else if (AsyncRegistration.Type.ADD_SUBSCRIPTION == registration.type)
+        {
+            final Subscription subscription = (Subscription)registration.resource;
+            if (null != subscription)
+            {
+                if (registration.isComplete)
+                {
+                    subscription.asyncClose();
+                }
+                else
+                {
+                    activeSubscriptions.remove(subscription);
+                }
+            }
+        }
+    }
+
+    /**
+     * Command sent to the driver without waiting for the response, which is collected as it arrives. A registration
+     * which has not been collected within the driver timeout of it completing is expired and what it added released.
+     */
+    private static class AsyncRegistration
+    {
+        enum Type
+        {
+            ADD_PUBLICATION, ADD_SUBSCRIPTION, REMOVE
+        }
+
+        final Type type;
+        final long correlationId;
+        final String channel;
+        long timeoutNs;
+        Object resource;
+        RegistrationException exception;
+        boolean isComplete;
+
+        AsyncRegistration(final Type type, final long correlationId, final String channel, final long timeoutNs)
+        {
+            this.type = type;
+            this.correlationId = correlationId;
+            this.channel = channel;
+            this.timeoutNs = timeoutNs;
+        }
+    }
 }
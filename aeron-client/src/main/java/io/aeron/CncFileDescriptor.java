@@ -44,7 +44,10 @@ import static org.agrona.BitUtil.*;
  *  +----------------------------+
  * </pre>
  *
- * Meta Data Layout (CnC Version 4)
+ * Counters which do not fit in the counter buffers of the CnC file are held in further segments of the same layout
+ * in their own files, see {@link SegmentedCountersReader}.
+ *
+ * Meta Data Layout (CnC Version 5)
  * <pre>
  *  +----------------------------+
  *  |   to-driver buffer length  |
@@ -60,13 +63,15 @@ import static org.agrona.BitUtil.*;
  *  +----------------------------+
  *  |      Error Log length      |
  *  +----------------------------+
+ *  |   Counters segment count   |
+ *  +----------------------------+
  * </pre>
  */
 public class CncFileDescriptor
 {
     public static final String CNC_FILE = "cnc.dat";
 
-    public static final int CNC_VERSION = 4;
+    public static final int CNC_VERSION = 5;
 
     public static final int CNC_VERSION_FIELD_OFFSET;
     public static final int CNC_METADATA_OFFSET;
@@ -79,6 +84,7 @@ public class CncFileDescriptor
     public static final int COUNTERS_VALUES_BUFFER_LENGTH_FIELD_OFFSET;
     public static final int CLIENT_LIVENESS_TIMEOUT_FIELD_OFFSET;
     public static final int ERROR_LOG_BUFFER_LENGTH_FIELD_OFFSET;
+    public static final int COUNTERS_SEGMENT_COUNT_FIELD_OFFSET;
 
     static
     {
@@ -91,9 +97,10 @@ public class CncFileDescriptor
         COUNTERS_VALUES_BUFFER_LENGTH_FIELD_OFFSET = COUNTERS_METADATA_BUFFER_LENGTH_FIELD_OFFSET + SIZE_OF_INT;
         CLIENT_LIVENESS_TIMEOUT_FIELD_OFFSET = COUNTERS_VALUES_BUFFER_LENGTH_FIELD_OFFSET + SIZE_OF_INT;
         ERROR_LOG_BUFFER_LENGTH_FIELD_OFFSET = CLIENT_LIVENESS_TIMEOUT_FIELD_OFFSET + SIZE_OF_LONG;
+        COUNTERS_SEGMENT_COUNT_FIELD_OFFSET = ERROR_LOG_BUFFER_LENGTH_FIELD_OFFSET + SIZE_OF_INT;
     }
 
-    public static final int META_DATA_LENGTH = ERROR_LOG_BUFFER_LENGTH_FIELD_OFFSET + SIZE_OF_INT;
+    public static final int META_DATA_LENGTH = COUNTERS_SEGMENT_COUNT_FIELD_OFFSET + SIZE_OF_INT;
 
     public static final int END_OF_METADATA_OFFSET = align(SIZE_OF_INT + META_DATA_LENGTH, (CACHE_LINE_LENGTH * 2));
 
@@ -143,6 +150,11 @@ public class CncFileDescriptor
         return baseOffset + CNC_METADATA_OFFSET + ERROR_LOG_BUFFER_LENGTH_FIELD_OFFSET;
     }
 
+    public static int countersSegmentCountOffset(final int baseOffset)
+    {
+        return baseOffset + CNC_METADATA_OFFSET + COUNTERS_SEGMENT_COUNT_FIELD_OFFSET;
+    }
+
     public static void fillMetaData(
         final UnsafeBuffer cncMetaDataBuffer,
         final int toDriverBufferLength,
@@ -159,6 +171,7 @@ public class CncFileDescriptor
         cncMetaDataBuffer.putInt(countersValuesBufferLengthOffset(0), counterValuesBufferLength);
         cncMetaDataBuffer.putLong(clientLivenessTimeoutOffset(0), clientLivenessTimeout);
         cncMetaDataBuffer.putInt(errorLogBufferLengthOffset(0), errorLogBufferLength);
+        cncMetaDataBuffer.putInt(countersSegmentCountOffset(0), 1);
     }
 
     public static UnsafeBuffer createMetaDataBuffer(final ByteBuffer buffer)
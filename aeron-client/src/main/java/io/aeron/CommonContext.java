@@ -38,6 +38,7 @@ import static java.lang.System.getProperty;
  * Properties
  * <ul>
  * <li><code>aeron.dir</code>: Use value as directory name for Aeron buffers and status.</li>
+ * <li><code>aeron.pre.touch.mapped.memory</code>: Touch each page of the CnC file and log buffers when mapped.</li>
  * </ul>
  */
 public class CommonContext implements AutoCloseable
@@ -52,6 +53,12 @@ public class CommonContext implements AutoCloseable
      */
     public static final String AERON_DIR_PROP_DEFAULT;
 
+    /**
+     * Touch each page of the CnC file and log buffers when they are mapped so the first pass through them does not
+     * take page faults on the hot paths.
+     */
+    public static final String PRE_TOUCH_MAPPED_MEMORY_PROP_NAME = "aeron.pre.touch.mapped.memory";
+
     /**
      * URI used for IPC {@link Publication}s and {@link Subscription}s
      */
@@ -63,6 +70,7 @@ public class CommonContext implements AutoCloseable
     public static final long DEFAULT_DRIVER_TIMEOUT_MS = 10_000;
 
     private long driverTimeoutMs = DEFAULT_DRIVER_TIMEOUT_MS;
+    private boolean preTouchMappedMemory;
     private String aeronDirectoryName;
     private File cncFile;
     private UnsafeBuffer countersMetaDataBuffer;
@@ -104,6 +112,7 @@ public class CommonContext implements AutoCloseable
     public CommonContext()
     {
         aeronDirectoryName = getProperty(AERON_DIR_PROP_NAME, AERON_DIR_PROP_DEFAULT);
+        preTouchMappedMemory = Boolean.getBoolean(PRE_TOUCH_MAPPED_MEMORY_PROP_NAME);
     }
 
     /**
@@ -141,6 +150,32 @@ public class CommonContext implements AutoCloseable
         return this;
     }
 
+    /**
+     * Should each page of the CnC file and log buffers be touched when they are mapped so the first pass through them
+     * does not take page faults.
+     *
+     * @return true if each page of the mapped memory should be touched when mapped.
+     */
+    public boolean preTouchMappedMemory()
+    {
+        return preTouchMappedMemory;
+    }
+
+    /**
+     * Should each page of the CnC file and log buffers be touched when they are mapped so the first pass through them
+     * does not take page faults. The Media Driver pre-faults the pages of the CnC file when it is created and clients
+     * touch the pages of their own mappings.
+     *
+     * @param preTouchMappedMemory true if each page of the mapped memory should be touched when mapped.
+     * @return this Object for method chaining.
+     * @see #PRE_TOUCH_MAPPED_MEMORY_PROP_NAME
+     */
+    public CommonContext preTouchMappedMemory(final boolean preTouchMappedMemory)
+    {
+        this.preTouchMappedMemory = preTouchMappedMemory;
+        return this;
+    }
+
     /**
      * Create a new command and control file in the administration directory.
      *
@@ -41,4 +41,15 @@ interface DriverListener
     void onUnavailableImage(int streamId, long correlationId);
 
     void onError(ErrorCode errorCode, String message, long correlationId);
+
+    void onAsyncNewPublication(
+        int streamId,
+        int sessionId,
+        int publicationLimitId,
+        String logFileName,
+        long correlationId);
+
+    void onAsyncOperationSuccess(long correlationId);
+
+    void onAsyncError(ErrorCode errorCode, String message, long correlationId);
 }
@@ -19,7 +19,6 @@ import io.aeron.command.*;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2LongHashMap;
 import org.agrona.concurrent.MessageHandler;
-import org.agrona.concurrent.broadcast.CopyBroadcastReceiver;
 
 import static io.aeron.command.ControlProtocolEvents.*;
 
@@ -30,7 +29,7 @@ class DriverListenerAdapter implements MessageHandler
 {
     public static final long MISSING_REGISTRATION_ID = -1L;
 
-    private final CopyBroadcastReceiver broadcastReceiver;
+    private final FilteredBroadcastReceiver broadcastReceiver;
 
     private final ErrorResponseFlyweight errorResponse = new ErrorResponseFlyweight();
     private final PublicationBuffersReadyFlyweight publicationReady = new PublicationBuffersReadyFlyweight();
@@ -39,15 +38,18 @@ class DriverListenerAdapter implements MessageHandler
     private final ImageMessageFlyweight imageMessage = new ImageMessageFlyweight();
     private final DriverListener listener;
     private final Long2LongHashMap subscriberPositionMap = new Long2LongHashMap(MISSING_REGISTRATION_ID);
+    private final long clientId;
 
     private long activeCorrelationId;
     private long lastReceivedCorrelationId;
     private String expectedChannel;
 
-    DriverListenerAdapter(final CopyBroadcastReceiver broadcastReceiver, final DriverListener listener)
+    DriverListenerAdapter(
+        final FilteredBroadcastReceiver broadcastReceiver, final DriverListener listener, final long clientId)
     {
         this.broadcastReceiver = broadcastReceiver;
         this.listener = listener;
+        this.clientId = clientId;
     }
 
     public int pollMessage(final long activeCorrelationId, final String expectedChannel)
@@ -56,7 +58,7 @@ class DriverListenerAdapter implements MessageHandler
         this.lastReceivedCorrelationId = -1;
         this.expectedChannel = expectedChannel;
 
-        return broadcastReceiver.receive(this);
+        return broadcastReceiver.receive(this, clientId);
     }
 
     public long lastReceivedCorrelationId()
@@ -85,6 +87,15 @@ class DriverListenerAdapter implements MessageHandler
 
                     lastReceivedCorrelationId = correlationId;
                 }
+                else
+                {
+                    listener.onAsyncNewPublication(
+                        publicationReady.streamId(),
+                        publicationReady.sessionId(),
+                        publicationReady.publicationLimitCounterId(),
+                        publicationReady.logFileName(),
+                        correlationId);
+                }
                 break;
             }
 
@@ -120,6 +131,10 @@ class DriverListenerAdapter implements MessageHandler
                 {
                     lastReceivedCorrelationId = correlationId;
                 }
+                else
+                {
+                    listener.onAsyncOperationSuccess(correlationId);
+                }
                 break;
             }
 
@@ -142,6 +157,10 @@ class DriverListenerAdapter implements MessageHandler
 
                     lastReceivedCorrelationId = correlationId;
                 }
+                else
+                {
+                    listener.onAsyncError(errorResponse.errorCode(), errorResponse.errorMessage(), correlationId);
+                }
                 break;
             }
         }
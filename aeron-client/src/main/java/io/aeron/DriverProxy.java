@@ -61,12 +61,27 @@ public class DriverProxy
         clientId = toDriverCommandBuffer.nextCorrelationId();
     }
 
+    public long clientId()
+    {
+        return clientId;
+    }
+
     public long timeOfLastDriverKeepalive()
     {
         return toDriverCommandBuffer.consumerHeartbeatTime();
     }
 
     public long addPublication(final String channel, final int streamId)
+    {
+        return addPublication(ADD_PUBLICATION, channel, streamId);
+    }
+
+    public long addExclusivePublication(final String channel, final int streamId)
+    {
+        return addPublication(ADD_EXCLUSIVE_PUBLICATION, channel, streamId);
+    }
+
+    private long addPublication(final int msgTypeId, final String channel, final int streamId)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
 
@@ -78,7 +93,7 @@ public class DriverProxy
             .streamId(streamId)
             .channel(channel);
 
-        if (!toDriverCommandBuffer.write(ADD_PUBLICATION, buffer, 0, publicationMessage.length()))
+        if (!toDriverCommandBuffer.write(msgTypeId, buffer, 0, publicationMessage.length()))
         {
             throw new IllegalStateException("could not write publication message");
         }
@@ -89,7 +104,9 @@ public class DriverProxy
     public long removePublication(final long registrationId)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
-        removeMessage.correlationId(correlationId);
+        removeMessage
+            .clientId(clientId)
+            .correlationId(correlationId);
         removeMessage.registrationId(registrationId);
 
         if (!toDriverCommandBuffer.write(REMOVE_PUBLICATION, buffer, 0, RemoveMessageFlyweight.length()))
@@ -125,7 +142,9 @@ public class DriverProxy
     public long removeSubscription(final long registrationId)
     {
         final long correlationId = toDriverCommandBuffer.nextCorrelationId();
-        removeMessage.correlationId(correlationId);
+        removeMessage
+            .clientId(clientId)
+            .correlationId(correlationId);
         removeMessage.registrationId(registrationId);
 
         if (!toDriverCommandBuffer.write(REMOVE_SUBSCRIPTION, buffer, 0, RemoveMessageFlyweight.length()))
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.command.ClientResponseHeader;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.MessageHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.broadcast.BroadcastReceiver;
+
+/**
+ * Receiver of messages from the media driver which copies out, and delivers, only the messages for a given client or
+ * for all clients. The {@link ClientResponseHeader} of each message is read in place so messages for other clients are
+ * skipped without being copied, and the header is stripped from the messages delivered.
+ */
+public class FilteredBroadcastReceiver
+{
+    private static final int SCRATCH_BUFFER_LENGTH = 4096;
+
+    private final BroadcastReceiver receiver;
+    private final MutableDirectBuffer scratchBuffer = new UnsafeBuffer(new byte[SCRATCH_BUFFER_LENGTH]);
+
+    /**
+     * Wrap a {@link BroadcastReceiver}, skipping any messages already in the broadcast buffer.
+     *
+     * @param receiver to be wrapped.
+     */
+    public FilteredBroadcastReceiver(final BroadcastReceiver receiver)
+    {
+        this.receiver = receiver;
+
+        while (receiver.receiveNext())
+        {
+            // If we're reconnecting to a broadcast buffer then we need to
+            // scan ourselves up to date, otherwise we risk "falling behind"
+            // the buffer due to the time taken to catchup.
+        }
+    }
+
+    /**
+     * Receive the next message, if available, and deliver it to the handler if it is for the client or all clients.
+     *
+     * @param handler  to be called with the message, without its header, if it is for the client.
+     * @param clientId of the client receiving messages.
+     * @return the number of messages received, whether delivered or skipped.
+     * @throws IllegalStateException if the receiver was lapped by the transmitter.
+     */
+    public int receive(final MessageHandler handler, final long clientId)
+    {
+        int messagesReceived = 0;
+        final BroadcastReceiver receiver = this.receiver;
+        final long lastSeenLappedCount = receiver.lappedCount();
+
+        if (receiver.receiveNext())
+        {
+            if (lastSeenLappedCount != receiver.lappedCount())
+            {
+                throw new IllegalStateException("Unable to keep up with broadcast buffer");
+            }
+
+            final MutableDirectBuffer buffer = receiver.buffer();
+            final int offset = receiver.offset();
+            final long targetClientId = ClientResponseHeader.targetClientId(buffer, offset);
+            final boolean isForClient = clientId == targetClientId || ClientResponseHeader.ALL_CLIENTS == targetClientId;
+
+            if (isForClient)
+            {
+                final int length = receiver.length() - ClientResponseHeader.LENGTH;
+                final int capacity = scratchBuffer.capacity();
+                if (length > capacity)
+                {
+                    throw new IllegalStateException(
+                        String.format("Buffer required size %d but only has %d", length, capacity));
+                }
+
+                final int msgTypeId = receiver.typeId();
+                scratchBuffer.putBytes(0, buffer, offset + ClientResponseHeader.LENGTH, length);
+
+                if (!receiver.validate())
+                {
+                    throw new IllegalStateException("Unable to keep up with broadcast buffer");
+                }
+
+                handler.onMessage(msgTypeId, scratchBuffer, 0, length);
+            }
+            else if (!receiver.validate())
+            {
+                throw new IllegalStateException("Unable to keep up with broadcast buffer");
+            }
+
+            messagesReceived = 1;
+        }
+
+        return messagesReceived;
+    }
+}
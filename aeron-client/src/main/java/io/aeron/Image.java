@@ -20,14 +20,18 @@ import io.aeron.logbuffer.ControlledFragmentHandler.Action;
 import org.agrona.BitUtil;
 import org.agrona.ErrorHandler;
 import org.agrona.ManagedResource;
+import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.Position;
 
 import java.nio.channels.FileChannel;
+import java.util.function.BooleanSupplier;
 
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static io.aeron.logbuffer.ControlledFragmentHandler.Action.*;
+import static io.aeron.logbuffer.FrameDescriptor.END_FRAG_FLAG;
 import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.FrameDescriptor.flagsOffset;
 import static io.aeron.logbuffer.FrameDescriptor.frameLengthVolatile;
 import static io.aeron.logbuffer.FrameDescriptor.isPaddingFrame;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
@@ -41,14 +45,20 @@ import static io.aeron.protocol.DataHeaderFlyweight.TERM_ID_FIELD_OFFSET;
  */
 public class Image
 {
+    private static final ImageCursor[] EMPTY_CURSORS = new ImageCursor[0];
+
     private final long correlationId;
     private final int sessionId;
     private final int termLengthMask;
     private final int positionBitsToShift;
     private volatile boolean isClosed;
+    private volatile ImageCursor[] cursors = EMPTY_CURSORS;
 
     private final Position subscriberPosition;
     private final UnsafeBuffer[] termBuffers = new UnsafeBuffer[PARTITION_COUNT];
+    private final UnsafeBuffer logMetaDataBuffer;
+    private final LogWakeup logWakeup;
+    private final BooleanSupplier isAvailable = this::isAvailable;
     private final Header header;
     private final ErrorHandler errorHandler;
     private final LogBuffers logBuffers;
@@ -85,6 +95,8 @@ public class Image
 
         final UnsafeBuffer[] buffers = logBuffers.atomicBuffers();
         System.arraycopy(buffers, 0, termBuffers, 0, PARTITION_COUNT);
+        logMetaDataBuffer = buffers[LOG_META_DATA_SECTION_INDEX];
+        logWakeup = logBuffers.logWakeup();
 
         final int termLength = logBuffers.termLength();
         this.termLengthMask = termLength - 1;
@@ -205,13 +217,24 @@ public class Image
             return 0;
         }
 
-        final long position = subscriberPosition.get();
+        verifyNoCursors();
+
+        return poll(subscriberPosition, header, fragmentHandler, fragmentLimit);
+    }
+
+    int poll(
+        final Position consumerPosition,
+        final Header header,
+        final FragmentHandler fragmentHandler,
+        final int fragmentLimit)
+    {
+        final long position = consumerPosition.get();
         final int termOffset = (int)position & termLengthMask;
         final UnsafeBuffer termBuffer = activeTermBuffer(position);
 
         final long outcome = read(termBuffer, termOffset, fragmentHandler, fragmentLimit, header, errorHandler);
 
-        updatePosition(position, termOffset, offset(outcome));
+        updatePosition(consumerPosition, position, termOffset, offset(outcome));
 
         return fragmentsRead(outcome);
     }
@@ -234,7 +257,18 @@ public class Image
             return 0;
         }
 
-        long position = subscriberPosition.get();
+        verifyNoCursors();
+
+        return controlledPoll(subscriberPosition, header, fragmentHandler, fragmentLimit);
+    }
+
+    int controlledPoll(
+        final Position consumerPosition,
+        final Header header,
+        final ControlledFragmentHandler fragmentHandler,
+        final int fragmentLimit)
+    {
+        long position = consumerPosition.get();
         int termOffset = (int)position & termLengthMask;
         int offset = termOffset;
         int fragmentsRead = 0;
@@ -279,7 +313,7 @@ public class Image
                     {
                         position += alignedLength;
                         termOffset = offset;
-                        subscriberPosition.setOrdered(position);
+                        consumerPosition.setOrdered(position);
                     }
                 }
             }
@@ -290,7 +324,7 @@ public class Image
             errorHandler.onError(t);
         }
 
-        updatePosition(position, termOffset, offset);
+        updatePosition(consumerPosition, position, termOffset, offset);
 
         return fragmentsRead;
     }
@@ -310,6 +344,8 @@ public class Image
             return 0;
         }
 
+        verifyNoCursors();
+
         final long position = subscriberPosition.get();
         final int termOffset = (int)position & termLengthMask;
         final UnsafeBuffer termBuffer = activeTermBuffer(position);
@@ -352,6 +388,8 @@ public class Image
             return 0;
         }
 
+        verifyNoCursors();
+
         final long position = subscriberPosition.get();
         final int termOffset = (int)position & termLengthMask;
         final int activeIndex = indexByPosition(position, positionBitsToShift);
@@ -382,12 +420,192 @@ public class Image
         return bytesConsumed;
     }
 
-    private void updatePosition(final long positionBefore, final int offsetBefore, final int offsetAfter)
+    /**
+     * Skip over the available messages in a stream so the next poll delivers only the latest, rather than polling
+     * through a backlog which is of no interest. The subscriber position is advanced in one operation to the boundary
+     * after a complete message, so the messages retained are delivered whole and the media driver sees the new
+     * position for flow control.
+     *
+     * @param messagesToRetain number of the latest complete messages to leave available for polling, or 0 to skip
+     *                         all of the available messages.
+     * @return the number of bytes skipped.
+     */
+    public int skipToLatest(final int messagesToRetain)
+    {
+        if (isClosed)
+        {
+            return 0;
+        }
+
+        verifyNoCursors();
+
+        final long position = subscriberPosition.get();
+        final long scanOutcome = scanMessages(position, Integer.MAX_VALUE);
+        final int messagesToSkip = scannedMessages(scanOutcome) - messagesToRetain;
+
+        int bytesSkipped = 0;
+        if (0 == messagesToRetain)
+        {
+            bytesSkipped = scannedLength(scanOutcome);
+        }
+        else if (messagesToSkip > 0)
+        {
+            bytesSkipped = scannedLength(scanMessages(position, messagesToSkip));
+        }
+
+        if (bytesSkipped > 0)
+        {
+            subscriberPosition.setOrdered(position + bytesSkipped);
+        }
+
+        return bytesSkipped;
+    }
+
+    /**
+     * Scan forward from a position over complete messages, which may span terms, up to a limit or the end of the
+     * available messages. Frames from a previous use of a term partition are not available as their term id does not
+     * match the position.
+     *
+     * @param startPosition to scan from.
+     * @param messageLimit  on the number of complete messages to scan over.
+     * @return the number of complete messages in the low bits and the length in bytes up to the boundary after the
+     * last of them in the high bits.
+     */
+    private long scanMessages(final long startPosition, final int messageLimit)
+    {
+        final int termLength = termLengthMask + 1;
+        final int initialTermId = header.initialTermId();
+        long position = startPosition;
+        long boundaryPosition = startPosition;
+        int messageCount = 0;
+
+        while (messageCount < messageLimit && (position - startPosition) < termLength)
+        {
+            final UnsafeBuffer termBuffer = activeTermBuffer(position);
+            final int termOffset = (int)position & termLengthMask;
+            final int length = frameLengthVolatile(termBuffer, termOffset);
+            final int termId = computeTermIdFromPosition(position, positionBitsToShift, initialTermId);
+
+            if (length <= 0 || termBuffer.getInt(termOffset + TERM_ID_FIELD_OFFSET, LITTLE_ENDIAN) != termId)
+            {
+                break;
+            }
+
+            position += BitUtil.align(length, FRAME_ALIGNMENT);
+
+            if (isPaddingFrame(termBuffer, termOffset))
+            {
+                boundaryPosition = position;
+            }
+            else if ((termBuffer.getByte(flagsOffset(termOffset)) & END_FRAG_FLAG) == END_FRAG_FLAG)
+            {
+                boundaryPosition = position;
+                ++messageCount;
+            }
+        }
+
+        return ((boundaryPosition - startPosition) << 32) | messageCount;
+    }
+
+    private static int scannedMessages(final long scanOutcome)
+    {
+        return (int)scanOutcome;
+    }
+
+    private static int scannedLength(final long scanOutcome)
+    {
+        return (int)(scanOutcome >>> 32);
+    }
+
+    /**
+     * Block the calling thread until there is data available to poll beyond the subscriber position, rather than
+     * spinning or backing off with an idle strategy while the stream is quiet. The thread parks and sees the wakeup
+     * sequence move when a {@link Publication} appends to the log with {@link Publication#offer(org.agrona.DirectBuffer)},
+     * or the media driver rebuilds the log from the network, within the park slices of {@link LogWakeup}, and so
+     * costs little CPU while waiting.
+     * <p>
+     * Appends with {@link Publication#tryClaim(int, BufferClaim)} do not wake the thread, which then sees the data
+     * within {@link LogWakeup#MAX_PARK_NS}.
+     *
+     * @param timeoutNs to wait for data in nanoseconds.
+     * @return true if data is available to poll otherwise false if the timeout expired or the image is closed.
+     */
+    public boolean awaitAvailable(final long timeoutNs)
+    {
+        return !isClosed && logWakeup.await(isAvailable, timeoutNs) && !isClosed;
+    }
+
+    private boolean isAvailable()
+    {
+        if (isClosed)
+        {
+            return true;
+        }
+
+        final long position = subscriberPosition.get();
+        final int termOffset = (int)position & termLengthMask;
+
+        return frameLengthVolatile(activeTermBuffer(position), termOffset) > 0;
+    }
+
+    /**
+     * Add a cursor over this image so it can be consumed by several independent consumers in the same process, for
+     * example the stages of a pipeline, without a subscription for each. Each cursor has its own position and the
+     * subscriber position seen by the media driver for flow control is the minimum over the cursors.
+     * <p>
+     * A new cursor starts at the current subscriber position. Once an image has cursors it must only be consumed
+     * through them, until they are closed.
+     *
+     * @return a new cursor over this image.
+     */
+    public synchronized ImageCursor newCursor()
+    {
+        final ImageCursor cursor = new ImageCursor(this, subscriberPosition.get(), header.initialTermId(), termBufferLength());
+        cursors = ArrayUtil.add(cursors, cursor);
+
+        return cursor;
+    }
+
+    synchronized void removeCursor(final ImageCursor cursor)
+    {
+        cursors = ArrayUtil.remove(cursors, cursor);
+        updateCursorsPosition();
+    }
+
+    /**
+     * Publish the minimum position over the cursors as the subscriber position. Cursors may be polled on different
+     * threads so this is serialised with adding and removing cursors, otherwise a thread which computed a lower
+     * minimum could store it after another thread stored a higher one and move the subscriber position backwards.
+     */
+    synchronized void updateCursorsPosition()
+    {
+        long minPosition = Long.MAX_VALUE;
+        for (final ImageCursor cursor : cursors)
+        {
+            minPosition = Math.min(minPosition, cursor.position());
+        }
+
+        if (Long.MAX_VALUE != minPosition)
+        {
+            subscriberPosition.proposeMaxOrdered(minPosition);
+        }
+    }
+
+    private void verifyNoCursors()
+    {
+        if (cursors.length > 0)
+        {
+            throw new IllegalStateException("Image must be consumed through its cursors: sessionId=" + sessionId);
+        }
+    }
+
+    private void updatePosition(
+        final Position consumerPosition, final long positionBefore, final int offsetBefore, final int offsetAfter)
     {
         final long position = positionBefore + (offsetAfter - offsetBefore);
         if (position > positionBefore)
         {
-            subscriberPosition.setOrdered(position);
+            consumerPosition.setOrdered(position);
         }
     }
 
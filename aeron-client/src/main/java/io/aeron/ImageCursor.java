@@ -0,0 +1,136 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.ControlledFragmentHandler;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.concurrent.status.AtomicLongPosition;
+import org.agrona.concurrent.status.Position;
+
+/**
+ * Local consumer of an {@link Image} with its own position, so several consumers in the same process can consume the
+ * same image independently without a {@link Subscription} each. The subscriber position of the image, which the
+ * media driver uses for flow control, is the minimum over its cursors.
+ * <p>
+ * Each cursor may be polled on a different thread, but a cursor must only be polled by one thread at a time.
+ */
+public class ImageCursor implements AutoCloseable
+{
+    private final Image image;
+    private final Position position = new AtomicLongPosition();
+    private final Header header;
+    private volatile boolean isClosed;
+
+    ImageCursor(final Image image, final long initialPosition, final int initialTermId, final int termBufferLength)
+    {
+        this.image = image;
+        this.header = new Header(initialTermId, termBufferLength);
+        position.setOrdered(initialPosition);
+    }
+
+    /**
+     * The {@link Image} this cursor consumes.
+     *
+     * @return the {@link Image} this cursor consumes.
+     */
+    public Image image()
+    {
+        return image;
+    }
+
+    /**
+     * The position this cursor has consumed the {@link Image} to.
+     *
+     * @return the position this cursor has consumed the {@link Image} to.
+     */
+    public long position()
+    {
+        return position.getVolatile();
+    }
+
+    /**
+     * Poll for new messages from the position of this cursor.
+     *
+     * @param fragmentHandler to which message fragments are delivered.
+     * @param fragmentLimit   for the number of fragments to be consumed during one polling operation.
+     * @return the number of fragments that have been consumed.
+     * @see Image#poll(FragmentHandler, int)
+     */
+    public int poll(final FragmentHandler fragmentHandler, final int fragmentLimit)
+    {
+        if (isClosed || image.isClosed())
+        {
+            return 0;
+        }
+
+        final long initialPosition = position.get();
+        final int fragmentsRead = image.poll(position, header, fragmentHandler, fragmentLimit);
+        if (position.get() > initialPosition)
+        {
+            image.updateCursorsPosition();
+        }
+
+        return fragmentsRead;
+    }
+
+    /**
+     * Poll for new messages from the position of this cursor with control over consumption.
+     *
+     * @param fragmentHandler to which message fragments are delivered.
+     * @param fragmentLimit   for the number of fragments to be consumed during one polling operation.
+     * @return the number of fragments that have been consumed.
+     * @see Image#controlledPoll(ControlledFragmentHandler, int)
+     */
+    public int controlledPoll(final ControlledFragmentHandler fragmentHandler, final int fragmentLimit)
+    {
+        if (isClosed || image.isClosed())
+        {
+            return 0;
+        }
+
+        final long initialPosition = position.get();
+        final int fragmentsRead = image.controlledPoll(position, header, fragmentHandler, fragmentLimit);
+        if (position.get() > initialPosition)
+        {
+            image.updateCursorsPosition();
+        }
+
+        return fragmentsRead;
+    }
+
+    /**
+     * Has this cursor been closed and should no longer be used?
+     *
+     * @return true if it has been closed otherwise false.
+     */
+    public boolean isClosed()
+    {
+        return isClosed;
+    }
+
+    /**
+     * Close this cursor so it no longer holds back the subscriber position of the {@link Image}.
+     */
+    public void close()
+    {
+        if (!isClosed)
+        {
+            isClosed = true;
+            image.removeCursor(this);
+        }
+    }
+}
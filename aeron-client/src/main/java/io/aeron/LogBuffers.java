@@ -15,6 +15,8 @@
  */
 package io.aeron;
 
+import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.logbuffer.LogWakeup;
 import org.agrona.CloseHelper;
 import org.agrona.IoUtil;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -39,18 +41,27 @@ public class LogBuffers implements AutoCloseable
     private final FileChannel fileChannel;
     private final UnsafeBuffer[] atomicBuffers = new UnsafeBuffer[(PARTITION_COUNT * 2) + 1];
     private final MappedByteBuffer[] mappedByteBuffers;
+    private final LogWakeup logWakeup;
 
     public LogBuffers(final String logFileName)
+    {
+        this(logFileName, false);
+    }
+
+    /**
+     * Map a log file into memory, optionally touching each page of the mapping so the first pass through a term
+     * does not take page faults in this process.
+     *
+     * @param logFileName to be mapped.
+     * @param preTouch    each page of the mapped log.
+     */
+    public LogBuffers(final String logFileName, final boolean preTouch)
     {
         try
         {
             fileChannel = FileChannel.open(Paths.get(logFileName), StandardOpenOption.READ, StandardOpenOption.WRITE);
 
             final long logLength = fileChannel.size();
-            final int termLength = computeTermLength(logLength);
-
-            checkTermLength(termLength);
-            this.termLength = termLength;
 
             // if log length exceeds MAX_INT we need multiple mapped buffers, (see FileChannel.map doc).
             if (logLength < Integer.MAX_VALUE)
@@ -58,7 +69,13 @@ public class LogBuffers implements AutoCloseable
                 final MappedByteBuffer mappedBuffer = fileChannel.map(READ_WRITE, 0, logLength);
                 mappedByteBuffers = new MappedByteBuffer[]{mappedBuffer};
 
-                final int metaDataSectionOffset = termLength * PARTITION_COUNT;
+                final int metaDataSectionOffset = (int)computeMetaDataSectionOffset(logLength);
+                final UnsafeBuffer logMetaDataBuffer = new UnsafeBuffer(
+                    mappedBuffer, (int)(logLength - LOG_META_DATA_LENGTH), LOG_META_DATA_LENGTH);
+                final int termLength = LogBufferDescriptor.termLength(logMetaDataBuffer);
+
+                checkTermLength(termLength);
+                this.termLength = termLength;
 
                 for (int i = 0; i < PARTITION_COUNT; i++)
                 {
@@ -68,19 +85,24 @@ public class LogBuffers implements AutoCloseable
                     atomicBuffers[i + PARTITION_COUNT] = new UnsafeBuffer(mappedBuffer, metaDataOffset, TERM_META_DATA_LENGTH);
                 }
 
-                atomicBuffers[atomicBuffers.length - 1] = new UnsafeBuffer(
-                    mappedBuffer, (int)(logLength - LOG_META_DATA_LENGTH), LOG_META_DATA_LENGTH);
+                atomicBuffers[atomicBuffers.length - 1] = logMetaDataBuffer;
             }
             else
             {
                 mappedByteBuffers = new MappedByteBuffer[PARTITION_COUNT + 1];
-                final long metaDataSectionOffset = termLength * (long)PARTITION_COUNT;
-                final int metaDataSectionLength = (int)(logLength - metaDataSectionOffset);
+                final long metaDataSectionOffset = computeMetaDataSectionOffset(logLength);
 
                 final MappedByteBuffer metaDataMappedBuffer = fileChannel.map(
-                    READ_WRITE, metaDataSectionOffset, metaDataSectionLength);
+                    READ_WRITE, metaDataSectionOffset, META_DATA_SECTION_LENGTH);
                 mappedByteBuffers[mappedByteBuffers.length - 1] = metaDataMappedBuffer;
 
+                final UnsafeBuffer logMetaDataBuffer = new UnsafeBuffer(
+                    metaDataMappedBuffer, META_DATA_SECTION_LENGTH - LOG_META_DATA_LENGTH, LOG_META_DATA_LENGTH);
+                final int termLength = LogBufferDescriptor.termLength(logMetaDataBuffer);
+
+                checkTermLength(termLength);
+                this.termLength = termLength;
+
                 for (int i = 0; i < PARTITION_COUNT; i++)
                 {
                     mappedByteBuffers[i] = fileChannel.map(READ_WRITE, termLength * (long)i, termLength);
@@ -90,8 +112,15 @@ public class LogBuffers implements AutoCloseable
                         metaDataMappedBuffer, i * TERM_META_DATA_LENGTH, TERM_META_DATA_LENGTH);
                 }
 
-                atomicBuffers[atomicBuffers.length - 1] = new UnsafeBuffer(
-                    metaDataMappedBuffer, metaDataSectionLength - LOG_META_DATA_LENGTH, LOG_META_DATA_LENGTH);
+                atomicBuffers[atomicBuffers.length - 1] = logMetaDataBuffer;
+            }
+
+            if (preTouch)
+            {
+                for (final MappedByteBuffer buffer : mappedByteBuffers)
+                {
+                    buffer.load();
+                }
             }
         }
         catch (final IOException ex)
@@ -103,6 +132,8 @@ public class LogBuffers implements AutoCloseable
         {
             buffer.verifyAlignment();
         }
+
+        logWakeup = new LogWakeup(logFileName, atomicBuffers[LOG_META_DATA_SECTION_INDEX]);
     }
 
     public UnsafeBuffer[] atomicBuffers()
@@ -115,8 +146,20 @@ public class LogBuffers implements AutoCloseable
         return fileChannel;
     }
 
+    /**
+     * Wakeup signalling for threads waiting on this mapping of the log, which is shared with other mappings of the
+     * same log file in this process.
+     *
+     * @return wakeup signalling for this mapping of the log.
+     */
+    public LogWakeup logWakeup()
+    {
+        return logWakeup;
+    }
+
     public void close()
     {
+        logWakeup.close();
         CloseHelper.close(fileChannel);
 
         for (final MappedByteBuffer buffer : mappedByteBuffers)
@@ -20,8 +20,15 @@ package io.aeron;
  */
 class MappedLogBuffersFactory implements LogBuffersFactory
 {
+    private final boolean preTouch;
+
+    MappedLogBuffersFactory(final boolean preTouch)
+    {
+        this.preTouch = preTouch;
+    }
+
     public LogBuffers map(final String logFileName)
     {
-        return new LogBuffers(logFileName);
+        return new LogBuffers(logFileName, preTouch);
     }
 }
@@ -21,6 +21,8 @@ import org.agrona.ManagedResource;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.ReadablePosition;
 
+import java.util.function.BooleanSupplier;
+
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 
@@ -66,9 +68,11 @@ public class Publication implements AutoCloseable
     private final TermAppender[] termAppenders = new TermAppender[PARTITION_COUNT];
     private final UnsafeBuffer logMetaDataBuffer;
     private final HeaderWriter headerWriter;
+    private final LogWakeup logWakeup;
     private final LogBuffers logBuffers;
     private final ClientConductor clientConductor;
     private final String channel;
+    private final BooleanSupplier isBelowPositionLimit = this::isBelowPositionLimit;
 
     private volatile boolean isClosed = false;
     private int refCount = 0;
@@ -102,6 +106,7 @@ public class Publication implements AutoCloseable
         this.logBuffers = logBuffers;
         this.positionBitsToShift = Integer.numberOfTrailingZeros(logBuffers.termLength());
         this.headerWriter = new HeaderWriter(defaultFrameHeader(logMetaDataBuffer));
+        this.logWakeup = logBuffers.logWakeup();
     }
 
     /**
@@ -213,6 +218,21 @@ public class Publication implements AutoCloseable
         }
     }
 
+    /**
+     * Close as for {@link #close()} but without waiting for the media driver to respond.
+     */
+    void asyncClose()
+    {
+        synchronized (clientConductor)
+        {
+            if (--refCount == 0 && !isClosed)
+            {
+                isClosed = true;
+                clientConductor.asyncReleasePublication(this);
+            }
+        }
+    }
+
     /**
      * Get the current position to which the publication has advanced for this stream.
      *
@@ -249,6 +269,21 @@ public class Publication implements AutoCloseable
         return positionLimit.getVolatile();
     }
 
+    /**
+     * Block the calling thread until the position limit is beyond the current position so an offer is no longer back
+     * pressured, rather than spinning on {@link #BACK_PRESSURED}. The thread parks and sees the wakeup sequence move
+     * when the media driver raises the limit, within the park slices of {@link LogWakeup}, and so costs little CPU
+     * while waiting.
+     *
+     * @param timeoutNs to wait for the position limit to advance in nanoseconds.
+     * @return true if the position is below the position limit otherwise false if the timeout expired or the
+     * publication is closed.
+     */
+    public boolean awaitPositionLimit(final long timeoutNs)
+    {
+        return !isClosed && logWakeup.await(isBelowPositionLimit, timeoutNs) && !isClosed;
+    }
+
     /**
      * Non-blocking publish of a buffer containing a message.
      *
@@ -296,6 +331,10 @@ public class Publication implements AutoCloseable
                 }
 
                 newPosition = newPosition(partitionIndex, (int)termOffset, position, result);
+                if (newPosition > 0)
+                {
+                    logWakeup.signal();
+                }
             }
             else if (clientConductor.isPublicationConnected(timeOfLastStatusMessage(logMetaDataBuffer)))
             {
@@ -396,6 +435,11 @@ public class Publication implements AutoCloseable
         }
     }
 
+    private boolean isBelowPositionLimit()
+    {
+        return isClosed || position() < positionLimit.getVolatile();
+    }
+
     private long newPosition(final int index, final int currentTail, final long position, final long result)
     {
         long newPosition = ADMIN_ACTION;
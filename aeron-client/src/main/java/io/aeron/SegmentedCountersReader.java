@@ -0,0 +1,236 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import org.agrona.IoUtil;
+import org.agrona.collections.IntObjConsumer;
+import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersReader;
+import org.agrona.concurrent.status.UnsafeBufferPosition;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+import java.util.ArrayList;
+
+import static io.aeron.CncFileDescriptor.countersSegmentCountOffset;
+
+/**
+ * Reads counters which are stored in a chain of segments of equal capacity. The first segment is held in the CnC file
+ * and the driver adds further segments as files in the Aeron directory when the segments before are full, publishing
+ * the new count of segments in the CnC meta data once a segment is ready.
+ * <p>
+ * Counter ids are global across the chain, with a segment holding the ids from
+ * {@code segmentIndex * countersPerSegment()} up to the first id of the next segment. Segments published after this
+ * reader was created are discovered, and mapped, on first reference to a counter they hold.
+ * <p>
+ * <b>Note:</b> This class is not threadsafe.
+ */
+public class SegmentedCountersReader extends CountersReader implements AutoCloseable
+{
+    /**
+     * Prefix of the name of the files in the Aeron directory for the segments after the first.
+     */
+    public static final String SEGMENT_FILE_PREFIX = "counters-";
+
+    /**
+     * Suffix of the name of the files in the Aeron directory for the segments after the first.
+     */
+    public static final String SEGMENT_FILE_SUFFIX = ".dat";
+
+    protected final ArrayList<CountersReader> segments = new ArrayList<>();
+    protected final File aeronDirectory;
+    protected final UnsafeBuffer cncMetaDataBuffer;
+    protected final int countersPerSegment;
+    private final ArrayList<MappedByteBuffer> mappedSegments = new ArrayList<>();
+
+    /**
+     * Construct a reader over a single segment which never has segments added.
+     *
+     * @param metaDataBuffer for the counter meta data.
+     * @param valuesBuffer   for the counter values.
+     */
+    public SegmentedCountersReader(final AtomicBuffer metaDataBuffer, final AtomicBuffer valuesBuffer)
+    {
+        this(new CountersReader(metaDataBuffer, valuesBuffer), null, null);
+    }
+
+    /**
+     * Construct a reader over the segments published by a driver.
+     *
+     * @param metaDataBuffer    for the counter meta data of the first segment.
+     * @param valuesBuffer      for the counter values of the first segment.
+     * @param aeronDirectory    in which the files for the segments after the first are held.
+     * @param cncMetaDataBuffer in which the count of segments is published.
+     */
+    public SegmentedCountersReader(
+        final AtomicBuffer metaDataBuffer,
+        final AtomicBuffer valuesBuffer,
+        final File aeronDirectory,
+        final UnsafeBuffer cncMetaDataBuffer)
+    {
+        this(new CountersReader(metaDataBuffer, valuesBuffer), aeronDirectory, cncMetaDataBuffer);
+    }
+
+    protected SegmentedCountersReader(
+        final CountersReader firstSegment, final File aeronDirectory, final UnsafeBuffer cncMetaDataBuffer)
+    {
+        super(firstSegment.metaDataBuffer(), firstSegment.valuesBuffer());
+
+        this.aeronDirectory = aeronDirectory;
+        this.cncMetaDataBuffer = cncMetaDataBuffer;
+        this.countersPerSegment = firstSegment.valuesBuffer().capacity() / COUNTER_LENGTH;
+
+        segments.add(firstSegment);
+    }
+
+    /**
+     * The file in which a segment after the first is held.
+     *
+     * @param aeronDirectory in which the segment files are held.
+     * @param segmentIndex   of the segment in the chain.
+     * @return the file in which the segment is held.
+     */
+    public static File segmentFile(final File aeronDirectory, final int segmentIndex)
+    {
+        return new File(aeronDirectory, SEGMENT_FILE_PREFIX + segmentIndex + SEGMENT_FILE_SUFFIX);
+    }
+
+    /**
+     * The number of counters each segment can hold.
+     *
+     * @return the number of counters each segment can hold.
+     */
+    public int countersPerSegment()
+    {
+        return countersPerSegment;
+    }
+
+    /**
+     * The number of segments which have been mapped by this reader.
+     *
+     * @return the number of segments which have been mapped by this reader.
+     */
+    public int segmentCount()
+    {
+        return segments.size();
+    }
+
+    /**
+     * Create a position over the value of a counter, mapping the segment holding it if newly published.
+     *
+     * @param counterId of the counter.
+     * @return a position over the value of the counter.
+     */
+    public UnsafeBufferPosition newPosition(final int counterId)
+    {
+        return new UnsafeBufferPosition((UnsafeBuffer)segment(counterId).valuesBuffer(), counterId % countersPerSegment);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long getCounterValue(final int counterId)
+    {
+        return segment(counterId).getCounterValue(counterId % countersPerSegment);
+    }
+
+    /**
+     * Iterate over the allocated counters in all published segments.
+     *
+     * @param consumer to receive the global id and label of each counter.
+     */
+    public void forEach(final IntObjConsumer<String> consumer)
+    {
+        mapPublishedSegments();
+
+        for (int i = 0, size = segments.size(); i < size; i++)
+        {
+            final int baseId = i * countersPerSegment;
+            segments.get(i).forEach((id, label) -> consumer.accept(baseId + id, label));
+        }
+    }
+
+    /**
+     * Iterate over the allocated counters in all published segments.
+     *
+     * @param metaData to receive the global id, type, key and label of each counter.
+     */
+    public void forEach(final MetaData metaData)
+    {
+        mapPublishedSegments();
+
+        for (int i = 0, size = segments.size(); i < size; i++)
+        {
+            final int baseId = i * countersPerSegment;
+            segments.get(i).forEach(
+                (id, typeId, keyBuffer, label) ->
+                    metaData.accept(baseId + id, typeId, keyBuffer, label));
+        }
+    }
+
+    /**
+     * Unmap the segments after the first which have been mapped by this reader.
+     */
+    public void close()
+    {
+        mappedSegments.forEach(IoUtil::unmap);
+        mappedSegments.clear();
+    }
+
+    protected CountersReader segment(final int counterId)
+    {
+        final int segmentIndex = counterId / countersPerSegment;
+        if (segmentIndex >= segments.size())
+        {
+            mapPublishedSegments();
+
+            if (segmentIndex >= segments.size())
+            {
+                throw new IllegalArgumentException("Counter not in a published segment: counterId=" + counterId);
+            }
+        }
+
+        return segments.get(segmentIndex);
+    }
+
+    protected void addSegment(final MappedByteBuffer mappedSegment)
+    {
+        final int metaDataLength = metaDataBuffer.capacity();
+        final UnsafeBuffer segmentMetaDataBuffer = new UnsafeBuffer(mappedSegment, 0, metaDataLength);
+        final UnsafeBuffer segmentValuesBuffer = new UnsafeBuffer(mappedSegment, metaDataLength, valuesBuffer.capacity());
+
+        segments.add(newSegment(segmentMetaDataBuffer, segmentValuesBuffer));
+        mappedSegments.add(mappedSegment);
+    }
+
+    protected CountersReader newSegment(final AtomicBuffer metaDataBuffer, final AtomicBuffer valuesBuffer)
+    {
+        return new CountersReader(metaDataBuffer, valuesBuffer);
+    }
+
+    private void mapPublishedSegments()
+    {
+        if (null != cncMetaDataBuffer)
+        {
+            final int publishedCount = cncMetaDataBuffer.getIntVolatile(countersSegmentCountOffset(0));
+            for (int i = segments.size(); i < publishedCount; i++)
+            {
+                addSegment(IoUtil.mapExistingFile(segmentFile(aeronDirectory, i), "counters segment " + i));
+            }
+        }
+    }
+}
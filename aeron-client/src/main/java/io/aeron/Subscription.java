@@ -196,6 +196,26 @@ public class Subscription implements AutoCloseable
         return bytesConsumed;
     }
 
+    /**
+     * Skip over the available messages in each {@link Image} under the subscription so the next poll delivers only
+     * the latest.
+     *
+     * @param messagesToRetain number of the latest complete messages to leave available in each {@link Image}, or 0
+     *                         to skip all of the available messages.
+     * @return the number of bytes skipped.
+     * @see Image#skipToLatest(int)
+     */
+    public long skipToLatest(final int messagesToRetain)
+    {
+        long bytesSkipped = 0;
+        for (final Image image : images)
+        {
+            bytesSkipped += image.skipToLatest(messagesToRetain);
+        }
+
+        return bytesSkipped;
+    }
+
     /**
      * Count of images connected to this subscription.
      *
@@ -245,23 +265,15 @@ public class Subscription implements AutoCloseable
      */
     public void close()
     {
-        synchronized (clientConductor)
-        {
-            if (!isClosed)
-            {
-                isClosed = true;
-
-                clientConductor.releaseSubscription(this);
-
-                for (final Image image : images)
-                {
-                    clientConductor.unavailableImageHandler().onUnavailableImage(image);
-                    clientConductor.lingerResource(image.managedResource());
-                }
+        close(false);
+    }
 
-                this.images = EMPTY_ARRAY;
-            }
-        }
+    /**
+     * Close as for {@link #close()} but without waiting for the media driver to respond.
+     */
+    void asyncClose()
+    {
+        close(true);
     }
 
     /**
@@ -284,6 +296,34 @@ public class Subscription implements AutoCloseable
         return registrationId;
     }
 
+    private void close(final boolean isAsync)
+    {
+        synchronized (clientConductor)
+        {
+            if (!isClosed)
+            {
+                isClosed = true;
+
+                if (isAsync)
+                {
+                    clientConductor.asyncReleaseSubscription(this);
+                }
+                else
+                {
+                    clientConductor.releaseSubscription(this);
+                }
+
+                for (final Image image : images)
+                {
+                    clientConductor.unavailableImageHandler().onUnavailableImage(image);
+                    clientConductor.lingerResource(image.managedResource());
+                }
+
+                this.images = EMPTY_ARRAY;
+            }
+        }
+    }
+
     void addImage(final Image image)
     {
         if (isClosed)
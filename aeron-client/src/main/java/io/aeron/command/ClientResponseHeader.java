@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.command;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Header in front of each message from the media driver to the clients which identifies the client the message is
+ * for, so the other clients can skip the message without copying it. The message follows the header.
+ * <p>
+ * 0                   1                   2                   3
+ * 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ * +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ * |                        Target Client ID                       |
+ * |                                                               |
+ * +---------------------------------------------------------------+
+ * |                            Message                           ...
+ * ...                                                             |
+ * +---------------------------------------------------------------+
+ */
+public class ClientResponseHeader
+{
+    /**
+     * Target client id for messages which are for all clients.
+     */
+    public static final long ALL_CLIENTS = -1L;
+
+    public static final int TARGET_CLIENT_ID_FIELD_OFFSET = 0;
+    public static final int LENGTH = SIZE_OF_LONG;
+
+    /**
+     * Get the id of the client a message is for.
+     *
+     * @param buffer containing the header.
+     * @param offset at which the header begins.
+     * @return the id of the client the message is for or {@link #ALL_CLIENTS}.
+     */
+    public static long targetClientId(final DirectBuffer buffer, final int offset)
+    {
+        return buffer.getLong(offset + TARGET_CLIENT_ID_FIELD_OFFSET);
+    }
+
+    /**
+     * Set the id of the client a message is for.
+     *
+     * @param buffer         containing the header.
+     * @param offset         at which the header begins.
+     * @param targetClientId the message is for or {@link #ALL_CLIENTS}.
+     */
+    public static void targetClientId(final MutableDirectBuffer buffer, final int offset, final long targetClientId)
+    {
+        buffer.putLong(offset + TARGET_CLIENT_ID_FIELD_OFFSET, targetClientId);
+    }
+}
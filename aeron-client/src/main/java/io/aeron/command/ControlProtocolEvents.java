@@ -27,6 +27,8 @@ public class ControlProtocolEvents
     public static final int ADD_PUBLICATION = 0x01;
     /** Remove Publication */
     public static final int REMOVE_PUBLICATION = 0x02;
+    /** Add Exclusive Publication with its own session and log buffer */
+    public static final int ADD_EXCLUSIVE_PUBLICATION = 0x03;
     /** Add Subscriber */
     public static final int ADD_SUBSCRIPTION = 0x04;
     /** Remove Subscriber */
@@ -36,6 +36,8 @@ import static org.agrona.BitUtil.SIZE_OF_LONG;
  *  +----------------------------+
  *  |           Term 2           |
  *  +----------------------------+
+ *  |   Padding to File Page     |
+ *  +----------------------------+
  *  |      Term Meta Data 0      |
  *  +----------------------------+
  *  |      Term Meta Data 1      |
@@ -45,6 +47,9 @@ import static org.agrona.BitUtil.SIZE_OF_LONG;
  *  |        Log Meta Data       |
  *  +----------------------------+
  * </pre>
+ * <p>
+ * The length of the log may be padded to a multiple of the page length of the file system holding it, such as for
+ * hugetlbfs. The meta data is always at the end of the log and the term length is stored in the log meta data.
  */
 public class LogBufferDescriptor
 {
@@ -118,6 +123,16 @@ public class LogBufferDescriptor
      */
     public static final int LOG_TIME_OF_LAST_SM_OFFSET;
 
+    /**
+     * Offset within the log meta data where the wakeup sequence, incremented when waiters are signalled, is stored.
+     */
+    public static final int LOG_WAKEUP_SEQUENCE_OFFSET;
+
+    /**
+     * Offset within the log meta data where the count of threads waiting for a wakeup is stored.
+     */
+    public static final int LOG_WAITER_COUNT_OFFSET;
+
     /**
      * Offset within the log meta data where the active term id is stored.
      */
@@ -133,6 +148,11 @@ public class LogBufferDescriptor
      */
     public static final int LOG_MTU_LENGTH_OFFSET;
 
+    /**
+     * Offset within the log meta data which the term length is stored;
+     */
+    public static final int LOG_TERM_LENGTH_OFFSET;
+
     /**
      * Offset within the log meta data which the
      */
@@ -156,11 +176,18 @@ public class LogBufferDescriptor
         offset += (CACHE_LINE_LENGTH * 2);
         LOG_TIME_OF_LAST_SM_OFFSET = offset;
 
+        offset += (CACHE_LINE_LENGTH * 2);
+        LOG_WAKEUP_SEQUENCE_OFFSET = offset;
+
+        offset += (CACHE_LINE_LENGTH * 2);
+        LOG_WAITER_COUNT_OFFSET = offset;
+
         offset += (CACHE_LINE_LENGTH * 2);
         LOG_CORRELATION_ID_OFFSET = offset;
         LOG_INITIAL_TERM_ID_OFFSET = LOG_CORRELATION_ID_OFFSET + SIZE_OF_LONG;
         LOG_DEFAULT_FRAME_HEADER_LENGTH_OFFSET = LOG_INITIAL_TERM_ID_OFFSET + SIZE_OF_INT;
         LOG_MTU_LENGTH_OFFSET = LOG_DEFAULT_FRAME_HEADER_LENGTH_OFFSET + SIZE_OF_INT;
+        LOG_TERM_LENGTH_OFFSET = LOG_MTU_LENGTH_OFFSET + SIZE_OF_INT;
 
         offset += CACHE_LINE_LENGTH;
         LOG_DEFAULT_FRAME_HEADER_OFFSET = offset;
@@ -186,6 +213,17 @@ public class LogBufferDescriptor
      *  |                      Cache Line Padding                      ...
      * ...                                                              |
      *  +---------------------------------------------------------------+
+     *  |                       Wakeup Sequence                         |
+     *  |                                                               |
+     *  +---------------------------------------------------------------+
+     *  |                      Cache Line Padding                      ...
+     * ...                                                              |
+     *  +---------------------------------------------------------------+
+     *  |                         Waiter Count                          |
+     *  +---------------------------------------------------------------+
+     *  |                      Cache Line Padding                      ...
+     * ...                                                              |
+     *  +---------------------------------------------------------------+
      *  |                 Registration / Correlation ID                 |
      *  |                                                               |
      *  +---------------------------------------------------------------+
@@ -195,6 +233,8 @@ public class LogBufferDescriptor
      *  +---------------------------------------------------------------+
      *  |                          MTU Length                           |
      *  +---------------------------------------------------------------+
+     *  |                          Term Length                          |
+     *  +---------------------------------------------------------------+
      *  |                      Cache Line Padding                      ...
      * ...                                                              |
      *  +---------------------------------------------------------------+
@@ -205,6 +245,11 @@ public class LogBufferDescriptor
      */
     public static final int LOG_META_DATA_LENGTH;
 
+    /**
+     * Total length of the term meta data for all partitions and the log meta data at the end of the log.
+     */
+    public static final int META_DATA_SECTION_LENGTH = (TERM_META_DATA_LENGTH * PARTITION_COUNT) + LOG_META_DATA_LENGTH;
+
     /**
      * Check that term length is valid and alignment is valid.
      *
@@ -293,6 +338,28 @@ public class LogBufferDescriptor
         logMetaDataBuffer.putInt(LOG_MTU_LENGTH_OFFSET, mtuLength);
     }
 
+    /**
+     * Get the length of the terms in this log.
+     *
+     * @param logMetaDataBuffer containing the meta data.
+     * @return the length of the terms in this log.
+     */
+    public static int termLength(final UnsafeBuffer logMetaDataBuffer)
+    {
+        return logMetaDataBuffer.getInt(LOG_TERM_LENGTH_OFFSET);
+    }
+
+    /**
+     * Set the length of the terms in this log.
+     *
+     * @param logMetaDataBuffer containing the meta data.
+     * @param termLength        value to be set.
+     */
+    public static void termLength(final UnsafeBuffer logMetaDataBuffer, final int termLength)
+    {
+        logMetaDataBuffer.putInt(LOG_TERM_LENGTH_OFFSET, termLength);
+    }
+
     /**
      * Get the value of the correlation ID for this log.
      *
@@ -492,16 +559,42 @@ public class LogBufferDescriptor
     }
 
     /**
-     * Compute the term length based on the total length of the log.
+     * Compute the total length of a log file given the term length, padded to a multiple of the page length of the
+     * file system on which it is stored.
+     *
+     * @param termLength     on which to base the calculation.
+     * @param filePageLength of the file system, which is a power of 2.
+     * @return the total length of the log file.
+     */
+    public static long computeLogLength(final int termLength, final int filePageLength)
+    {
+        final long mask = filePageLength - 1L;
+
+        return (computeLogLength(termLength) + mask) & ~mask;
+    }
+
+    /**
+     * Compute the offset of the term meta data for the first partition, after which the log meta data follows, given
+     * the total length of a log which may be padded.
+     *
+     * @param logLength the total length of the log.
+     * @return the offset of the meta data section at the end of the log.
+     */
+    public static long computeMetaDataSectionOffset(final long logLength)
+    {
+        return logLength - META_DATA_SECTION_LENGTH;
+    }
+
+    /**
+     * Compute the term length based on the total length of a log which is not padded to a file page length. The term
+     * length of any log is stored in its meta data, see {@link #termLength(UnsafeBuffer)}.
      *
      * @param logLength the total length of the log.
      * @return length of an individual term buffer in the log.
      */
     public static int computeTermLength(final long logLength)
     {
-        final long metaDataSectionLength = (TERM_META_DATA_LENGTH * (long)PARTITION_COUNT) + LOG_META_DATA_LENGTH;
-
-        return (int)((logLength - metaDataSectionLength) / PARTITION_COUNT);
+        return (int)(computeMetaDataSectionOffset(logLength) / PARTITION_COUNT);
     }
 
     /**
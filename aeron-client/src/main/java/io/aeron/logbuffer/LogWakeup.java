@@ -0,0 +1,227 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.LOG_WAITER_COUNT_OFFSET;
+import static io.aeron.logbuffer.LogBufferDescriptor.LOG_WAKEUP_SEQUENCE_OFFSET;
+
+/**
+ * Wakeup signalling through the log meta data so threads waiting on a log, for data to consume or a limit to
+ * publish up to, can park rather than spin or back off.
+ * <p>
+ * A waiter counts itself into the log meta data and parks. Anything which makes progress on the log, such as an
+ * append or a move of the rebuild position or publisher limit, signals only when there are waiters, so signalling is
+ * a single read while nobody waits. A signal increments the wakeup sequence in the log meta data. Waiters park in
+ * slices which start short and grow up to {@link #MAX_PARK_NS}, and start short again once they see the wakeup
+ * sequence move.
+ * <p>
+ * An instance is held for the life of a mapping of a log by its {@link io.aeron.LogBuffers}. Instances for mappings
+ * of the same log file in a process share their waiters, so an offer by a {@link io.aeron.Publication} directly
+ * unparks threads waiting on an {@link io.aeron.Image} of the same log. Waiting and signalling do not allocate.
+ */
+public class LogWakeup implements AutoCloseable
+{
+    /**
+     * Shortest time a waiter parks for before checking the log.
+     */
+    public static final long MIN_PARK_NS = TimeUnit.MICROSECONDS.toNanos(1);
+
+    /**
+     * Longest time a waiter parks for before checking the log, which bounds the latency of a wakeup which is missed.
+     */
+    public static final long MAX_PARK_NS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Number of threads waiting on a mapping which can be unparked directly. Further waiters rely on the wakeup
+     * sequence alone.
+     */
+    public static final int MAX_DIRECT_WAITERS = 8;
+
+    private static final Map<String, Waiters> WAITERS_BY_LOG_FILE_NAME = new HashMap<>();
+
+    private final String logFileName;
+    private final UnsafeBuffer logMetaDataBuffer;
+    private final AtomicReferenceArray<Thread> waiters;
+
+    /**
+     * Construct wakeup signalling for a mapping of a log which does not share its waiters with other mappings.
+     *
+     * @param logMetaDataBuffer for the mapping of the log.
+     */
+    public LogWakeup(final UnsafeBuffer logMetaDataBuffer)
+    {
+        this.logFileName = null;
+        this.logMetaDataBuffer = logMetaDataBuffer;
+        this.waiters = new AtomicReferenceArray<>(MAX_DIRECT_WAITERS);
+    }
+
+    /**
+     * Construct wakeup signalling for a mapping of a log file which shares its waiters with the other mappings of the
+     * same log file in this process until closed.
+     *
+     * @param logFileName       of the mapped log.
+     * @param logMetaDataBuffer for the mapping of the log.
+     */
+    public LogWakeup(final String logFileName, final UnsafeBuffer logMetaDataBuffer)
+    {
+        this.logFileName = logFileName;
+        this.logMetaDataBuffer = logMetaDataBuffer;
+
+        synchronized (WAITERS_BY_LOG_FILE_NAME)
+        {
+            final Waiters sharedWaiters = WAITERS_BY_LOG_FILE_NAME.computeIfAbsent(logFileName, (name) -> new Waiters());
+            sharedWaiters.refCount++;
+            this.waiters = sharedWaiters.threads;
+        }
+    }
+
+    /**
+     * Stop sharing waiters with other mappings of the log file when the mapping is closed.
+     */
+    public void close()
+    {
+        if (null != logFileName)
+        {
+            synchronized (WAITERS_BY_LOG_FILE_NAME)
+            {
+                final Waiters sharedWaiters = WAITERS_BY_LOG_FILE_NAME.get(logFileName);
+                if (null != sharedWaiters && sharedWaiters.threads == waiters && --sharedWaiters.refCount == 0)
+                {
+                    WAITERS_BY_LOG_FILE_NAME.remove(logFileName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Signal threads waiting on a log that progress has been made, for a log with no {@link LogWakeup} in this
+     * process such as one mapped by the media driver. Does nothing but read the waiter count when there are no
+     * waiters.
+     *
+     * @param logMetaDataBuffer for the log on which progress has been made.
+     * @return true if there were waiters to be signalled.
+     */
+    public static boolean signal(final UnsafeBuffer logMetaDataBuffer)
+    {
+        if (logMetaDataBuffer.getIntVolatile(LOG_WAITER_COUNT_OFFSET) > 0)
+        {
+            logMetaDataBuffer.getAndAddLong(LOG_WAKEUP_SEQUENCE_OFFSET, 1);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Signal threads waiting on the log that progress has been made, and unpark those waiting on mappings of the log
+     * file in this process. Does
+     * nothing but read the waiter count when there are no waiters.
+     */
+    public void signal()
+    {
+        if (signal(logMetaDataBuffer))
+        {
+            for (int i = 0; i < MAX_DIRECT_WAITERS; i++)
+            {
+                final Thread thread = waiters.get(i);
+                if (null != thread)
+                {
+                    LockSupport.unpark(thread);
+                }
+            }
+        }
+    }
+
+    /**
+     * Park the calling thread until a condition on the log is met or a timeout expires.
+     *
+     * @param condition to wait for, which is checked after each wakeup.
+     * @param timeoutNs to wait for in nanoseconds.
+     * @return true if the condition was met otherwise false if the timeout expired.
+     */
+    public boolean await(final BooleanSupplier condition, final long timeoutNs)
+    {
+        final int slot = addWaiter(Thread.currentThread());
+        logMetaDataBuffer.getAndAddInt(LOG_WAITER_COUNT_OFFSET, 1);
+
+        try
+        {
+            final long deadlineNs = System.nanoTime() + timeoutNs;
+            long sequence = logMetaDataBuffer.getLongVolatile(LOG_WAKEUP_SEQUENCE_OFFSET);
+            long parkNs = MIN_PARK_NS;
+
+            while (!condition.getAsBoolean())
+            {
+                final long remainingNs = deadlineNs - System.nanoTime();
+                if (remainingNs <= 0)
+                {
+                    return false;
+                }
+
+                LockSupport.parkNanos(Math.min(parkNs, remainingNs));
+
+                final long newSequence = logMetaDataBuffer.getLongVolatile(LOG_WAKEUP_SEQUENCE_OFFSET);
+                if (newSequence != sequence)
+                {
+                    sequence = newSequence;
+                    parkNs = MIN_PARK_NS;
+                }
+                else
+                {
+                    parkNs = Math.min(parkNs * 2, MAX_PARK_NS);
+                }
+            }
+
+            return true;
+        }
+        finally
+        {
+            logMetaDataBuffer.getAndAddInt(LOG_WAITER_COUNT_OFFSET, -1);
+            if (slot >= 0)
+            {
+                waiters.set(slot, null);
+            }
+        }
+    }
+
+    private int addWaiter(final Thread thread)
+    {
+        for (int i = 0; i < MAX_DIRECT_WAITERS; i++)
+        {
+            if (null == waiters.get(i) && waiters.compareAndSet(i, null, thread))
+            {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static final class Waiters
+    {
+        final AtomicReferenceArray<Thread> threads = new AtomicReferenceArray<>(MAX_DIRECT_WAITERS);
+        int refCount;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.protocol;
+
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * HeaderFlyweight for a compressed batch of Data Frames. The fields of a Data Header are followed by the length of
+ * the batch once decompressed and then the compressed batch itself.
+ *
+ * 0                   1                   2                   3
+ * 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ * +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ * |                        Frame Length                           |
+ * +---------------------------------------------------------------+
+ * |  Version    |     Flags     |          Type (CDATA)           |
+ * +-------------+---------------+---------------------------------+
+ * |                         Term Offset                           |
+ * +---------------------------------------------------------------+
+ * |                         Session ID                            |
+ * +---------------------------------------------------------------+
+ * |                         Stream ID                             |
+ * +---------------------------------------------------------------+
+ * |                          Term ID                              |
+ * +---------------------------------------------------------------+
+ * |                    Uncompressed Length                        |
+ * +---------------------------------------------------------------+
+ * |                      Compressed Frames                       ...
+ * ...                                                             |
+ * +---------------------------------------------------------------+
+ */
+public class CompressedDataHeaderFlyweight extends DataHeaderFlyweight
+{
+    /**
+     * Length of the Compressed Data Header
+     */
+    public static final int HEADER_LENGTH = 28;
+
+    public static final int UNCOMPRESSED_LENGTH_FIELD_OFFSET = 24;
+    public static final int DATA_OFFSET = 28;
+
+    public CompressedDataHeaderFlyweight()
+    {
+    }
+
+    public CompressedDataHeaderFlyweight(final UnsafeBuffer buffer)
+    {
+        super(buffer);
+    }
+
+    public CompressedDataHeaderFlyweight(final ByteBuffer buffer)
+    {
+        super(buffer);
+    }
+
+    /**
+     * return uncompressed length field
+     *
+     * @return uncompressed length field
+     */
+    public int uncompressedLength()
+    {
+        return getInt(UNCOMPRESSED_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set uncompressed length field
+     *
+     * @param uncompressedLength field value
+     * @return flyweight
+     */
+    public CompressedDataHeaderFlyweight uncompressedLength(final int uncompressedLength)
+    {
+        putInt(UNCOMPRESSED_LENGTH_FIELD_OFFSET, uncompressedLength, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * Return offset in buffer for compressed data
+     *
+     * @return offset of compressed data in the buffer
+     */
+    public int dataOffset()
+    {
+        return DATA_OFFSET;
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.protocol;
+
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+
+/**
+ * HeaderFlyweight for a forward error correction parity packet covering a group of consecutive data packets
+ * starting at a term offset.
+ * <p>
+ * The packets of a group are numbered from 0 and a parity packet with a given parity index is the XOR of those
+ * packets whose number modulo the parity count equals the parity index. The lengths of all the packets in the group
+ * follow the header fields so receivers can locate each packet in the term.
+ *
+ * 0                   1                   2                   3
+ * 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ * +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ * |                        Frame Length                           |
+ * +---------------------------------------------------------------+
+ * |  Version    |     Flags     |           Type (FEC)            |
+ * +-------------+---------------+---------------------------------+
+ * |                         Term Offset                           |
+ * +---------------------------------------------------------------+
+ * |                         Session ID                            |
+ * +---------------------------------------------------------------+
+ * |                         Stream ID                             |
+ * +---------------------------------------------------------------+
+ * |                          Term ID                              |
+ * +-------------------------------+-------------------------------+
+ * |         Parity Index          |         Parity Count          |
+ * +-------------------------------+-------------------------------+
+ * |         Packet Count          |           Reserved            |
+ * +-------------------------------+-------------------------------+
+ * |                      Packet Lengths                          ...
+ * ...                                                             |
+ * +---------------------------------------------------------------+
+ * |                          Parity                              ...
+ * ...                                                             |
+ * +---------------------------------------------------------------+
+ */
+public class FecHeaderFlyweight extends HeaderFlyweight
+{
+    public static final int TERM_OFFSET_FIELD_OFFSET = 8;
+    public static final int SESSION_ID_FIELD_OFFSET = 12;
+    public static final int STREAM_ID_FIELD_OFFSET = 16;
+    public static final int TERM_ID_FIELD_OFFSET = 20;
+    public static final int PARITY_INDEX_FIELD_OFFSET = 24;
+    public static final int PARITY_COUNT_FIELD_OFFSET = 26;
+    public static final int PACKET_COUNT_FIELD_OFFSET = 28;
+    public static final int PACKET_LENGTHS_OFFSET = 32;
+
+    public FecHeaderFlyweight()
+    {
+    }
+
+    public FecHeaderFlyweight(final UnsafeBuffer buffer)
+    {
+        super(buffer);
+    }
+
+    public FecHeaderFlyweight(final ByteBuffer buffer)
+    {
+        super(buffer);
+    }
+
+    /**
+     * Length of the header for a given number of packets in a group, i.e. the offset at which the parity begins.
+     *
+     * @param packetCount in the group.
+     * @return length of the header.
+     */
+    public static int headerLength(final int packetCount)
+    {
+        return PACKET_LENGTHS_OFFSET + (packetCount * SIZE_OF_INT);
+    }
+
+    /**
+     * return term offset field
+     *
+     * @return term offset field
+     */
+    public int termOffset()
+    {
+        return getInt(TERM_OFFSET_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set term offset field
+     *
+     * @param termOffset field value
+     * @return flyweight
+     */
+    public FecHeaderFlyweight termOffset(final int termOffset)
+    {
+        putInt(TERM_OFFSET_FIELD_OFFSET, termOffset, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return session id field
+     *
+     * @return session id field
+     */
+    public int sessionId()
+    {
+        return getInt(SESSION_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set session id field
+     *
+     * @param sessionId field value
+     * @return flyweight
+     */
+    public FecHeaderFlyweight sessionId(final int sessionId)
+    {
+        putInt(SESSION_ID_FIELD_OFFSET, sessionId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return stream id field
+     *
+     * @return stream id field
+     */
+    public int streamId()
+    {
+        return getInt(STREAM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set stream id field
+     *
+     * @param streamId field value
+     * @return flyweight
+     */
+    public FecHeaderFlyweight streamId(final int streamId)
+    {
+        putInt(STREAM_ID_FIELD_OFFSET, streamId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return term id field
+     *
+     * @return term id field
+     */
+    public int termId()
+    {
+        return getInt(TERM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * set term id field
+     *
+     * @param termId field value
+     * @return flyweight
+     */
+    public FecHeaderFlyweight termId(final int termId)
+    {
+        putInt(TERM_ID_FIELD_OFFSET, termId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return parity index field
+     *
+     * @return parity index field
+     */
+    public int parityIndex()
+    {
+        return getShort(PARITY_INDEX_FIELD_OFFSET, LITTLE_ENDIAN) & 0xFFFF;
+    }
+
+    /**
+     * set parity index field
+     *
+     * @param parityIndex field value
+     * @return flyweight
+     */
+    public FecHeaderFlyweight parityIndex(final int parityIndex)
+    {
+        putShort(PARITY_INDEX_FIELD_OFFSET, (short)parityIndex, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return parity count field
+     *
+     * @return parity count field
+     */
+    public int parityCount()
+    {
+        return getShort(PARITY_COUNT_FIELD_OFFSET, LITTLE_ENDIAN) & 0xFFFF;
+    }
+
+    /**
+     * set parity count field
+     *
+     * @param parityCount field value
+     * @return flyweight
+     */
+    public FecHeaderFlyweight parityCount(final int parityCount)
+    {
+        putShort(PARITY_COUNT_FIELD_OFFSET, (short)parityCount, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return packet count field
+     *
+     * @return packet count field
+     */
+    public int packetCount()
+    {
+        return getShort(PACKET_COUNT_FIELD_OFFSET, LITTLE_ENDIAN) & 0xFFFF;
+    }
+
+    /**
+     * set packet count field
+     *
+     * @param packetCount field value
+     * @return flyweight
+     */
+    public FecHeaderFlyweight packetCount(final int packetCount)
+    {
+        putShort(PACKET_COUNT_FIELD_OFFSET, (short)packetCount, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * return the length of a packet in the group
+     *
+     * @param index of the packet in the group
+     * @return length of the packet
+     */
+    public int packetLength(final int index)
+    {
+        return getInt(PACKET_LENGTHS_OFFSET + (index * SIZE_OF_INT), LITTLE_ENDIAN);
+    }
+
+    /**
+     * set the length of a packet in the group
+     *
+     * @param index  of the packet in the group
+     * @param length of the packet
+     * @return flyweight
+     */
+    public FecHeaderFlyweight packetLength(final int index, final int length)
+    {
+        putInt(PACKET_LENGTHS_OFFSET + (index * SIZE_OF_INT), length, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * Return offset in buffer at which the parity begins
+     *
+     * @return offset of the parity in the buffer
+     */
+    public int parityOffset()
+    {
+        return headerLength(packetCount());
+    }
+}
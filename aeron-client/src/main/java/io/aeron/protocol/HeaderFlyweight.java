@@ -51,6 +51,10 @@ public class HeaderFlyweight extends UnsafeBuffer
     public static final int HDR_TYPE_ERR = 0x04;
     /** header type SETUP */
     public static final int HDR_TYPE_SETUP = 0x05;
+    /** header type CDATA for a compressed batch of DATA frames */
+    public static final int HDR_TYPE_CDATA = 0x06;
+    /** header type FEC for a parity packet over a group of DATA packets */
+    public static final int HDR_TYPE_FEC = 0x07;
     /** header type EXT */
     public static final int HDR_TYPE_EXT = 0xFFFF;
 
@@ -41,7 +41,11 @@ public:
     {
         m_toDriver.fill(0);
         m_toClients.fill(0);
-        MemoryMappedFile::createNew(m_logFileName.c_str(), 0, LOG_FILE_LENGTH);
+        MemoryMappedFile::ptr_t logFile = MemoryMappedFile::createNew(m_logFileName.c_str(), 0, LOG_FILE_LENGTH);
+        AtomicBuffer logMetaDataBuffer(
+            logFile->getMemoryPtr() + (LOG_FILE_LENGTH - LogBufferDescriptor::LOG_META_DATA_LENGTH),
+            LogBufferDescriptor::LOG_META_DATA_LENGTH);
+        LogBufferDescriptor::termLength(logMetaDataBuffer, TERM_LENGTH);
         m_manyToOneRingBuffer.consumerHeartbeatTime(m_currentTime);
     }
 
@@ -25,12 +25,12 @@ import io.aeron.exceptions.ConductorServiceTimeoutException;
 import io.aeron.exceptions.DriverTimeoutException;
 import io.aeron.exceptions.RegistrationException;
 import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.logbuffer.LogWakeup;
 import io.aeron.protocol.DataHeaderFlyweight;
 import org.agrona.ErrorHandler;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2LongHashMap;
 import org.agrona.concurrent.*;
-import org.agrona.concurrent.broadcast.CopyBroadcastReceiver;
 
 import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
@@ -38,6 +38,7 @@ import java.util.function.Function;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertFalse;
@@ -62,6 +63,7 @@ public class ClientConductorTest
 
     private static final long CORRELATION_ID = 2000;
     private static final long CORRELATION_ID_2 = 2002;
+    private static final long CORRELATION_ID_3 = 2003;
     private static final long CLOSE_CORRELATION_ID = 2001;
     private static final long UNKNOWN_CORRELATION_ID = 3000;
 
@@ -80,12 +82,14 @@ public class ClientConductorTest
     private final UnsafeBuffer correlatedMessageBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(SEND_BUFFER_CAPACITY));
     private final UnsafeBuffer errorMessageBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(SEND_BUFFER_CAPACITY));
 
-    private final CopyBroadcastReceiver mockToClientReceiver = mock(CopyBroadcastReceiver.class);
+    private final FilteredBroadcastReceiver mockToClientReceiver = mock(FilteredBroadcastReceiver.class);
 
+    private final UnsafeBuffer counterMetaDataBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(COUNTER_BUFFER_LENGTH * 2));
     private final UnsafeBuffer counterValuesBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(COUNTER_BUFFER_LENGTH));
 
     private final EpochClock epochClock = new SystemEpochClock();
-    private final NanoClock nanoClock = new SystemNanoClock();
+    private long timeOffsetNs = 0;
+    private final NanoClock nanoClock = () -> System.nanoTime() + timeOffsetNs;
     private final ErrorHandler mockClientErrorHandler = spy(new PrintError());
 
     private DriverProxy driverProxy;
@@ -112,7 +116,7 @@ public class ClientConductorTest
             nanoClock,
             mockToClientReceiver,
             logBuffersFactory,
-            counterValuesBuffer,
+            new SegmentedCountersReader(counterMetaDataBuffer, counterValuesBuffer),
             driverProxy,
             mockClientErrorHandler,
             mockAvailableImageHandler,
@@ -120,7 +124,8 @@ public class ClientConductorTest
             KEEP_ALIVE_INTERVAL,
             AWAIT_TIMEOUT,
             TimeUnit.MILLISECONDS.toNanos(INTER_SERVICE_TIMEOUT_MS),
-            TimeUnit.MILLISECONDS.toMillis(PUBLICATION_CONNECTION_TIMEOUT_MS));
+            TimeUnit.MILLISECONDS.toMillis(PUBLICATION_CONNECTION_TIMEOUT_MS),
+            null);
 
         publicationReady.wrap(publicationReadyBuffer, 0);
         correlatedMessage.wrap(correlatedMessageBuffer, 0);
@@ -168,6 +173,10 @@ public class ClientConductorTest
 
         when(logBuffersSession1.atomicBuffers()).thenReturn(atomicBuffersSession1);
         when(logBuffersSession2.atomicBuffers()).thenReturn(atomicBuffersSession2);
+        when(logBuffersSession1.logWakeup()).thenReturn(
+            new LogWakeup(atomicBuffersSession1[LOG_META_DATA_SECTION_INDEX]));
+        when(logBuffersSession2.logWakeup()).thenReturn(
+            new LogWakeup(atomicBuffersSession2[LOG_META_DATA_SECTION_INDEX]));
     }
 
     // --------------------------------
@@ -220,6 +229,46 @@ public class ClientConductorTest
         assertThat(firstPublication, sameInstance(secondPublication));
     }
 
+    @Test
+    public void conductorShouldNotShareExclusivePublicationInstances()
+    {
+        when(driverProxy.addExclusivePublication(CHANNEL, STREAM_ID_1)).thenReturn(CORRELATION_ID_2);
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY,
+            publicationReadyBuffer,
+            (buffer) -> publicationReady.length());
+
+        final Publication sharedPublication = conductor.addPublication(CHANNEL, STREAM_ID_1);
+
+        publicationReady.correlationId(CORRELATION_ID_2);
+        final Publication exclusivePublication = conductor.addExclusivePublication(CHANNEL, STREAM_ID_1);
+
+        assertThat(exclusivePublication, not(sameInstance(sharedPublication)));
+        assertThat(conductor.addPublication(CHANNEL, STREAM_ID_1), sameInstance(sharedPublication));
+    }
+
+    @Test
+    public void closingExclusivePublicationShouldNotPurgeSharedPublication() throws Exception
+    {
+        when(driverProxy.addExclusivePublication(CHANNEL, STREAM_ID_1)).thenReturn(CORRELATION_ID_2);
+        when(driverProxy.removePublication(CORRELATION_ID_2)).thenReturn(CLOSE_CORRELATION_ID);
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY, publicationReadyBuffer, (buffer) -> publicationReady.length());
+
+        final Publication sharedPublication = conductor.addPublication(CHANNEL, STREAM_ID_1);
+
+        publicationReady.correlationId(CORRELATION_ID_2);
+        final Publication exclusivePublication = conductor.addExclusivePublication(CHANNEL, STREAM_ID_1);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_OPERATION_SUCCESS, correlatedMessageBuffer, (buffer) -> CorrelatedMessageFlyweight.LENGTH);
+
+        exclusivePublication.close();
+
+        verify(driverProxy).removePublication(CORRELATION_ID_2);
+        assertThat(conductor.addPublication(CHANNEL, STREAM_ID_1), sameInstance(sharedPublication));
+    }
+
     @Test
     public void closingPublicationShouldNotifyMediaDriver() throws Exception
     {
@@ -376,6 +425,121 @@ public class ClientConductorTest
         assertThat(publication.registrationId(), is(CORRELATION_ID));
     }
 
+    @Test
+    public void asyncAddPublicationShouldReturnPublicationOnceReady() throws Exception
+    {
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        verify(driverProxy).addPublication(CHANNEL, STREAM_ID_1);
+        assertThat(registrationId, is(CORRELATION_ID));
+        assertThat(conductor.getPublication(registrationId), nullValue());
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY,
+            publicationReadyBuffer,
+            (buffer) -> publicationReady.length());
+
+        conductor.doWork();
+
+        final Publication publication = conductor.getPublication(registrationId);
+        assertThat(publication.registrationId(), is(CORRELATION_ID));
+        assertThat(conductor.addPublication(CHANNEL, STREAM_ID_1), sameInstance(publication));
+    }
+
+    @Test
+    public void addPublicationShouldReusePublicationAddedAsyncWhileWaiting() throws Exception
+    {
+        when(driverProxy.addPublication(CHANNEL, STREAM_ID_1)).thenReturn(CORRELATION_ID, CORRELATION_ID_3);
+
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY,
+            publicationReadyBuffer,
+            (buffer) ->
+            {
+                final long correlationId = publicationReady.correlationId();
+                publicationReady.correlationId(CORRELATION_ID == correlationId ? CORRELATION_ID_3 : CORRELATION_ID);
+                return publicationReady.length();
+            });
+        publicationReady.correlationId(CORRELATION_ID_3);
+
+        final Publication publication = conductor.addPublication(CHANNEL, STREAM_ID_1);
+
+        assertThat(conductor.getPublication(registrationId), sameInstance(publication));
+        assertThat(publication.registrationId(), is(CORRELATION_ID));
+        verify(logBuffersFactory, times(1)).map(anyString());
+        verify(driverProxy).removePublication(CORRELATION_ID_3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void asyncAddPublicationShouldBeReleasedWhenNotCollected() throws Exception
+    {
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY,
+            publicationReadyBuffer,
+            (buffer) -> publicationReady.length());
+
+        conductor.doWork();
+        reset(mockToClientReceiver);
+
+        advanceTimeDoingWork(TimeUnit.MILLISECONDS.toNanos(AWAIT_TIMEOUT) + TimeUnit.SECONDS.toNanos(1));
+
+        verify(driverProxy).removePublication(CORRELATION_ID);
+
+        conductor.getPublication(registrationId);
+    }
+
+    @Test
+    public void asyncRemoveShouldExpireWithoutResponse() throws Exception
+    {
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY,
+            publicationReadyBuffer,
+            (buffer) -> publicationReady.length());
+
+        final Publication publication = conductor.addPublication(CHANNEL, STREAM_ID_1);
+
+        reset(mockToClientReceiver);
+        publication.asyncClose();
+
+        advanceTimeDoingWork(TimeUnit.MILLISECONDS.toNanos(AWAIT_TIMEOUT) + TimeUnit.SECONDS.toNanos(1));
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_ERROR,
+            errorMessageBuffer,
+            (buffer) ->
+            {
+                errorResponse.errorCode(ErrorCode.GENERIC_ERROR);
+                errorResponse.errorMessage("publication unknown");
+                errorResponse.offendingCommandCorrelationId(CLOSE_CORRELATION_ID);
+                return errorResponse.length();
+            });
+
+        conductor.doWork();
+
+        verify(mockClientErrorHandler, never()).onError(any(RegistrationException.class));
+    }
+
+    @Test
+    public void asyncRemovePublicationShouldNotWaitForMediaDriver() throws Exception
+    {
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY,
+            publicationReadyBuffer,
+            (buffer) -> publicationReady.length());
+
+        final Publication publication = conductor.addPublication(CHANNEL, STREAM_ID_1);
+
+        reset(mockToClientReceiver);
+        publication.asyncClose();
+
+        verify(driverProxy).removePublication(CORRELATION_ID);
+        assertTrue(publication.isClosed());
+    }
+
     // ---------------------------------
     // Subscription related interactions
     // ---------------------------------
@@ -448,6 +612,49 @@ public class ClientConductorTest
         conductor.addSubscription(CHANNEL, STREAM_ID_1);
     }
 
+    @Test
+    public void asyncAddSubscriptionShouldReturnSubscriptionOnceOperationSucceeds()
+    {
+        final long registrationId = conductor.asyncAddSubscription(CHANNEL, STREAM_ID_1);
+
+        assertThat(conductor.getSubscription(registrationId), nullValue());
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_OPERATION_SUCCESS,
+            correlatedMessageBuffer,
+            (buffer) ->
+            {
+                correlatedMessage.correlationId(CORRELATION_ID);
+                return CorrelatedMessageFlyweight.LENGTH;
+            });
+
+        conductor.doWork();
+
+        final Subscription subscription = conductor.getSubscription(registrationId);
+        assertThat(subscription.registrationId(), is(CORRELATION_ID));
+        assertThat(subscription.streamId(), is(STREAM_ID_1));
+    }
+
+    @Test(expected = RegistrationException.class)
+    public void asyncAddSubscriptionShouldFailOnMediaDriverError()
+    {
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_ERROR,
+            errorMessageBuffer,
+            (buffer) ->
+            {
+                errorResponse.errorCode(INVALID_CHANNEL);
+                errorResponse.errorMessage("invalid channel");
+                errorResponse.offendingCommandCorrelationId(CORRELATION_ID);
+                return errorResponse.length();
+            });
+
+        final long registrationId = conductor.asyncAddSubscription(CHANNEL, STREAM_ID_1);
+        conductor.doWork();
+
+        conductor.getSubscription(registrationId);
+    }
+
     @Test
     public void clientNotifiedOfNewImageShouldMapLogFile()
     {
@@ -526,6 +733,18 @@ public class ClientConductorTest
         verify(mockClientErrorHandler).onError(any(ConductorServiceTimeoutException.class));
     }
 
+    private void advanceTimeDoingWork(final long durationNs)
+    {
+        when(driverProxy.timeOfLastDriverKeepalive()).thenAnswer((invocation) -> epochClock.time());
+
+        final long stepNs = TimeUnit.MILLISECONDS.toNanos(INTER_SERVICE_TIMEOUT_MS) / 2;
+        for (long elapsedNs = 0; elapsedNs <= durationNs; elapsedNs += stepNs)
+        {
+            timeOffsetNs += stepNs;
+            conductor.doWork();
+        }
+    }
+
     private void whenReceiveBroadcastOnMessage(
         final int msgTypeId, final MutableDirectBuffer buffer, final Function<MutableDirectBuffer, Integer> filler)
     {
@@ -536,7 +755,7 @@ public class ClientConductorTest
                 conductor.driverListenerAdapter().onMessage(msgTypeId, buffer, 0, length);
 
                 return 1;
-            }).when(mockToClientReceiver).receive(anyObject());
+            }).when(mockToClientReceiver).receive(anyObject(), anyLong());
     }
 
     private class PrintError implements ErrorHandler
@@ -58,6 +58,7 @@ public class DriverProxyTest
 
                 assertThat(msgTypeId, is(REMOVE_PUBLICATION));
                 assertThat(message.registrationId(), is(CORRELATION_ID));
+                assertThat(message.clientId(), is(conductor.clientId()));
             }
         );
     }
@@ -92,6 +93,7 @@ public class DriverProxyTest
 
                 assertThat(msgTypeId, is(REMOVE_SUBSCRIPTION));
                 assertThat(removeMessage.registrationId(), is(CORRELATION_ID));
+                assertThat(removeMessage.clientId(), is(conductor.clientId()));
             }
         );
     }
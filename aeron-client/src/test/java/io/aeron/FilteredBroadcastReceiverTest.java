@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.command.ClientResponseHeader;
+import org.agrona.concurrent.MessageHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.broadcast.BroadcastReceiver;
+import org.agrona.concurrent.broadcast.BroadcastTransmitter;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.ByteBuffer;
+
+import static io.aeron.command.ClientResponseHeader.ALL_CLIENTS;
+import static org.agrona.concurrent.broadcast.BroadcastBufferDescriptor.TRAILER_LENGTH;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+public class FilteredBroadcastReceiverTest
+{
+    private static final int CAPACITY = 1024;
+    private static final int MSG_TYPE_ID = 7;
+    private static final long CLIENT_ID = 3L;
+    private static final long OTHER_CLIENT_ID = 4L;
+    private static final int PAYLOAD_LENGTH = 16;
+
+    private final UnsafeBuffer broadcastBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(CAPACITY + TRAILER_LENGTH));
+    private final BroadcastTransmitter transmitter = new BroadcastTransmitter(broadcastBuffer);
+    private final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[ClientResponseHeader.LENGTH + PAYLOAD_LENGTH]);
+    private final MessageHandler handler = mock(MessageHandler.class);
+
+    private FilteredBroadcastReceiver receiver;
+
+    @Before
+    public void setUp()
+    {
+        receiver = new FilteredBroadcastReceiver(new BroadcastReceiver(broadcastBuffer));
+    }
+
+    @Test
+    public void shouldDeliverMessageForClientWithoutHeader()
+    {
+        transmit(CLIENT_ID, 42L);
+
+        assertThat(receiver.receive(handler, CLIENT_ID), is(1));
+
+        final ArgumentCaptor<UnsafeBuffer> bufferCaptor = ArgumentCaptor.forClass(UnsafeBuffer.class);
+        verify(handler).onMessage(eq(MSG_TYPE_ID), bufferCaptor.capture(), eq(0), eq(PAYLOAD_LENGTH));
+        assertThat(bufferCaptor.getValue().getLong(0), is(42L));
+    }
+
+    @Test
+    public void shouldDeliverMessageForAllClients()
+    {
+        transmit(ALL_CLIENTS, 42L);
+
+        assertThat(receiver.receive(handler, CLIENT_ID), is(1));
+
+        verify(handler).onMessage(eq(MSG_TYPE_ID), any(), eq(0), eq(PAYLOAD_LENGTH));
+    }
+
+    @Test
+    public void shouldSkipMessageForOtherClient()
+    {
+        transmit(OTHER_CLIENT_ID, 42L);
+        transmit(CLIENT_ID, 43L);
+
+        assertThat(receiver.receive(handler, CLIENT_ID), is(1));
+        verify(handler, never()).onMessage(anyInt(), any(), anyInt(), anyInt());
+
+        assertThat(receiver.receive(handler, CLIENT_ID), is(1));
+        verify(handler).onMessage(eq(MSG_TYPE_ID), any(), eq(0), eq(PAYLOAD_LENGTH));
+
+        assertThat(receiver.receive(handler, CLIENT_ID), is(0));
+    }
+
+    @Test
+    public void shouldSkipMessagesInBufferBeforeConstruction()
+    {
+        transmit(CLIENT_ID, 42L);
+
+        final FilteredBroadcastReceiver lateReceiver = new FilteredBroadcastReceiver(new BroadcastReceiver(broadcastBuffer));
+
+        assertThat(lateReceiver.receive(handler, CLIENT_ID), is(0));
+        verifyZeroInteractions(handler);
+    }
+
+    private void transmit(final long targetClientId, final long value)
+    {
+        ClientResponseHeader.targetClientId(srcBuffer, 0, targetClientId);
+        srcBuffer.putLong(ClientResponseHeader.LENGTH, value);
+        transmitter.transmit(MSG_TYPE_ID, srcBuffer, 0, srcBuffer.capacity());
+    }
+}
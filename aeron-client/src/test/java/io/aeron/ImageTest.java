@@ -87,9 +87,11 @@ public class ImageTest
         }
 
         atomicBuffers[LOG_META_DATA_SECTION_INDEX] = new UnsafeBuffer(allocateDirect(LOG_META_DATA_LENGTH));
+        initialTermId(atomicBuffers[LOG_META_DATA_SECTION_INDEX], INITIAL_TERM_ID);
 
         when(logBuffers.atomicBuffers()).thenReturn(atomicBuffers);
         when(logBuffers.termLength()).thenReturn(TERM_BUFFER_LENGTH);
+        when(logBuffers.logWakeup()).thenReturn(new LogWakeup(atomicBuffers[LOG_META_DATA_SECTION_INDEX]));
     }
 
     @Test
@@ -311,12 +313,133 @@ public class ImageTest
         inOrder.verify(position).setOrdered(initialPosition + (ALIGNED_FRAME_LENGTH * 2));
     }
 
+    @Test
+    public void shouldSkipToLatestMessageBoundary()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(2));
+
+        assertThat(image.skipToLatest(0), is(ALIGNED_FRAME_LENGTH * 3));
+        assertThat(position.get(), is(initialPosition + (ALIGNED_FRAME_LENGTH * 3)));
+        assertThat(image.poll(mockFragmentHandler, Integer.MAX_VALUE), is(0));
+    }
+
+    @Test
+    public void shouldSkipToRetainLatestMessages()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(2));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(3));
+
+        assertThat(image.skipToLatest(2), is(ALIGNED_FRAME_LENGTH * 2));
+        assertThat(image.poll(mockFragmentHandler, Integer.MAX_VALUE), is(2));
+        assertThat(image.skipToLatest(2), is(0));
+    }
+
+    @Test
+    public void shouldSkipToLatestWithoutSkippingIncompleteMessage()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1), DataHeaderFlyweight.BEGIN_FLAG);
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(2), (short)0);
+
+        assertThat(image.skipToLatest(0), is(ALIGNED_FRAME_LENGTH));
+        assertThat(position.get(), is(initialPosition + ALIGNED_FRAME_LENGTH));
+    }
+
+    @Test
+    public void shouldNotSkipFramesFromPreviousUseOfTerm()
+    {
+        final int activeTermId = INITIAL_TERM_ID + PARTITION_COUNT;
+        final long initialPosition = computePosition(activeTermId, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+
+        assertThat(image.skipToLatest(0), is(0));
+        assertThat(position.get(), is(initialPosition));
+    }
+
+    @Test
+    public void shouldPollCursorsIndependentlyAndPublishMinimumPosition()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(0));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(1));
+        insertDataFrame(INITIAL_TERM_ID, offsetForFrame(2));
+
+        final ImageCursor cursorOne = image.newCursor();
+        final ImageCursor cursorTwo = image.newCursor();
+
+        assertThat(cursorOne.poll(mockFragmentHandler, Integer.MAX_VALUE), is(3));
+        assertThat(cursorOne.position(), is(initialPosition + (ALIGNED_FRAME_LENGTH * 3)));
+        assertThat(position.get(), is(initialPosition));
+
+        assertThat(cursorTwo.poll(mockFragmentHandler, 1), is(1));
+        assertThat(position.get(), is(initialPosition + ALIGNED_FRAME_LENGTH));
+
+        cursorTwo.close();
+        assertThat(position.get(), is(initialPosition + (ALIGNED_FRAME_LENGTH * 3)));
+        verify(mockFragmentHandler, times(4)).onFragment(
+            any(UnsafeBuffer.class), anyInt(), eq(DATA.length), any(Header.class));
+    }
+
+    @Test
+    public void shouldPublishCursorPositionWhenOnlyPaddingIsConsumed()
+    {
+        final long initialPosition = computePosition(INITIAL_TERM_ID, 0, POSITION_BITS_TO_SHIFT, INITIAL_TERM_ID);
+        position.setOrdered(initialPosition);
+        final Image image = createImage();
+
+        insertPaddingFrame(offsetForFrame(0));
+
+        final ImageCursor cursor = image.newCursor();
+
+        assertThat(cursor.poll(mockFragmentHandler, Integer.MAX_VALUE), is(0));
+        assertThat(cursor.position(), is(initialPosition + ALIGNED_FRAME_LENGTH));
+        assertThat(position.get(), is(initialPosition + ALIGNED_FRAME_LENGTH));
+        verify(mockFragmentHandler, never()).onFragment(
+            any(UnsafeBuffer.class), anyInt(), anyInt(), any(Header.class));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotPollImageDirectlyWhenItHasCursors()
+    {
+        final Image image = createImage();
+
+        image.newCursor();
+        image.poll(mockFragmentHandler, Integer.MAX_VALUE);
+    }
+
     private Image createImage()
     {
         return new Image(subscription, SESSION_ID, position, logBuffers, errorHandler, SOURCE_IDENTITY, CORRELATION_ID);
     }
 
     private void insertDataFrame(final int activeTermId, final int termOffset)
+    {
+        insertDataFrame(activeTermId, termOffset, DataHeaderFlyweight.BEGIN_AND_END_FLAGS);
+    }
+
+    private void insertDataFrame(final int activeTermId, final int termOffset, final short flags)
     {
         dataHeader
             .termId(INITIAL_TERM_ID)
@@ -325,7 +448,7 @@ public class ImageTest
             .termOffset(termOffset)
             .frameLength(DATA.length + HEADER_LENGTH)
             .headerType(HeaderFlyweight.HDR_TYPE_DATA)
-            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .flags(flags)
             .version(HeaderFlyweight.CURRENT_VERSION);
 
         rcvBuffer.putBytes(dataHeader.dataOffset(), DATA);
@@ -334,6 +457,22 @@ public class ImageTest
         TermRebuilder.insert(termBuffers[activeIndex], termOffset, rcvBuffer, ALIGNED_FRAME_LENGTH);
     }
 
+    private void insertPaddingFrame(final int termOffset)
+    {
+        dataHeader
+            .termId(INITIAL_TERM_ID)
+            .streamId(STREAM_ID)
+            .sessionId(SESSION_ID)
+            .termOffset(termOffset)
+            .frameLength(ALIGNED_FRAME_LENGTH)
+            .headerType(HeaderFlyweight.HDR_TYPE_PAD)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .version(HeaderFlyweight.CURRENT_VERSION);
+
+        final int activeIndex = indexByTerm(INITIAL_TERM_ID, INITIAL_TERM_ID);
+        TermRebuilder.insert(termBuffers[activeIndex], termOffset, rcvBuffer, ALIGNED_FRAME_LENGTH);
+    }
+
     private static int offsetForFrame(final int index)
     {
         return index * ALIGNED_FRAME_LENGTH;
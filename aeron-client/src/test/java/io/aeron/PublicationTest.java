@@ -19,6 +19,7 @@ import org.junit.Before;
 import org.junit.Test;
 import io.aeron.logbuffer.BufferClaim;
 import io.aeron.logbuffer.FrameDescriptor;
+import io.aeron.logbuffer.LogWakeup;
 
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.ReadablePosition;
@@ -59,6 +60,7 @@ public class PublicationTest
         when(publicationLimit.getVolatile()).thenReturn(2L * SEND_BUFFER_CAPACITY);
         when(logBuffers.atomicBuffers()).thenReturn(buffers);
         when(logBuffers.termLength()).thenReturn(TERM_MIN_LENGTH);
+        when(logBuffers.logWakeup()).thenReturn(new LogWakeup(logMetaDataBuffer));
 
         initialTermId(logMetaDataBuffer, TERM_ID_1);
         timeOfLastStatusMessage(logMetaDataBuffer, 0);
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LogWakeupTest
+{
+    private final UnsafeBuffer logMetaDataBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(LOG_META_DATA_LENGTH));
+    private final LogWakeup logWakeup = new LogWakeup(logMetaDataBuffer);
+
+    @Test
+    public void shouldNotSignalWhenNoWaiters()
+    {
+        logWakeup.signal();
+
+        assertThat(LogWakeup.signal(logMetaDataBuffer), is(false));
+        assertThat(logMetaDataBuffer.getLong(LOG_WAKEUP_SEQUENCE_OFFSET), is(0L));
+    }
+
+    @Test
+    public void shouldReturnWithoutParkingWhenConditionMet()
+    {
+        assertThat(logWakeup.await(() -> true, 0), is(true));
+        assertThat(logMetaDataBuffer.getInt(LOG_WAITER_COUNT_OFFSET), is(0));
+    }
+
+    @Test
+    public void shouldTimeoutWhenConditionNotMet()
+    {
+        assertThat(logWakeup.await(() -> false, TimeUnit.MILLISECONDS.toNanos(5)), is(false));
+        assertThat(logMetaDataBuffer.getInt(LOG_WAITER_COUNT_OFFSET), is(0));
+    }
+
+    @Test(timeout = 10000)
+    public void shouldWakeWaiterWhenSignalled() throws Exception
+    {
+        final AtomicBoolean isReady = new AtomicBoolean();
+        final Thread signaller = new Thread(
+            () ->
+            {
+                while (logMetaDataBuffer.getIntVolatile(LOG_WAITER_COUNT_OFFSET) == 0)
+                {
+                    Thread.yield();
+                }
+
+                isReady.set(true);
+                logWakeup.signal();
+            });
+        signaller.start();
+
+        assertThat(logWakeup.await(isReady::get, TimeUnit.SECONDS.toNanos(5)), is(true));
+        signaller.join();
+
+        assertThat(logMetaDataBuffer.getLong(LOG_WAKEUP_SEQUENCE_OFFSET), is(1L));
+        assertThat(logMetaDataBuffer.getInt(LOG_WAITER_COUNT_OFFSET), is(0));
+    }
+
+    @Test(timeout = 10000)
+    public void shouldWakeWaiterOnAnotherMappingWhenSignalledThroughMetaData() throws Exception
+    {
+        final AtomicBoolean isReady = new AtomicBoolean();
+        final Thread signaller = new Thread(
+            () ->
+            {
+                while (logMetaDataBuffer.getIntVolatile(LOG_WAITER_COUNT_OFFSET) == 0)
+                {
+                    Thread.yield();
+                }
+
+                isReady.set(true);
+                LogWakeup.signal(logMetaDataBuffer);
+            });
+        signaller.start();
+
+        assertThat(logWakeup.await(isReady::get, TimeUnit.SECONDS.toNanos(5)), is(true));
+        signaller.join();
+
+        assertThat(logMetaDataBuffer.getLong(LOG_WAKEUP_SEQUENCE_OFFSET), is(1L));
+        assertThat(logMetaDataBuffer.getInt(LOG_WAITER_COUNT_OFFSET), is(0));
+    }
+
+    @Test(timeout = 10000)
+    public void shouldWakeWaitersBeyondDirectWaiterLimit() throws Exception
+    {
+        final int waiterCount = LogWakeup.MAX_DIRECT_WAITERS + 2;
+        final AtomicBoolean isReady = new AtomicBoolean();
+        final Thread[] waiters = new Thread[waiterCount];
+        final AtomicBoolean[] results = new AtomicBoolean[waiterCount];
+
+        for (int i = 0; i < waiterCount; i++)
+        {
+            final AtomicBoolean result = new AtomicBoolean();
+            results[i] = result;
+            waiters[i] = new Thread(() -> result.set(logWakeup.await(isReady::get, TimeUnit.SECONDS.toNanos(5))));
+            waiters[i].start();
+        }
+
+        while (logMetaDataBuffer.getIntVolatile(LOG_WAITER_COUNT_OFFSET) < waiterCount)
+        {
+            Thread.yield();
+        }
+
+        isReady.set(true);
+        logWakeup.signal();
+
+        for (int i = 0; i < waiterCount; i++)
+        {
+            waiters[i].join();
+            assertThat(results[i].get(), is(true));
+        }
+
+        assertThat(logMetaDataBuffer.getInt(LOG_WAITER_COUNT_OFFSET), is(0));
+    }
+}
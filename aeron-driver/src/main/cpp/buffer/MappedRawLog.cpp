@@ -76,6 +76,8 @@ MappedRawLog::MappedRawLog(
             metaDataBasePtr + (metaDataSectionLength - LogBufferDescriptor::LOG_META_DATA_LENGTH),
             LogBufferDescriptor::LOG_META_DATA_LENGTH);
     }
+
+    LogBufferDescriptor::termLength(m_logMetaDataBuffer, termLength);
 }
 
 MappedRawLog::~MappedRawLog()
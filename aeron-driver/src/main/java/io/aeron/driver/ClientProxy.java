@@ -17,17 +17,20 @@ package io.aeron.driver;
 
 import io.aeron.ErrorCode;
 import io.aeron.command.*;
-import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.broadcast.BroadcastTransmitter;
 
 import java.nio.ByteBuffer;
 import java.util.List;
 
+import static io.aeron.command.ClientResponseHeader.ALL_CLIENTS;
 import static io.aeron.command.ControlProtocolEvents.*;
 
 /**
  * Proxy for communicating from the driver to the client conductor.
+ * <p>
+ * Each message is preceded by a {@link ClientResponseHeader} identifying the client it is for so other clients can
+ * skip it without copying.
  */
 public class ClientProxy
 {
@@ -46,14 +49,14 @@ public class ClientProxy
     {
         this.transmitter = transmitter;
 
-        errorResponse.wrap(buffer, 0);
-        imageReady.wrap(buffer, 0);
-        publicationReady.wrap(buffer, 0);
-        correlatedMessage.wrap(buffer, 0);
-        imageMessage.wrap(buffer, 0);
+        errorResponse.wrap(buffer, ClientResponseHeader.LENGTH);
+        imageReady.wrap(buffer, ClientResponseHeader.LENGTH);
+        publicationReady.wrap(buffer, ClientResponseHeader.LENGTH);
+        correlatedMessage.wrap(buffer, ClientResponseHeader.LENGTH);
+        imageMessage.wrap(buffer, ClientResponseHeader.LENGTH);
     }
 
-    public void onError(final ErrorCode errorCode, String errorMessage, final long correlationId)
+    public void onError(final long clientId, final ErrorCode errorCode, String errorMessage, final long correlationId)
     {
         if (null == errorMessage)
         {
@@ -65,7 +68,7 @@ public class ClientProxy
             .errorCode(errorCode)
             .errorMessage(errorMessage);
 
-        transmit(ON_ERROR, buffer, 0, errorResponse.length());
+        transmit(clientId, ON_ERROR, errorResponse.length());
     }
 
     public void onAvailableImage(
@@ -76,29 +79,43 @@ public class ClientProxy
         final List<SubscriberPosition> subscriberPositions,
         final String sourceIdentity)
     {
-        imageReady
-            .sessionId(sessionId)
-            .streamId(streamId)
-            .correlationId(correlationId);
-
         final int size = subscriberPositions.size();
-        imageReady.subscriberPositionCount(size);
         for (int i = 0; i < size; i++)
         {
-            final SubscriberPosition position = subscriberPositions.get(i);
-            imageReady.subscriberPositionId(i, position.positionCounterId());
-            imageReady.positionIndicatorRegistrationId(i, position.subscription().registrationId());
+            final long clientId = subscriberPositions.get(i).subscription().clientId();
+            if (!isFirstPositionForClient(subscriberPositions, i, clientId))
+            {
+                continue;
+            }
+
+            imageReady
+                .sessionId(sessionId)
+                .streamId(streamId)
+                .correlationId(correlationId);
+
+            int positionCount = 0;
+            for (int j = i; j < size; j++)
+            {
+                final SubscriberPosition position = subscriberPositions.get(j);
+                if (position.subscription().clientId() == clientId)
+                {
+                    imageReady.subscriberPositionId(positionCount, position.positionCounterId());
+                    imageReady.positionIndicatorRegistrationId(positionCount, position.subscription().registrationId());
+                    positionCount++;
+                }
+            }
+
+            imageReady.subscriberPositionCount(positionCount);
+            imageReady
+                .logFileName(logFileName)
+                .sourceIdentity(sourceIdentity);
+
+            transmit(clientId, ON_AVAILABLE_IMAGE, imageReady.length());
         }
-
-        imageReady
-            .logFileName(logFileName)
-            .sourceIdentity(sourceIdentity);
-
-        final int length = imageReady.length();
-        transmit(ON_AVAILABLE_IMAGE, buffer, 0, length);
     }
 
     public void onPublicationReady(
+        final long clientId,
         final long registrationId,
         final int streamId,
         final int sessionId,
@@ -112,15 +129,14 @@ public class ClientProxy
             .publicationLimitCounterId(positionCounterId)
             .logFileName(logFileName);
 
-        final int length = publicationReady.length();
-        transmit(ON_PUBLICATION_READY, buffer, 0, length);
+        transmit(clientId, ON_PUBLICATION_READY, publicationReady.length());
     }
 
-    public void operationSucceeded(final long correlationId)
+    public void operationSucceeded(final long clientId, final long correlationId)
     {
-        correlatedMessage.clientId(0).correlationId(correlationId);
+        correlatedMessage.clientId(clientId).correlationId(correlationId);
 
-        transmit(ON_OPERATION_SUCCESS, buffer, 0, CorrelatedMessageFlyweight.LENGTH);
+        transmit(clientId, ON_OPERATION_SUCCESS, CorrelatedMessageFlyweight.LENGTH);
     }
 
     public void onUnavailableImage(final long correlationId, final int streamId, final String channel)
@@ -130,12 +146,26 @@ public class ClientProxy
             .streamId(streamId)
             .channel(channel);
 
-        final int length = imageMessage.length();
-        transmit(ON_UNAVAILABLE_IMAGE, buffer, 0, length);
+        transmit(ALL_CLIENTS, ON_UNAVAILABLE_IMAGE, imageMessage.length());
+    }
+
+    private static boolean isFirstPositionForClient(
+        final List<SubscriberPosition> subscriberPositions, final int index, final long clientId)
+    {
+        for (int i = 0; i < index; i++)
+        {
+            if (subscriberPositions.get(i).subscription().clientId() == clientId)
+            {
+                return false;
+            }
+        }
+
+        return true;
     }
 
-    private void transmit(final int msgTypeId, final DirectBuffer buffer, final int index, final int length)
+    private void transmit(final long clientId, final int msgTypeId, final int length)
     {
-        transmitter.transmit(msgTypeId, buffer, index, length);
+        ClientResponseHeader.targetClientId(buffer, 0, clientId);
+        transmitter.transmit(msgTypeId, buffer, 0, ClientResponseHeader.LENGTH + length);
     }
 }
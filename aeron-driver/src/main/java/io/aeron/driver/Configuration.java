@@ -27,6 +27,7 @@ import org.agrona.concurrent.ringbuffer.RingBufferDescriptor;
 
 import java.util.concurrent.TimeUnit;
 
+import static java.lang.Boolean.getBoolean;
 import static java.lang.Integer.getInteger;
 import static java.lang.Long.getLong;
 import static java.lang.System.getProperty;
@@ -69,6 +70,11 @@ public class Configuration
      */
     public static final String COUNTERS_VALUES_BUFFER_LENGTH_PROP_NAME = "aeron.counters.buffer.length";
 
+    /**
+     * Property name for the maximum number of segments, including the one in the CnC file, for the counters.
+     */
+    public static final String COUNTERS_SEGMENT_MAX_COUNT_PROP_NAME = "aeron.counters.segment.max.count";
+
     /**
      * Property name for length of the memory mapped buffer for the distinct error log.
      */
@@ -130,6 +136,9 @@ public class Configuration
      *
      * If a platform supports spare files then log buffer creation is faster with pages being allocated as
      * needed. This can help for large numbers of channels/streams but can result in latency pauses.
+     *
+     * When not sparse the pages of log buffers are pre-faulted by the driver on creation, one touch per
+     * {@link #FILE_PAGE_LENGTH_PROP_NAME}, and the time spent is added to a system counter.
      */
     public static final String TERM_BUFFER_SPARSE_FILE_PROP_NAME = "aeron.term.buffer.sparse.file";
     public static final String TERM_BUFFER_SPARSE_FILE = getProperty(TERM_BUFFER_SPARSE_FILE_PROP_NAME);
@@ -192,6 +201,14 @@ public class Configuration
 
     public static final int COUNTERS_METADATA_BUFFER_LENGTH = COUNTERS_VALUES_BUFFER_LENGTH * 2;
 
+    /**
+     * Default maximum number of segments for the counters. Each segment is the size of the counters buffers in the
+     * CnC file and is only created when the segments before it are full.
+     */
+    public static final int COUNTERS_SEGMENT_MAX_COUNT_DEFAULT = 64;
+    public static final int COUNTERS_SEGMENT_MAX_COUNT = getInteger(
+        COUNTERS_SEGMENT_MAX_COUNT_PROP_NAME, COUNTERS_SEGMENT_MAX_COUNT_DEFAULT);
+
     /**
      * Default buffer length for the error buffer for the media driver.
      */
@@ -358,6 +375,15 @@ public class Configuration
     /** Capacity for the command queues used between driver agents. */
     public static final int CMD_QUEUE_CAPACITY = 1024;
 
+    /** Capacity for the queue of images signalling the receiver they have a pending Status Message or NAK. */
+    public static final int IMAGE_FEEDBACK_QUEUE_CAPACITY = 16 * 1024;
+
+    /** Resolution of the receiver timer wheel for Status Message and image liveness timeouts. */
+    public static final long RECEIVER_TIMER_TICK_RESOLUTION_NS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /** Number of ticks in the receiver timer wheel which must be a power of 2. */
+    public static final int RECEIVER_TIMER_TICKS_PER_WHEEL = 1024;
+
     /** Timeout on cleaning up pending SETUP state on subscriber. */
     public static final long PENDING_SETUPS_TIMEOUT_NS = TimeUnit.MILLISECONDS.toNanos(1000);
 
@@ -424,6 +450,167 @@ public class Configuration
     public static final String RECEIVE_CHANNEL_ENDPOINT_SUPPLIER = getProperty(
         RECEIVE_CHANNEL_ENDPOINT_SUPPLIER_PROP_NAME, RECEIVE_CHANNEL_ENDPOINT_SUPPLIER_DEFAULT);
 
+    /**
+     * Length (in bytes) of frames to scan as a batch for compression into a single datagram on compressed channels.
+     * The sender adapts the batch between the MTU and this length depending on how well the batch compresses.
+     */
+    public static final String COMPRESSION_BATCH_LENGTH_PROP_NAME = "aeron.compression.batch.length";
+    public static final int COMPRESSION_BATCH_LENGTH_DEFAULT = 16 * 1024;
+    public static final int COMPRESSION_BATCH_LENGTH = getInteger(
+        COMPRESSION_BATCH_LENGTH_PROP_NAME, COMPRESSION_BATCH_LENGTH_DEFAULT);
+
+    /**
+     * Maximum length (in bytes) of a batch of frames once decompressed by a receiver.
+     */
+    public static final int COMPRESSION_BATCH_MAX_LENGTH = 64 * 1024;
+
+    /**
+     * Length (in bytes) of the burst a paced publication may send above its pacing rate when the channel does not
+     * specify one.
+     */
+    public static final String PACING_BURST_LENGTH_PROP_NAME = "aeron.pacing.burst.length";
+    public static final long PACING_BURST_LENGTH_DEFAULT = 64 * 1024;
+    public static final long PACING_BURST_LENGTH = getLong(PACING_BURST_LENGTH_PROP_NAME, PACING_BURST_LENGTH_DEFAULT);
+
+    /**
+     * Maximum number of passes the sender makes over high priority publications in a duty cycle while they have data.
+     */
+    public static final String SENDER_HIGH_PRIORITY_DRAIN_LIMIT_PROP_NAME = "aeron.sender.high.priority.drain.limit";
+    public static final int SENDER_HIGH_PRIORITY_DRAIN_LIMIT_DEFAULT = 16;
+    public static final int SENDER_HIGH_PRIORITY_DRAIN_LIMIT = getInteger(
+        SENDER_HIGH_PRIORITY_DRAIN_LIMIT_PROP_NAME, SENDER_HIGH_PRIORITY_DRAIN_LIMIT_DEFAULT);
+
+    /**
+     * Number of duty cycles in which normal priority publications send for each one in which low priority publications
+     * send while normal priority publications have data.
+     */
+    public static final String SENDER_LOW_PRIORITY_RATIO_PROP_NAME = "aeron.sender.low.priority.ratio";
+    public static final int SENDER_LOW_PRIORITY_RATIO_DEFAULT = 4;
+    public static final int SENDER_LOW_PRIORITY_RATIO = getInteger(
+        SENDER_LOW_PRIORITY_RATIO_PROP_NAME, SENDER_LOW_PRIORITY_RATIO_DEFAULT);
+
+    /**
+     * Number of sender duty cycles per duty cycle which is timed for the duty cycle system counters.
+     */
+    public static final String SENDER_DUTY_CYCLE_SAMPLE_INTERVAL_PROP_NAME = "aeron.sender.duty.cycle.sample.interval";
+    public static final int SENDER_DUTY_CYCLE_SAMPLE_INTERVAL_DEFAULT = 1024;
+    public static final int SENDER_DUTY_CYCLE_SAMPLE_INTERVAL = getInteger(
+        SENDER_DUTY_CYCLE_SAMPLE_INTERVAL_PROP_NAME, SENDER_DUTY_CYCLE_SAMPLE_INTERVAL_DEFAULT);
+
+    /**
+     * Should the sender only visit publications which are ready to send, i.e. have new data in the log, a due
+     * heartbeat or setup timer, or active retransmits, rather than every publication on every duty cycle.
+     */
+    public static final String SENDER_READY_SET_SCHEDULING_PROP_NAME = "aeron.sender.ready.set.scheduling";
+    public static final boolean SENDER_READY_SET_SCHEDULING = getBoolean(SENDER_READY_SET_SCHEDULING_PROP_NAME);
+
+    /**
+     * Should image rebuild tracking, loss detection, and Status Message position calculation be done on the receiver
+     * thread rather than the conductor so Status Messages are not delayed by the conductor duty cycle.
+     */
+    public static final String RECEIVER_REBUILD_TRACKING_PROP_NAME = "aeron.receiver.rebuild.tracking";
+    public static final boolean RECEIVER_REBUILD_TRACKING = getBoolean(RECEIVER_REBUILD_TRACKING_PROP_NAME);
+
+    /**
+     * Should the end of a gap be found from a bitmap of packet arrivals recorded as packets are inserted in an image,
+     * rather than by scanning the term memory of the gap on each rebuild.
+     */
+    public static final String INCREMENTAL_LOSS_TRACKING_PROP_NAME = "aeron.incremental.loss.tracking";
+    public static final boolean INCREMENTAL_LOSS_TRACKING = getBoolean(INCREMENTAL_LOSS_TRACKING_PROP_NAME);
+
+    /** Length of the term covered by each bit in the bitmap of packet arrivals for incremental loss tracking. */
+    public static final int LOSS_TRACKING_BLOCK_LENGTH = 4096;
+
+    /**
+     * Should publisher limits be updated by the {@link Sender} as the sender position moves or a Status Message
+     * arrives, and for IPC as subscribers consume, rather than on the conductor duty cycle, so a blocked publisher is
+     * released without waiting for the conductor to wake from its idle strategy.
+     */
+    public static final String SENDER_PUBLISHER_LIMIT_UPDATES_PROP_NAME = "aeron.sender.publisher.limit.updates";
+    public static final boolean SENDER_PUBLISHER_LIMIT_UPDATES = getBoolean(SENDER_PUBLISHER_LIMIT_UPDATES_PROP_NAME);
+
+    /**
+     * How long channels parsed from URIs, and the network interfaces found for them, are cached by the
+     * {@link DriverConductor} before being resolved again so changes to the network interfaces of the host are picked
+     * up. Zero disables the cache.
+     */
+    public static final String UDP_CHANNEL_CACHE_TIMEOUT_PROP_NAME = "aeron.udp.channel.cache.timeout";
+    public static final long UDP_CHANNEL_CACHE_TIMEOUT_DEFAULT_NS = TimeUnit.SECONDS.toNanos(10);
+    public static final long UDP_CHANNEL_CACHE_TIMEOUT_NS =
+        getLong(UDP_CHANNEL_CACHE_TIMEOUT_PROP_NAME, UDP_CHANNEL_CACHE_TIMEOUT_DEFAULT_NS);
+
+    /**
+     * Number of channel URIs cached by the {@link DriverConductor}, after which the cache is cleared to bound it.
+     */
+    public static final String UDP_CHANNEL_CACHE_MAX_SIZE_PROP_NAME = "aeron.udp.channel.cache.max.size";
+    public static final int UDP_CHANNEL_CACHE_MAX_SIZE_DEFAULT = 1024;
+    public static final int UDP_CHANNEL_CACHE_MAX_SIZE =
+        getInteger(UDP_CHANNEL_CACHE_MAX_SIZE_PROP_NAME, UDP_CHANNEL_CACHE_MAX_SIZE_DEFAULT);
+
+    /**
+     * Should the window advertised by each image be tuned to the bandwidth-delay product of the stream, from the rate
+     * its subscribers consume and the round trip time observed between Status Messages and the data they release,
+     * rather than fixed at the initial window length.
+     */
+    public static final String RECEIVER_WINDOW_AUTOTUNE_PROP_NAME = "aeron.rcv.window.autotune";
+    public static final boolean RECEIVER_WINDOW_AUTOTUNE = getBoolean(RECEIVER_WINDOW_AUTOTUNE_PROP_NAME);
+
+    /** Number of MTUs below which an autotuned receiver window will not shrink. */
+    public static final int RECEIVER_WINDOW_AUTOTUNE_MIN_MTU_COUNT = 4;
+
+    /** How long the minimum round trip time sampled by an autotuned receiver window is kept before it is resampled. */
+    public static final long RECEIVER_WINDOW_AUTOTUNE_RTT_EXPIRY_NS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Interval at which datagrams dropped by the kernel for the sockets of receive channel endpoints are read from
+     * /proc/net/udp and /proc/net/udp6 into a counter for each endpoint. Zero disables the monitor, which is only
+     * supported on Linux.
+     */
+    public static final String SOCKET_DROP_MONITOR_INTERVAL_PROP_NAME = "aeron.socket.drop.monitor.interval";
+    public static final long SOCKET_DROP_MONITOR_INTERVAL_DEFAULT_NS = TimeUnit.SECONDS.toNanos(1);
+    public static final long SOCKET_DROP_MONITOR_INTERVAL_NS =
+        getLong(SOCKET_DROP_MONITOR_INTERVAL_PROP_NAME, SOCKET_DROP_MONITOR_INTERVAL_DEFAULT_NS);
+
+    /**
+     * Page length of the file system holding the Aeron directory. The lengths of the CnC file, counter segments and log
+     * buffers are aligned to it and pre-faulting touches one byte per page. Set to the huge page length, e.g. 2MB,
+     * when the Aeron directory is a hugetlbfs mount, which only accepts file lengths that are a multiple of it.
+     */
+    public static final String FILE_PAGE_LENGTH_PROP_NAME = "aeron.file.page.length";
+    public static final int FILE_PAGE_LENGTH_DEFAULT = 4 * 1024;
+    public static final int FILE_PAGE_LENGTH = getInteger(FILE_PAGE_LENGTH_PROP_NAME, FILE_PAGE_LENGTH_DEFAULT);
+
+    /**
+     * How far a subscription with tether=false in its channel can fall behind the live position of a stream before it
+     * is excluded from flow control and its image made unavailable. Zero means half the flow control window.
+     */
+    public static final String UNTETHERED_WINDOW_LIMIT_PROP_NAME = "aeron.untethered.window.limit";
+    public static final int UNTETHERED_WINDOW_LIMIT = getInteger(UNTETHERED_WINDOW_LIMIT_PROP_NAME, 0);
+
+    /**
+     * Time an untethered subscription rests after being made unavailable before it rejoins the stream at the live
+     * position.
+     */
+    public static final String UNTETHERED_RESTING_TIMEOUT_PROP_NAME = "aeron.untethered.resting.timeout";
+    public static final long UNTETHERED_RESTING_TIMEOUT_DEFAULT_NS = TimeUnit.SECONDS.toNanos(1);
+    public static final long UNTETHERED_RESTING_TIMEOUT_NS =
+        getLong(UNTETHERED_RESTING_TIMEOUT_PROP_NAME, UNTETHERED_RESTING_TIMEOUT_DEFAULT_NS);
+
+    /**
+     * How far an untethered subscription can fall behind the live position before it is excluded from flow control.
+     * The limit is at most half the window, so it is reached before the flow control gain can stall the stream on the
+     * untethered subscription.
+     *
+     * @param windowLength of flow control for the stream.
+     * @return the length an untethered subscription can fall behind.
+     */
+    public static int untetheredWindowLimit(final int windowLength)
+    {
+        final int maxLimit = windowLength / 2;
+
+        return 0 != UNTETHERED_WINDOW_LIMIT ? Math.min(UNTETHERED_WINDOW_LIMIT, maxLimit) : maxLimit;
+    }
+
     /**
      * How far ahead the publisher can get from the sender position.
      *
@@ -448,6 +635,20 @@ public class Configuration
         }
     }
 
+    /**
+     * Validate that the file page length is a power of two and at least the default page length.
+     *
+     * @param filePageLength to be validated.
+     */
+    public static void validateFilePageLength(final int filePageLength)
+    {
+        if (!BitUtil.isPowerOfTwo(filePageLength) || filePageLength < FILE_PAGE_LENGTH_DEFAULT)
+        {
+            throw new IllegalStateException(
+                "File page length must be a power of 2 and >= " + FILE_PAGE_LENGTH_DEFAULT + ": " + filePageLength);
+        }
+    }
+
     /**
      * Validate that the initial window length is suitably greater than MTU.
      *
@@ -18,6 +18,7 @@ package io.aeron.driver;
 import io.aeron.driver.exceptions.UnknownSubscriptionException;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecHeaderFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import org.agrona.collections.BiInt2ObjectMap;
 import org.agrona.collections.Int2ObjectHashMap;
@@ -147,6 +148,32 @@ public class DataPacketDispatcher implements DataPacketHandler, SetupMessageHand
         return 0;
     }
 
+    /**
+     * Handle a forward error correction parity packet by attempting recovery of a lost data packet in an image.
+     *
+     * @param channelEndpoint from which the packet is delivered.
+     * @param header          wrapping the parity packet.
+     * @param length          of the parity packet.
+     * @return the number of bytes received.
+     */
+    public int onFecPacket(
+        final ReceiveChannelEndpoint channelEndpoint, final FecHeaderFlyweight header, final int length)
+    {
+        final Int2ObjectHashMap<PublicationImage> imageBySessionIdMap = sessionsByStreamIdMap.get(header.streamId());
+
+        if (null != imageBySessionIdMap)
+        {
+            final PublicationImage image = imageBySessionIdMap.get(header.sessionId());
+
+            if (null != image)
+            {
+                return image.insertParityPacket(header, length);
+            }
+        }
+
+        return 0;
+    }
+
     public void onSetupMessage(
         final ReceiveChannelEndpoint channelEndpoint,
         final SetupFlyweight header,
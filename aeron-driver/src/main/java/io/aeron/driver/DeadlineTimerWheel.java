@@ -0,0 +1,166 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import java.util.Arrays;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Hashed timer wheel of one shot deadlines so the cost of polling is proportional to the number of expiring timers
+ * and elapsed ticks rather than the number of scheduled timers.
+ * <p>
+ * Deadlines further out than a revolution of the wheel stay in their bucket and are checked once per revolution.
+ * Timers can only be removed by expiring, and a handler may schedule a new timer for the expired element provided
+ * the new deadline is after the time of the poll.
+ * <p>
+ * Not thread safe.
+ *
+ * @param <T> type of element the timers are for.
+ */
+final class DeadlineTimerWheel<T>
+{
+    private static final int INITIAL_BUCKET_CAPACITY = 16;
+
+    private final long tickResolutionNs;
+    private final int wheelMask;
+    private final Object[][] elementsByBucket;
+    private final long[][] deadlinesByBucket;
+    private final int[] sizeByBucket;
+    private long currentTick;
+    private int timerCount;
+
+    /**
+     * Construct a timer wheel.
+     *
+     * @param tickResolutionNs resolution of a tick in nanoseconds.
+     * @param ticksPerWheel    number of ticks in a revolution of the wheel which must be a power of 2.
+     * @param startTime        from which ticks are counted in nanoseconds.
+     */
+    DeadlineTimerWheel(final long tickResolutionNs, final int ticksPerWheel, final long startTime)
+    {
+        if (Integer.bitCount(ticksPerWheel) != 1)
+        {
+            throw new IllegalArgumentException("ticks per wheel must be a power of 2: " + ticksPerWheel);
+        }
+
+        this.tickResolutionNs = tickResolutionNs;
+        this.wheelMask = ticksPerWheel - 1;
+        this.elementsByBucket = new Object[ticksPerWheel][];
+        this.deadlinesByBucket = new long[ticksPerWheel][];
+        this.sizeByBucket = new int[ticksPerWheel];
+        this.currentTick = startTime / tickResolutionNs;
+
+        for (int i = 0; i < ticksPerWheel; i++)
+        {
+            elementsByBucket[i] = new Object[INITIAL_BUCKET_CAPACITY];
+            deadlinesByBucket[i] = new long[INITIAL_BUCKET_CAPACITY];
+        }
+    }
+
+    /**
+     * Schedule a timer for an element. Deadlines in the past expire on the next poll.
+     *
+     * @param element  the timer is for.
+     * @param deadline for the timer in nanoseconds.
+     */
+    void schedule(final T element, final long deadline)
+    {
+        final int bucket = (int)(Math.max(deadline / tickResolutionNs, currentTick) & wheelMask);
+        final int size = sizeByBucket[bucket];
+
+        if (size == elementsByBucket[bucket].length)
+        {
+            elementsByBucket[bucket] = Arrays.copyOf(elementsByBucket[bucket], size << 1);
+            deadlinesByBucket[bucket] = Arrays.copyOf(deadlinesByBucket[bucket], size << 1);
+        }
+
+        elementsByBucket[bucket][size] = element;
+        deadlinesByBucket[bucket][size] = deadline;
+        sizeByBucket[bucket] = size + 1;
+        timerCount++;
+    }
+
+    /**
+     * Expire timers with deadlines up to now for the ticks which have elapsed since the last poll.
+     *
+     * @param now     time in nanoseconds.
+     * @param handler to be called with each expired element and the current time.
+     * @return number of timers expired.
+     */
+    int poll(final long now, final ObjLongConsumer<T> handler)
+    {
+        int expired = 0;
+
+        if (timerCount > 0)
+        {
+            final long nowTick = now / tickResolutionNs;
+            final long ticksToProcess = Math.min(nowTick - currentTick, wheelMask) + 1;
+
+            for (long i = 0; i < ticksToProcess; i++)
+            {
+                expired += expireBucket((int)((currentTick + i) & wheelMask), now, handler);
+            }
+        }
+
+        currentTick = Math.max(currentTick, now / tickResolutionNs);
+
+        return expired;
+    }
+
+    /**
+     * Number of timers currently scheduled.
+     *
+     * @return number of timers currently scheduled.
+     */
+    int timerCount()
+    {
+        return timerCount;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int expireBucket(final int bucket, final long now, final ObjLongConsumer<T> handler)
+    {
+        int expired = 0;
+        int i = 0;
+
+        while (i < sizeByBucket[bucket])
+        {
+            final Object[] elements = elementsByBucket[bucket];
+            final long[] deadlines = deadlinesByBucket[bucket];
+
+            if (deadlines[i] <= now)
+            {
+                final T element = (T)elements[i];
+                final int lastIndex = sizeByBucket[bucket] - 1;
+
+                elements[i] = elements[lastIndex];
+                deadlines[i] = deadlines[lastIndex];
+                elements[lastIndex] = null;
+                sizeByBucket[bucket] = lastIndex;
+                timerCount--;
+                expired++;
+
+                handler.accept(element, now);
+            }
+            else
+            {
+                i++;
+            }
+        }
+
+        return expired;
+    }
+}
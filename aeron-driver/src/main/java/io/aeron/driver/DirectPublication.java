@@ -15,17 +15,17 @@
  */
 package io.aeron.driver;
 
+import io.aeron.CommonContext;
 import io.aeron.driver.buffer.RawLog;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.LogBufferPartition;
 import io.aeron.logbuffer.LogBufferUnblocker;
+import io.aeron.logbuffer.LogWakeup;
+import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.Position;
 import org.agrona.concurrent.status.ReadablePosition;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 
 /**
@@ -33,20 +33,29 @@ import static io.aeron.logbuffer.LogBufferDescriptor.*;
  */
 public class DirectPublication implements DriverManagedResource
 {
+    private static final ReadablePosition[] EMPTY_POSITIONS = new ReadablePosition[0];
+    private static final UntetheredSubscription[] EMPTY_UNTETHERED_SUBSCRIPTIONS = new UntetheredSubscription[0];
+
     private final long correlationId;
     private final long tripGain;
     private long tripLimit = 0;
     private final int sessionId;
     private final int streamId;
     private final int termWindowLength;
+    private final int untetheredWindowLimit;
     private final int positionBitsToShift;
     private final LogBufferPartition[] logPartitions;
-    private final ArrayList<ReadablePosition> subscriberPositions = new ArrayList<>();
+    private volatile ReadablePosition[] subscriberPositions = EMPTY_POSITIONS;
+    private volatile UntetheredSubscription[] untetheredSubscriptions = EMPTY_UNTETHERED_SUBSCRIPTIONS;
     private final RawLog rawLog;
 
     private final Position publisherLimit;
-    private long consumerPosition = 0;
+    private final boolean isPublisherLimitUpdatedBySender;
+    private final boolean isExclusive;
+    private volatile long consumerPosition = 0;
+    private long timeOfRelease = 0;
     private int refCount = 0;
+    private boolean isReleased = false;
     private boolean reachedEndOfLife = false;
 
     public DirectPublication(
@@ -54,7 +63,9 @@ public class DirectPublication implements DriverManagedResource
         final int sessionId,
         final int streamId,
         final Position publisherLimit,
-        final RawLog rawLog)
+        final RawLog rawLog,
+        final boolean isPublisherLimitUpdatedBySender,
+        final boolean isExclusive)
     {
         this.correlationId = correlationId;
         this.sessionId = sessionId;
@@ -63,10 +74,13 @@ public class DirectPublication implements DriverManagedResource
 
         final int termLength = rawLog.termLength();
         this.termWindowLength = Configuration.ipcPublicationTermWindowLength(termLength);
+        this.untetheredWindowLimit = Configuration.untetheredWindowLimit(termWindowLength);
         this.positionBitsToShift = Integer.numberOfTrailingZeros(termLength);
         this.rawLog = rawLog;
         this.publisherLimit = publisherLimit;
         this.tripGain = this.termWindowLength / 8;
+        this.isPublisherLimitUpdatedBySender = isPublisherLimitUpdatedBySender;
+        this.isExclusive = isExclusive;
     }
 
     public int sessionId()
@@ -98,37 +112,163 @@ public class DirectPublication implements DriverManagedResource
     {
         rawLog.close();
         publisherLimit.close();
-        subscriberPositions.forEach(ReadablePosition::close);
+        for (final ReadablePosition position : subscriberPositions)
+        {
+            position.close();
+        }
+
+        for (final UntetheredSubscription untethered : untetheredSubscriptions)
+        {
+            untethered.position().close();
+        }
+    }
+
+    /**
+     * Is the publisher limit updated on the {@link Sender} thread as subscribers consume rather than on the conductor
+     * duty cycle. When it is the log is closed only once the {@link Sender} has stopped updating the limit.
+     *
+     * @return true if the publisher limit is updated on the {@link Sender} thread.
+     */
+    public boolean isPublisherLimitUpdatedBySender()
+    {
+        return isPublisherLimitUpdatedBySender;
+    }
+
+    /**
+     * Is this publication exclusive to the publisher which added it rather than shared by all publishers of the
+     * stream. Subscribers do not hold a reference to an exclusive publication, so it reaches the end of its life once
+     * its publishers are gone and its subscribers have consumed what was published, or it has lingered.
+     *
+     * @return true if this publication is exclusive to the publisher which added it.
+     */
+    public boolean isExclusive()
+    {
+        return isExclusive;
     }
 
     public void addSubscription(final ReadablePosition subscriberPosition)
     {
-        subscriberPositions.add(subscriberPosition);
+        subscriberPositions = ArrayUtil.add(subscriberPositions, subscriberPosition);
+    }
+
+    /**
+     * Add a subscriber which is only included in flow control while it keeps up with the producer position.
+     *
+     * @param untethered subscriber to be added.
+     */
+    void addUntetheredSubscription(final UntetheredSubscription untethered)
+    {
+        untetheredSubscriptions = ArrayUtil.add(untetheredSubscriptions, untethered);
     }
 
     public void removeSubscription(final ReadablePosition subscriberPosition)
     {
-        subscriberPositions.remove(subscriberPosition);
+        subscriberPositions = ArrayUtil.remove(subscriberPositions, subscriberPosition);
+
+        for (final UntetheredSubscription untethered : untetheredSubscriptions)
+        {
+            if (untethered.position() == subscriberPosition)
+            {
+                untetheredSubscriptions = ArrayUtil.remove(untetheredSubscriptions, untethered);
+                break;
+            }
+        }
+
         subscriberPosition.close();
     }
 
+    /**
+     * Subscriptions to this publication which are only included in flow control while they keep up.
+     *
+     * @return the untethered subscriptions to this publication.
+     */
+    UntetheredSubscription[] untetheredSubscriptions()
+    {
+        return untetheredSubscriptions;
+    }
+
+    /**
+     * Make untethered subscriptions which have fallen behind rest, and those which have rested long enough rejoin at
+     * the producer position. Called from the {@link DriverConductor} duty cycle.
+     *
+     * @param now       in nanoseconds.
+     * @param conductor to notify clients of images becoming unavailable or available.
+     * @return the number of untethered subscriptions which changed state.
+     */
+    int checkUntetheredSubscriptions(final long now, final DriverConductor conductor)
+    {
+        int workCount = 0;
+        final UntetheredSubscription[] untetheredSubscriptions = this.untetheredSubscriptions;
+
+        if (untetheredSubscriptions.length > 0 && refCount > 0)
+        {
+            final long producerPosition = producerPosition();
+
+            for (final UntetheredSubscription untethered : untetheredSubscriptions)
+            {
+                if (untethered.hasFallenBehind(producerPosition, untetheredWindowLimit))
+                {
+                    untethered.rest(now);
+                    conductor.onUntetheredSubscriptionResting(untethered, streamId, CommonContext.IPC_CHANNEL);
+                    workCount++;
+                }
+                else if (untethered.hasRested(now))
+                {
+                    conductor.onUntetheredSubscriptionRejoin(this, untethered, producerPosition, now);
+                    workCount++;
+                }
+            }
+        }
+
+        return workCount;
+    }
+
+    /**
+     * Update the publishers limit from the minimum subscriber position as part of the conductor duty cycle, or on the
+     * {@link Sender} thread when {@link #isPublisherLimitUpdatedBySender()}. Only one thread may update the limit.
+     *
+     * @param nowInMillis current epoch time in milliseconds.
+     * @return 1 if the limit has been updated otherwise 0.
+     */
     public int updatePublishersLimit(final long nowInMillis)
     {
         int workCount = 0;
         long minSubscriberPosition = Long.MAX_VALUE;
         long maxSubscriberPosition = 0;
 
-        final List<ReadablePosition> subscriberPositions = this.subscriberPositions;
-        for (int i = 0, size = subscriberPositions.size(); i < size; i++)
+        final ReadablePosition[] subscriberPositions = this.subscriberPositions;
+        for (final ReadablePosition subscriberPosition : subscriberPositions)
         {
-            final long position = subscriberPositions.get(i).getVolatile();
+            final long position = subscriberPosition.getVolatile();
             minSubscriberPosition = Math.min(minSubscriberPosition, position);
             maxSubscriberPosition = Math.max(maxSubscriberPosition, position);
         }
 
+        final UntetheredSubscription[] untetheredSubscriptions = this.untetheredSubscriptions;
+        if (untetheredSubscriptions.length > 0)
+        {
+            final long producerPosition = producerPosition();
+
+            for (final UntetheredSubscription untethered : untetheredSubscriptions)
+            {
+                if (untethered.isActive())
+                {
+                    final long position = untethered.position().getVolatile();
+                    maxSubscriberPosition = Math.max(maxSubscriberPosition, position);
+
+                    if (untethered.isFlowControlled(producerPosition, untetheredWindowLimit))
+                    {
+                        minSubscriberPosition = Math.min(minSubscriberPosition, position);
+                    }
+                }
+            }
+
+            minSubscriberPosition = Math.min(minSubscriberPosition, producerPosition);
+        }
+
         long proposedLimit = 0;
 
-        if (!subscriberPositions.isEmpty())
+        if (subscriberPositions.length > 0 || untetheredSubscriptions.length > 0)
         {
             proposedLimit = minSubscriberPosition + termWindowLength;
             LogBufferDescriptor.timeOfLastStatusMessage(rawLog.logMetaData(), nowInMillis);
@@ -138,6 +278,7 @@ public class DirectPublication implements DriverManagedResource
         {
             publisherLimit.setOrdered(proposedLimit);
             tripLimit = proposedLimit + tripGain;
+            LogWakeup.signal(rawLog.logMetaData());
             workCount = 1;
         }
 
@@ -166,16 +307,37 @@ public class DirectPublication implements DriverManagedResource
     {
         long maxSubscriberPosition = producerPosition();
 
-        final List<ReadablePosition> subscriberPositions = this.subscriberPositions;
-        for (int i = 0, size = subscriberPositions.size(); i < size; i++)
+        for (final ReadablePosition subscriberPosition : subscriberPositions)
         {
-            final long position = subscriberPositions.get(i).getVolatile();
-            maxSubscriberPosition = Math.max(maxSubscriberPosition, position);
+            maxSubscriberPosition = Math.max(maxSubscriberPosition, subscriberPosition.getVolatile());
         }
 
         return maxSubscriberPosition;
     }
 
+    private boolean isDrained()
+    {
+        final long producerPosition = producerPosition();
+
+        for (final ReadablePosition subscriberPosition : subscriberPositions)
+        {
+            if (subscriberPosition.getVolatile() < producerPosition)
+            {
+                return false;
+            }
+        }
+
+        for (final UntetheredSubscription untethered : untetheredSubscriptions)
+        {
+            if (untethered.isActive() && untethered.position().getVolatile() < producerPosition)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     public long producerPosition()
     {
         final UnsafeBuffer logMetaDataBuffer = rawLog.logMetaData();
@@ -190,7 +352,26 @@ public class DirectPublication implements DriverManagedResource
     {
         if (0 == refCount)
         {
+            if (isExclusive)
+            {
+                if (!isReleased)
+                {
+                    isReleased = true;
+                    timeOfRelease = time;
+                }
+
+                if (!isDrained() && time <= (timeOfRelease + Configuration.PUBLICATION_LINGER_NS))
+                {
+                    return;
+                }
+            }
+
             reachedEndOfLife = true;
+
+            if (isExclusive || isPublisherLimitUpdatedBySender)
+            {
+                conductor.cleanupDirectPublication(this);
+            }
         }
     }
 
@@ -211,7 +392,10 @@ public class DirectPublication implements DriverManagedResource
 
     public void delete()
     {
-        close();
+        if (!isPublisherLimitUpdatedBySender)
+        {
+            close();
+        }
     }
 
     public int incRef()
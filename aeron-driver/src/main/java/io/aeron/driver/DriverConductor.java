@@ -23,24 +23,32 @@ import io.aeron.command.SubscriptionMessageFlyweight;
 import io.aeron.driver.MediaDriver.Context;
 import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.cmd.DriverConductorCmd;
+import io.aeron.driver.exceptions.ConfigurationException;
 import io.aeron.driver.exceptions.ControlProtocolException;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.driver.media.SocketDropMonitor;
 import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.media.UdpChannelCache;
 import io.aeron.driver.status.PublisherLimit;
+import io.aeron.driver.status.ReceiveSocketDrops;
 import io.aeron.driver.status.ReceiverHwm;
+import io.aeron.driver.status.ReceiverWindow;
+import io.aeron.driver.status.SegmentedCountersManager;
 import io.aeron.driver.status.SenderPos;
 import io.aeron.driver.status.SubscriberPos;
+import io.aeron.driver.uri.AeronUri;
 import org.agrona.BitUtil;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.errors.DistinctErrorLog;
 import org.agrona.concurrent.ringbuffer.RingBuffer;
 import org.agrona.concurrent.status.AtomicCounter;
-import org.agrona.concurrent.status.CountersManager;
 import org.agrona.concurrent.status.Position;
+import org.agrona.concurrent.status.ReadablePosition;
 
 import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -50,10 +58,13 @@ import java.util.function.Consumer;
 import static io.aeron.driver.Configuration.*;
 import static io.aeron.driver.status.SystemCounterDescriptor.CLIENT_KEEP_ALIVES;
 import static io.aeron.driver.status.SystemCounterDescriptor.ERRORS;
+import static io.aeron.driver.status.SystemCounterDescriptor.PACED_BYTES_SENT;
+import static io.aeron.driver.status.SystemCounterDescriptor.PACING_RATE_LIMITED_TIME_NS;
 import static io.aeron.driver.status.SystemCounterDescriptor.UNBLOCKED_COMMANDS;
 import static java.util.stream.Collectors.toList;
 import static io.aeron.CommonContext.IPC_CHANNEL;
 import static io.aeron.ErrorCode.*;
+import static io.aeron.command.ClientResponseHeader.ALL_CLIENTS;
 import static io.aeron.command.ControlProtocolEvents.*;
 import static io.aeron.logbuffer.FrameDescriptor.computeMaxMessageLength;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
@@ -67,6 +78,8 @@ public class DriverConductor implements Agent
     private final long imageLivenessTimeoutNs;
     private final long clientLivenessTimeoutNs;
     private final long publicationUnblockTimeoutNs;
+    private final boolean isReceiverRebuildTracking;
+    private final boolean isSenderPublisherLimitUpdates;
     private long timeOfLastToDriverPositionChange;
     private long lastConsumerCommandPosition;
     private long timeOfLastTimeoutCheck;
@@ -102,7 +115,9 @@ public class DriverConductor implements Agent
     private final Consumer<DriverConductorCmd> onDriverConductorCmdFunc = this::onDriverConductorCmd;
     private final MessageHandler onClientCommandFunc = this::onClientCommand;
 
-    private final CountersManager countersManager;
+    private final UdpChannelCache udpChannelCache;
+    private final SocketDropMonitor socketDropMonitor;
+    private final SegmentedCountersManager countersManager;
     private final AtomicCounter clientKeepAlives;
     private final AtomicCounter errors;
 
@@ -112,6 +127,8 @@ public class DriverConductor implements Agent
         imageLivenessTimeoutNs = ctx.imageLivenessTimeoutNs();
         clientLivenessTimeoutNs = ctx.clientLivenessTimeoutNs();
         publicationUnblockTimeoutNs = ctx.publicationUnblockTimeoutNs();
+        isReceiverRebuildTracking = ctx.receiverRebuildTracking();
+        isSenderPublisherLimitUpdates = ctx.senderPublisherLimitUpdates();
         fromReceiverDriverConductorCmdQueue = ctx.toConductorFromReceiverCommandQueue();
         fromSenderDriverConductorCmdQueue = ctx.toConductorFromSenderCommandQueue();
         receiverProxy = ctx.receiverProxy();
@@ -124,7 +141,7 @@ public class DriverConductor implements Agent
         fromReceiverConductorProxy = ctx.fromReceiverDriverConductorProxy();
         errorLog = ctx.errorLog();
 
-        countersManager = context.countersManager();
+        countersManager = context.segmentedCountersManager();
         clientKeepAlives = context.systemCounters().get(CLIENT_KEEP_ALIVES);
         errors = context.systemCounters().get(ERRORS);
 
@@ -133,6 +150,9 @@ public class DriverConductor implements Agent
         final long now = nanoClock.nanoTime();
         timeOfLastTimeoutCheck = now;
         timeOfLastToDriverPositionChange = now;
+        udpChannelCache = new UdpChannelCache(ctx.udpChannelCacheTimeoutNs(), UDP_CHANNEL_CACHE_MAX_SIZE, now);
+        socketDropMonitor = 0 != ctx.socketDropMonitorIntervalNs() && SocketDropMonitor.isSupported() ?
+            new SocketDropMonitor(ctx.socketDropMonitorIntervalNs(), now) : null;
         lastConsumerCommandPosition = toDriverCommands.consumerPosition();
     }
 
@@ -179,22 +199,38 @@ public class DriverConductor implements Agent
         final ArrayList<PublicationImage> publicationImages = this.publicationImages;
         for (int i = 0, size = publicationImages.size(); i < size; i++)
         {
-            workCount += publicationImages.get(i).trackRebuild(now);
+            final PublicationImage image = publicationImages.get(i);
+            if (!isReceiverRebuildTracking)
+            {
+                workCount += image.trackRebuild(now);
+            }
+
+            workCount += image.checkUntetheredSubscriptions(now, this);
         }
 
         final ArrayList<NetworkPublication> networkPublications = this.networkPublications;
         for (int i = 0, size = networkPublications.size(); i < size; i++)
         {
             final NetworkPublication publication = networkPublications.get(i);
-            workCount += publication.updatePublishersLimit() + publication.cleanLogBuffer();
+            if (!publication.isPublisherLimitUpdatedBySender())
+            {
+                workCount += publication.updatePublishersLimit();
+            }
+
+            workCount += publication.cleanLogBuffer();
         }
 
         final ArrayList<DirectPublication> directPublications = this.directPublications;
         for (int i = 0, size = directPublications.size(); i < size; i++)
         {
             final DirectPublication publication = directPublications.get(i);
-            workCount +=
-                publication.updatePublishersLimit(toDriverCommands.consumerHeartbeatTime()) + publication.cleanLogBuffer();
+            if (!publication.isPublisherLimitUpdatedBySender())
+            {
+                workCount += publication.updatePublishersLimit(toDriverCommands.consumerHeartbeatTime());
+            }
+
+            workCount += publication.cleanLogBuffer();
+            workCount += publication.checkUntetheredSubscriptions(now, this);
         }
 
         return workCount;
@@ -212,15 +248,20 @@ public class DriverConductor implements Agent
         final InetSocketAddress sourceAddress,
         final ReceiveChannelEndpoint channelEndpoint)
     {
+        final UdpChannel udpChannel = channelEndpoint.udpChannel();
+        final int initialWindowLength = 0 != udpChannel.initialWindowLength() ?
+            udpChannel.initialWindowLength() : context.initialWindowLength();
+
         channelEndpoint.validateSenderMtuLength(senderMtuLength);
-        channelEndpoint.validateWindowMaxLength(context.initialWindowLength());
+        channelEndpoint.validateWindowMaxLength(initialWindowLength);
 
-        final UdpChannel udpChannel = channelEndpoint.udpChannel();
         final String channel = udpChannel.originalUriString();
         final long registrationId = nextImageCorrelationId();
 
-        final long joiningPosition = computePosition(
-            activeTermId, initialTermOffset, Integer.numberOfTrailingZeros(termBufferLength), initialTermId);
+        final int positionBitsToShift = Integer.numberOfTrailingZeros(termBufferLength);
+        final long joiningPosition = udpChannel.isCatchup() ?
+            computeRetainedPosition(activeTermId, positionBitsToShift, initialTermId) :
+            computePosition(activeTermId, initialTermOffset, positionBitsToShift, initialTermId);
 
         final List<SubscriberPosition> subscriberPositions = listSubscriberPositions(
             sessionId, streamId, channelEndpoint, channel, joiningPosition);
@@ -240,28 +281,70 @@ public class DriverConductor implements Agent
                 initialTermId,
                 activeTermId,
                 initialTermOffset,
-                context.initialWindowLength(),
+                joiningPosition,
+                initialWindowLength,
                 rawLog,
                 udpChannel.isMulticast() ? NAK_MULTICAST_DELAY_GENERATOR : NAK_UNICAST_DELAY_GENERATOR,
-                subscriberPositions.stream().map(SubscriberPosition::position).collect(toList()),
+                subscriberPositions
+                    .stream()
+                    .filter((subscriberPosition) -> subscriberPosition.subscription().isTethered())
+                    .map(SubscriberPosition::position)
+                    .collect(toList()),
                 ReceiverHwm.allocate(countersManager, registrationId, sessionId, streamId, channel),
+                ReceiverWindow.allocate(countersManager, registrationId, sessionId, streamId, channel),
                 nanoClock,
                 context.systemCounters(),
-                sourceAddress);
+                sourceAddress,
+                context.imageFeedbackQueue(),
+                context.incrementalLossTracking() ?
+                    new TermArrivalBitmap(termBufferLength, LOSS_TRACKING_BLOCK_LENGTH) : null,
+                context.receiverWindowAutotune() ?
+                    newReceiverWindowAutotuner(initialWindowLength, termBufferLength, senderMtuLength, channelEndpoint) : null);
+
+            final List<SubscriberPosition> tetheredSubscriberPositions = new ArrayList<>();
+            final List<UntetheredSubscription> untetheredSubscriptions = new ArrayList<>();
+            for (final SubscriberPosition subscriberPosition : subscriberPositions)
+            {
+                final SubscriptionLink subscription = subscriberPosition.subscription();
+                subscription.addImage(image, subscriberPosition.position());
 
-            subscriberPositions.forEach(
-                (subscriberPosition) -> subscriberPosition.subscription().addImage(image, subscriberPosition.position()));
+                if (subscription.isTethered())
+                {
+                    tetheredSubscriberPositions.add(subscriberPosition);
+                }
+                else
+                {
+                    final UntetheredSubscription untethered =
+                        newUntetheredSubscription(subscription, subscriberPosition.position());
+                    image.addUntetheredSubscription(untethered);
+                    untetheredSubscriptions.add(untethered);
+                }
+            }
 
             publicationImages.add(image);
             receiverProxy.newPublicationImage(channelEndpoint, image);
 
-            clientProxy.onAvailableImage(
-                registrationId,
-                streamId,
-                sessionId,
-                rawLog.logFileName(),
-                subscriberPositions,
-                generateSourceIdentity(sourceAddress));
+            final String sourceIdentity = generateSourceIdentity(sourceAddress);
+            if (tetheredSubscriberPositions.size() > 0)
+            {
+                clientProxy.onAvailableImage(
+                    registrationId,
+                    streamId,
+                    sessionId,
+                    rawLog.logFileName(),
+                    tetheredSubscriberPositions,
+                    sourceIdentity);
+            }
+
+            untetheredSubscriptions.forEach(
+                (untethered) -> clientProxy.onAvailableImage(
+                    untethered.imageCorrelationId(),
+                    streamId,
+                    sessionId,
+                    rawLog.logFileName(),
+                    Collections.singletonList(
+                        new SubscriberPosition(untethered.subscriptionLink(), untethered.position())),
+                    sourceIdentity));
         }
     }
 
@@ -270,6 +353,42 @@ public class DriverConductor implements Agent
         publication.close();
     }
 
+    public void onCloseDirectPublication(final DirectPublication publication)
+    {
+        publication.close();
+    }
+
+    public void onCloseSubscriberPosition(final ReadablePosition subscriberPosition)
+    {
+        subscriberPosition.close();
+    }
+
+    void cleanupDirectPublication(final DirectPublication publication)
+    {
+        if (publication.isExclusive())
+        {
+            boolean hasSubscribers = false;
+            final ArrayList<SubscriptionLink> subscriptionLinks = this.subscriptionLinks;
+            for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
+            {
+                hasSubscribers |= subscriptionLinks.get(i).removeExclusivePublication(publication);
+            }
+
+            if (hasSubscribers)
+            {
+                clientProxy.onUnavailableImage(publication.correlationId(), publication.streamId(), IPC_CHANNEL);
+            }
+
+            onUntetheredSubscriptionsUnavailable(
+                publication.untetheredSubscriptions(), publication.streamId(), IPC_CHANNEL);
+        }
+
+        if (publication.isPublisherLimitUpdatedBySender())
+        {
+            senderProxy.removeDirectPublication(publication);
+        }
+    }
+
     void cleanupPublication(final NetworkPublication publication)
     {
         final SendChannelEndpoint channelEndpoint = publication.sendChannelEndpoint();
@@ -299,6 +418,7 @@ public class DriverConductor implements Agent
             if (channelEndpoint.streamCount() == 0)
             {
                 receiveChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
+                removeReceiveSocketDrops(channelEndpoint);
                 receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
             }
         }
@@ -311,9 +431,50 @@ public class DriverConductor implements Agent
             image.streamId(),
             image.channelUriString());
 
+        onUntetheredSubscriptionsUnavailable(image.untetheredSubscriptions(), image.streamId(), image.channelUriString());
+
         receiverProxy.removeCoolDown(image.channelEndpoint(), image.sessionId(), image.streamId());
     }
 
+    void onUntetheredSubscriptionResting(final UntetheredSubscription untethered, final int streamId, final String channel)
+    {
+        clientProxy.onUnavailableImage(untethered.imageCorrelationId(), streamId, channel);
+    }
+
+    void onUntetheredSubscriptionRejoin(
+        final DirectPublication publication,
+        final UntetheredSubscription untethered,
+        final long joiningPosition,
+        final long now)
+    {
+        untethered.rejoin(joiningPosition, nextImageCorrelationId(), now);
+
+        clientProxy.onAvailableImage(
+            untethered.imageCorrelationId(),
+            publication.streamId(),
+            publication.sessionId(),
+            publication.rawLog().logFileName(),
+            Collections.singletonList(new SubscriberPosition(untethered.subscriptionLink(), untethered.position())),
+            IPC_CHANNEL);
+    }
+
+    void onUntetheredSubscriptionRejoin(
+        final PublicationImage image,
+        final UntetheredSubscription untethered,
+        final long joiningPosition,
+        final long now)
+    {
+        untethered.rejoin(joiningPosition, nextImageCorrelationId(), now);
+
+        clientProxy.onAvailableImage(
+            untethered.imageCorrelationId(),
+            image.streamId(),
+            image.sessionId(),
+            image.rawLog().logFileName(),
+            Collections.singletonList(new SubscriberPosition(untethered.subscriptionLink(), untethered.position())),
+            generateSourceIdentity(image.sourceAddress()));
+    }
+
     void cleanupImage(final PublicationImage image)
     {
         subscriptionLinks
@@ -345,6 +506,23 @@ public class DriverConductor implements Agent
             .collect(toList());
     }
 
+    private void onUntetheredSubscriptionsUnavailable(
+        final UntetheredSubscription[] untetheredSubscriptions, final int streamId, final String channel)
+    {
+        for (final UntetheredSubscription untethered : untetheredSubscriptions)
+        {
+            if (untethered.isActive())
+            {
+                clientProxy.onUnavailableImage(untethered.imageCorrelationId(), streamId, channel);
+            }
+        }
+    }
+
+    private UntetheredSubscription newUntetheredSubscription(final SubscriptionLink subscription, final Position position)
+    {
+        return new UntetheredSubscription(subscription, position, nextImageCorrelationId(), nanoClock.nanoTime());
+    }
+
     private <T extends DriverManagedResource> void onCheckManagedResources(final ArrayList<T> list, final long time)
     {
         for (int i = list.size() - 1; i >= 0; i--)
@@ -398,28 +576,31 @@ public class DriverConductor implements Agent
     private void onClientCommand(final int msgTypeId, final MutableDirectBuffer buffer, final int index, final int length)
     {
         long correlationId = 0;
+        long clientId = ALL_CLIENTS;
 
         try
         {
             switch (msgTypeId)
             {
                 case ADD_PUBLICATION:
+                case ADD_EXCLUSIVE_PUBLICATION:
                 {
                     final PublicationMessageFlyweight publicationMessageFlyweight = publicationMsgFlyweight;
                     publicationMessageFlyweight.wrap(buffer, index);
 
                     correlationId = publicationMessageFlyweight.correlationId();
                     final int streamId = publicationMessageFlyweight.streamId();
-                    final long clientId = publicationMessageFlyweight.clientId();
+                    clientId = publicationMessageFlyweight.clientId();
                     final String channel = publicationMessageFlyweight.channel();
+                    final boolean isExclusive = ADD_EXCLUSIVE_PUBLICATION == msgTypeId;
 
-                    if (IPC_CHANNEL.equals(channel))
+                    if (isIpcChannel(channel))
                     {
-                        onAddDirectPublication(streamId, correlationId, clientId);
+                        onAddDirectPublication(streamId, correlationId, clientId, isExclusive);
                     }
                     else
                     {
-                        onAddNetworkPublication(channel, streamId, correlationId, clientId);
+                        onAddNetworkPublication(channel, streamId, correlationId, clientId, isExclusive);
                     }
                     break;
                 }
@@ -429,7 +610,8 @@ public class DriverConductor implements Agent
                     final RemoveMessageFlyweight removeMessageFlyweight = removeMsgFlyweight;
                     removeMessageFlyweight.wrap(buffer, index);
                     correlationId = removeMessageFlyweight.correlationId();
-                    onRemovePublication(removeMessageFlyweight.registrationId(), correlationId);
+                    clientId = removeMessageFlyweight.clientId();
+                    onRemovePublication(removeMessageFlyweight.registrationId(), correlationId, clientId);
                     break;
                 }
 
@@ -440,12 +622,12 @@ public class DriverConductor implements Agent
 
                     correlationId = subscriptionMessageFlyweight.correlationId();
                     final int streamId = subscriptionMessageFlyweight.streamId();
-                    final long clientId = subscriptionMessageFlyweight.clientId();
+                    clientId = subscriptionMessageFlyweight.clientId();
                     final String channel = subscriptionMessageFlyweight.channel();
 
-                    if (IPC_CHANNEL.equals(channel))
+                    if (isIpcChannel(channel))
                     {
-                        onAddDirectSubscription(streamId, correlationId, clientId);
+                        onAddDirectSubscription(channel, streamId, correlationId, clientId);
                     }
                     else
                     {
@@ -459,7 +641,8 @@ public class DriverConductor implements Agent
                     final RemoveMessageFlyweight removeMessageFlyweight = removeMsgFlyweight;
                     removeMessageFlyweight.wrap(buffer, index);
                     correlationId = removeMessageFlyweight.correlationId();
-                    onRemoveSubscription(removeMessageFlyweight.registrationId(), correlationId);
+                    clientId = removeMessageFlyweight.clientId();
+                    onRemoveSubscription(removeMessageFlyweight.registrationId(), correlationId, clientId);
                     break;
                 }
 
@@ -468,20 +651,21 @@ public class DriverConductor implements Agent
                     final CorrelatedMessageFlyweight correlatedMessageFlyweight = correlatedMsgFlyweight;
                     correlatedMessageFlyweight.wrap(buffer, index);
                     correlationId = correlatedMessageFlyweight.correlationId();
-                    onClientKeepalive(correlatedMessageFlyweight.clientId());
+                    clientId = correlatedMessageFlyweight.clientId();
+                    onClientKeepalive(clientId);
                     break;
                 }
             }
         }
         catch (final ControlProtocolException ex)
         {
-            clientProxy.onError(ex.errorCode(), ex.getMessage(), correlationId);
+            clientProxy.onError(clientId, ex.errorCode(), ex.getMessage(), correlationId);
             errors.increment();
             errorLog.record(ex);
         }
         catch (final Exception ex)
         {
-            clientProxy.onError(GENERIC_ERROR, ex.getMessage(), correlationId);
+            clientProxy.onError(clientId, GENERIC_ERROR, ex.getMessage(), correlationId);
             errors.increment();
             errorLog.record(ex);
         }
@@ -495,21 +679,42 @@ public class DriverConductor implements Agent
         {
             onHeartbeatCheckTimeouts(now);
             onCheckForBlockedToDriverCommands(now);
+            udpChannelCache.onCheckTimeout(now);
             timeOfLastTimeoutCheck = now;
             workCount = 1;
         }
 
+        if (null != socketDropMonitor)
+        {
+            workCount += socketDropMonitor.onCheckTimeout(now);
+        }
+
         return workCount;
     }
 
     private void onAddNetworkPublication(
-        final String channel, final int streamId, final long registrationId, final long clientId)
+        final String channel,
+        final int streamId,
+        final long registrationId,
+        final long clientId,
+        final boolean isExclusive)
     {
-        final UdpChannel udpChannel = UdpChannel.parse(channel);
+        final UdpChannel udpChannel = udpChannelCache.channel(channel);
+        final int termLength = 0 != udpChannel.termLength() ?
+            udpChannel.termLength() : context.publicationTermBufferLength();
+        final int channelMtuLength = 0 != udpChannel.mtuLength() ? udpChannel.mtuLength() : context.mtuLength();
+
+        final SendChannelEndpoint existingEndpoint = sendChannelEndpointByChannelMap.get(udpChannel.canonicalForm());
+        validateMtuLength(null != existingEndpoint ? existingEndpoint.udpChannel() : udpChannel, channelMtuLength);
+
         final SendChannelEndpoint channelEndpoint = getOrCreateSendChannelEndpoint(udpChannel);
 
-        NetworkPublication publication = channelEndpoint.getPublication(streamId);
-        if (null == publication)
+        NetworkPublication publication = isExclusive ? null : channelEndpoint.getPublication(streamId);
+        if (null != publication)
+        {
+            validateExistingPublication(publication, udpChannel);
+        }
+        else
         {
             final int sessionId = nextSessionId();
             final int initialTermId = BitUtil.generateRandomisedId();
@@ -520,27 +725,50 @@ public class DriverConductor implements Agent
                 RETRANSMIT_UNICAST_DELAY_GENERATOR,
                 RETRANSMIT_UNICAST_LINGER_GENERATOR,
                 initialTermId,
-                context.publicationTermBufferLength());
+                termLength);
 
             final FlowControl flowControl =
                 udpChannel.isMulticast() ?
                     context.multicastFlowControlSupplier().newInstance(udpChannel, streamId, registrationId) :
                     context.unicastFlowControlSupplier().newInstance(udpChannel, streamId, registrationId);
 
+            final FecEncoder fecEncoder = udpChannel.fecGroupSize() > 0 ?
+                new FecEncoder(
+                    udpChannel.fecGroupSize(), udpChannel.fecParityCount(), sessionId, streamId, channelMtuLength) :
+                null;
+            final int mtuLength = null != fecEncoder ? fecEncoder.maxPacketLength() : channelMtuLength;
+
+            final TokenBucketPacer pacer = udpChannel.pacingRate() > 0 ?
+                new TokenBucketPacer(
+                    udpChannel.pacingRate(),
+                    udpChannel.pacingBurstLength(),
+                    nanoClock.nanoTime(),
+                    context.systemCounters().get(PACED_BYTES_SENT),
+                    context.systemCounters().get(PACING_RATE_LIMITED_TIME_NS)) :
+                null;
+
             publication = new NetworkPublication(
                 channelEndpoint,
+                udpChannel,
                 nanoClock,
                 toDriverCommands::consumerHeartbeatTime,
-                newNetworkPublicationLog(sessionId, streamId, initialTermId, udpChannel, registrationId),
+                newNetworkPublicationLog(
+                    sessionId, streamId, initialTermId, termLength, mtuLength, udpChannel, registrationId),
                 PublisherLimit.allocate(countersManager, registrationId, sessionId, streamId, channel),
                 SenderPos.allocate(countersManager, registrationId, sessionId, streamId, channel),
                 sessionId,
                 streamId,
                 initialTermId,
-                context.mtuLength(),
+                mtuLength,
                 context.systemCounters(),
                 flowControl,
-                retransmitHandler);
+                retransmitHandler,
+                udpChannel.isCompressed(),
+                fecEncoder,
+                pacer,
+                udpChannel.priority(),
+                isSenderPublisherLimitUpdates,
+                isExclusive);
 
             channelEndpoint.addPublication(publication);
             networkPublications.add(publication);
@@ -550,6 +778,7 @@ public class DriverConductor implements Agent
         linkPublication(registrationId, publication, getOrAddClient(clientId));
 
         clientProxy.onPublicationReady(
+            clientId,
             registrationId,
             streamId,
             publication.sessionId(),
@@ -557,19 +786,35 @@ public class DriverConductor implements Agent
             publication.publisherLimitId());
     }
 
-    private void onAddDirectPublication(final int streamId, final long registrationId, final long clientId)
+    private void onAddDirectPublication(
+        final int streamId, final long registrationId, final long clientId, final boolean isExclusive)
     {
-        final DirectPublication directPublication = getOrAddDirectPublication(streamId);
+        final DirectPublication directPublication =
+            isExclusive ? newDirectPublication(streamId, true) : getOrAddDirectPublication(streamId);
         final AeronClient client = getOrAddClient(clientId);
 
         linkPublication(registrationId, directPublication, client);
 
         clientProxy.onPublicationReady(
+            clientId,
             registrationId,
             streamId,
             directPublication.sessionId(),
             directPublication.rawLog().logFileName(),
             directPublication.publisherLimitId());
+
+        if (isExclusive)
+        {
+            final ArrayList<SubscriptionLink> subscriptionLinks = this.subscriptionLinks;
+            for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
+            {
+                final SubscriptionLink subscriptionLink = subscriptionLinks.get(i);
+                if (subscriptionLink.matchesDirect(streamId))
+                {
+                    linkExclusivePublication(subscriptionLink, directPublication);
+                }
+            }
+        }
     }
 
     private int nextSessionId()
@@ -593,11 +838,70 @@ public class DriverConductor implements Agent
             context.systemCounters()));
     }
 
+    private void validateExistingPublication(final NetworkPublication publication, final UdpChannel udpChannel)
+    {
+        final RawLog rawLog = publication.rawLog();
+
+        if (0 != udpChannel.termLength() && udpChannel.termLength() != rawLog.termLength())
+        {
+            throw new ControlProtocolException(INVALID_CHANNEL, String.format(
+                "term length %d differs from existing publication: %d", udpChannel.termLength(), rawLog.termLength()));
+        }
+
+        final UdpChannel existingChannel = publication.udpChannel();
+        final int existingMtuLength = 0 != existingChannel.mtuLength() ?
+            existingChannel.mtuLength() : context.mtuLength();
+
+        if (0 != udpChannel.mtuLength() && udpChannel.mtuLength() != existingMtuLength)
+        {
+            throw new ControlProtocolException(INVALID_CHANNEL, String.format(
+                "MTU length %d differs from existing publication: %d", udpChannel.mtuLength(), existingMtuLength));
+        }
+
+        if (udpChannel.isCompressed() != existingChannel.isCompressed())
+        {
+            throw new ControlProtocolException(INVALID_CHANNEL, String.format(
+                "compression %b differs from existing publication: %b",
+                udpChannel.isCompressed(), existingChannel.isCompressed()));
+        }
+
+        if (udpChannel.fecGroupSize() != existingChannel.fecGroupSize() ||
+            udpChannel.fecParityCount() != existingChannel.fecParityCount())
+        {
+            throw new ControlProtocolException(INVALID_CHANNEL, String.format(
+                "FEC group %d parity %d differs from existing publication: group %d parity %d",
+                udpChannel.fecGroupSize(), udpChannel.fecParityCount(),
+                existingChannel.fecGroupSize(), existingChannel.fecParityCount()));
+        }
+
+        if (udpChannel.pacingRate() != existingChannel.pacingRate() ||
+            udpChannel.pacingBurstLength() != existingChannel.pacingBurstLength())
+        {
+            throw new ControlProtocolException(INVALID_CHANNEL, String.format(
+                "pacing rate %d burst %d differs from existing publication: rate %d burst %d",
+                udpChannel.pacingRate(), udpChannel.pacingBurstLength(),
+                existingChannel.pacingRate(), existingChannel.pacingBurstLength()));
+        }
+
+        if (udpChannel.priority() != existingChannel.priority())
+        {
+            throw new ControlProtocolException(INVALID_CHANNEL, String.format(
+                "priority %s differs from existing publication: %s", udpChannel.priority(), existingChannel.priority()));
+        }
+    }
+
     private RawLog newNetworkPublicationLog(
-        final int sessionId, final int streamId, final int initialTermId, final UdpChannel udpChannel, final long registrationId)
+        final int sessionId,
+        final int streamId,
+        final int initialTermId,
+        final int termLength,
+        final int mtuLength,
+        final UdpChannel udpChannel,
+        final long registrationId)
     {
         final String canonicalForm = udpChannel.canonicalForm();
-        final RawLog rawLog = rawLogFactory.newNetworkPublication(canonicalForm, sessionId, streamId, registrationId);
+        final RawLog rawLog = rawLogFactory.newNetworkPublication(
+            canonicalForm, sessionId, streamId, registrationId, termLength);
 
         final UnsafeBuffer header = createDefaultHeader(sessionId, streamId, initialTermId);
         final UnsafeBuffer logMetaData = rawLog.logMetaData();
@@ -607,7 +911,7 @@ public class DriverConductor implements Agent
         initialiseTailWithTermId(termMetaData, initialTermId);
 
         initialTermId(logMetaData, initialTermId);
-        mtuLength(logMetaData, context.mtuLength());
+        mtuLength(logMetaData, mtuLength);
         correlationId(logMetaData, registrationId);
         timeOfLastStatusMessage(logMetaData, 0);
 
@@ -638,6 +942,19 @@ public class DriverConductor implements Agent
         return rawLog;
     }
 
+    private static ReceiverWindowAutotuner newReceiverWindowAutotuner(
+        final int initialWindowLength,
+        final int termBufferLength,
+        final int senderMtuLength,
+        final ReceiveChannelEndpoint channelEndpoint)
+    {
+        final int maxWindowLength = Math.min(termBufferLength, channelEndpoint.getOption(StandardSocketOptions.SO_RCVBUF));
+        final int minWindowLength = Math.min(RECEIVER_WINDOW_AUTOTUNE_MIN_MTU_COUNT * senderMtuLength, maxWindowLength);
+
+        return new ReceiverWindowAutotuner(
+            initialWindowLength, minWindowLength, maxWindowLength, RECEIVER_WINDOW_AUTOTUNE_RTT_EXPIRY_NS);
+    }
+
     private RawLog newDirectPublicationLog(
         final int sessionId, final int streamId, final int initialTermId, final long registrationId)
     {
@@ -670,11 +987,15 @@ public class DriverConductor implements Agent
             sendChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
             senderProxy.registerSendChannelEndpoint(channelEndpoint);
         }
+        else
+        {
+            validateSocketBufferLengths(channelEndpoint.udpChannel(), udpChannel);
+        }
 
         return channelEndpoint;
     }
 
-    private void onRemovePublication(final long registrationId, final long correlationId)
+    private void onRemovePublication(final long registrationId, final long correlationId, final long clientId)
     {
         PublicationLink publicationLink = null;
         final ArrayList<PublicationLink> publicationLinks = this.publicationLinks;
@@ -696,13 +1017,14 @@ public class DriverConductor implements Agent
 
         publicationLink.close();
 
-        clientProxy.operationSucceeded(correlationId);
+        clientProxy.operationSucceeded(clientId, correlationId);
     }
 
     private void onAddNetworkSubscription(
         final String channel, final int streamId, final long registrationId, final long clientId)
     {
-        final ReceiveChannelEndpoint channelEndpoint = getOrCreateReceiveChannelEndpoint(UdpChannel.parse(channel));
+        final UdpChannel udpChannel = udpChannelCache.channel(channel);
+        final ReceiveChannelEndpoint channelEndpoint = getOrCreateReceiveChannelEndpoint(udpChannel);
 
         final int refCount = channelEndpoint.incRefToStream(streamId);
         if (1 == refCount)
@@ -711,10 +1033,11 @@ public class DriverConductor implements Agent
         }
 
         final AeronClient client = getOrAddClient(clientId);
-        final SubscriptionLink subscription = new SubscriptionLink(registrationId, channelEndpoint, streamId, client);
+        final SubscriptionLink subscription = new SubscriptionLink(
+            registrationId, channelEndpoint, receiverProxy, streamId, client, udpChannel.isTethered());
 
         subscriptionLinks.add(subscription);
-        clientProxy.operationSucceeded(registrationId);
+        clientProxy.operationSucceeded(clientId, registrationId);
 
         publicationImages
             .stream()
@@ -728,11 +1051,11 @@ public class DriverConductor implements Agent
 
                     position.setOrdered(image.rebuildPosition());
 
-                    image.addSubscriber(position);
+                    final long imageCorrelationId = addSubscriber(image, subscription, position);
                     subscription.addImage(image, position);
 
                     clientProxy.onAvailableImage(
-                        image.correlationId(),
+                        imageCorrelationId,
                         streamId,
                         sessionId,
                         image.rawLog().logFileName(),
@@ -741,7 +1064,8 @@ public class DriverConductor implements Agent
                 });
     }
 
-    private void onAddDirectSubscription(final int streamId, final long registrationId, final long clientId)
+    private void onAddDirectSubscription(
+        final String channel, final int streamId, final long registrationId, final long clientId)
     {
         final DirectPublication publication = getOrAddDirectPublication(streamId);
         final AeronClient client = getOrAddClient(clientId);
@@ -750,18 +1074,52 @@ public class DriverConductor implements Agent
         final Position position = SubscriberPos.allocate(countersManager, registrationId, sessionId, streamId, IPC_CHANNEL);
         position.setOrdered(publication.joiningPosition());
 
-        final SubscriptionLink subscriptionLink = new SubscriptionLink(registrationId, streamId, publication, position, client);
+        final boolean isTethered = !"false".equals(AeronUri.parse(channel).get(UdpChannel.TETHER_KEY));
+        final SubscriptionLink subscriptionLink = new SubscriptionLink(
+            registrationId, streamId, publication, position, client, isTethered);
 
         subscriptionLinks.add(subscriptionLink);
-        publication.addSubscription(position);
+        final long imageCorrelationId = addSubscriber(publication, subscriptionLink, position);
+
+        clientProxy.operationSucceeded(clientId, registrationId);
+
+        final List<SubscriberPosition> subscriberPositions = new ArrayList<>();
+        subscriberPositions.add(new SubscriberPosition(subscriptionLink, position));
+
+        clientProxy.onAvailableImage(
+            imageCorrelationId,
+            streamId,
+            sessionId,
+            publication.rawLog().logFileName(),
+            subscriberPositions,
+            IPC_CHANNEL);
+        final ArrayList<DirectPublication> directPublications = this.directPublications;
+        for (int i = 0, size = directPublications.size(); i < size; i++)
+        {
+            final DirectPublication directPublication = directPublications.get(i);
+            if (directPublication.isExclusive() && directPublication.streamId() == streamId)
+            {
+                linkExclusivePublication(subscriptionLink, directPublication);
+            }
+        }
+    }
+
+    private void linkExclusivePublication(final SubscriptionLink subscriptionLink, final DirectPublication publication)
+    {
+        final long registrationId = subscriptionLink.registrationId();
+        final int sessionId = publication.sessionId();
+        final int streamId = publication.streamId();
+        final Position position = SubscriberPos.allocate(countersManager, registrationId, sessionId, streamId, IPC_CHANNEL);
+        position.setOrdered(publication.joiningPosition());
 
-        clientProxy.operationSucceeded(registrationId);
+        subscriptionLink.addExclusivePublication(publication, position);
+        final long imageCorrelationId = addSubscriber(publication, subscriptionLink, position);
 
         final List<SubscriberPosition> subscriberPositions = new ArrayList<>();
         subscriberPositions.add(new SubscriberPosition(subscriptionLink, position));
 
         clientProxy.onAvailableImage(
-            publication.correlationId(),
+            imageCorrelationId,
             streamId,
             sessionId,
             publication.rawLog().logFileName(),
@@ -769,6 +1127,38 @@ public class DriverConductor implements Agent
             IPC_CHANNEL);
     }
 
+    private long addSubscriber(
+        final DirectPublication publication, final SubscriptionLink subscription, final Position position)
+    {
+        if (subscription.isTethered())
+        {
+            publication.addSubscription(position);
+
+            return publication.correlationId();
+        }
+
+        final UntetheredSubscription untethered = newUntetheredSubscription(subscription, position);
+        publication.addUntetheredSubscription(untethered);
+
+        return untethered.imageCorrelationId();
+    }
+
+    private long addSubscriber(
+        final PublicationImage image, final SubscriptionLink subscription, final Position position)
+    {
+        if (subscription.isTethered())
+        {
+            image.addSubscriber(position);
+
+            return image.correlationId();
+        }
+
+        final UntetheredSubscription untethered = newUntetheredSubscription(subscription, position);
+        image.addUntetheredSubscription(untethered);
+
+        return untethered.imageCorrelationId();
+    }
+
     private ReceiveChannelEndpoint getOrCreateReceiveChannelEndpoint(final UdpChannel udpChannel)
     {
         ReceiveChannelEndpoint channelEndpoint = receiveChannelEndpointByChannelMap.get(udpChannel.canonicalForm());
@@ -781,12 +1171,86 @@ public class DriverConductor implements Agent
 
             receiveChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
             receiverProxy.registerReceiveChannelEndpoint(channelEndpoint);
+
+            if (null != socketDropMonitor)
+            {
+                socketDropMonitor.add(
+                    channelEndpoint.udpChannel(), ReceiveSocketDrops.allocate(countersManager, udpChannel.originalUriString()));
+            }
+        }
+        else
+        {
+            validateSocketBufferLengths(channelEndpoint.udpChannel(), udpChannel);
+            validateImageParameters(channelEndpoint.udpChannel(), udpChannel);
         }
 
         return channelEndpoint;
     }
 
-    private void onRemoveSubscription(final long registrationId, final long correlationId)
+    private void validateMtuLength(final UdpChannel endpointUdpChannel, final int mtuLength)
+    {
+        final int soSndbuf = 0 != endpointUdpChannel.socketSndbufLength() ?
+            endpointUdpChannel.socketSndbufLength() : context.socketSndbufLength();
+
+        if (0 != soSndbuf && mtuLength > soSndbuf)
+        {
+            throw new ConfigurationException(String.format(
+                "MTU greater than socket SO_SNDBUF, adjust %s or so-sndbuf of the channel to match MTU: " +
+                    "mtuLength=%d, SO_SNDBUF=%d",
+                SOCKET_SNDBUF_LENGTH_PROP_NAME,
+                mtuLength,
+                soSndbuf));
+        }
+    }
+
+    private static void validateImageParameters(final UdpChannel endpointUdpChannel, final UdpChannel udpChannel)
+    {
+        if (0 != udpChannel.initialWindowLength() &&
+            udpChannel.initialWindowLength() != endpointUdpChannel.initialWindowLength())
+        {
+            throw new ControlProtocolException(INVALID_CHANNEL, String.format(
+                "Initial window length %d differs from existing channel endpoint: %d",
+                udpChannel.initialWindowLength(),
+                endpointUdpChannel.initialWindowLength()));
+        }
+
+        if (udpChannel.isCatchup() != endpointUdpChannel.isCatchup())
+        {
+            throw new ControlProtocolException(INVALID_CHANNEL, String.format(
+                "Catchup %b differs from existing channel endpoint: %b",
+                udpChannel.isCatchup(),
+                endpointUdpChannel.isCatchup()));
+        }
+    }
+
+    private static void validateSocketBufferLengths(final UdpChannel endpointUdpChannel, final UdpChannel udpChannel)
+    {
+        if (0 != udpChannel.socketRcvbufLength() && udpChannel.socketRcvbufLength() != endpointUdpChannel.socketRcvbufLength())
+        {
+            throw new ControlProtocolException(INVALID_CHANNEL, String.format(
+                "SO_RCVBUF length %d differs from existing channel endpoint: %d",
+                udpChannel.socketRcvbufLength(),
+                endpointUdpChannel.socketRcvbufLength()));
+        }
+
+        if (0 != udpChannel.socketSndbufLength() && udpChannel.socketSndbufLength() != endpointUdpChannel.socketSndbufLength())
+        {
+            throw new ControlProtocolException(INVALID_CHANNEL, String.format(
+                "SO_SNDBUF length %d differs from existing channel endpoint: %d",
+                udpChannel.socketSndbufLength(),
+                endpointUdpChannel.socketSndbufLength()));
+        }
+    }
+
+    private void removeReceiveSocketDrops(final ReceiveChannelEndpoint channelEndpoint)
+    {
+        if (null != socketDropMonitor)
+        {
+            socketDropMonitor.remove(channelEndpoint.udpChannel());
+        }
+    }
+
+    private void onRemoveSubscription(final long registrationId, final long correlationId, final long clientId)
     {
         final SubscriptionLink link = removeSubscriptionLink(subscriptionLinks, registrationId);
         if (null == link)
@@ -808,6 +1272,7 @@ public class DriverConductor implements Agent
             if (0 == channelEndpoint.streamCount())
             {
                 receiveChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
+                removeReceiveSocketDrops(channelEndpoint);
                 receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
 
                 while (!channelEndpoint.isClosed())
@@ -817,7 +1282,7 @@ public class DriverConductor implements Agent
             }
         }
 
-        clientProxy.operationSucceeded(correlationId);
+        clientProxy.operationSucceeded(clientId, correlationId);
     }
 
     private void onClientKeepalive(final long clientId)
@@ -854,17 +1319,30 @@ public class DriverConductor implements Agent
 
         if (null == publication)
         {
-            final long registrationId = nextImageCorrelationId();
-            final int sessionId = nextSessionId();
-            final int initialTermId = BitUtil.generateRandomisedId();
-            final RawLog rawLog = newDirectPublicationLog(sessionId, streamId, initialTermId, registrationId);
+            publication = newDirectPublication(streamId, false);
+        }
 
-            final Position publisherLimit =
-                PublisherLimit.allocate(countersManager, registrationId, sessionId, streamId, IPC_CHANNEL);
+        return publication;
+    }
 
-            publication = new DirectPublication(registrationId, sessionId, streamId, publisherLimit, rawLog);
+    private DirectPublication newDirectPublication(final int streamId, final boolean isExclusive)
+    {
+        final long registrationId = nextImageCorrelationId();
+        final int sessionId = nextSessionId();
+        final int initialTermId = BitUtil.generateRandomisedId();
+        final RawLog rawLog = newDirectPublicationLog(sessionId, streamId, initialTermId, registrationId);
+
+        final Position publisherLimit =
+            PublisherLimit.allocate(countersManager, registrationId, sessionId, streamId, IPC_CHANNEL);
+
+        final DirectPublication publication = new DirectPublication(
+            registrationId, sessionId, streamId, publisherLimit, rawLog, isSenderPublisherLimitUpdates, isExclusive);
 
-            directPublications.add(publication);
+        directPublications.add(publication);
+
+        if (isSenderPublisherLimitUpdates)
+        {
+            senderProxy.newDirectPublication(publication);
         }
 
         return publication;
@@ -875,6 +1353,11 @@ public class DriverConductor implements Agent
         return toDriverCommands.nextCorrelationId();
     }
 
+    private static boolean isIpcChannel(final String channel)
+    {
+        return IPC_CHANNEL.equals(channel) || channel.startsWith(IPC_CHANNEL + "?");
+    }
+
     private static AeronClient findClient(final ArrayList<AeronClient> clients, final long clientId)
     {
         AeronClient aeronClient = null;
@@ -937,7 +1420,7 @@ public class DriverConductor implements Agent
         for (int i = 0, size = directPublications.size(); i < size; i++)
         {
             final DirectPublication log = directPublications.get(i);
-            if (log.streamId() == streamId)
+            if (log.streamId() == streamId && !log.isExclusive())
             {
                 directPublication = log;
                 break;
@@ -951,4 +1434,16 @@ public class DriverConductor implements Agent
     {
         return address.getHostString() + ':' + address.getPort();
     }
+
+    /**
+     * The oldest position a sender will still retransmit when the active term is given, i.e. the beginning of the
+     * previous term, as {@link NetworkPublication#resend(int, int, int)} only serves the active and previous terms.
+     */
+    static long computeRetainedPosition(
+        final int activeTermId, final int positionBitsToShift, final int initialTermId)
+    {
+        final int oldestTermId = (activeTermId - initialTermId) > 0 ? activeTermId - 1 : activeTermId;
+
+        return computeTermBeginPosition(oldestTermId, positionBitsToShift, initialTermId);
+    }
 }
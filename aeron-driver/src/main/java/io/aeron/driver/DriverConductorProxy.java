@@ -16,14 +16,18 @@
 package io.aeron.driver;
 
 import io.aeron.driver.media.ReceiveChannelEndpoint;
+import io.aeron.driver.cmd.CloseDirectPublicationCmd;
 import io.aeron.driver.cmd.CloseNetworkPublicationCmd;
+import io.aeron.driver.cmd.CloseSubscriberPositionCmd;
 import io.aeron.driver.cmd.CreatePublicationImageCmd;
 import io.aeron.driver.cmd.DriverConductorCmd;
 import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.ReadablePosition;
 
 import java.net.InetSocketAddress;
 import java.util.Queue;
 
+import static io.aeron.driver.ThreadingMode.INVOKER;
 import static io.aeron.driver.ThreadingMode.SHARED;
 
 /**
@@ -104,9 +108,33 @@ public class DriverConductorProxy
         }
     }
 
+    public void closeDirectPublication(final DirectPublication publication)
+    {
+        if (isShared())
+        {
+            driverConductor.onCloseDirectPublication(publication);
+        }
+        else
+        {
+            offer(new CloseDirectPublicationCmd(publication));
+        }
+    }
+
+    public void closeSubscriberPosition(final ReadablePosition subscriberPosition)
+    {
+        if (isShared())
+        {
+            driverConductor.onCloseSubscriberPosition(subscriberPosition);
+        }
+        else
+        {
+            offer(new CloseSubscriberPositionCmd(subscriberPosition));
+        }
+    }
+
     private boolean isShared()
     {
-        return threadingMode == SHARED;
+        return threadingMode == SHARED || threadingMode == INVOKER;
     }
 
     private void offer(final DriverConductorCmd cmd)
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecHeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.FrameDescriptor.frameLengthVolatile;
+import static org.agrona.BitUtil.align;
+
+/**
+ * Recovers a single missing data packet from a term using a parity packet sent by a {@link FecEncoder}.
+ */
+public final class FecDecoder
+{
+    private FecDecoder()
+    {
+    }
+
+    /**
+     * Attempt to recover the one packet missing from the subset of a group covered by a parity packet.
+     * <p>
+     * The parity in the parity packet is XORed in place with the packets of the subset already in the term so
+     * on success the parity packet buffer contains the recovered packet.
+     *
+     * @param termBuffer      containing the group.
+     * @param parityHeader    wrapping the parity packet.
+     * @param length          of the parity packet.
+     * @param recoveredBuffer to be wrapped around the recovered packet.
+     * @return the term offset of the recovered packet or -1 if nothing could be recovered.
+     */
+    public static int recover(
+        final UnsafeBuffer termBuffer,
+        final FecHeaderFlyweight parityHeader,
+        final int length,
+        final UnsafeBuffer recoveredBuffer)
+    {
+        final int packetCount = parityHeader.packetCount();
+        final int parityCount = parityHeader.parityCount();
+        final int parityIndex = parityHeader.parityIndex();
+        final int parityOffset = parityHeader.parityOffset();
+        final int parityLength = length - parityOffset;
+
+        if (parityLength <= 0 || 0 == parityCount || parityIndex >= parityCount)
+        {
+            return -1;
+        }
+
+        final int termLength = termBuffer.capacity();
+        int missingOffset = -1;
+        int missingLength = 0;
+        int termOffset = parityHeader.termOffset();
+
+        for (int i = 0; i < packetCount; i++)
+        {
+            final int packetLength = parityHeader.packetLength(i);
+            if (packetLength <= 0 || termOffset < 0 || termOffset + packetLength > termLength)
+            {
+                return -1;
+            }
+
+            if (parityIndex == (i % parityCount))
+            {
+                if (packetLength > parityLength)
+                {
+                    return -1;
+                }
+
+                if (isPresent(termBuffer, termOffset, packetLength))
+                {
+                    FecEncoder.xor(termBuffer, termOffset, parityHeader, parityOffset, packetLength);
+                }
+                else if (-1 == missingOffset)
+                {
+                    missingOffset = termOffset;
+                    missingLength = packetLength;
+                }
+                else
+                {
+                    return -1;
+                }
+            }
+
+            termOffset += packetLength;
+        }
+
+        if (-1 == missingOffset || !isValidRecovery(parityHeader, parityOffset, missingOffset, missingLength))
+        {
+            return -1;
+        }
+
+        recoveredBuffer.wrap(parityHeader, parityOffset, missingLength);
+
+        return missingOffset;
+    }
+
+    private static boolean isPresent(final UnsafeBuffer termBuffer, final int termOffset, final int length)
+    {
+        final int limit = termOffset + length;
+        int offset = termOffset;
+
+        while (offset < limit)
+        {
+            final int frameLength = frameLengthVolatile(termBuffer, offset);
+            if (frameLength <= 0)
+            {
+                return false;
+            }
+
+            offset += align(frameLength, FRAME_ALIGNMENT);
+        }
+
+        return true;
+    }
+
+    private static boolean isValidRecovery(
+        final FecHeaderFlyweight parityHeader, final int parityOffset, final int termOffset, final int length)
+    {
+        final int frameLength = parityHeader.getInt(parityOffset + DataHeaderFlyweight.FRAME_LENGTH_FIELD_OFFSET);
+        final int frameTermOffset = parityHeader.getInt(parityOffset + DataHeaderFlyweight.TERM_OFFSET_FIELD_OFFSET);
+        final int frameTermId = parityHeader.getInt(parityOffset + DataHeaderFlyweight.TERM_ID_FIELD_OFFSET);
+
+        return length >= DataHeaderFlyweight.HEADER_LENGTH &&
+            frameLength > 0 &&
+            frameTermOffset == termOffset &&
+            frameTermId == parityHeader.termId();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.protocol.FecHeaderFlyweight;
+import io.aeron.protocol.HeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Accumulates XOR parity over groups of consecutive data packets sent by a {@link NetworkPublication} and sends the
+ * parity packets when a group is complete, at the end of a term, or when the publication goes idle.
+ * <p>
+ * Packet n of a group is covered by parity packet (n % parityCount) so each parity packet can recover a single
+ * lost packet from its interleaved subset of the group.
+ */
+public class FecEncoder
+{
+    private final int groupSize;
+    private final int parityCount;
+    private final int parityOffset;
+    private final int maxParityLength;
+    private final ByteBuffer[] parityByteBuffers;
+    private final FecHeaderFlyweight[] parityHeaders;
+    private final int[] parityLengths;
+    private final int[] packetLengths;
+
+    private int packetCount = 0;
+
+    public FecEncoder(
+        final int groupSize, final int parityCount, final int sessionId, final int streamId, final int mtuLength)
+    {
+        this.groupSize = groupSize;
+        this.parityCount = parityCount;
+        this.parityOffset = FecHeaderFlyweight.headerLength(groupSize);
+        this.maxParityLength = (mtuLength - parityOffset) & ~(FRAME_ALIGNMENT - 1);
+        this.parityByteBuffers = new ByteBuffer[parityCount];
+        this.parityHeaders = new FecHeaderFlyweight[parityCount];
+        this.parityLengths = new int[parityCount];
+        this.packetLengths = new int[groupSize];
+
+        for (int i = 0; i < parityCount; i++)
+        {
+            parityByteBuffers[i] = ByteBuffer.allocateDirect(mtuLength);
+            parityHeaders[i] = new FecHeaderFlyweight(parityByteBuffers[i]);
+            parityHeaders[i]
+                .sessionId(sessionId)
+                .streamId(streamId)
+                .parityIndex(i)
+                .parityCount(parityCount)
+                .version(HeaderFlyweight.CURRENT_VERSION)
+                .flags((short)0)
+                .headerType(HeaderFlyweight.HDR_TYPE_FEC);
+        }
+    }
+
+    /**
+     * Maximum length of a data packet that can be covered so the parity packets fit within the MTU. This is used as
+     * the MTU of the publication so publishers fragment messages to fit.
+     *
+     * @return maximum length of a data packet that can be covered.
+     */
+    public int maxPacketLength()
+    {
+        return maxParityLength;
+    }
+
+    /**
+     * Number of packets accumulated in the current group.
+     *
+     * @return number of packets accumulated in the current group.
+     */
+    public int packetCount()
+    {
+        return packetCount;
+    }
+
+    /**
+     * Add a data packet that has been sent to the current group.
+     *
+     * @param termBuffer containing the packet.
+     * @param termId     of the term.
+     * @param termOffset at which the packet begins.
+     * @param length     of the packet.
+     * @return true if the group is now complete and should be flushed.
+     */
+    public boolean onPacketSent(final UnsafeBuffer termBuffer, final int termId, final int termOffset, final int length)
+    {
+        if (0 == packetCount)
+        {
+            for (int i = 0; i < parityCount; i++)
+            {
+                parityHeaders[i].setMemory(parityOffset, parityLengths[i], (byte)0);
+                parityHeaders[i].termId(termId).termOffset(termOffset);
+                parityLengths[i] = 0;
+            }
+        }
+
+        final int parityIndex = packetCount % parityCount;
+        xor(termBuffer, termOffset, parityHeaders[parityIndex], parityOffset, length);
+        parityLengths[parityIndex] = Math.max(parityLengths[parityIndex], length);
+        packetLengths[packetCount++] = length;
+
+        return packetCount == groupSize;
+    }
+
+    /**
+     * Send the parity packets for the current group if any packets have been accumulated and start a new group.
+     *
+     * @param channelEndpoint to send the parity packets on.
+     * @return the number of parity packets sent.
+     */
+    public int flush(final SendChannelEndpoint channelEndpoint)
+    {
+        int parityPacketsSent = 0;
+        final int packetCount = this.packetCount;
+
+        if (packetCount > 0)
+        {
+            for (int i = 0, count = Math.min(parityCount, packetCount); i < count; i++)
+            {
+                final FecHeaderFlyweight header = parityHeaders[i];
+                final int parityLength = parityLengths[i];
+                final int frameLength = parityOffset + parityLength;
+
+                header.packetCount(packetCount).frameLength(frameLength);
+                for (int j = 0; j < packetCount; j++)
+                {
+                    header.packetLength(j, packetLengths[j]);
+                }
+
+                if (parityOffset != header.parityOffset())
+                {
+                    header.putBytes(header.parityOffset(), header, parityOffset, parityLength);
+                    header.frameLength(header.parityOffset() + parityLength);
+                }
+
+                final ByteBuffer parityBuffer = parityByteBuffers[i];
+                parityBuffer.limit(header.frameLength()).position(0);
+
+                if (parityBuffer.remaining() == channelEndpoint.send(parityBuffer))
+                {
+                    parityPacketsSent++;
+                }
+            }
+
+            this.packetCount = 0;
+        }
+
+        return parityPacketsSent;
+    }
+
+    /**
+     * XOR a range of bytes from a source buffer into a destination buffer.
+     *
+     * @param src       to XOR from.
+     * @param srcOffset at which the range begins.
+     * @param dst       to XOR into.
+     * @param dstOffset at which the range begins.
+     * @param length    of the range.
+     */
+    public static void xor(
+        final UnsafeBuffer src, final int srcOffset, final UnsafeBuffer dst, final int dstOffset, final int length)
+    {
+        int i = 0;
+        for (final int limit = length - SIZE_OF_LONG; i <= limit; i += SIZE_OF_LONG)
+        {
+            dst.putLong(dstOffset + i, dst.getLong(dstOffset + i) ^ src.getLong(srcOffset + i));
+        }
+
+        for (; i < length; i++)
+        {
+            dst.putByte(dstOffset + i, (byte)(dst.getByte(dstOffset + i) ^ src.getByte(srcOffset + i)));
+        }
+    }
+}
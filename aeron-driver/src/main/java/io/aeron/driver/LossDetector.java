@@ -17,6 +17,7 @@ package io.aeron.driver;
 
 import org.agrona.concurrent.UnsafeBuffer;
 
+import static io.aeron.logbuffer.LogBufferDescriptor.indexByPosition;
 import static io.aeron.logbuffer.TermGapScanner.GapHandler;
 import static io.aeron.logbuffer.TermGapScanner.scanForGap;
 
@@ -31,6 +32,7 @@ public class LossDetector implements GapHandler
 
     private final FeedbackDelayGenerator delayGenerator;
     private final NakMessageSender nakMessageSender;
+    private final TermArrivalBitmap arrivalBitmap;
     private final Gap scannedGap = new Gap();
     private final Gap activeGap = new Gap();
 
@@ -44,9 +46,26 @@ public class LossDetector implements GapHandler
      * @param nakMessageSender to call when sending a NAK is indicated
      */
     public LossDetector(final FeedbackDelayGenerator delayGenerator, final NakMessageSender nakMessageSender)
+    {
+        this(delayGenerator, nakMessageSender, null);
+    }
+
+    /**
+     * Create a loss handler for a channel which finds the end of gaps from the arrivals recorded in a
+     * {@link TermArrivalBitmap} rather than scanning the term memory of the gap.
+     *
+     * @param delayGenerator   to use for delay determination
+     * @param nakMessageSender to call when sending a NAK is indicated
+     * @param arrivalBitmap    recording packet arrivals for the log or null to scan the term.
+     */
+    public LossDetector(
+        final FeedbackDelayGenerator delayGenerator,
+        final NakMessageSender nakMessageSender,
+        final TermArrivalBitmap arrivalBitmap)
     {
         this.delayGenerator = delayGenerator;
         this.nakMessageSender = nakMessageSender;
+        this.arrivalBitmap = arrivalBitmap;
     }
 
     /**
@@ -96,7 +115,16 @@ public class LossDetector implements GapHandler
             final int activeTermLimit = (rebuildTermsCount == hwmTermsCount) ? hwmTermOffset : termBuffer.capacity();
             rebuildOffset = activeTermLimit;
 
-            rebuildOffset = scanForGap(termBuffer, activeTermId, rebuildTermOffset, activeTermLimit, this);
+            if (null == arrivalBitmap)
+            {
+                rebuildOffset = scanForGap(termBuffer, activeTermId, rebuildTermOffset, activeTermLimit, this);
+            }
+            else
+            {
+                final int partitionIndex = indexByPosition(rebuildPosition, positionBitsToShift);
+                rebuildOffset = arrivalBitmap.scanForGap(
+                    termBuffer, partitionIndex, activeTermId, rebuildTermOffset, activeTermLimit, this);
+            }
             if (rebuildOffset < activeTermLimit)
             {
                 final Gap gap = scannedGap;
@@ -17,6 +17,7 @@ package io.aeron.driver;
 
 import io.aeron.CncFileDescriptor;
 import io.aeron.CommonContext;
+import io.aeron.driver.buffer.MappedFiles;
 import io.aeron.driver.buffer.RawLogFactory;
 import io.aeron.driver.cmd.DriverConductorCmd;
 import io.aeron.driver.cmd.ReceiverCmd;
@@ -25,6 +26,7 @@ import io.aeron.driver.exceptions.ActiveDriverException;
 import io.aeron.driver.exceptions.ConfigurationException;
 import io.aeron.driver.media.ControlTransportPoller;
 import io.aeron.driver.media.DataTransportPoller;
+import io.aeron.driver.status.SegmentedCountersManager;
 import io.aeron.driver.status.SystemCounterDescriptor;
 import io.aeron.driver.status.SystemCounters;
 import org.agrona.ErrorHandler;
@@ -45,16 +47,17 @@ import java.nio.MappedByteBuffer;
 import java.nio.channels.DatagramChannel;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import static io.aeron.driver.Configuration.*;
 import static io.aeron.driver.status.SystemCounterDescriptor.CONDUCTOR_PROXY_FAILS;
+import static io.aeron.driver.status.SystemCounterDescriptor.MAPPED_FILE_PRE_FAULT_TIME_NS;
 import static io.aeron.driver.status.SystemCounterDescriptor.RECEIVER_PROXY_FAILS;
 import static io.aeron.driver.status.SystemCounterDescriptor.SENDER_PROXY_FAILS;
 import static java.lang.Boolean.getBoolean;
 import static io.aeron.CncFileDescriptor.*;
-import static org.agrona.IoUtil.mapNewFile;
 
 /**
  * Main class for JVM-based media driver
@@ -75,6 +78,7 @@ public final class MediaDriver implements AutoCloseable
     public static final String DIRS_DELETE_ON_START_PROP_NAME = "aeron.dir.delete.on.start";
 
     private final List<AgentRunner> runners;
+    private final InvokerAgent sharedAgent;
     private final Context ctx;
 
     /**
@@ -164,6 +168,7 @@ public final class MediaDriver implements AutoCloseable
             .toConductorFromReceiverCommandQueue(new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY))
             .toConductorFromSenderCommandQueue(new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY))
             .receiverCommandQueue(new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY))
+            .imageFeedbackQueue(new OneToOneConcurrentArrayQueue<>(IMAGE_FEEDBACK_QUEUE_CAPACITY))
             .senderCommandQueue(new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY))
             .conclude();
 
@@ -180,8 +185,15 @@ public final class MediaDriver implements AutoCloseable
         final AtomicCounter errorCounter = context.systemCounters().get(SystemCounterDescriptor.ERRORS);
         final ErrorHandler errorHandler = context.errorHandler();
 
+        InvokerAgent sharedAgent = null;
+
         switch (context.threadingMode)
         {
+            case INVOKER:
+                runners = Collections.emptyList();
+                sharedAgent = new InvokerAgent(new CompositeAgent(sender, receiver, conductor), errorHandler, errorCounter);
+                break;
+
             case SHARED:
                 runners = Collections.singletonList(
                     new AgentRunner(
@@ -211,6 +223,8 @@ public final class MediaDriver implements AutoCloseable
                     new AgentRunner(context.conductorIdleStrategy, errorHandler, errorCounter, conductor)
                 );
         }
+
+        this.sharedAgent = sharedAgent;
     }
 
     /**
@@ -273,6 +287,11 @@ public final class MediaDriver implements AutoCloseable
         try
         {
             runners.forEach(AgentRunner::close);
+            if (null != sharedAgent)
+            {
+                sharedAgent.onClose();
+            }
+
             ctx.close();
         }
         catch (final Exception ex)
@@ -292,6 +311,24 @@ public final class MediaDriver implements AutoCloseable
         return ctx.aeronDirectoryName();
     }
 
+    /**
+     * The agent which runs the sender, receiver and conductor when the driver is launched with
+     * {@link ThreadingMode#INVOKER}, for the application to call {@link Agent#doWork()} on from its own duty cycle.
+     * <p>
+     * Errors are handled by the {@link Context#errorHandler()} and counted, as they are for agents run on threads.
+     * The agent may be invoked from more than one thread but runs on only one at a time, and an invocation while it
+     * is running on another thread returns 0 without doing any work. Clients in the same process should be given the
+     * agent with {@code Aeron.Context#driverAgent(Agent)} so they invoke it while waiting for responses, otherwise
+     * registrations made from the thread which invokes the driver would never complete. Clients time out the driver
+     * if it is not invoked within their driver timeout.
+     *
+     * @return the agent to invoke or null if the driver was not launched with {@link ThreadingMode#INVOKER}.
+     */
+    public Agent sharedAgent()
+    {
+        return sharedAgent;
+    }
+
     private MediaDriver start()
     {
         runners.forEach(
@@ -337,6 +374,7 @@ public final class MediaDriver implements AutoCloseable
 
             final int soSndBuf =
                 0 == SOCKET_SNDBUF_LENGTH ? defaultSoSndBuf : SOCKET_SNDBUF_LENGTH;
+            ctx.socketSndbufLength(soSndBuf);
 
             if (ctx.mtuLength() > soSndBuf)
             {
@@ -439,6 +477,7 @@ public final class MediaDriver implements AutoCloseable
         private OneToOneConcurrentArrayQueue<DriverConductorCmd> toConductorFromReceiverCommandQueue;
         private OneToOneConcurrentArrayQueue<DriverConductorCmd> toConductorFromSenderCommandQueue;
         private OneToOneConcurrentArrayQueue<ReceiverCmd> receiverCommandQueue;
+        private OneToOneConcurrentArrayQueue<PublicationImage> imageFeedbackQueue;
         private OneToOneConcurrentArrayQueue<SenderCmd> senderCommandQueue;
         private ReceiverProxy receiverProxy;
         private SenderProxy senderProxy;
@@ -458,11 +497,22 @@ public final class MediaDriver implements AutoCloseable
         private UnsafeBuffer cncMetaDataBuffer;
 
         private CountersManager countersManager;
+        private SegmentedCountersManager segmentedCountersManager;
+        private int countersSegmentMaxCount = Configuration.COUNTERS_SEGMENT_MAX_COUNT;
         private SystemCounters systemCounters;
 
         private long imageLivenessTimeoutNs = Configuration.IMAGE_LIVENESS_TIMEOUT_NS;
         private long clientLivenessTimeoutNs = Configuration.CLIENT_LIVENESS_TIMEOUT_NS;
         private long publicationUnblockTimeoutNs = Configuration.PUBLICATION_UNBLOCK_TIMEOUT_NS;
+        private boolean senderReadySetScheduling = Configuration.SENDER_READY_SET_SCHEDULING;
+        private boolean receiverRebuildTracking = Configuration.RECEIVER_REBUILD_TRACKING;
+        private boolean incrementalLossTracking = Configuration.INCREMENTAL_LOSS_TRACKING;
+        private boolean senderPublisherLimitUpdates = Configuration.SENDER_PUBLISHER_LIMIT_UPDATES;
+        private long udpChannelCacheTimeoutNs = Configuration.UDP_CHANNEL_CACHE_TIMEOUT_NS;
+        private boolean receiverWindowAutotune = Configuration.RECEIVER_WINDOW_AUTOTUNE;
+        private long socketDropMonitorIntervalNs = Configuration.SOCKET_DROP_MONITOR_INTERVAL_NS;
+        private int filePageLength = Configuration.FILE_PAGE_LENGTH;
+        private int socketSndbufLength = Configuration.SOCKET_SNDBUF_LENGTH;
 
         private Boolean termBufferSparseFile;
         private int publicationTermBufferLength;
@@ -502,12 +552,17 @@ public final class MediaDriver implements AutoCloseable
 
                 Configuration.validateTermBufferLength(publicationTermBufferLength());
                 Configuration.validateInitialWindowLength(initialWindowLength(), mtuLength());
+                Configuration.validateFilePageLength(filePageLength);
 
-                cncByteBuffer = mapNewFile(
+                cncByteBuffer = MappedFiles.mapNewFile(
                     cncFile(),
                     CncFileDescriptor.computeCncFileLength(
                         CONDUCTOR_BUFFER_LENGTH + TO_CLIENTS_BUFFER_LENGTH +
-                            COUNTERS_METADATA_BUFFER_LENGTH + COUNTERS_VALUES_BUFFER_LENGTH + ERROR_BUFFER_LENGTH));
+                            COUNTERS_METADATA_BUFFER_LENGTH + COUNTERS_VALUES_BUFFER_LENGTH + ERROR_BUFFER_LENGTH),
+                    filePageLength);
+
+                final long cncPreFaultTimeNs = preTouchMappedMemory() ?
+                    MappedFiles.preFault(cncByteBuffer, cncByteBuffer.capacity(), filePageLength) : 0;
 
                 cncMetaDataBuffer = CncFileDescriptor.createMetaDataBuffer(cncByteBuffer);
                 CncFileDescriptor.fillMetaData(
@@ -544,6 +599,7 @@ public final class MediaDriver implements AutoCloseable
                 }
 
                 concludeCounters();
+                systemCounters.get(MAPPED_FILE_PRE_FAULT_TIME_NS).add(cncPreFaultTimeNs);
 
                 receiverProxy(new ReceiverProxy(
                     threadingMode, receiverCommandQueue(), systemCounters.get(RECEIVER_PROXY_FAILS)));
@@ -559,7 +615,9 @@ public final class MediaDriver implements AutoCloseable
                     maxImageTermBufferLength,
                     ipcPublicationTermBufferLength,
                     termBufferSparseFile,
-                    errorLog));
+                    filePageLength,
+                    errorLog,
+                    systemCounters.get(MAPPED_FILE_PRE_FAULT_TIME_NS)));
 
                 concludeIdleStrategies();
             }
@@ -696,6 +754,19 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Queue on which {@link PublicationImage}s signal the {@link Receiver}, from the thread tracking their rebuild,
+         * that they have a pending Status Message or NAK.
+         *
+         * @param imageFeedbackQueue on which images signal pending feedback to the receiver.
+         * @return this Context for method chaining.
+         */
+        public Context imageFeedbackQueue(final OneToOneConcurrentArrayQueue<PublicationImage> imageFeedbackQueue)
+        {
+            this.imageFeedbackQueue = imageFeedbackQueue;
+            return this;
+        }
+
         public Context senderCommandQueue(final OneToOneConcurrentArrayQueue<SenderCmd> senderCommandQueue)
         {
             this.senderCommandQueue = senderCommandQueue;
@@ -774,6 +845,18 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        public Context segmentedCountersManager(final SegmentedCountersManager segmentedCountersManager)
+        {
+            this.segmentedCountersManager = segmentedCountersManager;
+            return this;
+        }
+
+        public Context countersSegmentMaxCount(final int countersSegmentMaxCount)
+        {
+            this.countersSegmentMaxCount = countersSegmentMaxCount;
+            return this;
+        }
+
         public Context termBufferSparseFile(final Boolean termBufferSparseFile)
         {
             this.termBufferSparseFile = termBufferSparseFile;
@@ -864,6 +947,131 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Set whether the {@link Sender} only visits publications which are ready to send on each duty cycle.
+         *
+         * @param senderReadySetScheduling true to only visit publications which are ready to send.
+         * @return this Object for method chaining.
+         * @see Configuration#SENDER_READY_SET_SCHEDULING_PROP_NAME
+         */
+        public Context senderReadySetScheduling(final boolean senderReadySetScheduling)
+        {
+            this.senderReadySetScheduling = senderReadySetScheduling;
+            return this;
+        }
+
+        /**
+         * Set whether rebuild tracking, loss detection, and Status Message position calculation for
+         * {@link PublicationImage}s are done on the {@link Receiver} rather than the {@link DriverConductor}.
+         *
+         * @param receiverRebuildTracking true to track image rebuild on the receiver.
+         * @return this Object for method chaining.
+         * @see Configuration#RECEIVER_REBUILD_TRACKING_PROP_NAME
+         */
+        public Context receiverRebuildTracking(final boolean receiverRebuildTracking)
+        {
+            this.receiverRebuildTracking = receiverRebuildTracking;
+            return this;
+        }
+
+        /**
+         * Set whether the end of a gap in a {@link PublicationImage} is found from a bitmap of packet arrivals rather
+         * than by scanning the term.
+         *
+         * @param incrementalLossTracking true to track packet arrivals for finding gaps.
+         * @return this Object for method chaining.
+         * @see Configuration#INCREMENTAL_LOSS_TRACKING_PROP_NAME
+         */
+        public Context incrementalLossTracking(final boolean incrementalLossTracking)
+        {
+            this.incrementalLossTracking = incrementalLossTracking;
+            return this;
+        }
+
+        /**
+         * Set whether publisher limits are updated by the {@link Sender} as network publications send and receive
+         * Status Messages, and as IPC subscribers consume, rather than by the {@link DriverConductor}.
+         *
+         * @param senderPublisherLimitUpdates true to update publisher limits on the {@link Sender} thread.
+         * @return this Object for method chaining.
+         * @see Configuration#SENDER_PUBLISHER_LIMIT_UPDATES_PROP_NAME
+         */
+        public Context senderPublisherLimitUpdates(final boolean senderPublisherLimitUpdates)
+        {
+            this.senderPublisherLimitUpdates = senderPublisherLimitUpdates;
+            return this;
+        }
+
+        /**
+         * Set how long channels parsed from URIs, and the network interfaces found for them, are cached by the
+         * {@link DriverConductor}.
+         *
+         * @param udpChannelCacheTimeoutNs how long resolved channels are cached, or zero to disable the cache.
+         * @return this Object for method chaining.
+         * @see Configuration#UDP_CHANNEL_CACHE_TIMEOUT_PROP_NAME
+         */
+        public Context udpChannelCacheTimeoutNs(final long udpChannelCacheTimeoutNs)
+        {
+            this.udpChannelCacheTimeoutNs = udpChannelCacheTimeoutNs;
+            return this;
+        }
+
+        /**
+         * Set if the window advertised by each image is tuned to the bandwidth-delay product of the stream rather than
+         * fixed at the initial window length.
+         *
+         * @param receiverWindowAutotune true to tune the receiver window of each image.
+         * @return this Object for method chaining.
+         * @see Configuration#RECEIVER_WINDOW_AUTOTUNE_PROP_NAME
+         */
+        public Context receiverWindowAutotune(final boolean receiverWindowAutotune)
+        {
+            this.receiverWindowAutotune = receiverWindowAutotune;
+            return this;
+        }
+
+        /**
+         * Set the interval at which datagrams dropped by the kernel for the sockets of receive channel endpoints are
+         * read into counters.
+         *
+         * @param socketDropMonitorIntervalNs between reads of the dropped datagrams, or zero to disable the monitor.
+         * @return this Object for method chaining.
+         * @see Configuration#SOCKET_DROP_MONITOR_INTERVAL_PROP_NAME
+         */
+        public Context socketDropMonitorIntervalNs(final long socketDropMonitorIntervalNs)
+        {
+            this.socketDropMonitorIntervalNs = socketDropMonitorIntervalNs;
+            return this;
+        }
+
+        /**
+         * Set the page length of the file system holding the Aeron directory, such as the huge page length of a
+         * hugetlbfs mount, to which the lengths of mapped files are aligned.
+         *
+         * @param filePageLength of the file system which is a power of 2.
+         * @return this Object for method chaining.
+         * @see Configuration#FILE_PAGE_LENGTH_PROP_NAME
+         */
+        public Context filePageLength(final int filePageLength)
+        {
+            this.filePageLength = filePageLength;
+            return this;
+        }
+
+        /**
+         * Length of the SO_SNDBUF of send sockets for channels which do not set their own, which is the OS default
+         * when not configured. Per channel MTUs are validated against it.
+         *
+         * @param socketSndbufLength of send sockets or 0 if not known.
+         * @return this Object for method chaining.
+         * @see Configuration#SOCKET_SNDBUF_LENGTH_PROP_NAME
+         */
+        public Context socketSndbufLength(final int socketSndbufLength)
+        {
+            this.socketSndbufLength = socketSndbufLength;
+            return this;
+        }
+
         /**
          * @see CommonContext#aeronDirectoryName(String)
          */
@@ -873,6 +1081,15 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * @see CommonContext#preTouchMappedMemory(boolean)
+         */
+        public Context preTouchMappedMemory(final boolean preTouchMappedMemory)
+        {
+            super.preTouchMappedMemory(preTouchMappedMemory);
+            return this;
+        }
+
         public Context sendChannelEndpointSupplier(final SendChannelEndpointSupplier supplier)
         {
             this.sendChannelEndpointSupplier = supplier;
@@ -935,6 +1152,11 @@ public final class MediaDriver implements AutoCloseable
             return receiverCommandQueue;
         }
 
+        public OneToOneConcurrentArrayQueue<PublicationImage> imageFeedbackQueue()
+        {
+            return imageFeedbackQueue;
+        }
+
         public OneToOneConcurrentArrayQueue<SenderCmd> senderCommandQueue()
         {
             return senderCommandQueue;
@@ -1000,6 +1222,16 @@ public final class MediaDriver implements AutoCloseable
             return countersManager;
         }
 
+        public SegmentedCountersManager segmentedCountersManager()
+        {
+            return segmentedCountersManager;
+        }
+
+        public int countersSegmentMaxCount()
+        {
+            return countersSegmentMaxCount;
+        }
+
         public long imageLivenessTimeoutNs()
         {
             return imageLivenessTimeoutNs;
@@ -1081,6 +1313,56 @@ public final class MediaDriver implements AutoCloseable
             return dirsDeleteOnStart;
         }
 
+        /**
+         * Get whether the {@link Sender} only visits publications which are ready to send on each duty cycle.
+         *
+         * @return true if the {@link Sender} only visits publications which are ready to send.
+         */
+        public boolean senderReadySetScheduling()
+        {
+            return senderReadySetScheduling;
+        }
+
+        public boolean receiverRebuildTracking()
+        {
+            return receiverRebuildTracking;
+        }
+
+        public boolean incrementalLossTracking()
+        {
+            return incrementalLossTracking;
+        }
+
+        public boolean senderPublisherLimitUpdates()
+        {
+            return senderPublisherLimitUpdates;
+        }
+
+        public long udpChannelCacheTimeoutNs()
+        {
+            return udpChannelCacheTimeoutNs;
+        }
+
+        public boolean receiverWindowAutotune()
+        {
+            return receiverWindowAutotune;
+        }
+
+        public long socketDropMonitorIntervalNs()
+        {
+            return socketDropMonitorIntervalNs;
+        }
+
+        public int filePageLength()
+        {
+            return filePageLength;
+        }
+
+        public int socketSndbufLength()
+        {
+            return socketSndbufLength;
+        }
+
         public SendChannelEndpointSupplier sendChannelEndpointSupplier()
         {
             return sendChannelEndpointSupplier;
@@ -1094,6 +1376,11 @@ public final class MediaDriver implements AutoCloseable
         public void close()
         {
             // do not close the systemsCounters so that all counters are kept as is.
+            if (null != segmentedCountersManager)
+            {
+                segmentedCountersManager.close();
+            }
+
             IoUtil.unmap(cncByteBuffer);
 
             super.close();
@@ -1120,6 +1407,16 @@ public final class MediaDriver implements AutoCloseable
             {
                 systemCounters = new SystemCounters(countersManager);
             }
+
+            if (null == segmentedCountersManager)
+            {
+                segmentedCountersManager = new SegmentedCountersManager(
+                    countersManager,
+                    new File(aeronDirectoryName()),
+                    cncMetaDataBuffer,
+                    countersSegmentMaxCount,
+                    filePageLength);
+            }
         }
 
         private void concludeIdleStrategies()
@@ -1150,4 +1447,67 @@ public final class MediaDriver implements AutoCloseable
             }
         }
     }
+
+    /**
+     * Runs an agent on whichever thread invokes it, one thread at a time, handling errors as {@link AgentRunner} does.
+     */
+    static class InvokerAgent implements Agent
+    {
+        private final Agent agent;
+        private final ErrorHandler errorHandler;
+        private final AtomicCounter errorCounter;
+        private final AtomicBoolean isInvoking = new AtomicBoolean(false);
+        private volatile boolean isClosed = false;
+
+        InvokerAgent(final Agent agent, final ErrorHandler errorHandler, final AtomicCounter errorCounter)
+        {
+            this.agent = agent;
+            this.errorHandler = errorHandler;
+            this.errorCounter = errorCounter;
+        }
+
+        public int doWork()
+        {
+            int workCount = 0;
+
+            if (!isClosed && isInvoking.compareAndSet(false, true))
+            {
+                try
+                {
+                    if (!isClosed)
+                    {
+                        workCount = agent.doWork();
+                    }
+                }
+                catch (final Throwable throwable)
+                {
+                    errorCounter.increment();
+                    errorHandler.onError(throwable);
+                }
+                finally
+                {
+                    isInvoking.set(false);
+                }
+            }
+
+            return workCount;
+        }
+
+        public void onClose()
+        {
+            isClosed = true;
+
+            while (!isInvoking.compareAndSet(false, true))
+            {
+                Thread.yield();
+            }
+
+            agent.onClose();
+        }
+
+        public String roleName()
+        {
+            return agent.roleName();
+        }
+    }
 }
@@ -16,11 +16,15 @@
 package io.aeron.driver;
 
 import io.aeron.driver.buffer.RawLog;
+import io.aeron.driver.media.LzCodec;
 import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.driver.media.UdpChannel;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.LogBufferPartition;
 import io.aeron.logbuffer.LogBufferUnblocker;
+import io.aeron.logbuffer.LogWakeup;
+import io.aeron.protocol.CompressedDataHeaderFlyweight;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.protocol.HeaderFlyweight;
 import io.aeron.protocol.SetupFlyweight;
@@ -63,6 +67,9 @@ class NetworkPublicationReceiverFields extends NetworkPublicationPadding2
     long timeOfLastSetup;
     boolean trackSenderLimits = true;
     boolean shouldSendSetupFrame = true;
+    int compressionBatchLength;
+    long cachedSenderPosition;
+    boolean hasActiveRetransmits = false;
 }
 
 class NetworkPublicationPadding3 extends NetworkPublicationReceiverFields
@@ -88,10 +95,12 @@ public class NetworkPublication
     private boolean reachedEndOfLife = false;
 
     private final LogBufferPartition[] logPartitions;
+    private final UnsafeBuffer[] termMetaDataBuffers;
     private final ByteBuffer[] sendBuffers;
     private final Position publisherLimit;
     private final Position senderPosition;
     private final SendChannelEndpoint channelEndpoint;
+    private final UdpChannel udpChannel;
     private final ByteBuffer heartbeatFrameBuffer = ByteBuffer.allocateDirect(DataHeaderFlyweight.HEADER_LENGTH);
     private final DataHeaderFlyweight dataHeader = new DataHeaderFlyweight(heartbeatFrameBuffer);
     private final ByteBuffer setupFrameBuffer = ByteBuffer.allocateDirect(SetupFlyweight.HEADER_LENGTH);
@@ -105,9 +114,23 @@ public class NetworkPublication
     private final AtomicCounter senderFlowControlLimits;
     private final AtomicCounter dataPacketShortSends;
     private final AtomicCounter setupMessageShortSends;
+    private final AtomicCounter compressionBytesIn;
+    private final AtomicCounter compressionBytesOut;
+    private final AtomicCounter compressionTimeNs;
+    private final AtomicCounter fecParityPacketsSent;
+    private final NanoClock nanoClock;
+    private final LzCodec compressionCodec;
+    private final ByteBuffer compressedFrameBuffer;
+    private final CompressedDataHeaderFlyweight compressedDataHeader;
+    private final FecEncoder fecEncoder;
+    private final TokenBucketPacer pacer;
+    private final PublicationPriority priority;
+    private final boolean isPublisherLimitUpdatedBySender;
+    private final boolean isExclusive;
 
     public NetworkPublication(
         final SendChannelEndpoint channelEndpoint,
+        final UdpChannel udpChannel,
         final NanoClock nanoClock,
         final EpochClock epochClock,
         final RawLog rawLog,
@@ -119,9 +142,16 @@ public class NetworkPublication
         final int mtuLength,
         final SystemCounters systemCounters,
         final FlowControl flowControl,
-        final RetransmitHandler retransmitHandler)
+        final RetransmitHandler retransmitHandler,
+        final boolean isCompressed,
+        final FecEncoder fecEncoder,
+        final TokenBucketPacer pacer,
+        final PublicationPriority priority,
+        final boolean isPublisherLimitUpdatedBySender,
+        final boolean isExclusive)
     {
         this.channelEndpoint = channelEndpoint;
+        this.udpChannel = udpChannel;
         this.rawLog = rawLog;
         this.epochClock = epochClock;
         this.senderPosition = senderPosition;
@@ -130,14 +160,28 @@ public class NetworkPublication
         this.publisherLimit = publisherLimit;
         this.mtuLength = mtuLength;
         this.initialTermId = initialTermId;
+        this.fecEncoder = fecEncoder;
+        this.pacer = pacer;
+        this.priority = priority;
+        this.isPublisherLimitUpdatedBySender = isPublisherLimitUpdatedBySender;
+        this.isExclusive = isExclusive;
 
         heartbeatsSent = systemCounters.get(HEARTBEATS_SENT);
         dataPacketShortSends = systemCounters.get(DATA_PACKET_SHORT_SENDS);
         retransmitsSent = systemCounters.get(RETRANSMITS_SENT);
         senderFlowControlLimits = systemCounters.get(SENDER_FLOW_CONTROL_LIMITS);
         setupMessageShortSends = systemCounters.get(SETUP_MESSAGE_SHORT_SENDS);
+        compressionBytesIn = systemCounters.get(COMPRESSION_BYTES_IN);
+        compressionBytesOut = systemCounters.get(COMPRESSION_BYTES_OUT);
+        compressionTimeNs = systemCounters.get(COMPRESSION_TIME_NS);
+        fecParityPacketsSent = systemCounters.get(FEC_PARITY_PACKETS_SENT);
 
         logPartitions = rawLog.partitions();
+        termMetaDataBuffers = new UnsafeBuffer[logPartitions.length];
+        for (int i = 0; i < logPartitions.length; i++)
+        {
+            termMetaDataBuffers[i] = logPartitions[i].metaDataBuffer();
+        }
         sendBuffers = rawLog.sliceTerms();
 
         final int termLength = rawLog.termLength();
@@ -150,6 +194,23 @@ public class NetworkPublication
         positionBitsToShift = Integer.numberOfTrailingZeros(termLength);
         termWindowLength = Configuration.publicationTermWindowLength(termLength);
 
+        this.nanoClock = nanoClock;
+        cachedSenderPosition = senderPosition.get();
+
+        if (isCompressed)
+        {
+            compressionCodec = new LzCodec();
+            compressedFrameBuffer = ByteBuffer.allocateDirect(mtuLength);
+            compressedDataHeader = new CompressedDataHeaderFlyweight(compressedFrameBuffer);
+            compressionBatchLength = maxCompressionBatchLength();
+        }
+        else
+        {
+            compressionCodec = null;
+            compressedFrameBuffer = null;
+            compressedDataHeader = null;
+        }
+
         initSetupFrame(initialTermId, termLength, sessionId, streamId);
         initHeartBeatFrame(sessionId, streamId);
     }
@@ -172,24 +233,92 @@ public class NetworkPublication
             setupMessageCheck(now, activeTermId, termOffset);
         }
 
-        final int bytesSent = sendData(now, senderPosition, termOffset);
+        final int bytesSent = sendData(now, senderPosition, activeTermId, termOffset);
 
         if (0 == bytesSent)
         {
+            if (null != fecEncoder && fecEncoder.packetCount() > 0)
+            {
+                flushParity();
+            }
+
             heartbeatMessageCheck(now, activeTermId, termOffset);
             senderPositionLimit = flowControl.onIdle(now);
         }
 
         retransmitHandler.processTimeouts(now, this);
+        hasActiveRetransmits = retransmitHandler.hasActiveRetransmits();
 
         return bytesSent;
     }
 
+    /**
+     * The priority class with which the {@link Sender} schedules the publication.
+     *
+     * @return the priority class with which the publication is scheduled.
+     */
+    public PublicationPriority priority()
+    {
+        return priority;
+    }
+
+    /**
+     * Is there work for the {@link Sender} to do on this publication, i.e. new data in the log which can be sent,
+     * a due setup or heartbeat timer, active retransmits, or parity to be flushed.
+     * <p>
+     * The check only touches state local to the publication plus the tail of the term the sender is in, which is
+     * cheaper than scanning the term and running the timer checks in {@link #send(long)}.
+     *
+     * @param now current time in nanoseconds.
+     * @return true if {@link #send(long)} should be called on this duty cycle.
+     */
+    public boolean isReadyToSend(final long now)
+    {
+        if (now > (timeOfLastSendOrHeartbeat + Configuration.PUBLICATION_HEARTBEAT_TIMEOUT_NS) ||
+            (shouldSendSetupFrame && now > (timeOfLastSetup + Configuration.PUBLICATION_SETUP_TIMEOUT_NS)) ||
+            hasActiveRetransmits ||
+            (null != fecEncoder && fecEncoder.packetCount() > 0))
+        {
+            return true;
+        }
+
+        final long senderPosition = cachedSenderPosition;
+        final int activeTermId = computeTermIdFromPosition(senderPosition, positionBitsToShift, initialTermId);
+        final long rawTail = termMetaDataBuffers[indexByPosition(senderPosition, positionBitsToShift)]
+            .getLongVolatile(TERM_TAIL_COUNTER_OFFSET);
+
+        return termId(rawTail) == activeTermId &&
+            termOffset(rawTail, termLengthMask + 1) > ((int)senderPosition & termLengthMask) &&
+            (senderPositionLimit > senderPosition || trackSenderLimits);
+    }
+
+    /**
+     * Is this publication exclusive to the publisher which added it rather than shared by all publishers of the stream
+     * on the channel.
+     *
+     * @return true if this publication is exclusive to the publisher which added it.
+     */
+    public boolean isExclusive()
+    {
+        return isExclusive;
+    }
+
     public SendChannelEndpoint sendChannelEndpoint()
     {
         return channelEndpoint;
     }
 
+    /**
+     * The channel as requested by the publisher which caused this publication to be created. This can differ from
+     * the channel of the {@link #sendChannelEndpoint()} which may have been created by another publication.
+     *
+     * @return the channel as requested by the publisher which caused this publication to be created.
+     */
+    public UdpChannel udpChannel()
+    {
+        return udpChannel;
+    }
+
     public int sessionId()
     {
         return dataHeader.sessionId();
@@ -288,7 +417,19 @@ public class NetworkPublication
     }
 
     /**
-     * Update the publishers limit for flow control as part of the conductor duty cycle.
+     * Is the publisher limit updated on the {@link Sender} thread as the sender position moves and Status Messages
+     * arrive rather than on the conductor duty cycle.
+     *
+     * @return true if the publisher limit is updated on the {@link Sender} thread.
+     */
+    boolean isPublisherLimitUpdatedBySender()
+    {
+        return isPublisherLimitUpdatedBySender;
+    }
+
+    /**
+     * Update the publishers limit for flow control as part of the conductor duty cycle, or on the {@link Sender}
+     * thread when {@link #isPublisherLimitUpdatedBySender()}. Only one thread may update the limit.
      *
      * @return 1 if the limit has been updated otherwise 0.
      */
@@ -301,6 +442,7 @@ public class NetworkPublication
 
         if (publisherLimit.proposeMaxOrdered(candidatePublisherLimit))
         {
+            LogWakeup.signal(rawLog.logMetaData());
             workCount = 1;
         }
 
@@ -310,6 +452,7 @@ public class NetworkPublication
     public void onNak(final int termId, final int termOffset, final int length)
     {
         retransmitHandler.onNak(termId, termOffset, length, this);
+        hasActiveRetransmits = retransmitHandler.hasActiveRetransmits();
     }
 
     public void onStatusMessage(
@@ -318,33 +461,80 @@ public class NetworkPublication
         final long position = flowControl.onStatusMessage(termId, termOffset, receiverWindowLength, srcAddress);
         senderPositionLimit(position);
 
+        if (isPublisherLimitUpdatedBySender)
+        {
+            updatePublishersLimit();
+        }
+
         final long now = epochClock.time();
         LogBufferDescriptor.timeOfLastStatusMessage(rawLog.logMetaData(), now);
     }
 
-    private int sendData(final long now, final long senderPosition, final int termOffset)
+    private int sendData(final long now, final long senderPosition, final int activeTermId, final int termOffset)
     {
         int bytesSent = 0;
         final int availableWindow = (int)(senderPositionLimit - senderPosition);
         if (availableWindow > 0)
         {
-            final int scanLimit = Math.min(availableWindow, mtuLength);
             final int activeIndex = indexByPosition(senderPosition, positionBitsToShift);
+            final UnsafeBuffer termBuffer = logPartitions[activeIndex].termBuffer();
 
-            final long scanOutcome = scanForAvailability(logPartitions[activeIndex].termBuffer(), termOffset, scanLimit);
-            final int available = available(scanOutcome);
-            if (available > 0)
+            long scanOutcome = scanForAvailability(
+                termBuffer, termOffset, Math.min(availableWindow, null == compressionCodec ? mtuLength : compressionBatchLength));
+            int available = available(scanOutcome);
+            if (available > 0 && (null == pacer || pacer.tryAcquire(now)))
             {
-                final ByteBuffer sendBuffer = sendBuffers[activeIndex];
-                sendBuffer.limit(termOffset + available).position(termOffset);
+                final int compressedLength =
+                    null == compressionCodec ? 0 : compressFrames(termBuffer, activeTermId, termOffset, available);
 
-                if (available == channelEndpoint.send(sendBuffer))
+                final ByteBuffer sendBuffer;
+                final int frameLength;
+                if (compressedLength > 0)
+                {
+                    sendBuffer = compressedFrameBuffer;
+                    sendBuffer.limit(compressedLength).position(0);
+                    frameLength = compressedLength;
+                }
+                else
+                {
+                    if (available > mtuLength)
+                    {
+                        scanOutcome = scanForAvailability(termBuffer, termOffset, Math.min(availableWindow, mtuLength));
+                        available = available(scanOutcome);
+                    }
+
+                    sendBuffer = sendBuffers[activeIndex];
+                    sendBuffer.limit(termOffset + available).position(termOffset);
+                    frameLength = available;
+                }
+
+                if (frameLength == channelEndpoint.send(sendBuffer))
                 {
                     timeOfLastSendOrHeartbeat = now;
                     trackSenderLimits = true;
 
                     bytesSent = available;
-                    this.senderPosition.setOrdered(senderPosition + bytesSent + padding(scanOutcome));
+                    if (null != pacer)
+                    {
+                        pacer.onBytesSent(frameLength);
+                    }
+
+                    final int padding = padding(scanOutcome);
+                    cachedSenderPosition = senderPosition + bytesSent + padding;
+                    this.senderPosition.setOrdered(cachedSenderPosition);
+
+                    if (isPublisherLimitUpdatedBySender &&
+                        publisherLimit.proposeMaxOrdered(cachedSenderPosition + termWindowLength))
+                    {
+                        LogWakeup.signal(rawLog.logMetaData());
+                    }
+
+                    if (null != fecEncoder &&
+                        (fecEncoder.onPacketSent(termBuffer, activeTermId, termOffset, available) ||
+                            0 == ((int)cachedSenderPosition & termLengthMask)))
+                    {
+                        flushParity();
+                    }
                 }
                 else
                 {
@@ -361,6 +551,59 @@ public class NetworkPublication
         return bytesSent;
     }
 
+    private void flushParity()
+    {
+        final int parityPacketsSent = fecEncoder.flush(channelEndpoint);
+        if (parityPacketsSent > 0)
+        {
+            fecParityPacketsSent.addOrdered(parityPacketsSent);
+        }
+    }
+
+    private int compressFrames(final UnsafeBuffer termBuffer, final int termId, final int termOffset, final int length)
+    {
+        final long startNs = nanoClock.nanoTime();
+        final CompressedDataHeaderFlyweight header = compressedDataHeader;
+        final int headerLength = CompressedDataHeaderFlyweight.HEADER_LENGTH;
+        final int maxBatchLength = maxCompressionBatchLength();
+
+        final int compressedLength = compressionCodec.compress(
+            termBuffer, termOffset, length, header, headerLength, mtuLength - headerLength);
+
+        int frameLength = 0;
+        if (compressedLength > 0 && compressedLength < length)
+        {
+            frameLength = headerLength + compressedLength;
+            header
+                .uncompressedLength(length)
+                .termOffset(termOffset)
+                .termId(termId)
+                .frameLength(frameLength);
+
+            compressionBytesIn.addOrdered(length);
+            compressionBytesOut.addOrdered(frameLength);
+
+            if (frameLength < (mtuLength >> 1) && length == compressionBatchLength)
+            {
+                compressionBatchLength = Math.min(compressionBatchLength << 1, maxBatchLength);
+            }
+        }
+        else
+        {
+            compressionBatchLength = Math.max(compressionBatchLength >> 1, mtuLength);
+        }
+
+        compressionTimeNs.addOrdered(nanoClock.nanoTime() - startNs);
+
+        return frameLength;
+    }
+
+    private int maxCompressionBatchLength()
+    {
+        return Math.max(
+            mtuLength, Math.min(Configuration.COMPRESSION_BATCH_LENGTH, Configuration.COMPRESSION_BATCH_MAX_LENGTH));
+    }
+
     private void setupMessageCheck(final long now, final int activeTermId, final int termOffset)
     {
         if (now > (timeOfLastSetup + Configuration.PUBLICATION_SETUP_TIMEOUT_NS))
@@ -428,6 +671,16 @@ public class NetworkPublication
             .flags((byte)DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
             .headerType(HeaderFlyweight.HDR_TYPE_DATA)
             .frameLength(0);
+
+        if (null != compressedDataHeader)
+        {
+            compressedDataHeader
+                .sessionId(sessionId)
+                .streamId(streamId)
+                .version(HeaderFlyweight.CURRENT_VERSION)
+                .flags((byte)DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+                .headerType(HeaderFlyweight.HDR_TYPE_CDATA);
+        }
     }
 
     private boolean isUnreferencedAndFlushed(final long now)
@@ -19,11 +19,15 @@ import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.status.SystemCounterDescriptor;
 import io.aeron.driver.status.SystemCounters;
+import io.aeron.logbuffer.LogWakeup;
 import io.aeron.logbuffer.TermRebuilder;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecHeaderFlyweight;
 import org.agrona.UnsafeAccess;
+import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.Position;
 import org.agrona.concurrent.status.ReadablePosition;
@@ -32,6 +36,7 @@ import java.net.InetSocketAddress;
 import java.util.List;
 
 import static io.aeron.driver.PublicationImage.Status.ACTIVE;
+import static io.aeron.logbuffer.FrameDescriptor.frameLengthVolatile;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 
 class PublicationImagePadding1
@@ -43,7 +48,7 @@ class PublicationImagePadding1
 class PublicationImageConductorFields extends PublicationImagePadding1
 {
     long timeOfLastStatusChange;
-    long rebuildPosition;
+    volatile long rebuildPosition;
 
     volatile long beginLossChange = -1;
     volatile long endLossChange = -1;
@@ -64,6 +69,9 @@ class PublicationImageHotFields extends PublicationImagePadding2
     long lastStatusMessageTimestamp;
     long lastStatusMessagePosition;
     long lastChangeNumber = -1;
+    long nakBeginPosition = 0;
+    long nakEndPosition = 0;
+    boolean isRemovedFromDispatcher = false;
 }
 
 class PublicationImagePadding3 extends PublicationImageHotFields
@@ -76,6 +84,7 @@ class PublicationImageStatusFields extends PublicationImagePadding3
 {
     volatile long newStatusMessagePosition;
     volatile PublicationImage.Status status = PublicationImage.Status.INIT;
+    volatile boolean isFeedbackPending = false;
 }
 
 class PublicationImagePadding4 extends PublicationImageStatusFields
@@ -103,8 +112,9 @@ public class PublicationImage
     private final int positionBitsToShift;
     private final int termLengthMask;
     private final int initialTermId;
-    private final int currentWindowLength;
-    private final int currentGain;
+    private int currentWindowLength;
+    private int currentGain;
+    private int untetheredWindowLimit;
 
     private final RawLog rawLog;
     private final InetSocketAddress controlAddress;
@@ -113,13 +123,21 @@ public class PublicationImage
     private final NanoClock clock;
     private final UnsafeBuffer[] termBuffers = new UnsafeBuffer[PARTITION_COUNT];
     private final Position hwmPosition;
-    private final List<ReadablePosition> subscriberPositions;
+    private final Position receiverWindow;
+    private volatile ReadablePosition[] subscriberPositions;
+    private volatile UntetheredSubscription[] untetheredSubscriptions = new UntetheredSubscription[0];
     private final LossDetector lossDetector;
     private final AtomicCounter heartbeatsReceived;
     private final AtomicCounter statusMessagesSent;
     private final AtomicCounter nakMessagesSent;
     private final AtomicCounter flowControlUnderRuns;
     private final AtomicCounter flowControlOverRuns;
+    private final AtomicCounter fecRecoveredPackets;
+    private final AtomicCounter nakRecoveredPackets;
+    private final UnsafeBuffer recoveredPacketBuffer = new UnsafeBuffer(0, 0);
+    private final OneToOneConcurrentArrayQueue<PublicationImage> feedbackQueue;
+    private final TermArrivalBitmap arrivalBitmap;
+    private final ReceiverWindowAutotuner windowAutotuner;
 
     private boolean reachedEndOfLife = false;
 
@@ -133,14 +151,19 @@ public class PublicationImage
         final int initialTermId,
         final int activeTermId,
         final int initialTermOffset,
+        final long joiningPosition,
         final int initialWindowLength,
         final RawLog rawLog,
         final FeedbackDelayGenerator lossFeedbackDelayGenerator,
         final List<ReadablePosition> subscriberPositions,
         final Position hwmPosition,
+        final Position receiverWindow,
         final NanoClock clock,
         final SystemCounters systemCounters,
-        final InetSocketAddress sourceAddress)
+        final InetSocketAddress sourceAddress,
+        final OneToOneConcurrentArrayQueue<PublicationImage> feedbackQueue,
+        final TermArrivalBitmap arrivalBitmap,
+        final ReceiverWindowAutotuner windowAutotuner)
     {
         this.correlationId = correlationId;
         this.imageLivenessTimeoutNs = imageLivenessTimeoutNs;
@@ -149,15 +172,21 @@ public class PublicationImage
         this.sessionId = sessionId;
         this.streamId = streamId;
         this.rawLog = rawLog;
-        this.subscriberPositions = subscriberPositions;
+        this.subscriberPositions = subscriberPositions.toArray(new ReadablePosition[subscriberPositions.size()]);
         this.hwmPosition = hwmPosition;
+        this.receiverWindow = receiverWindow;
         this.sourceAddress = sourceAddress;
+        this.feedbackQueue = feedbackQueue;
+        this.arrivalBitmap = arrivalBitmap;
+        this.windowAutotuner = windowAutotuner;
 
         heartbeatsReceived = systemCounters.get(SystemCounterDescriptor.HEARTBEATS_RECEIVED);
         statusMessagesSent = systemCounters.get(SystemCounterDescriptor.STATUS_MESSAGES_SENT);
         nakMessagesSent = systemCounters.get(SystemCounterDescriptor.NAK_MESSAGES_SENT);
         flowControlUnderRuns = systemCounters.get(SystemCounterDescriptor.FLOW_CONTROL_UNDER_RUNS);
         flowControlOverRuns = systemCounters.get(SystemCounterDescriptor.FLOW_CONTROL_OVER_RUNS);
+        fecRecoveredPackets = systemCounters.get(SystemCounterDescriptor.FEC_RECOVERED_PACKETS);
+        nakRecoveredPackets = systemCounters.get(SystemCounterDescriptor.NAK_RECOVERED_PACKETS);
 
         this.clock = clock;
         final long time = clock.nanoTime();
@@ -169,22 +198,24 @@ public class PublicationImage
             termBuffers[i] = rawLog.partitions()[i].termBuffer();
         }
 
-        this.lossDetector = new LossDetector(lossFeedbackDelayGenerator, this);
+        this.lossDetector = new LossDetector(lossFeedbackDelayGenerator, this, arrivalBitmap);
 
         final int termLength = rawLog.termLength();
 
         this.currentWindowLength = Math.min(termLength, initialWindowLength);
         this.currentGain = Math.min(currentWindowLength / 4, termLength / 4);
+        this.untetheredWindowLimit = Configuration.untetheredWindowLimit(currentWindowLength);
+        this.receiverWindow.setOrdered(currentWindowLength);
 
         this.termLengthMask = termLength - 1;
         this.positionBitsToShift = Integer.numberOfTrailingZeros(termLength);
         this.initialTermId = initialTermId;
 
         final long initialPosition = computePosition(activeTermId, initialTermOffset, positionBitsToShift, initialTermId);
-        this.lastStatusMessagePosition = initialPosition - (currentGain + 1);
+        this.lastStatusMessagePosition = joiningPosition - (currentGain + 1);
         this.newStatusMessagePosition = this.lastStatusMessagePosition;
-        this.rebuildPosition = initialPosition;
-        this.hwmPosition.setOrdered(initialPosition);
+        this.rebuildPosition = joiningPosition;
+        this.hwmPosition.setOrdered(Math.max(initialPosition, joiningPosition));
     }
 
     /**
@@ -194,7 +225,16 @@ public class PublicationImage
     {
         rawLog.close();
         hwmPosition.close();
-        subscriberPositions.forEach(ReadablePosition::close);
+        receiverWindow.close();
+        for (final ReadablePosition position : subscriberPositions)
+        {
+            position.close();
+        }
+
+        for (final UntetheredSubscription untethered : untetheredSubscriptions)
+        {
+            untethered.position().close();
+        }
     }
 
     public long correlationId()
@@ -258,9 +298,20 @@ public class PublicationImage
      */
     void removeFromDispatcher()
     {
+        isRemovedFromDispatcher = true;
         channelEndpoint.dispatcher().removePublicationImage(this);
     }
 
+    /**
+     * Has this image been removed from the {@link DataPacketDispatcher}? Called from the {@link Receiver} thread.
+     *
+     * @return true if this image has been removed from the {@link DataPacketDispatcher}.
+     */
+    boolean isRemovedFromDispatcher()
+    {
+        return isRemovedFromDispatcher;
+    }
+
     /**
      * Does this image match a given {@link ReceiveChannelEndpoint} and stream id?
      *
@@ -332,13 +383,16 @@ public class PublicationImage
 
         lossTermId = termId;
         lossTermOffset = termOffset;
-        lossLength = length;
+        lossLength = Math.min(length, currentWindowLength);
 
         endLossChange = changeNumber;
+
+        signalPendingFeedback();
     }
 
     /**
-     * Called from the {@link DriverConductor}.
+     * Called from the {@link DriverConductor}, or from the {@link Receiver} when
+     * {@link MediaDriver.Context#receiverRebuildTracking()} is set.
      *
      * @param now in nanoseconds
      * @return if work has been done or not
@@ -348,15 +402,29 @@ public class PublicationImage
         long minSubscriberPosition = Long.MAX_VALUE;
         long maxSubscriberPosition = Long.MIN_VALUE;
 
-        final List<ReadablePosition> subscriberPositions = this.subscriberPositions;
-        for (int i = 0, size = subscriberPositions.size(); i < size; i++)
+        for (final ReadablePosition subscriberPosition : subscriberPositions)
         {
-            final long position = subscriberPositions.get(i).getVolatile();
+            final long position = subscriberPosition.getVolatile();
             minSubscriberPosition = Math.min(minSubscriberPosition, position);
             maxSubscriberPosition = Math.max(maxSubscriberPosition, position);
         }
 
         final long oldRebuildPosition = this.rebuildPosition;
+        final UntetheredSubscription[] untetheredSubscriptions = this.untetheredSubscriptions;
+        for (final UntetheredSubscription untethered : untetheredSubscriptions)
+        {
+            if (untethered.isActive())
+            {
+                final long position = untethered.position().getVolatile();
+                maxSubscriberPosition = Math.max(maxSubscriberPosition, position);
+
+                if (untethered.isFlowControlled(oldRebuildPosition, untetheredWindowLimit))
+                {
+                    minSubscriberPosition = Math.min(minSubscriberPosition, position);
+                }
+            }
+        }
+
         final long rebuildPosition = Math.max(oldRebuildPosition, maxSubscriberPosition);
 
         final int positionBitsToShift = this.positionBitsToShift;
@@ -375,18 +443,35 @@ public class PublicationImage
         final long newRebuildPosition = (rebuildPosition - rebuildTermOffset) + lossDetector.rebuildOffset();
         this.rebuildPosition = newRebuildPosition;
 
+        if (newRebuildPosition > oldRebuildPosition)
+        {
+            LogWakeup.signal(rawLog.logMetaData());
+        }
+
         final int newTermCount = (int)(newRebuildPosition >>> positionBitsToShift);
         final int oldTermCount = (int)(oldRebuildPosition >>> positionBitsToShift);
         if (newTermCount > oldTermCount)
         {
             final int oldTermCountIndex = indexByTermCount(oldTermCount);
-            final UnsafeBuffer termBuffer = termBuffers[previousPartitionIndex(oldTermCountIndex)];
+            final int previousPartitionIndex = previousPartitionIndex(oldTermCountIndex);
+            final UnsafeBuffer termBuffer = termBuffers[previousPartitionIndex];
             termBuffer.setMemory(0, termBuffer.capacity(), (byte)0);
+
+            if (null != arrivalBitmap)
+            {
+                arrivalBitmap.clear(previousPartitionIndex);
+            }
+        }
+
+        if (untetheredSubscriptions.length > 0)
+        {
+            minSubscriberPosition = Math.min(minSubscriberPosition, newRebuildPosition);
         }
 
         if (minSubscriberPosition > (newStatusMessagePosition + currentGain))
         {
             newStatusMessagePosition = minSubscriberPosition;
+            signalPendingFeedback();
         }
 
         return workCount;
@@ -402,6 +487,47 @@ public class PublicationImage
      * @return number of bytes applied as a result of this insertion.
      */
     int insertPacket(final int termId, final int termOffset, final UnsafeBuffer buffer, final int length)
+    {
+        return insertPacket(termId, termOffset, buffer, length, false);
+    }
+
+    /**
+     * Insert a parity packet by recovering the single missing data packet it covers, if any, into the term buffer.
+     *
+     * @param header wrapping the parity packet which is modified in place during recovery.
+     * @param length of the parity packet.
+     * @return number of bytes applied as a result of this insertion.
+     */
+    int insertParityPacket(final FecHeaderFlyweight header, final int length)
+    {
+        final int termId = header.termId();
+        final long packetPosition = computePosition(termId, header.termOffset(), positionBitsToShift, initialTermId);
+        final long windowPosition = lastStatusMessagePosition;
+
+        if (isFlowControlUnderRun(windowPosition, packetPosition) || isFlowControlOverRun(windowPosition, packetPosition))
+        {
+            return 0;
+        }
+
+        final UnsafeBuffer termBuffer = termBuffers[indexByPosition(packetPosition, positionBitsToShift)];
+        final UnsafeBuffer recoveredPacketBuffer = this.recoveredPacketBuffer;
+        final int recoveredTermOffset = FecDecoder.recover(termBuffer, header, length, recoveredPacketBuffer);
+
+        if (recoveredTermOffset < 0)
+        {
+            return 0;
+        }
+
+        return insertPacket(
+            termId, recoveredTermOffset, recoveredPacketBuffer, recoveredPacketBuffer.capacity(), true);
+    }
+
+    private int insertPacket(
+        final int termId,
+        final int termOffset,
+        final UnsafeBuffer buffer,
+        final int length,
+        final boolean isFecRecovered)
     {
         int bytesReceived = length;
         final int positionBitsToShift = this.positionBitsToShift;
@@ -420,10 +546,33 @@ public class PublicationImage
         }
         else
         {
-            final UnsafeBuffer termBuffer = termBuffers[indexByPosition(packetPosition, positionBitsToShift)];
+            final int partitionIndex = indexByPosition(packetPosition, positionBitsToShift);
+            final UnsafeBuffer termBuffer = termBuffers[partitionIndex];
+            if (packetPosition < hwmPosition.get() && 0 == frameLengthVolatile(termBuffer, termOffset))
+            {
+                if (isFecRecovered)
+                {
+                    fecRecoveredPackets.orderedIncrement();
+                }
+                else if (packetPosition >= nakBeginPosition && packetPosition < nakEndPosition)
+                {
+                    nakRecoveredPackets.orderedIncrement();
+                }
+            }
+
             TermRebuilder.insert(termBuffer, termOffset, buffer, length);
 
+            if (null != arrivalBitmap)
+            {
+                arrivalBitmap.onPacket(partitionIndex, termOffset);
+            }
+
             hwmCandidate(proposedPosition);
+
+            if (null != windowAutotuner)
+            {
+                windowAutotuner.onPacket(proposedPosition, newStatusMessagePosition, lastPacketTimestamp);
+            }
         }
 
         return bytesReceived;
@@ -447,6 +596,37 @@ public class PublicationImage
         return activity;
     }
 
+    /**
+     * Called from the {@link Receiver} to find the next time the image needs to be checked for liveness or for a
+     * Status Message which is due.
+     *
+     * @param now                  time in nanoseconds.
+     * @param statusMessageTimeout for sending of Status Messages.
+     * @return the time in nanoseconds of the next deadline which will be after now.
+     */
+    long nextReceiverDeadline(final long now, final long statusMessageTimeout)
+    {
+        final long deadline = Math.min(
+            lastStatusMessageTimestamp + statusMessageTimeout, lastPacketTimestamp + imageLivenessTimeoutNs);
+
+        return deadline > now ? deadline : now + statusMessageTimeout;
+    }
+
+    /**
+     * Called from the {@link Receiver} after this image has been taken from the feedback queue to send the pending
+     * Status Message or NAK which was signalled.
+     *
+     * @param now                  time in nanoseconds.
+     * @param statusMessageTimeout for sending of Status Messages.
+     * @return number of work items processed.
+     */
+    int sendPendingFeedback(final long now, final long statusMessageTimeout)
+    {
+        isFeedbackPending = false;
+
+        return sendPendingStatusMessage(now, statusMessageTimeout) + sendPendingNak();
+    }
+
     /**
      * Called from the {@link Receiver} to send any pending Status Messages.
      *
@@ -466,6 +646,11 @@ public class PublicationImage
                 final int termId = computeTermIdFromPosition(statusMessagePosition, positionBitsToShift, initialTermId);
                 final int termOffset = (int)statusMessagePosition & termLengthMask;
 
+                if (null != windowAutotuner)
+                {
+                    retuneWindow(statusMessagePosition, now);
+                }
+
                 channelEndpoint.sendStatusMessage(
                     controlAddress, sessionId, streamId, termId, termOffset, currentWindowLength, (byte)0);
 
@@ -479,6 +664,25 @@ public class PublicationImage
         return workCount;
     }
 
+    private void retuneWindow(final long statusMessagePosition, final long now)
+    {
+        final long previousEdgePosition = lastStatusMessagePosition + currentWindowLength;
+        final int windowLength = (int)Math.max(
+            windowAutotuner.windowLength(), previousEdgePosition - statusMessagePosition);
+
+        windowAutotuner.onStatusMessage(
+            previousEdgePosition, statusMessagePosition + windowLength, hwmPosition.get(), statusMessagePosition, now);
+
+        if (windowLength != currentWindowLength)
+        {
+            final int termLength = termLengthMask + 1;
+            currentWindowLength = windowLength;
+            currentGain = Math.min(windowLength / 4, termLength / 4);
+            untetheredWindowLimit = Configuration.untetheredWindowLimit(windowLength);
+            receiverWindow.setOrdered(windowLength);
+        }
+    }
+
     /**
      * Called from the {@link Receiver} to send a pending NAK.
      *
@@ -500,6 +704,8 @@ public class PublicationImage
             if (changeNumber == beginLossChange)
             {
                 channelEndpoint.sendNakMessage(controlAddress, sessionId, streamId, termId, termOffset, length);
+                nakBeginPosition = computePosition(termId, termOffset, positionBitsToShift, initialTermId);
+                nakEndPosition = nakBeginPosition + length;
                 lastChangeNumber = changeNumber;
                 nakMessagesSent.orderedIncrement();
                 workCount = 1;
@@ -511,13 +717,23 @@ public class PublicationImage
 
     /**
      * Remove a {@link ReadablePosition} for a subscriber that has been removed so it is not tracked for flow control.
+     * The position is not closed as the {@link Receiver} may still be reading it, see
+     * {@link ReceiverProxy#releaseSubscriberPosition(ReadablePosition)}.
      *
      * @param subscriberPosition for the subscriber that has been removed.
      */
     void removeSubscriber(final ReadablePosition subscriberPosition)
     {
-        subscriberPositions.remove(subscriberPosition);
-        subscriberPosition.close();
+        subscriberPositions = ArrayUtil.remove(subscriberPositions, subscriberPosition);
+
+        for (final UntetheredSubscription untethered : untetheredSubscriptions)
+        {
+            if (untethered.position() == subscriberPosition)
+            {
+                untetheredSubscriptions = ArrayUtil.remove(untetheredSubscriptions, untethered);
+                break;
+            }
+        }
     }
 
     /**
@@ -527,7 +743,63 @@ public class PublicationImage
      */
     void addSubscriber(final ReadablePosition subscriberPosition)
     {
-        subscriberPositions.add(subscriberPosition);
+        subscriberPositions = ArrayUtil.add(subscriberPositions, subscriberPosition);
+    }
+
+    /**
+     * Add a subscriber which is only included in flow control while it keeps up with the rebuild position.
+     *
+     * @param untethered subscriber to be added.
+     */
+    void addUntetheredSubscription(final UntetheredSubscription untethered)
+    {
+        untetheredSubscriptions = ArrayUtil.add(untetheredSubscriptions, untethered);
+    }
+
+    /**
+     * Subscriptions to this image which are only included in flow control while they keep up.
+     *
+     * @return the untethered subscriptions to this image.
+     */
+    UntetheredSubscription[] untetheredSubscriptions()
+    {
+        return untetheredSubscriptions;
+    }
+
+    /**
+     * Make untethered subscriptions which have fallen behind rest, and those which have rested long enough rejoin at
+     * the rebuild position while the image is active. Called from the {@link DriverConductor} duty cycle.
+     *
+     * @param now       in nanoseconds.
+     * @param conductor to notify clients of images becoming unavailable or available.
+     * @return the number of untethered subscriptions which changed state.
+     */
+    int checkUntetheredSubscriptions(final long now, final DriverConductor conductor)
+    {
+        int workCount = 0;
+        final UntetheredSubscription[] untetheredSubscriptions = this.untetheredSubscriptions;
+
+        if (untetheredSubscriptions.length > 0 && ACTIVE == status)
+        {
+            final long rebuildPosition = this.rebuildPosition;
+
+            for (final UntetheredSubscription untethered : untetheredSubscriptions)
+            {
+                if (untethered.hasFallenBehind(rebuildPosition, untetheredWindowLimit))
+                {
+                    untethered.rest(now);
+                    conductor.onUntetheredSubscriptionResting(untethered, streamId, channelUriString());
+                    workCount++;
+                }
+                else if (untethered.hasRested(now))
+                {
+                    conductor.onUntetheredSubscriptionRejoin(this, untethered, rebuildPosition, now);
+                    workCount++;
+                }
+            }
+        }
+
+        return workCount;
     }
 
     /**
@@ -537,7 +809,7 @@ public class PublicationImage
      */
     int subscriberCount()
     {
-        return subscriberPositions.size();
+        return subscriberPositions.length + untetheredSubscriptions.length;
     }
 
     /**
@@ -594,15 +866,34 @@ public class PublicationImage
     private boolean isDrained()
     {
         long minSubscriberPosition = Long.MAX_VALUE;
-        final List<ReadablePosition> subscriberPositions = this.subscriberPositions;
-        for (int i = 0, size = subscriberPositions.size(); i < size; i++)
+        for (final ReadablePosition subscriberPosition : subscriberPositions)
         {
-            minSubscriberPosition = Math.min(minSubscriberPosition, subscriberPositions.get(i).getVolatile());
+            minSubscriberPosition = Math.min(minSubscriberPosition, subscriberPosition.getVolatile());
+        }
+
+        for (final UntetheredSubscription untethered : untetheredSubscriptions)
+        {
+            if (untethered.isActive())
+            {
+                minSubscriberPosition = Math.min(minSubscriberPosition, untethered.position().getVolatile());
+            }
         }
 
         return minSubscriberPosition >= rebuildPosition;
     }
 
+    private void signalPendingFeedback()
+    {
+        if (!isFeedbackPending)
+        {
+            isFeedbackPending = true;
+            if (!feedbackQueue.offer(this))
+            {
+                isFeedbackPending = false;
+            }
+        }
+    }
+
     private boolean isHeartbeat(final UnsafeBuffer buffer, final int length)
     {
         return length == DataHeaderFlyweight.HEADER_LENGTH && buffer.getInt(0) == 0;
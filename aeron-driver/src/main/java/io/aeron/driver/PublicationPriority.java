@@ -0,0 +1,31 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+/**
+ * Priority class of a {@link NetworkPublication} used by the {@link Sender} when scheduling sends.
+ */
+public enum PublicationPriority
+{
+    /** Drained by the {@link Sender} before any other publications on each duty cycle. */
+    HIGH,
+
+    /** Sent round robin with an equal share per publication on each duty cycle. This is the default. */
+    NORMAL,
+
+    /** Sent round robin with a fraction of the share of a normal publication while normal publications have data. */
+    LOW
+}
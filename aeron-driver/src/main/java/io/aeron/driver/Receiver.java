@@ -19,34 +19,63 @@ import io.aeron.driver.cmd.ReceiverCmd;
 import io.aeron.driver.media.DataTransportPoller;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.status.SystemCounterDescriptor;
+import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.Agent;
 import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.ReadablePosition;
 import org.agrona.concurrent.NanoClock;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 
 import java.util.ArrayList;
 import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
 
 /**
  * Receiver agent for JVM based media driver, uses an event loop with command buffer
+ * <p>
+ * {@link PublicationImage}s are not visited each duty cycle. An image is taken from the feedback queue when it has
+ * signalled a pending Status Message or NAK, and from a timer wheel when a periodic Status Message is due or its
+ * liveness needs to be checked, so the cost of a duty cycle scales with activity rather than the number of images.
+ * <p>
+ * When {@link MediaDriver.Context#receiverRebuildTracking()} is set the receiver also tracks the rebuild of each
+ * active image every duty cycle so Status Messages and NAKs are not delayed by the {@link DriverConductor}.
  */
 public class Receiver implements Agent, Consumer<ReceiverCmd>
 {
+    private static final PublicationImage[] EMPTY_IMAGES = new PublicationImage[0];
+
     private final long statusMessageTimeout;
     private final DataTransportPoller dataTransportPoller;
     private final OneToOneConcurrentArrayQueue<ReceiverCmd> commandQueue;
+    private final DriverConductorProxy conductorProxy;
+    private final OneToOneConcurrentArrayQueue<PublicationImage> imageFeedbackQueue;
     private final AtomicCounter totalBytesReceived;
+    private final AtomicCounter dutyCycles;
+    private final AtomicCounter dutyCycleTimeNs;
     private final NanoClock clock;
-    private final ArrayList<PublicationImage> publicationImages = new ArrayList<>();
+    private final DeadlineTimerWheel<PublicationImage> imageTimerWheel;
+    private final boolean isRebuildTracking;
+    private final ObjLongConsumer<PublicationImage> onImageTimerExpiry = this::onImageTimerExpiry;
+    private final Consumer<PublicationImage> onImageFeedback = this::onImageFeedback;
     private final ArrayList<PendingSetupMessageFromSource> pendingSetupMessages = new ArrayList<>();
+    private PublicationImage[] rebuildImages = EMPTY_IMAGES;
+    private long now;
+    private int imageWorkCount;
 
     public Receiver(final MediaDriver.Context ctx)
     {
         statusMessageTimeout = ctx.statusMessageTimeout();
         dataTransportPoller = ctx.dataTransportPoller();
         commandQueue = ctx.receiverCommandQueue();
+        conductorProxy = ctx.fromReceiverDriverConductorProxy();
+        imageFeedbackQueue = ctx.imageFeedbackQueue();
         totalBytesReceived = ctx.systemCounters().get(SystemCounterDescriptor.BYTES_RECEIVED);
+        dutyCycles = ctx.systemCounters().get(SystemCounterDescriptor.RECEIVER_DUTY_CYCLES);
+        dutyCycleTimeNs = ctx.systemCounters().get(SystemCounterDescriptor.RECEIVER_DUTY_CYCLE_TIME_NS);
         clock = ctx.nanoClock();
+        isRebuildTracking = ctx.receiverRebuildTracking();
+        imageTimerWheel = new DeadlineTimerWheel<>(
+            Configuration.RECEIVER_TIMER_TICK_RESOLUTION_NS, Configuration.RECEIVER_TIMER_TICKS_PER_WHEEL, clock.nanoTime());
     }
 
     public String roleName()
@@ -56,30 +85,23 @@ public class Receiver implements Agent, Consumer<ReceiverCmd>
 
     public int doWork() throws Exception
     {
-        int workCount = commandQueue.drain(this);
+        final long startTime = clock.nanoTime();
+        final int workCount = commandQueue.drain(this);
         final int bytesReceived = dataTransportPoller.pollTransports();
 
         final long now = clock.nanoTime();
-        for (int i = publicationImages.size() - 1; i >= 0; i--)
-        {
-            final PublicationImage image = publicationImages.get(i);
-            if (!image.checkForActivity(now))
-            {
-                image.removeFromDispatcher();
-                publicationImages.remove(i);
-            }
-            else
-            {
-                workCount += image.sendPendingStatusMessage(now, statusMessageTimeout);
-                workCount += image.sendPendingNak();
-            }
-        }
+        this.now = now;
+        imageWorkCount = isRebuildTracking ? trackRebuild(now) : 0;
+        imageFeedbackQueue.drain(onImageFeedback);
+        imageTimerWheel.poll(now, onImageTimerExpiry);
 
         timeoutPendingSetupMessages(now);
 
         totalBytesReceived.addOrdered(bytesReceived);
+        dutyCycles.orderedIncrement();
+        dutyCycleTimeNs.addOrdered(clock.nanoTime() - startTime);
 
-        return workCount + bytesReceived;
+        return workCount + imageWorkCount + bytesReceived;
     }
 
     public void addPendingSetupMessage(final int sessionId, final int streamId, final ReceiveChannelEndpoint channelEndpoint)
@@ -101,8 +123,13 @@ public class Receiver implements Agent, Consumer<ReceiverCmd>
 
     public void onNewPublicationImage(final ReceiveChannelEndpoint channelEndpoint, final PublicationImage image)
     {
-        publicationImages.add(image);
         channelEndpoint.dispatcher().addPublicationImage(image);
+        imageTimerWheel.schedule(image, clock.nanoTime());
+
+        if (isRebuildTracking)
+        {
+            rebuildImages = ArrayUtil.add(rebuildImages, image);
+        }
     }
 
     public void onRegisterReceiveChannelEndpoint(final ReceiveChannelEndpoint channelEndpoint)
@@ -121,11 +148,64 @@ public class Receiver implements Agent, Consumer<ReceiverCmd>
         channelEndpoint.dispatcher().removeCoolDown(sessionId, streamId);
     }
 
+    /**
+     * A subscriber position which an image has stopped tracking is handed back to the {@link DriverConductor} to be
+     * closed. Commands are only taken between duty cycles so no rebuild tracking can still be reading it.
+     *
+     * @param subscriberPosition which has been removed from its image.
+     */
+    public void onReleaseSubscriberPosition(final ReadablePosition subscriberPosition)
+    {
+        conductorProxy.closeSubscriberPosition(subscriberPosition);
+    }
+
     public void accept(final ReceiverCmd cmd)
     {
         cmd.execute(this);
     }
 
+    private int trackRebuild(final long now)
+    {
+        int workCount = 0;
+
+        final PublicationImage[] rebuildImages = this.rebuildImages;
+        for (int i = rebuildImages.length - 1; i >= 0; i--)
+        {
+            final PublicationImage image = rebuildImages[i];
+            if (PublicationImage.Status.ACTIVE != image.status())
+            {
+                this.rebuildImages = ArrayUtil.remove(this.rebuildImages, i);
+            }
+            else
+            {
+                workCount += image.trackRebuild(now);
+            }
+        }
+
+        return workCount;
+    }
+
+    private void onImageFeedback(final PublicationImage image)
+    {
+        if (!image.isRemovedFromDispatcher())
+        {
+            imageWorkCount += image.sendPendingFeedback(now, statusMessageTimeout);
+        }
+    }
+
+    private void onImageTimerExpiry(final PublicationImage image, final long now)
+    {
+        if (!image.checkForActivity(now))
+        {
+            image.removeFromDispatcher();
+        }
+        else
+        {
+            imageWorkCount += image.sendPendingStatusMessage(now, statusMessageTimeout);
+            imageTimerWheel.schedule(image, image.nextReceiverDeadline(now, statusMessageTimeout));
+        }
+    }
+
     private void timeoutPendingSetupMessages(final long now)
     {
         for (int i = pendingSetupMessages.size() - 1; i >= 0; i--)
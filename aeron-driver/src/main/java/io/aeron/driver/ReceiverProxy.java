@@ -18,9 +18,11 @@ package io.aeron.driver;
 import io.aeron.driver.cmd.*;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.ReadablePosition;
 
 import java.util.Queue;
 
+import static io.aeron.driver.ThreadingMode.INVOKER;
 import static io.aeron.driver.ThreadingMode.SHARED;
 
 /**
@@ -123,9 +125,21 @@ public class ReceiverProxy
         }
     }
 
+    public void releaseSubscriberPosition(final ReadablePosition subscriberPosition)
+    {
+        if (isSharedThread())
+        {
+            receiver.onReleaseSubscriberPosition(subscriberPosition);
+        }
+        else
+        {
+            offer(new ReleaseSubscriberPositionCmd(subscriberPosition));
+        }
+    }
+
     private boolean isSharedThread()
     {
-        return threadingMode == SHARED;
+        return threadingMode == SHARED || threadingMode == INVOKER;
     }
 
     private void offer(final ReceiverCmd cmd)
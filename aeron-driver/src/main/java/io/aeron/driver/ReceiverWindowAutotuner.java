@@ -0,0 +1,156 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static org.agrona.BitUtil.align;
+
+/**
+ * Tunes the window advertised by an image to twice the bandwidth-delay product of the stream, being the rate at which
+ * its subscribers consume multiplied by the round trip time to the sender.
+ * <p>
+ * The protocol carries no timestamps so the round trip is sampled at the receiver. Data beyond the edge of the window
+ * last advertised can only be sent once a Status Message advancing the edge has reached the sender, so the time from
+ * sending such a Status Message until the first packet beyond the previous edge arrives is never less than the round
+ * trip. It is only close to the round trip when the sender was held at the edge, so the minimum sample is kept until
+ * it expires.
+ * <p>
+ * The window is only resized when the sender was held at the edge when a sample started. A stream which is not
+ * limited by the window does not grow it from round trips inflated by the sender being idle, nor shrink it from the
+ * low consumption of an idle or application limited period, so the window is still open when the next burst comes.
+ * The window is bounded by the min and max window lengths.
+ * <p>
+ * <b>Note:</b> Not threadsafe, it is used from the {@link Receiver} thread only.
+ */
+public class ReceiverWindowAutotuner
+{
+    private final int minWindowLength;
+    private final int maxWindowLength;
+    private final long rttExpiryNs;
+
+    private int windowLength;
+    private boolean isSampling = false;
+    private boolean isWindowLimited = false;
+    private long sampleEdgePosition;
+    private long sampleStartNs;
+    private long sampleStartConsumptionPosition;
+    private long minRttNs = Long.MAX_VALUE;
+    private long minRttTimestampNs;
+
+    /**
+     * Construct an autotuner for the window of an image.
+     *
+     * @param initialWindowLength advertised before any round trip has been sampled.
+     * @param minWindowLength     below which the window will not shrink.
+     * @param maxWindowLength     above which the window will not grow.
+     * @param rttExpiryNs         after which the minimum round trip sampled is replaced by the next sample.
+     */
+    public ReceiverWindowAutotuner(
+        final int initialWindowLength, final int minWindowLength, final int maxWindowLength, final long rttExpiryNs)
+    {
+        if (minWindowLength > maxWindowLength)
+        {
+            throw new IllegalArgumentException(
+                "min window length greater than max window length: " + minWindowLength + " > " + maxWindowLength);
+        }
+
+        this.minWindowLength = minWindowLength;
+        this.maxWindowLength = maxWindowLength;
+        this.rttExpiryNs = rttExpiryNs;
+        this.windowLength = Math.min(Math.max(initialWindowLength, minWindowLength), maxWindowLength);
+    }
+
+    /**
+     * Called when a Status Message is sent which may advance the edge of the window to start a round trip sample.
+     *
+     * @param previousEdgePosition of the window advertised before this Status Message.
+     * @param newEdgePosition      of the window advertised by this Status Message.
+     * @param hwmPosition          of the image when the Status Message is sent.
+     * @param consumptionPosition  of the subscribers advertised by this Status Message.
+     * @param nowNs                the current time.
+     */
+    public void onStatusMessage(
+        final long previousEdgePosition,
+        final long newEdgePosition,
+        final long hwmPosition,
+        final long consumptionPosition,
+        final long nowNs)
+    {
+        if (!isSampling && newEdgePosition > previousEdgePosition)
+        {
+            isSampling = true;
+            isWindowLimited = hwmPosition >= (previousEdgePosition - (windowLength >> 3));
+            sampleEdgePosition = previousEdgePosition;
+            sampleStartNs = nowNs;
+            sampleStartConsumptionPosition = consumptionPosition;
+        }
+    }
+
+    /**
+     * Called when a data packet has been inserted in the image to complete a round trip sample if it is beyond the
+     * edge of the window at the start of the sample.
+     *
+     * @param proposedPosition    at the end of the packet.
+     * @param consumptionPosition of the subscribers when the packet arrived.
+     * @param nowNs               the current time.
+     */
+    public void onPacket(final long proposedPosition, final long consumptionPosition, final long nowNs)
+    {
+        if (!isSampling || proposedPosition <= sampleEdgePosition)
+        {
+            return;
+        }
+
+        isSampling = false;
+
+        final long sampleNs = Math.max(nowNs - sampleStartNs, 1);
+        if (sampleNs < minRttNs || nowNs > (minRttTimestampNs + rttExpiryNs))
+        {
+            minRttNs = sampleNs;
+            minRttTimestampNs = nowNs;
+        }
+
+        final long consumed = consumptionPosition - sampleStartConsumptionPosition;
+        final double bandwidthDelayProduct = ((double)consumed / sampleNs) * minRttNs;
+        final long targetLength = Math.min((long)(2 * bandwidthDelayProduct), maxWindowLength);
+        final int targetWindowLength = Math.min(align((int)targetLength, FRAME_ALIGNMENT), maxWindowLength);
+
+        if (isWindowLimited)
+        {
+            windowLength = Math.max(targetWindowLength, minWindowLength);
+        }
+    }
+
+    /**
+     * The length of the window to be advertised.
+     *
+     * @return the length of the window to be advertised.
+     */
+    public int windowLength()
+    {
+        return windowLength;
+    }
+
+    /**
+     * The minimum round trip time sampled which is current.
+     *
+     * @return the minimum round trip time sampled or {@link Long#MAX_VALUE} if none has been sampled.
+     */
+    public long minRttNs()
+    {
+        return minRttNs;
+    }
+}
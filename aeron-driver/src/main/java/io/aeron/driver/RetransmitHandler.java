@@ -177,6 +177,16 @@ public class RetransmitHandler
         return result;
     }
 
+    /**
+     * Are there any retransmits delayed or lingering which need timeouts to be processed.
+     *
+     * @return true if there are any retransmits delayed or lingering.
+     */
+    public boolean hasActiveRetransmits()
+    {
+        return activeRetransmitByPositionMap.size() > 0;
+    }
+
     private boolean isInvalid(final int termOffset)
     {
         final boolean isInvalid = termOffset >= (capacity - DataHeaderFlyweight.HEADER_LENGTH);
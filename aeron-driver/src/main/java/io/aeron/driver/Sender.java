@@ -21,6 +21,7 @@ import io.aeron.driver.status.SystemCounterDescriptor;
 import io.aeron.driver.cmd.SenderCmd;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.NanoClock;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
@@ -33,15 +34,30 @@ import java.util.function.Consumer;
 public class Sender implements Agent, Consumer<SenderCmd>
 {
     private static final NetworkPublication[] EMPTY_PUBLICATIONS = new NetworkPublication[0];
+    private static final DirectPublication[] EMPTY_DIRECT_PUBLICATIONS = new DirectPublication[0];
 
     private final ControlTransportPoller controlTransportPoller;
     private final OneToOneConcurrentArrayQueue<SenderCmd> commandQueue;
     private final DriverConductorProxy conductorProxy;
     private final AtomicCounter totalBytesSent;
+    private final AtomicCounter highPriorityBytesSent;
+    private final AtomicCounter normalPriorityBytesSent;
+    private final AtomicCounter lowPriorityBytesSent;
+    private final AtomicCounter dutyCycles;
+    private final AtomicCounter dutyCycleTimeNs;
     private final NanoClock nanoClock;
+    private final EpochClock epochClock;
+    private final boolean isReadySetScheduling;
 
+    private NetworkPublication[] highPriorityPublications = EMPTY_PUBLICATIONS;
     private NetworkPublication[] networkPublications = EMPTY_PUBLICATIONS;
+    private NetworkPublication[] lowPriorityPublications = EMPTY_PUBLICATIONS;
+    private DirectPublication[] directPublications = EMPTY_DIRECT_PUBLICATIONS;
+    private int highPriorityRoundRobinIndex = 0;
     private int roundRobinIndex = 0;
+    private int lowPriorityRoundRobinIndex = 0;
+    private int lowPriorityCycleCount = 0;
+    private int dutyCycleSampleCount = 0;
 
     public Sender(final MediaDriver.Context ctx)
     {
@@ -49,16 +65,34 @@ public class Sender implements Agent, Consumer<SenderCmd>
         this.commandQueue = ctx.senderCommandQueue();
         this.conductorProxy = ctx.fromSenderDriverConductorProxy();
         this.totalBytesSent = ctx.systemCounters().get(SystemCounterDescriptor.BYTES_SENT);
+        this.highPriorityBytesSent = ctx.systemCounters().get(SystemCounterDescriptor.HIGH_PRIORITY_BYTES_SENT);
+        this.normalPriorityBytesSent = ctx.systemCounters().get(SystemCounterDescriptor.NORMAL_PRIORITY_BYTES_SENT);
+        this.lowPriorityBytesSent = ctx.systemCounters().get(SystemCounterDescriptor.LOW_PRIORITY_BYTES_SENT);
+        this.dutyCycles = ctx.systemCounters().get(SystemCounterDescriptor.SENDER_DUTY_CYCLES);
+        this.dutyCycleTimeNs = ctx.systemCounters().get(SystemCounterDescriptor.SENDER_DUTY_CYCLE_TIME_NS);
         this.nanoClock = ctx.nanoClock();
+        this.epochClock = ctx.epochClock();
+        this.isReadySetScheduling = ctx.senderReadySetScheduling();
     }
 
     public int doWork()
     {
+        final boolean isSampledDutyCycle = ++dutyCycleSampleCount >= Configuration.SENDER_DUTY_CYCLE_SAMPLE_INTERVAL;
+        final long dutyCycleStartNs = isSampledDutyCycle ? nanoClock.nanoTime() : 0;
+
         final int workCount = commandQueue.drain(this);
         final int bytesSent = doSend(nanoClock.nanoTime());
         final int bytesReceived = controlTransportPoller.pollTransports();
+        final int limitsUpdated = directPublications.length > 0 ? updateDirectPublisherLimits() : 0;
+
+        if (isSampledDutyCycle)
+        {
+            dutyCycleSampleCount = 0;
+            dutyCycles.orderedIncrement();
+            dutyCycleTimeNs.addOrdered(nanoClock.nanoTime() - dutyCycleStartNs);
+        }
 
-        return workCount + bytesSent + bytesReceived;
+        return workCount + bytesSent + bytesReceived + limitsUpdated;
     }
 
     public String roleName()
@@ -79,17 +113,56 @@ public class Sender implements Agent, Consumer<SenderCmd>
 
     public void onNewNetworkPublication(final NetworkPublication publication)
     {
-        networkPublications = ArrayUtil.add(networkPublications, publication);
+        switch (publication.priority())
+        {
+            case HIGH:
+                highPriorityPublications = ArrayUtil.add(highPriorityPublications, publication);
+                break;
+
+            case LOW:
+                lowPriorityPublications = ArrayUtil.add(lowPriorityPublications, publication);
+                break;
+
+            default:
+                networkPublications = ArrayUtil.add(networkPublications, publication);
+                break;
+        }
+
         publication.sendChannelEndpoint().registerForSend(publication);
     }
 
     public void onRemoveNetworkPublication(final NetworkPublication publication)
     {
-        networkPublications = ArrayUtil.remove(networkPublications, publication);
+        switch (publication.priority())
+        {
+            case HIGH:
+                highPriorityPublications = ArrayUtil.remove(highPriorityPublications, publication);
+                break;
+
+            case LOW:
+                lowPriorityPublications = ArrayUtil.remove(lowPriorityPublications, publication);
+                break;
+
+            default:
+                networkPublications = ArrayUtil.remove(networkPublications, publication);
+                break;
+        }
+
         publication.sendChannelEndpoint().unregisterForSend(publication);
         conductorProxy.closeNetworkPublication(publication);
     }
 
+    public void onNewDirectPublication(final DirectPublication publication)
+    {
+        directPublications = ArrayUtil.add(directPublications, publication);
+    }
+
+    public void onRemoveDirectPublication(final DirectPublication publication)
+    {
+        directPublications = ArrayUtil.remove(directPublications, publication);
+        conductorProxy.closeDirectPublication(publication);
+    }
+
     public void accept(final SenderCmd cmd)
     {
         cmd.execute(this);
@@ -97,28 +170,87 @@ public class Sender implements Agent, Consumer<SenderCmd>
 
     private int doSend(final long now)
     {
-        int bytesSent = 0;
-        final NetworkPublication[] publications = this.networkPublications;
-        final int length = publications.length;
+        int highPriorityBytes = 0;
+        if (highPriorityPublications.length > 0)
+        {
+            int passBytes;
+            int passes = 0;
+            do
+            {
+                passBytes = sendRoundRobin(highPriorityPublications, highPriorityRoundRobinIndex++, now);
+                highPriorityBytes += passBytes;
+            }
+            while (passBytes > 0 && ++passes < Configuration.SENDER_HIGH_PRIORITY_DRAIN_LIMIT);
+
+            highPriorityBytesSent.addOrdered(highPriorityBytes);
+        }
 
         int startingIndex = roundRobinIndex++;
-        if (startingIndex >= length)
+        if (startingIndex >= networkPublications.length)
         {
             roundRobinIndex = startingIndex = 0;
         }
 
-        for (int i = startingIndex; i < length; i++)
+        final int normalPriorityBytes = sendRoundRobin(networkPublications, startingIndex, now);
+        if (normalPriorityBytes > 0)
         {
-            bytesSent += publications[i].send(now);
+            normalPriorityBytesSent.addOrdered(normalPriorityBytes);
         }
 
-        for (int i = 0; i < startingIndex; i++)
+        int lowPriorityBytes = 0;
+        if (lowPriorityPublications.length > 0 &&
+            (0 == normalPriorityBytes || ++lowPriorityCycleCount >= Configuration.SENDER_LOW_PRIORITY_RATIO))
         {
-            bytesSent += publications[i].send(now);
+            lowPriorityCycleCount = 0;
+            lowPriorityBytes = sendRoundRobin(lowPriorityPublications, lowPriorityRoundRobinIndex++, now);
+            lowPriorityBytesSent.addOrdered(lowPriorityBytes);
         }
 
+        final int bytesSent = highPriorityBytes + normalPriorityBytes + lowPriorityBytes;
         totalBytesSent.addOrdered(bytesSent);
 
         return bytesSent;
     }
+
+    private int updateDirectPublisherLimits()
+    {
+        int workCount = 0;
+        final long nowInMillis = epochClock.time();
+
+        for (final DirectPublication publication : directPublications)
+        {
+            workCount += publication.updatePublishersLimit(nowInMillis);
+        }
+
+        return workCount;
+    }
+
+    private int sendRoundRobin(final NetworkPublication[] publications, final int roundRobinIndex, final long now)
+    {
+        int bytesSent = 0;
+        final int length = publications.length;
+        final int startingIndex = length > 0 ? (roundRobinIndex & Integer.MAX_VALUE) % length : 0;
+
+        for (int i = startingIndex; i < length; i++)
+        {
+            bytesSent += send(publications[i], now);
+        }
+
+        for (int i = 0; i < startingIndex; i++)
+        {
+            bytesSent += send(publications[i], now);
+        }
+
+        return bytesSent;
+    }
+
+    private int send(final NetworkPublication publication, final long now)
+    {
+        if (isReadySetScheduling && !publication.isReadyToSend(now))
+        {
+            return 0;
+        }
+
+        return publication.send(now);
+    }
 }
@@ -21,6 +21,7 @@ import org.agrona.concurrent.status.AtomicCounter;
 
 import java.util.Queue;
 
+import static io.aeron.driver.ThreadingMode.INVOKER;
 import static io.aeron.driver.ThreadingMode.SHARED;
 
 /**
@@ -93,9 +94,33 @@ public class SenderProxy
         }
     }
 
+    public void newDirectPublication(final DirectPublication publication)
+    {
+        if (isSharedThread())
+        {
+            sender.onNewDirectPublication(publication);
+        }
+        else
+        {
+            offer(new NewDirectPublicationCmd(publication));
+        }
+    }
+
+    public void removeDirectPublication(final DirectPublication publication)
+    {
+        if (isSharedThread())
+        {
+            sender.onRemoveDirectPublication(publication);
+        }
+        else
+        {
+            offer(new RemoveDirectPublicationCmd(publication));
+        }
+    }
+
     private boolean isSharedThread()
     {
-        return threadingMode == SHARED;
+        return threadingMode == SHARED || threadingMode == INVOKER;
     }
 
     private void offer(final SenderCmd cmd)
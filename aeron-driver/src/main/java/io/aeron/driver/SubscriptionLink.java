@@ -29,23 +29,30 @@ public class SubscriptionLink implements DriverManagedResource
     private final long registrationId;
     private final int streamId;
     private final ReceiveChannelEndpoint channelEndpoint;
+    private final ReceiverProxy receiverProxy;
     private final AeronClient aeronClient;
+    private final boolean isTethered;
     private final Map<PublicationImage, ReadablePosition> positionByImageMap = new IdentityHashMap<>();
     private final DirectPublication directPublication;
     private final ReadablePosition directPublicationSubscriberPosition;
+    private final Map<DirectPublication, ReadablePosition> positionByExclusivePublicationMap = new IdentityHashMap<>();
 
     private boolean reachedEndOfLife = false;
 
     public SubscriptionLink(
         final long registrationId,
         final ReceiveChannelEndpoint channelEndpoint,
+        final ReceiverProxy receiverProxy,
         final int streamId,
-        final AeronClient aeronClient)
+        final AeronClient aeronClient,
+        final boolean isTethered)
     {
         this.registrationId = registrationId;
         this.channelEndpoint = channelEndpoint;
+        this.receiverProxy = receiverProxy;
         this.streamId = streamId;
         this.aeronClient = aeronClient;
+        this.isTethered = isTethered;
         this.directPublication = null;
         this.directPublicationSubscriberPosition = null;
     }
@@ -55,12 +62,15 @@ public class SubscriptionLink implements DriverManagedResource
         final int streamId,
         final DirectPublication directPublication,
         final ReadablePosition subscriberPosition,
-        final AeronClient aeronClient)
+        final AeronClient aeronClient,
+        final boolean isTethered)
     {
         this.registrationId = registrationId;
         this.channelEndpoint = null; // will prevent matches between PublicationImages and DirectPublications
+        this.receiverProxy = null;
         this.streamId = streamId;
         this.aeronClient = aeronClient;
+        this.isTethered = isTethered;
         this.directPublication = directPublication;
         directPublication.incRef();
         this.directPublicationSubscriberPosition = subscriberPosition;
@@ -81,11 +91,46 @@ public class SubscriptionLink implements DriverManagedResource
         return streamId;
     }
 
+    /**
+     * Id of the client which added the subscription.
+     *
+     * @return the id of the client which added the subscription.
+     */
+    public long clientId()
+    {
+        return aeronClient.clientId();
+    }
+
+    /**
+     * Is the subscription tethered to the streams it subscribes to by flow control however far it falls behind.
+     *
+     * @return true if the subscription is tethered to the streams it subscribes to by flow control.
+     */
+    public boolean isTethered()
+    {
+        return isTethered;
+    }
+
     public boolean matches(final ReceiveChannelEndpoint channelEndpoint, final int streamId)
     {
         return channelEndpoint == this.channelEndpoint && streamId == this.streamId;
     }
 
+    public boolean matchesDirect(final int streamId)
+    {
+        return null != directPublication && streamId == this.streamId;
+    }
+
+    public void addExclusivePublication(final DirectPublication publication, final ReadablePosition position)
+    {
+        positionByExclusivePublicationMap.put(publication, position);
+    }
+
+    public boolean removeExclusivePublication(final DirectPublication publication)
+    {
+        return null != positionByExclusivePublicationMap.remove(publication);
+    }
+
     public void addImage(final PublicationImage image, final ReadablePosition position)
     {
         positionByImageMap.put(image, position);
@@ -98,13 +143,20 @@ public class SubscriptionLink implements DriverManagedResource
 
     public void close()
     {
-        positionByImageMap.forEach(PublicationImage::removeSubscriber);
+        positionByImageMap.forEach(
+            (image, position) ->
+            {
+                image.removeSubscriber(position);
+                receiverProxy.releaseSubscriberPosition(position);
+            });
 
         if (null != directPublication)
         {
             directPublication.removeSubscription(directPublicationSubscriberPosition);
             directPublication.decRef();
         }
+
+        positionByExclusivePublicationMap.forEach(DirectPublication::removeSubscription);
     }
 
     public void onTimeEvent(final long time, final DriverConductor conductor)
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.logbuffer.TermGapScanner.GapHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.FrameDescriptor.frameLengthVolatile;
+import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.BitUtil.align;
+
+/**
+ * Bitmap for each term partition of an image recording the fixed length blocks in which a packet has arrived, so the
+ * end of a gap can be found without scanning the term memory of the gap a frame at a time.
+ * <p>
+ * Packets are contiguous runs of frames so the first frame after the start of a gap must begin a packet. The search
+ * for the end of a gap only needs to read term memory in the block the gap starts in and in blocks where a packet
+ * has arrived.
+ * <p>
+ * Packets are recorded by the {@link Receiver} and partitions are scanned and cleared by the thread tracking the rebuild
+ * of the image. A partition is only cleared after the rebuild has moved past it and before packets can arrive for it.
+ */
+public class TermArrivalBitmap
+{
+    private final int blockShift;
+    private final int blockLength;
+    private final UnsafeBuffer[] bitmaps = new UnsafeBuffer[PARTITION_COUNT];
+
+    /**
+     * Construct a bitmap for the partitions of a log.
+     *
+     * @param termLength  of each partition in the log.
+     * @param blockLength covered by each bit which must be a power of 2 and a multiple of the frame alignment.
+     */
+    public TermArrivalBitmap(final int termLength, final int blockLength)
+    {
+        if (Integer.bitCount(blockLength) != 1 || blockLength < FRAME_ALIGNMENT)
+        {
+            throw new IllegalArgumentException("block length must be a power of 2 of at least frame alignment: " + blockLength);
+        }
+
+        this.blockLength = blockLength;
+        this.blockShift = Integer.numberOfTrailingZeros(blockLength);
+
+        final int blockCount = Math.max(termLength >> blockShift, 1);
+        final int bitmapLength = align(blockCount, Long.SIZE) / Byte.SIZE;
+
+        for (int i = 0; i < PARTITION_COUNT; i++)
+        {
+            bitmaps[i] = new UnsafeBuffer(new byte[bitmapLength]);
+        }
+    }
+
+    /**
+     * Record the arrival of a packet after it has been inserted in the term.
+     *
+     * @param partitionIndex of the term the packet was inserted in.
+     * @param termOffset     at which the packet begins.
+     */
+    public void onPacket(final int partitionIndex, final int termOffset)
+    {
+        final UnsafeBuffer bitmap = bitmaps[partitionIndex];
+        final int block = termOffset >> blockShift;
+        final int index = (block >> 6) * SIZE_OF_LONG;
+        final long word = bitmap.getLong(index);
+        final long bit = 1L << block;
+
+        if (0 == (word & bit))
+        {
+            bitmap.putLongOrdered(index, word | bit);
+        }
+    }
+
+    /**
+     * Clear the arrivals for a partition which is to be reused for a new term.
+     *
+     * @param partitionIndex of the term to be cleared.
+     */
+    public void clear(final int partitionIndex)
+    {
+        final UnsafeBuffer bitmap = bitmaps[partitionIndex];
+        bitmap.setMemory(0, bitmap.capacity(), (byte)0);
+    }
+
+    /**
+     * Scan for a gap from the rebuildOffset up to the high-water-mark with the same outcome as
+     * {@link io.aeron.logbuffer.TermGapScanner#scanForGap(UnsafeBuffer, int, int, int, GapHandler)}.
+     *
+     * @param termBuffer     to be scanned for a gap.
+     * @param partitionIndex of the term buffer.
+     * @param termId         of the current term buffer.
+     * @param rebuildOffset  at which to start scanning.
+     * @param hwmOffset      at which to stop scanning.
+     * @param handler        to call if a gap is found.
+     * @return offset of last contiguous frame
+     */
+    public int scanForGap(
+        final UnsafeBuffer termBuffer,
+        final int partitionIndex,
+        final int termId,
+        final int rebuildOffset,
+        final int hwmOffset,
+        final GapHandler handler)
+    {
+        int offset = rebuildOffset;
+        do
+        {
+            final int frameLength = frameLengthVolatile(termBuffer, offset);
+            if (frameLength <= 0)
+            {
+                break;
+            }
+
+            offset += align(frameLength, FRAME_ALIGNMENT);
+        }
+        while (offset < hwmOffset);
+
+        final int gapBeginOffset = offset;
+        if (offset < hwmOffset)
+        {
+            final int limit = hwmOffset - HEADER_LENGTH + FRAME_ALIGNMENT;
+            int gapEndOffset = findArrival(termBuffer, partitionIndex, gapBeginOffset + FRAME_ALIGNMENT, limit);
+            if (gapEndOffset < 0)
+            {
+                gapEndOffset = Math.max(hwmOffset, gapBeginOffset + HEADER_LENGTH);
+            }
+
+            handler.onGap(termId, termBuffer, gapBeginOffset, gapEndOffset - gapBeginOffset);
+        }
+
+        return gapBeginOffset;
+    }
+
+    private int findArrival(final UnsafeBuffer termBuffer, final int partitionIndex, final int fromOffset, final int limit)
+    {
+        if (fromOffset >= limit)
+        {
+            return -1;
+        }
+
+        int block = fromOffset >> blockShift;
+        int offset = scanBlock(termBuffer, fromOffset, Math.min((block + 1) << blockShift, limit));
+        if (offset >= 0)
+        {
+            return offset;
+        }
+
+        final UnsafeBuffer bitmap = bitmaps[partitionIndex];
+        final int lastBlock = (limit - 1) >> blockShift;
+        block++;
+
+        while (block <= lastBlock)
+        {
+            final long word = bitmap.getLongVolatile((block >> 6) * SIZE_OF_LONG) & (-1L << block);
+            if (0 == word)
+            {
+                block = (block | 63) + 1;
+                continue;
+            }
+
+            block = (block & ~63) + Long.numberOfTrailingZeros(word);
+            if (block > lastBlock)
+            {
+                break;
+            }
+
+            final int blockOffset = block << blockShift;
+            offset = scanBlock(termBuffer, blockOffset, Math.min(blockOffset + blockLength, limit));
+            if (offset >= 0)
+            {
+                return offset;
+            }
+
+            block++;
+        }
+
+        return -1;
+    }
+
+    private static int scanBlock(final UnsafeBuffer termBuffer, final int fromOffset, final int limit)
+    {
+        for (int offset = fromOffset; offset < limit; offset += FRAME_ALIGNMENT)
+        {
+            if (0 != termBuffer.getIntVolatile(offset))
+            {
+                return offset;
+            }
+        }
+
+        return -1;
+    }
+}
@@ -27,5 +27,11 @@ public enum ThreadingMode
     SHARED_NETWORK,
 
     /** One thread shared by all 3 agents. */
-    SHARED
+    SHARED,
+
+    /**
+     * No threads, all 3 agents are run by the application invoking {@link MediaDriver#sharedAgent()} from its own
+     * duty cycle.
+     */
+    INVOKER
 }
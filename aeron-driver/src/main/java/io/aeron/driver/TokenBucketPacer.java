@@ -0,0 +1,157 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket for pacing the rate at which a {@link NetworkPublication} sends data to smooth out bursts offered by a
+ * publisher. Tokens are bytes which accrue at the pacing rate up to the burst length.
+ * <p>
+ * A send is permitted while the bucket holds any tokens and the bytes sent are then consumed, which can take the
+ * bucket into debt by up to a datagram. This is distinct from flow control as it protects the network rather than
+ * the receiver.
+ * <p>
+ * All methods should be called from the {@link Sender} thread.
+ */
+public class TokenBucketPacer
+{
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long rateBytesPerSecond;
+    private final long burstLength;
+    private final AtomicCounter pacedBytes;
+    private final AtomicCounter rateLimitedTimeNs;
+
+    private long tokens;
+    private long timeOfLastRefill;
+    private long timeOfRateLimitStart;
+    private boolean isRateLimited = false;
+
+    public TokenBucketPacer(
+        final long rateBytesPerSecond,
+        final long burstLength,
+        final long now,
+        final AtomicCounter pacedBytes,
+        final AtomicCounter rateLimitedTimeNs)
+    {
+        this.rateBytesPerSecond = rateBytesPerSecond;
+        this.burstLength = burstLength;
+        this.pacedBytes = pacedBytes;
+        this.rateLimitedTimeNs = rateLimitedTimeNs;
+        this.tokens = burstLength;
+        this.timeOfLastRefill = now;
+    }
+
+    /**
+     * Refill the bucket for the time elapsed and check if a send is permitted.
+     *
+     * @param now current time in nanoseconds.
+     * @return true if a send is permitted otherwise false if rate limited.
+     */
+    public boolean tryAcquire(final long now)
+    {
+        refill(now);
+
+        if (tokens > 0)
+        {
+            if (isRateLimited)
+            {
+                isRateLimited = false;
+                rateLimitedTimeNs.addOrdered(now - timeOfRateLimitStart);
+            }
+
+            return true;
+        }
+
+        if (!isRateLimited)
+        {
+            isRateLimited = true;
+            timeOfRateLimitStart = now;
+        }
+
+        return false;
+    }
+
+    /**
+     * Consume tokens for bytes that have been sent.
+     *
+     * @param bytesSent to be consumed from the bucket.
+     */
+    public void onBytesSent(final int bytesSent)
+    {
+        if (bytesSent > 0)
+        {
+            tokens -= bytesSent;
+            pacedBytes.addOrdered(bytesSent);
+        }
+    }
+
+    /**
+     * The rate in bytes per second at which tokens accrue.
+     *
+     * @return rate in bytes per second at which tokens accrue.
+     */
+    public long rateBytesPerSecond()
+    {
+        return rateBytesPerSecond;
+    }
+
+    /**
+     * The maximum number of bytes which can be sent in a burst.
+     *
+     * @return maximum number of bytes which can be sent in a burst.
+     */
+    public long burstLength()
+    {
+        return burstLength;
+    }
+
+    /**
+     * The number of tokens currently in the bucket which may be negative when in debt.
+     *
+     * @return number of tokens currently in the bucket.
+     */
+    public long tokens()
+    {
+        return tokens;
+    }
+
+    private void refill(final long now)
+    {
+        final long elapsedNs = now - timeOfLastRefill;
+        if (elapsedNs > 0)
+        {
+            final long fullRefillNs = ((burstLength - tokens) * NANOS_PER_SECOND) / rateBytesPerSecond;
+            if (elapsedNs >= fullRefillNs)
+            {
+                tokens = burstLength;
+                timeOfLastRefill = now;
+            }
+            else
+            {
+                final long newTokens = (elapsedNs * rateBytesPerSecond) / NANOS_PER_SECOND;
+                if (newTokens > 0)
+                {
+                    tokens += newTokens;
+                    timeOfLastRefill += (newTokens * NANOS_PER_SECOND) / rateBytesPerSecond;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.concurrent.status.Position;
+
+/**
+ * Subscriber to a {@link DirectPublication} or {@link PublicationImage} which takes part in flow control only while it
+ * keeps up with the live position of the stream.
+ * <p>
+ * Once it falls behind by the untethered window limit it is made to rest, which makes its image unavailable to the
+ * client, and after the resting timeout it rejoins at the live position with a new image correlation id. Each
+ * untethered subscriber has its own image correlation id so it can be made unavailable without affecting others.
+ */
+class UntetheredSubscription
+{
+    enum State
+    {
+        ACTIVE, RESTING
+    }
+
+    private final SubscriptionLink subscriptionLink;
+    private final Position position;
+    private long imageCorrelationId;
+    private long timeOfLastStateChange;
+    private volatile State state = State.ACTIVE;
+
+    UntetheredSubscription(
+        final SubscriptionLink subscriptionLink, final Position position, final long imageCorrelationId, final long now)
+    {
+        this.subscriptionLink = subscriptionLink;
+        this.position = position;
+        this.imageCorrelationId = imageCorrelationId;
+        this.timeOfLastStateChange = now;
+    }
+
+    SubscriptionLink subscriptionLink()
+    {
+        return subscriptionLink;
+    }
+
+    Position position()
+    {
+        return position;
+    }
+
+    long imageCorrelationId()
+    {
+        return imageCorrelationId;
+    }
+
+    boolean isActive()
+    {
+        return State.ACTIVE == state;
+    }
+
+    /**
+     * Is the subscriber active and close enough to the live position to be included in flow control.
+     *
+     * @param livePosition of the stream.
+     * @param windowLimit  the subscriber must be within of the live position.
+     * @return true if the subscriber should be included in flow control.
+     */
+    boolean isFlowControlled(final long livePosition, final long windowLimit)
+    {
+        return State.ACTIVE == state && (livePosition - position.getVolatile()) < windowLimit;
+    }
+
+    /**
+     * Should the subscriber be made to rest as it has fallen too far behind. Called from the {@link DriverConductor}.
+     *
+     * @param livePosition of the stream.
+     * @param windowLimit  the subscriber must be within of the live position.
+     * @return true if the subscriber is active and has fallen behind by the window limit.
+     */
+    boolean hasFallenBehind(final long livePosition, final long windowLimit)
+    {
+        return State.ACTIVE == state && (livePosition - position.getVolatile()) >= windowLimit;
+    }
+
+    /**
+     * Has the subscriber rested long enough to rejoin. Called from the {@link DriverConductor}.
+     *
+     * @param now in nanoseconds.
+     * @return true if the subscriber is resting and the resting timeout has expired.
+     */
+    boolean hasRested(final long now)
+    {
+        return State.RESTING == state && now > (timeOfLastStateChange + Configuration.UNTETHERED_RESTING_TIMEOUT_NS);
+    }
+
+    void rest(final long now)
+    {
+        timeOfLastStateChange = now;
+        state = State.RESTING;
+    }
+
+    void rejoin(final long livePosition, final long imageCorrelationId, final long now)
+    {
+        position.setOrdered(livePosition);
+        this.imageCorrelationId = imageCorrelationId;
+        timeOfLastStateChange = now;
+        state = State.ACTIVE;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.IoUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+
+/**
+ * Creation of the files mapped by the Media Driver which may be on a file system with a page length larger than the
+ * default, such as hugetlbfs, and pre-faulting of the pages when mapped.
+ * <p>
+ * Files on hugetlbfs can only be given lengths which are a multiple of its page length and cannot be written with
+ * write(2), so files are extended with ftruncate(2) which leaves them zeroed rather than being filled with zeros.
+ */
+public final class MappedFiles
+{
+    private MappedFiles()
+    {
+    }
+
+    /**
+     * Align a length up to a multiple of the page length of a file system.
+     *
+     * @param length         to be aligned.
+     * @param filePageLength of the file system, which is a power of 2.
+     * @return the length aligned up to the page length.
+     */
+    public static long align(final long length, final int filePageLength)
+    {
+        final long mask = filePageLength - 1L;
+
+        return (length + mask) & ~mask;
+    }
+
+    /**
+     * Create a new zeroed file, or zero an existing one, with its length aligned to the page length of the file system
+     * and map it into memory.
+     *
+     * @param file           to be created.
+     * @param length         of the file before alignment.
+     * @param filePageLength of the file system, which is a power of 2.
+     * @return the mapping of the whole file which may be longer than the requested length.
+     */
+    public static MappedByteBuffer mapNewFile(final File file, final long length, final int filePageLength)
+    {
+        IoUtil.ensureDirectoryExists(file.getParentFile(), file.getParent());
+
+        try (final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+             final FileChannel channel = raf.getChannel())
+        {
+            final long fileLength = align(length, filePageLength);
+            raf.setLength(0);
+            raf.setLength(fileLength);
+
+            return channel.map(READ_WRITE, 0, fileLength);
+        }
+        catch (final IOException ex)
+        {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Pre-fault the pages of a new mapping by writing a zero to each page so the first pass through the mapping does
+     * not take page faults. The mapping must not yet contain any data.
+     *
+     * @param buffer         mapping to be pre-faulted.
+     * @param length         of the mapping to be pre-faulted from the start.
+     * @param filePageLength of the file system, which is a power of 2.
+     * @return the time in nanoseconds spent pre-faulting.
+     */
+    public static long preFault(final MappedByteBuffer buffer, final int length, final int filePageLength)
+    {
+        final long startNs = System.nanoTime();
+
+        for (int i = 0; i < length; i += filePageLength)
+        {
+            buffer.put(i, (byte)0);
+        }
+
+        return System.nanoTime() - startNs;
+    }
+}
@@ -15,10 +15,12 @@
  */
 package io.aeron.driver.buffer;
 
+import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.LogBufferPartition;
 import org.agrona.IoUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.errors.DistinctErrorLog;
+import org.agrona.concurrent.status.AtomicCounter;
 
 import java.io.File;
 import java.io.IOException;
@@ -33,11 +35,13 @@ import static io.aeron.logbuffer.LogBufferDescriptor.*;
 
 /**
  * Encapsulates responsibility for mapping the files into memory used by the log partitions.
+ * <p>
+ * The length of the file is aligned to the page length of the file system holding it, as required by hugetlbfs, with
+ * the meta data at the end of the file and the term length stored in the log meta data for clients to map it.
  */
 class MappedRawLog implements RawLog
 {
     private static final int ONE_GIG = 1 << 30;
-    private static final int PAGE_LENGTH = 4096;
 
     private final int termLength;
     private final LogBufferPartition[] partitions;
@@ -50,7 +54,9 @@ class MappedRawLog implements RawLog
         final File location,
         final boolean useSparseFiles,
         final int termLength,
-        final DistinctErrorLog errorLog)
+        final int filePageLength,
+        final DistinctErrorLog errorLog,
+        final AtomicCounter preFaultTimeNs)
     {
         this.termLength = termLength;
         this.errorLog = errorLog;
@@ -60,19 +66,21 @@ class MappedRawLog implements RawLog
         try (final RandomAccessFile raf = new RandomAccessFile(logFile, "rw");
              final FileChannel logChannel = raf.getChannel())
         {
-            final long logLength = computeLogLength(termLength);
+            final long logLength = computeLogLength(termLength, filePageLength);
             raf.setLength(logLength);
 
+            long preFaultNs = 0;
+
             if (logLength <= Integer.MAX_VALUE)
             {
                 final MappedByteBuffer mappedBuffer = logChannel.map(READ_WRITE, 0, logLength);
                 if (!useSparseFiles)
                 {
-                    allocatePages(mappedBuffer, (int)logLength);
+                    preFaultNs += MappedFiles.preFault(mappedBuffer, (int)logLength, filePageLength);
                 }
 
                 mappedBuffers = new MappedByteBuffer[]{mappedBuffer};
-                final int metaDataSectionOffset = termLength * PARTITION_COUNT;
+                final int metaDataSectionOffset = (int)computeMetaDataSectionOffset(logLength);
 
                 for (int i = 0; i < PARTITION_COUNT; i++)
                 {
@@ -88,11 +96,10 @@ class MappedRawLog implements RawLog
             else
             {
                 mappedBuffers = new MappedByteBuffer[PARTITION_COUNT + 1];
-                final long metaDataSectionOffset = termLength * (long)PARTITION_COUNT;
-                final int metaDataSectionLength = (int)(logLength - metaDataSectionOffset);
+                final long metaDataSectionOffset = computeMetaDataSectionOffset(logLength);
 
                 final MappedByteBuffer metaDataMappedBuffer = logChannel.map(
-                    READ_WRITE, metaDataSectionOffset, metaDataSectionLength);
+                    READ_WRITE, metaDataSectionOffset, META_DATA_SECTION_LENGTH);
                 mappedBuffers[mappedBuffers.length - 1] = metaDataMappedBuffer;
 
                 for (int i = 0; i < PARTITION_COUNT; i++)
@@ -100,7 +107,7 @@ class MappedRawLog implements RawLog
                     mappedBuffers[i] = logChannel.map(READ_WRITE, termLength * (long)i, termLength);
                     if (!useSparseFiles)
                     {
-                        allocatePages(mappedBuffers[i], termLength);
+                        preFaultNs += MappedFiles.preFault(mappedBuffers[i], termLength, filePageLength);
                     }
 
                     partitions[i] = new LogBufferPartition(
@@ -109,8 +116,11 @@ class MappedRawLog implements RawLog
                 }
 
                 logMetaDataBuffer = new UnsafeBuffer(
-                    metaDataMappedBuffer, metaDataSectionLength - LOG_META_DATA_LENGTH, LOG_META_DATA_LENGTH);
+                    metaDataMappedBuffer, META_DATA_SECTION_LENGTH - LOG_META_DATA_LENGTH, LOG_META_DATA_LENGTH);
             }
+
+            LogBufferDescriptor.termLength(logMetaDataBuffer, termLength);
+            preFaultTimeNs.add(preFaultNs);
         }
         catch (final IOException ex)
         {
@@ -179,12 +189,4 @@ class MappedRawLog implements RawLog
     {
         return logFile.getAbsolutePath();
     }
-
-    private static void allocatePages(final MappedByteBuffer buffer, final int length)
-    {
-        for (int i = 0; i < length; i += PAGE_LENGTH)
-        {
-            buffer.put(i, (byte)0);
-        }
-    }
 }
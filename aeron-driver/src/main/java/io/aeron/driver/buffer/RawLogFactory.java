@@ -17,6 +17,7 @@ package io.aeron.driver.buffer;
 
 import org.agrona.IoUtil;
 import org.agrona.concurrent.errors.DistinctErrorLog;
+import org.agrona.concurrent.status.AtomicCounter;
 
 import java.io.File;
 
@@ -32,6 +33,8 @@ public class RawLogFactory
     private final int imagesTermBufferMaxLength;
     private final int ipcPublicationTermBufferLength;
     private final boolean useSparseFiles;
+    private final int filePageLength;
+    private final AtomicCounter preFaultTimeNs;
 
     private final File publicationsDir;
     private final File imagesDir;
@@ -42,10 +45,14 @@ public class RawLogFactory
         final int imagesTermBufferMaxLength,
         final int ipcPublicationTermBufferLength,
         final boolean useSparseFiles,
-        final DistinctErrorLog errorLog)
+        final int filePageLength,
+        final DistinctErrorLog errorLog,
+        final AtomicCounter preFaultTimeNs)
     {
         this.errorLog = errorLog;
         this.useSparseFiles = useSparseFiles;
+        this.filePageLength = filePageLength;
+        this.preFaultTimeNs = preFaultTimeNs;
 
         final FileMappingConvention fileMappingConvention = new FileMappingConvention(dataDirectoryName);
         publicationsDir = fileMappingConvention.publicationsDir();
@@ -73,6 +80,22 @@ public class RawLogFactory
         return newInstance(publicationsDir, channel, sessionId, streamId, correlationId, publicationTermBufferLength);
     }
 
+    /**
+     * Create new {@link RawLog} in the publications directory for the supplied triplet with a given term length.
+     *
+     * @param channel          address on the media to send to.
+     * @param sessionId        under which transmissions are made.
+     * @param streamId         within the channel address to separate message flows.
+     * @param correlationId    to use to distinguish this publication
+     * @param termBufferLength length of each term in the log
+     * @return the newly allocated {@link RawLog}
+     */
+    public RawLog newNetworkPublication(
+        final String channel, final int sessionId, final int streamId, final long correlationId, final int termBufferLength)
+    {
+        return newInstance(publicationsDir, channel, sessionId, streamId, correlationId, termBufferLength);
+    }
+
     /**
      * Create new {@link RawLog} in the rebuilt publication images directory for the supplied triplet.
      *
@@ -118,6 +141,6 @@ public class RawLogFactory
     {
         final File location = streamLocation(rootDir, channel, sessionId, streamId, correlationId);
 
-        return new MappedRawLog(location, useSparseFiles, termBufferLength, errorLog);
+        return new MappedRawLog(location, useSparseFiles, termBufferLength, filePageLength, errorLog, preFaultTimeNs);
     }
 }
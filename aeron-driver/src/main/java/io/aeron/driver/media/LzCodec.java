@@ -0,0 +1,287 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Pure Java LZ77 block codec using an LZ4 style sequence format for compressing batches of frames on a channel.
+ * <p>
+ * A block is a series of sequences, each being a token byte of literal length (high nibble) and match length
+ * (low nibble), any extra literal length bytes, the literals, a 2 byte little endian match offset, and any extra
+ * match length bytes. The final sequence contains only literals.
+ * <p>
+ * Instances hold a hash table and so are not thread safe. The table need not be cleared between blocks as candidate
+ * matches are always verified.
+ */
+public final class LzCodec
+{
+    /**
+     * Name used to select this codec on a channel.
+     */
+    public static final String NAME = "lz";
+
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MATCH_FIND_LIMIT = 12;
+    private static final int MAX_DISTANCE = 0xFFFF;
+    private static final int RUN_MASK = 0xF;
+    private static final int HASH_LOG = 12;
+    private static final int HASH_MULTIPLIER = -1640531535;
+
+    private final int[] hashTable = new int[1 << HASH_LOG];
+
+    /**
+     * Compress a block of bytes.
+     *
+     * @param src          containing the block to be compressed.
+     * @param srcOffset    at which the block begins.
+     * @param srcLength    of the block in bytes.
+     * @param dst          into which the compressed block is written.
+     * @param dstOffset    at which the compressed block should begin.
+     * @param dstMaxLength available for the compressed block.
+     * @return length of the compressed block or -1 if it would not fit in dstMaxLength.
+     */
+    public int compress(
+        final DirectBuffer src,
+        final int srcOffset,
+        final int srcLength,
+        final MutableDirectBuffer dst,
+        final int dstOffset,
+        final int dstMaxLength)
+    {
+        final int srcEnd = srcOffset + srcLength;
+        final int dstEnd = dstOffset + dstMaxLength;
+        final int matchLimit = srcEnd - LAST_LITERALS;
+        final int matchFindLimit = srcEnd - MATCH_FIND_LIMIT;
+        final int[] hashTable = this.hashTable;
+
+        int anchor = srcOffset;
+        int s = srcOffset;
+        int d = dstOffset;
+
+        while (s < matchFindLimit)
+        {
+            final int sequence = src.getInt(s);
+            final int hash = (sequence * HASH_MULTIPLIER) >>> (32 - HASH_LOG);
+            final int candidate = srcOffset + hashTable[hash];
+            hashTable[hash] = s - srcOffset;
+
+            if (candidate < srcOffset || candidate >= s || (s - candidate) > MAX_DISTANCE ||
+                src.getInt(candidate) != sequence)
+            {
+                s += 1 + ((s - anchor) >>> 6);
+                continue;
+            }
+
+            int matchLength = MIN_MATCH;
+            while ((s + matchLength) < matchLimit && src.getByte(candidate + matchLength) == src.getByte(s + matchLength))
+            {
+                matchLength++;
+            }
+
+            d = writeSequence(src, anchor, s - anchor, s - candidate, matchLength, dst, d, dstEnd);
+            if (d < 0)
+            {
+                return -1;
+            }
+
+            s += matchLength;
+            anchor = s;
+        }
+
+        d = writeSequence(src, anchor, srcEnd - anchor, 0, 0, dst, d, dstEnd);
+
+        return d < 0 ? -1 : d - dstOffset;
+    }
+
+    /**
+     * Decompress a block of bytes previously compressed with {@link #compress}.
+     *
+     * @param src          containing the compressed block.
+     * @param srcOffset    at which the compressed block begins.
+     * @param srcLength    of the compressed block in bytes.
+     * @param dst          into which the block is decompressed.
+     * @param dstOffset    at which the decompressed block should begin.
+     * @param dstMaxLength available for the decompressed block.
+     * @return length of the decompressed block or -1 if the compressed block is malformed or would not fit.
+     */
+    public static int decompress(
+        final DirectBuffer src,
+        final int srcOffset,
+        final int srcLength,
+        final MutableDirectBuffer dst,
+        final int dstOffset,
+        final int dstMaxLength)
+    {
+        final int srcEnd = srcOffset + srcLength;
+        final int dstEnd = dstOffset + dstMaxLength;
+        int s = srcOffset;
+        int d = dstOffset;
+
+        while (s < srcEnd)
+        {
+            final int token = src.getByte(s++) & 0xFF;
+
+            int literalLength = token >>> 4;
+            if (RUN_MASK == literalLength)
+            {
+                int b;
+                do
+                {
+                    if (s >= srcEnd)
+                    {
+                        return -1;
+                    }
+
+                    b = src.getByte(s++) & 0xFF;
+                    literalLength += b;
+                }
+                while (0xFF == b);
+            }
+
+            if ((s + literalLength) > srcEnd || (d + literalLength) > dstEnd)
+            {
+                return -1;
+            }
+
+            dst.putBytes(d, src, s, literalLength);
+            s += literalLength;
+            d += literalLength;
+
+            if (s == srcEnd)
+            {
+                break;
+            }
+
+            if ((s + 2) > srcEnd)
+            {
+                return -1;
+            }
+
+            final int offset = (src.getByte(s) & 0xFF) | ((src.getByte(s + 1) & 0xFF) << 8);
+            s += 2;
+
+            int matchLength = token & RUN_MASK;
+            if (RUN_MASK == matchLength)
+            {
+                int b;
+                do
+                {
+                    if (s >= srcEnd)
+                    {
+                        return -1;
+                    }
+
+                    b = src.getByte(s++) & 0xFF;
+                    matchLength += b;
+                }
+                while (0xFF == b);
+            }
+            matchLength += MIN_MATCH;
+
+            final int matchStart = d - offset;
+            if (0 == offset || matchStart < dstOffset || (d + matchLength) > dstEnd)
+            {
+                return -1;
+            }
+
+            if (offset >= matchLength)
+            {
+                dst.putBytes(d, dst, matchStart, matchLength);
+            }
+            else
+            {
+                for (int i = 0; i < matchLength; i++)
+                {
+                    dst.putByte(d + i, dst.getByte(matchStart + i));
+                }
+            }
+
+            d += matchLength;
+        }
+
+        return d - dstOffset;
+    }
+
+    private static int writeSequence(
+        final DirectBuffer src,
+        final int literalOffset,
+        final int literalLength,
+        final int matchOffset,
+        final int matchLength,
+        final MutableDirectBuffer dst,
+        int d,
+        final int dstEnd)
+    {
+        final int requiredLength = 1 + literalLength + (literalLength / 0xFF) + 1 + 2 + (matchLength / 0xFF) + 1;
+        if ((d + requiredLength) > dstEnd)
+        {
+            return -1;
+        }
+
+        final int tokenIndex = d++;
+        int token;
+
+        if (literalLength >= RUN_MASK)
+        {
+            token = RUN_MASK << 4;
+            d = writeLength(dst, d, literalLength - RUN_MASK);
+        }
+        else
+        {
+            token = literalLength << 4;
+        }
+
+        dst.putBytes(d, src, literalOffset, literalLength);
+        d += literalLength;
+
+        if (matchLength > 0)
+        {
+            dst.putByte(d++, (byte)matchOffset);
+            dst.putByte(d++, (byte)(matchOffset >>> 8));
+
+            final int extraMatchLength = matchLength - MIN_MATCH;
+            if (extraMatchLength >= RUN_MASK)
+            {
+                token |= RUN_MASK;
+                d = writeLength(dst, d, extraMatchLength - RUN_MASK);
+            }
+            else
+            {
+                token |= extraMatchLength;
+            }
+        }
+
+        dst.putByte(tokenIndex, (byte)token);
+
+        return d;
+    }
+
+    private static int writeLength(final MutableDirectBuffer dst, int d, int length)
+    {
+        while (length >= 0xFF)
+        {
+            dst.putByte(d++, (byte)0xFF);
+            length -= 0xFF;
+        }
+
+        dst.putByte(d++, (byte)length);
+
+        return d;
+    }
+}
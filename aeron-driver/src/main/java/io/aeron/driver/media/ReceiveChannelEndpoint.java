@@ -23,6 +23,7 @@ import org.agrona.LangUtil;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.MutableInteger;
 import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.NanoClock;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import java.io.IOException;
@@ -45,6 +46,8 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
     private final AtomicCounter nakMessageShortSends;
     private final AtomicCounter invalidPackets;
     private final AtomicCounter possibleTtlAsymmetry;
+    private final AtomicCounter decompressionTimeNs;
+    private final NanoClock nanoClock;
 
     private final ByteBuffer smBuffer = ByteBuffer.allocateDirect(StatusMessageFlyweight.HEADER_LENGTH);
     private final StatusMessageFlyweight smHeader = new StatusMessageFlyweight(smBuffer);
@@ -53,6 +56,11 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
 
     private final SetupFlyweight setupHeader;
     private final DataHeaderFlyweight dataHeader;
+    private final CompressedDataHeaderFlyweight compressedDataHeader;
+    private final FecHeaderFlyweight fecHeader;
+    private final UnsafeBuffer decompressedBuffer =
+        new UnsafeBuffer(ByteBuffer.allocateDirect(Configuration.COMPRESSION_BATCH_MAX_LENGTH));
+    private final DataHeaderFlyweight decompressedDataHeader = new DataHeaderFlyweight(decompressedBuffer);
     private final Int2ObjectHashMap<MutableInteger> refCountByStreamIdMap = new Int2ObjectHashMap<>();
 
     private volatile boolean isClosed = false;
@@ -81,12 +89,16 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
 
         dataHeader = new DataHeaderFlyweight(receiveBuffer);
         setupHeader = new SetupFlyweight(receiveBuffer);
+        compressedDataHeader = new CompressedDataHeaderFlyweight(receiveBuffer);
+        fecHeader = new FecHeaderFlyweight(receiveBuffer);
 
         this.dispatcher = dispatcher;
         statusMessageShortSends = context.systemCounters().get(SystemCounterDescriptor.STATUS_MESSAGE_SHORT_SENDS);
         nakMessageShortSends = context.systemCounters().get(SystemCounterDescriptor.NAK_MESSAGE_SHORT_SENDS);
         invalidPackets = context.systemCounters().get(SystemCounterDescriptor.INVALID_PACKETS);
         possibleTtlAsymmetry = context.systemCounters().get(SystemCounterDescriptor.POSSIBLE_TTL_ASYMMETRY);
+        decompressionTimeNs = context.systemCounters().get(SystemCounterDescriptor.DECOMPRESSION_TIME_NS);
+        nanoClock = context.nanoClock();
     }
 
     /**
@@ -321,6 +333,18 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
                 bytesReceived = dispatcher.onDataPacket(this, dataHeader, buffer, length, srcAddress);
                 break;
 
+            case HDR_TYPE_CDATA:
+                bytesReceived = onCompressedDataPacket(compressedDataHeader, buffer, length, srcAddress);
+                break;
+
+            case HDR_TYPE_FEC:
+                if (length >= FecHeaderFlyweight.headerLength(0) &&
+                    length >= FecHeaderFlyweight.headerLength(fecHeader.packetCount()))
+                {
+                    bytesReceived = dispatcher.onFecPacket(this, fecHeader, length);
+                }
+                break;
+
             case HDR_TYPE_SETUP:
                 dispatcher.onSetupMessage(this, setupHeader, buffer, srcAddress);
                 break;
@@ -328,4 +352,34 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
 
         return bytesReceived;
     }
+
+    private int onCompressedDataPacket(
+        final CompressedDataHeaderFlyweight header,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress)
+    {
+        final int headerLength = CompressedDataHeaderFlyweight.HEADER_LENGTH;
+        final int uncompressedLength = header.uncompressedLength();
+
+        if (length < headerLength || uncompressedLength < DataHeaderFlyweight.HEADER_LENGTH ||
+            uncompressedLength > decompressedBuffer.capacity())
+        {
+            invalidPackets.orderedIncrement();
+            return 0;
+        }
+
+        final long startNs = nanoClock.nanoTime();
+        final int decompressedLength = LzCodec.decompress(
+            buffer, headerLength, length - headerLength, decompressedBuffer, 0, uncompressedLength);
+        decompressionTimeNs.addOrdered(nanoClock.nanoTime() - startNs);
+
+        if (decompressedLength != uncompressedLength)
+        {
+            invalidPackets.orderedIncrement();
+            return 0;
+        }
+
+        return dispatcher.onDataPacket(this, decompressedDataHeader, decompressedBuffer, uncompressedLength, srcAddress);
+    }
 }
\ No newline at end of file
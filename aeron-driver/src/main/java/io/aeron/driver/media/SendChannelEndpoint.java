@@ -48,6 +48,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
 
     private final Int2ObjectHashMap<NetworkPublication> driversPublicationByStreamId = new Int2ObjectHashMap<>();
     private final BiInt2ObjectMap<NetworkPublication> sendersPublicationByStreamAndSessionId = new BiInt2ObjectMap<>();
+    private int exclusivePublicationCount = 0;
 
     private final AtomicCounter statusMessagesReceived;
     private final AtomicCounter nakMessagesReceived;
@@ -95,13 +96,21 @@ public class SendChannelEndpoint extends UdpChannelTransport
     }
 
     /**
-     * Called form the {@link DriverConductor} to associate a publication with a sessionId and streamId.
+     * Called form the {@link DriverConductor} to associate a publication with a sessionId and streamId. Exclusive
+     * publications are counted but not associated with the streamId so they are never shared.
      *
      * @param publication to associate
      */
     public void addPublication(final NetworkPublication publication)
     {
-        driversPublicationByStreamId.put(publication.streamId(), publication);
+        if (publication.isExclusive())
+        {
+            exclusivePublicationCount++;
+        }
+        else
+        {
+            driversPublicationByStreamId.put(publication.streamId(), publication);
+        }
     }
 
     /**
@@ -112,6 +121,12 @@ public class SendChannelEndpoint extends UdpChannelTransport
      */
     public NetworkPublication removePublication(final NetworkPublication publication)
     {
+        if (publication.isExclusive())
+        {
+            exclusivePublicationCount--;
+            return publication;
+        }
+
         return driversPublicationByStreamId.remove(publication.streamId());
     }
 
@@ -122,7 +137,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
      */
     public int sessionCount()
     {
-        return driversPublicationByStreamId.size();
+        return driversPublicationByStreamId.size() + exclusivePublicationCount;
     }
 
     /**
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import org.agrona.concurrent.status.Position;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+/**
+ * Monitor of the datagrams dropped by the kernel for the sockets of receive channel endpoints, such as when a socket
+ * receive buffer overflows, which are read from the drops column of /proc/net/udp and /proc/net/udp6 on Linux and
+ * published to a counter for each endpoint.
+ * <p>
+ * Sockets are matched on the local port of the data address of the channel, so the drops of all sockets bound to the
+ * port are summed. This includes sockets of other processes sharing a multicast port.
+ * <p>
+ * <b>Note:</b> Not threadsafe, it is used from the conductor thread only.
+ */
+public class SocketDropMonitor
+{
+    /**
+     * Files listing the UDP sockets of the host with their drops on Linux.
+     */
+    public static final Path[] PROC_NET_UDP_FILES = { Paths.get("/proc/net/udp"), Paths.get("/proc/net/udp6") };
+
+    private static final int LOCAL_ADDRESS_COLUMN = 1;
+    private static final int MIN_COLUMN_COUNT = 13;
+
+    private final long intervalNs;
+    private final Path[] procNetUdpFiles;
+    private final ArrayList<Entry> entries = new ArrayList<>();
+    private long timeOfLastReadNs;
+
+    /**
+     * Construct a monitor which reads the drops of the sockets on the host.
+     *
+     * @param intervalNs between reads of the drops.
+     * @param nowNs      the current time.
+     */
+    public SocketDropMonitor(final long intervalNs, final long nowNs)
+    {
+        this(intervalNs, nowNs, PROC_NET_UDP_FILES);
+    }
+
+    SocketDropMonitor(final long intervalNs, final long nowNs, final Path... procNetUdpFiles)
+    {
+        this.intervalNs = intervalNs;
+        this.timeOfLastReadNs = nowNs;
+        this.procNetUdpFiles = procNetUdpFiles;
+    }
+
+    /**
+     * Are the drops of sockets available on this host?
+     *
+     * @return true if the drops of sockets can be read.
+     */
+    public static boolean isSupported()
+    {
+        return Files.isReadable(PROC_NET_UDP_FILES[0]);
+    }
+
+    /**
+     * Monitor the drops for the sockets of a channel.
+     *
+     * @param udpChannel   of the receive channel endpoint.
+     * @param dropsCounter to which the drops are published.
+     */
+    public void add(final UdpChannel udpChannel, final Position dropsCounter)
+    {
+        entries.add(new Entry(udpChannel, dropsCounter));
+    }
+
+    /**
+     * Stop monitoring the drops for the sockets of a channel and close its counter.
+     *
+     * @param udpChannel of the receive channel endpoint.
+     */
+    public void remove(final UdpChannel udpChannel)
+    {
+        for (int i = 0, size = entries.size(); i < size; i++)
+        {
+            final Entry entry = entries.get(i);
+            if (entry.udpChannel == udpChannel)
+            {
+                entries.remove(i);
+                entry.dropsCounter.close();
+                break;
+            }
+        }
+    }
+
+    /**
+     * Read the drops if the interval has expired since they were last read.
+     *
+     * @param nowNs the current time.
+     * @return 1 if the drops were read, otherwise 0.
+     */
+    public int onCheckTimeout(final long nowNs)
+    {
+        int workCount = 0;
+
+        if (nowNs > (timeOfLastReadNs + intervalNs))
+        {
+            readDrops();
+            timeOfLastReadNs = nowNs;
+            workCount = 1;
+        }
+
+        return workCount;
+    }
+
+    /**
+     * Read the drops for the sockets of each channel being monitored and publish them to their counters.
+     */
+    public void readDrops()
+    {
+        if (entries.isEmpty())
+        {
+            return;
+        }
+
+        entries.forEach((entry) -> entry.drops = 0);
+
+        for (final Path file : procNetUdpFiles)
+        {
+            try (final BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII))
+            {
+                reader.readLine();
+
+                String line;
+                while (null != (line = reader.readLine()))
+                {
+                    onSocket(line.trim().split("\\s+"));
+                }
+            }
+            catch (final IOException ignore)
+            {
+                // the file is not present when the protocol family is not supported by the host.
+            }
+        }
+
+        entries.forEach((entry) -> entry.dropsCounter.setOrdered(entry.drops));
+    }
+
+    private void onSocket(final String[] columns)
+    {
+        if (columns.length < MIN_COLUMN_COUNT)
+        {
+            return;
+        }
+
+        final String localAddress = columns[LOCAL_ADDRESS_COLUMN];
+        final int port = Integer.parseInt(localAddress.substring(localAddress.lastIndexOf(':') + 1), 16);
+        final long drops = Long.parseLong(columns[columns.length - 1]);
+
+        for (int i = 0, size = entries.size(); i < size; i++)
+        {
+            final Entry entry = entries.get(i);
+            if (entry.port == port)
+            {
+                entry.drops += drops;
+            }
+        }
+    }
+
+    private static final class Entry
+    {
+        private final UdpChannel udpChannel;
+        private final Position dropsCounter;
+        private final int port;
+        private long drops;
+
+        Entry(final UdpChannel udpChannel, final Position dropsCounter)
+        {
+            this.udpChannel = udpChannel;
+            this.dropsCounter = dropsCounter;
+            this.port = udpChannel.remoteData().getPort();
+        }
+    }
+}
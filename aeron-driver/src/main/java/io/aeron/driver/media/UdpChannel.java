@@ -17,10 +17,12 @@ package io.aeron.driver.media;
 
 import io.aeron.ErrorCode;
 import io.aeron.driver.Configuration;
+import io.aeron.driver.PublicationPriority;
 import io.aeron.driver.exceptions.InvalidChannelException;
 import io.aeron.driver.uri.AeronUri;
 import io.aeron.driver.uri.UriUtil;
 import io.aeron.driver.uri.InterfaceSearchAddress;
+import io.aeron.protocol.DataHeaderFlyweight;
 import org.agrona.BitUtil;
 
 import java.net.*;
@@ -31,6 +33,8 @@ import java.util.Map;
 import static io.aeron.driver.media.NetworkUtil.filterBySubnet;
 import static io.aeron.driver.media.NetworkUtil.findAddressOnInterface;
 import static io.aeron.driver.media.NetworkUtil.getProtocolFamily;
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.LogBufferDescriptor.checkTermLength;
 import static java.lang.System.lineSeparator;
 import static java.net.InetAddress.getByAddress;
 import static org.agrona.BitUtil.toHex;
@@ -54,6 +58,42 @@ public final class UdpChannel
     private static final String GROUP_KEY = "group";
     private static final String ENDPOINT_KEY = "endpoint";
     private static final String MULTICAST_TTL_KEY = "ttl";
+    private static final String CATCHUP_KEY = "catchup";
+    private static final String COMPRESSION_KEY = "compression";
+    private static final String FEC_GROUP_KEY = "fec-group";
+    private static final String FEC_PARITY_KEY = "fec-parity";
+    private static final String PACING_RATE_KEY = "pacing-rate";
+    private static final String PACING_BURST_KEY = "pacing-burst";
+    private static final String PRIORITY_KEY = "priority";
+    private static final String TERM_LENGTH_KEY = "term-length";
+    private static final String MTU_KEY = "mtu";
+    private static final String INITIAL_WINDOW_KEY = "initial-window";
+    private static final String SO_RCVBUF_KEY = "so-rcvbuf";
+    private static final String SO_SNDBUF_KEY = "so-sndbuf";
+    private static final int MAX_UDP_PAYLOAD_LENGTH = 65504;
+    private static final int FEC_GROUP_SIZE_MAX = 64;
+
+    /**
+     * Channel parameter which when false leaves a subscription untethered from flow control of the stream.
+     */
+    public static final String TETHER_KEY = "tether";
+
+    /**
+     * Finds the {@link NetworkInterface} to use for an {@link InterfaceSearchAddress} when parsing a channel.
+     */
+    @FunctionalInterface
+    public interface InterfaceFinder
+    {
+        /**
+         * Find the interface to use for a search address.
+         *
+         * @param searchAddress from the channel URI.
+         * @return the interface matching the search address.
+         * @throws SocketException      if the network interfaces cannot be queried.
+         * @throws UnknownHostException if an address cannot be resolved.
+         */
+        NetworkInterface find(InterfaceSearchAddress searchAddress) throws SocketException, UnknownHostException;
+    }
 
     private final InetSocketAddress remoteData;
     private final InetSocketAddress localData;
@@ -65,6 +105,19 @@ public final class UdpChannel
     private final NetworkInterface localInterface;
     private final ProtocolFamily protocolFamily;
     private final int multicastTtl;
+    private final boolean isCatchup;
+    private final boolean isCompressed;
+    private final int fecGroupSize;
+    private final int fecParityCount;
+    private final long pacingRate;
+    private final long pacingBurstLength;
+    private final PublicationPriority priority;
+    private final boolean isTethered;
+    private final int termLength;
+    private final int mtuLength;
+    private final int initialWindowLength;
+    private final int socketRcvbufLength;
+    private final int socketSndbufLength;
 
     /**
      * Parse URI and create channel
@@ -73,6 +126,18 @@ public final class UdpChannel
      * @return created channel
      */
     public static UdpChannel parse(final String uriStr)
+    {
+        return parse(uriStr, UdpChannel::findInterface);
+    }
+
+    /**
+     * Parse URI and create channel, finding the local interface with the given {@link InterfaceFinder}.
+     *
+     * @param uriStr          to parse
+     * @param interfaceFinder to find the local interface for the channel
+     * @return created channel
+     */
+    public static UdpChannel parse(final String uriStr, final InterfaceFinder interfaceFinder)
     {
         try
         {
@@ -80,7 +145,16 @@ public final class UdpChannel
 
             validateConfiguration(uri);
 
-            final Context context = new Context().uriStr(uriStr);
+            final Context context = new Context()
+                .uriStr(uriStr)
+                .isCatchup(Boolean.parseBoolean(uri.get(CATCHUP_KEY)))
+                .isCompressed(isCompressed(uri))
+                .priority(getPriority(uri))
+                .isTethered(isTethered(uri));
+
+            applyFecConfiguration(uri, context);
+            applyPacingConfiguration(uri, context);
+            applyStreamConfiguration(uri, context);
 
             final InetSocketAddress endpointAddress = getEndpointAddress(uri);
 
@@ -101,7 +175,7 @@ public final class UdpChannel
 
                 final InterfaceSearchAddress searchAddress = getInterfaceSearchAddress(uri);
 
-                final NetworkInterface localInterface = findInterface(searchAddress);
+                final NetworkInterface localInterface = interfaceFinder.find(searchAddress);
                 final InetSocketAddress localAddress = resolveToAddressOfInterface(localInterface, searchAddress);
 
                 final ProtocolFamily protocolFamily = getProtocolFamily(endpointAddress.getAddress());
@@ -127,7 +201,7 @@ public final class UdpChannel
                 }
                 else
                 {
-                    final NetworkInterface localInterface = findInterface(searchAddress);
+                    final NetworkInterface localInterface = interfaceFinder.find(searchAddress);
                     localAddress = resolveToAddressOfInterface(localInterface, searchAddress);
                 }
 
@@ -212,6 +286,161 @@ public final class UdpChannel
         return ttl;
     }
 
+    private static PublicationPriority getPriority(final AeronUri uri)
+    {
+        final String priority = uri.get(PRIORITY_KEY);
+
+        return null == priority ? PublicationPriority.NORMAL : PublicationPriority.valueOf(priority.toUpperCase());
+    }
+
+    private static boolean isTethered(final AeronUri uri)
+    {
+        final String tether = uri.get(TETHER_KEY);
+
+        return null == tether || Boolean.parseBoolean(tether);
+    }
+
+    private static boolean isCompressed(final AeronUri uri)
+    {
+        final String compression = uri.get(COMPRESSION_KEY);
+
+        if (null == compression)
+        {
+            return false;
+        }
+
+        if (!LzCodec.NAME.equals(compression))
+        {
+            throw new IllegalArgumentException("Unknown compression codec: " + compression);
+        }
+
+        return true;
+    }
+
+    private static void applyFecConfiguration(final AeronUri uri, final Context context)
+    {
+        if (!uri.containsKey(FEC_GROUP_KEY))
+        {
+            if (uri.containsKey(FEC_PARITY_KEY))
+            {
+                throw new IllegalArgumentException(FEC_PARITY_KEY + " requires " + FEC_GROUP_KEY);
+            }
+
+            return;
+        }
+
+        final int groupSize = Integer.parseInt(uri.get(FEC_GROUP_KEY));
+        if (groupSize < 2 || groupSize > FEC_GROUP_SIZE_MAX)
+        {
+            throw new IllegalArgumentException(
+                FEC_GROUP_KEY + " must be in the range 2 to " + FEC_GROUP_SIZE_MAX + ": " + groupSize);
+        }
+
+        final int parityCount = Integer.parseInt(uri.get(FEC_PARITY_KEY, "1"));
+        if (parityCount < 1 || parityCount > groupSize)
+        {
+            throw new IllegalArgumentException(
+                FEC_PARITY_KEY + " must be in the range 1 to " + FEC_GROUP_KEY + ": " + parityCount);
+        }
+
+        if (context.isCompressed)
+        {
+            throw new IllegalArgumentException("FEC cannot be combined with " + COMPRESSION_KEY);
+        }
+
+        context.fecGroupSize(groupSize).fecParityCount(parityCount);
+    }
+
+    private static void applyPacingConfiguration(final AeronUri uri, final Context context)
+    {
+        if (!uri.containsKey(PACING_RATE_KEY))
+        {
+            return;
+        }
+
+        final long rate = Long.parseLong(uri.get(PACING_RATE_KEY));
+        if (rate <= 0)
+        {
+            throw new IllegalArgumentException(PACING_RATE_KEY + " must be greater than 0: " + rate);
+        }
+
+        final long burstLength = uri.containsKey(PACING_BURST_KEY) ?
+            Long.parseLong(uri.get(PACING_BURST_KEY)) : Configuration.PACING_BURST_LENGTH;
+        if (burstLength <= 0)
+        {
+            throw new IllegalArgumentException(PACING_BURST_KEY + " must be greater than 0: " + burstLength);
+        }
+
+        context.pacingRate(rate).pacingBurstLength(burstLength);
+    }
+
+    private static void applyStreamConfiguration(final AeronUri uri, final Context context)
+    {
+        if (uri.containsKey(TERM_LENGTH_KEY))
+        {
+            final int termLength = Integer.parseInt(uri.get(TERM_LENGTH_KEY));
+            Configuration.validateTermBufferLength(termLength);
+            checkTermLength(termLength);
+            context.termLength(termLength);
+        }
+
+        if (uri.containsKey(MTU_KEY))
+        {
+            final int mtuLength = Integer.parseInt(uri.get(MTU_KEY));
+            if (mtuLength < DataHeaderFlyweight.HEADER_LENGTH || mtuLength > MAX_UDP_PAYLOAD_LENGTH)
+            {
+                throw new IllegalArgumentException(String.format(
+                    "%s must be in the range %d to %d: %d",
+                    MTU_KEY, DataHeaderFlyweight.HEADER_LENGTH, MAX_UDP_PAYLOAD_LENGTH, mtuLength));
+            }
+
+            if ((mtuLength & (FRAME_ALIGNMENT - 1)) != 0)
+            {
+                throw new IllegalArgumentException(MTU_KEY + " must be a multiple of " + FRAME_ALIGNMENT + ": " + mtuLength);
+            }
+
+            context.mtuLength(mtuLength);
+        }
+
+        if (uri.containsKey(INITIAL_WINDOW_KEY))
+        {
+            final int initialWindowLength = Integer.parseInt(uri.get(INITIAL_WINDOW_KEY));
+            if (initialWindowLength <= 0)
+            {
+                throw new IllegalArgumentException(INITIAL_WINDOW_KEY + " must be greater than 0: " + initialWindowLength);
+            }
+
+            if (context.mtuLength > initialWindowLength)
+            {
+                throw new IllegalArgumentException(String.format(
+                    "%s must be >= %s: %d < %d", INITIAL_WINDOW_KEY, MTU_KEY, initialWindowLength, context.mtuLength));
+            }
+
+            context.initialWindowLength(initialWindowLength);
+        }
+
+        if (uri.containsKey(SO_RCVBUF_KEY))
+        {
+            context.socketRcvbufLength(parseSocketBufferLength(uri, SO_RCVBUF_KEY));
+        }
+
+        if (uri.containsKey(SO_SNDBUF_KEY))
+        {
+            context.socketSndbufLength(parseSocketBufferLength(uri, SO_SNDBUF_KEY));
+        }
+    }
+
+    private static int parseSocketBufferLength(final AeronUri uri, final String key)
+    {
+        final int length = Integer.parseInt(uri.get(key));
+        if (length <= 0)
+        {
+            throw new IllegalArgumentException(key + " must be greater than 0: " + length);
+        }
+
+        return length;
+    }
+
     private static void validateDataAddress(final byte[] addressAsBytes)
     {
         if (BitUtil.isEven(addressAsBytes[addressAsBytes.length - 1]))
@@ -272,6 +501,19 @@ public final class UdpChannel
                 .media(UDP_MEDIA_ID)
                 .param(GROUP_KEY, group)
                 .param(INTERFACE_KEY, inf)
+                .param(CATCHUP_KEY, params.get(CATCHUP_KEY))
+                .param(COMPRESSION_KEY, params.get(COMPRESSION_KEY))
+                .param(FEC_GROUP_KEY, params.get(FEC_GROUP_KEY))
+                .param(FEC_PARITY_KEY, params.get(FEC_PARITY_KEY))
+                .param(PACING_RATE_KEY, params.get(PACING_RATE_KEY))
+                .param(PACING_BURST_KEY, params.get(PACING_BURST_KEY))
+                .param(PRIORITY_KEY, params.get(PRIORITY_KEY))
+                .param(TETHER_KEY, params.get(TETHER_KEY))
+                .param(TERM_LENGTH_KEY, params.get(TERM_LENGTH_KEY))
+                .param(MTU_KEY, params.get(MTU_KEY))
+                .param(INITIAL_WINDOW_KEY, params.get(INITIAL_WINDOW_KEY))
+                .param(SO_RCVBUF_KEY, params.get(SO_RCVBUF_KEY))
+                .param(SO_SNDBUF_KEY, params.get(SO_SNDBUF_KEY))
                 .newInstance();
         }
         else
@@ -282,6 +524,19 @@ public final class UdpChannel
                 .media(UDP_MEDIA_ID)
                 .param(REMOTE_KEY, remote)
                 .param(LOCAL_KEY, userInfo)
+                .param(CATCHUP_KEY, params.get(CATCHUP_KEY))
+                .param(COMPRESSION_KEY, params.get(COMPRESSION_KEY))
+                .param(FEC_GROUP_KEY, params.get(FEC_GROUP_KEY))
+                .param(FEC_PARITY_KEY, params.get(FEC_PARITY_KEY))
+                .param(PACING_RATE_KEY, params.get(PACING_RATE_KEY))
+                .param(PACING_BURST_KEY, params.get(PACING_BURST_KEY))
+                .param(PRIORITY_KEY, params.get(PRIORITY_KEY))
+                .param(TETHER_KEY, params.get(TETHER_KEY))
+                .param(TERM_LENGTH_KEY, params.get(TERM_LENGTH_KEY))
+                .param(MTU_KEY, params.get(MTU_KEY))
+                .param(INITIAL_WINDOW_KEY, params.get(INITIAL_WINDOW_KEY))
+                .param(SO_RCVBUF_KEY, params.get(SO_RCVBUF_KEY))
+                .param(SO_SNDBUF_KEY, params.get(SO_SNDBUF_KEY))
                 .newInstance();
         }
     }
@@ -315,7 +570,15 @@ public final class UdpChannel
         return new InetSocketAddress(interfaceAddress, searchAddress.getPort());
     }
 
-    private static NetworkInterface findInterface(final InterfaceSearchAddress searchAddress)
+    /**
+     * Find the interface for a search address by searching the network interfaces of the host.
+     *
+     * @param searchAddress from the channel URI.
+     * @return the interface matching the search address.
+     * @throws SocketException      if the network interfaces cannot be queried.
+     * @throws UnknownHostException if an address cannot be resolved.
+     */
+    public static NetworkInterface findInterface(final InterfaceSearchAddress searchAddress)
         throws SocketException, UnknownHostException
     {
         final Collection<NetworkInterface> filteredIfcs = filterBySubnet(
@@ -383,6 +646,138 @@ public final class UdpChannel
         return multicastTtl;
     }
 
+    /**
+     * Should a joining image begin at the oldest position still retained by the sender rather than the live position.
+     *
+     * @return true if a joining image should catch up from the sender's retained terms.
+     */
+    public boolean isCatchup()
+    {
+        return isCatchup;
+    }
+
+    /**
+     * Should data sent on the channel be compressed in batches with the {@link LzCodec}.
+     *
+     * @return true if data sent on the channel should be compressed.
+     */
+    public boolean isCompressed()
+    {
+        return isCompressed;
+    }
+
+    /**
+     * Number of consecutive data packets in a forward error correction group, or 0 if FEC is not enabled.
+     *
+     * @return number of consecutive data packets in a forward error correction group, or 0 if FEC is not enabled.
+     */
+    public int fecGroupSize()
+    {
+        return fecGroupSize;
+    }
+
+    /**
+     * Number of parity packets sent for each forward error correction group.
+     *
+     * @return number of parity packets sent for each forward error correction group.
+     */
+    public int fecParityCount()
+    {
+        return fecParityCount;
+    }
+
+    /**
+     * Rate in bytes per second at which publications on the channel are paced, or 0 if not paced.
+     *
+     * @return rate in bytes per second at which publications on the channel are paced, or 0 if not paced.
+     */
+    public long pacingRate()
+    {
+        return pacingRate;
+    }
+
+    /**
+     * Length in bytes of the burst allowed above the pacing rate.
+     *
+     * @return length in bytes of the burst allowed above the pacing rate.
+     */
+    public long pacingBurstLength()
+    {
+        return pacingBurstLength;
+    }
+
+    /**
+     * Priority class with which publications on the channel are scheduled by the {@link io.aeron.driver.Sender}.
+     *
+     * @return priority class with which publications on the channel are scheduled.
+     */
+    public PublicationPriority priority()
+    {
+        return priority;
+    }
+
+    /**
+     * Should subscriptions on the channel hold back the stream by flow control however far they fall behind. An
+     * untethered subscription is instead made unavailable once it falls too far behind, and later rejoins at the live
+     * position.
+     *
+     * @return true if subscriptions on the channel are tethered to the stream by flow control.
+     */
+    public boolean isTethered()
+    {
+        return isTethered;
+    }
+
+    /**
+     * Length of the terms of publications on the channel, overriding the driver default.
+     *
+     * @return length of the terms of publications on the channel, or 0 for the driver default.
+     */
+    public int termLength()
+    {
+        return termLength;
+    }
+
+    /**
+     * Length of the largest packet sent by publications on the channel, overriding the driver default.
+     *
+     * @return length of the largest packet sent by publications on the channel, or 0 for the driver default.
+     */
+    public int mtuLength()
+    {
+        return mtuLength;
+    }
+
+    /**
+     * Initial receiver window for images on the channel, overriding the driver default.
+     *
+     * @return initial receiver window for images on the channel, or 0 for the driver default.
+     */
+    public int initialWindowLength()
+    {
+        return initialWindowLength;
+    }
+
+    /**
+     * Length of the SO_RCVBUF of sockets for the channel, overriding the driver default.
+     *
+     * @return length of the SO_RCVBUF of sockets for the channel, or 0 for the driver default.
+     */
+    public int socketRcvbufLength()
+    {
+        return socketRcvbufLength;
+    }
+
+    /**
+     * Length of the SO_SNDBUF of sockets for the channel, overriding the driver default.
+     *
+     * @return length of the SO_SNDBUF of sockets for the channel, or 0 for the driver default.
+     */
+    public int socketSndbufLength()
+    {
+        return socketSndbufLength;
+    }
+
     private UdpChannel(final Context context)
     {
         this.remoteData = context.remoteData;
@@ -394,6 +789,19 @@ public final class UdpChannel
         this.localInterface = context.localInterface;
         this.protocolFamily = context.protocolFamily;
         this.multicastTtl = context.multicastTtl;
+        this.isCatchup = context.isCatchup;
+        this.isCompressed = context.isCompressed;
+        this.fecGroupSize = context.fecGroupSize;
+        this.fecParityCount = context.fecParityCount;
+        this.pacingRate = context.pacingRate;
+        this.pacingBurstLength = context.pacingBurstLength;
+        this.priority = context.priority;
+        this.isTethered = context.isTethered;
+        this.termLength = context.termLength;
+        this.mtuLength = context.mtuLength;
+        this.initialWindowLength = context.initialWindowLength;
+        this.socketRcvbufLength = context.socketRcvbufLength;
+        this.socketSndbufLength = context.socketSndbufLength;
     }
 
     /**
@@ -512,6 +920,19 @@ public final class UdpChannel
         private NetworkInterface localInterface;
         private ProtocolFamily protocolFamily;
         private int multicastTtl;
+        private boolean isCatchup;
+        private boolean isCompressed;
+        private int fecGroupSize;
+        private int fecParityCount;
+        private long pacingRate;
+        private long pacingBurstLength;
+        private PublicationPriority priority;
+        private boolean isTethered = true;
+        private int termLength;
+        private int mtuLength;
+        private int initialWindowLength;
+        private int socketRcvbufLength;
+        private int socketSndbufLength;
 
         public Context uriStr(final String uri)
         {
@@ -566,6 +987,84 @@ public final class UdpChannel
             this.multicastTtl = multicastTtl;
             return this;
         }
+
+        public Context isCatchup(final boolean isCatchup)
+        {
+            this.isCatchup = isCatchup;
+            return this;
+        }
+
+        public Context isCompressed(final boolean isCompressed)
+        {
+            this.isCompressed = isCompressed;
+            return this;
+        }
+
+        public Context fecGroupSize(final int fecGroupSize)
+        {
+            this.fecGroupSize = fecGroupSize;
+            return this;
+        }
+
+        public Context fecParityCount(final int fecParityCount)
+        {
+            this.fecParityCount = fecParityCount;
+            return this;
+        }
+
+        public Context pacingRate(final long pacingRate)
+        {
+            this.pacingRate = pacingRate;
+            return this;
+        }
+
+        public Context pacingBurstLength(final long pacingBurstLength)
+        {
+            this.pacingBurstLength = pacingBurstLength;
+            return this;
+        }
+
+        public Context priority(final PublicationPriority priority)
+        {
+            this.priority = priority;
+            return this;
+        }
+
+        public Context isTethered(final boolean isTethered)
+        {
+            this.isTethered = isTethered;
+            return this;
+        }
+
+        public Context termLength(final int termLength)
+        {
+            this.termLength = termLength;
+            return this;
+        }
+
+        public Context mtuLength(final int mtuLength)
+        {
+            this.mtuLength = mtuLength;
+            return this;
+        }
+
+        public Context initialWindowLength(final int initialWindowLength)
+        {
+            this.initialWindowLength = initialWindowLength;
+            return this;
+        }
+
+        public Context socketRcvbufLength(final int socketRcvbufLength)
+        {
+            this.socketRcvbufLength = socketRcvbufLength;
+            return this;
+        }
+
+        public Context socketSndbufLength(final int socketSndbufLength)
+        {
+            this.socketSndbufLength = socketSndbufLength;
+            return this;
+        }
     }
 
     private static String errorNoMatchingInterfaces(
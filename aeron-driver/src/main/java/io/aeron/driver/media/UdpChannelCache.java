@@ -0,0 +1,150 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import io.aeron.driver.uri.InterfaceSearchAddress;
+
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of {@link UdpChannel}s keyed by the URI they were parsed from, and of the {@link NetworkInterface}s found for
+ * interface search addresses, so repeated registrations on the same channels do not parse the URI, enumerate the
+ * network interfaces, and resolve addresses again.
+ * <p>
+ * Both caches are cleared when the timeout expires so changes to the network interfaces of the host are picked up,
+ * and the channel cache is cleared when it reaches its maximum size. Channels which fail to parse are not cached.
+ * <p>
+ * <b>Note:</b> Not threadsafe, it is used from the conductor thread only.
+ */
+public class UdpChannelCache
+{
+    private final long timeoutNs;
+    private final int maxSize;
+    private final UdpChannel.InterfaceFinder interfaceFinder;
+    private final UdpChannel.InterfaceFinder cachingInterfaceFinder = this::findInterface;
+    private final Map<String, UdpChannel> channelByUriMap = new HashMap<>();
+    private final Map<InterfaceSearchAddress, NetworkInterface> interfaceBySearchAddressMap = new HashMap<>();
+    private long timeOfLastInvalidationNs;
+
+    /**
+     * Construct a cache which finds interfaces by searching the network interfaces of the host.
+     *
+     * @param timeoutNs after which the caches are cleared, or zero to disable caching.
+     * @param maxSize   of the channel cache after which it is cleared.
+     * @param nowNs     the current time.
+     */
+    public UdpChannelCache(final long timeoutNs, final int maxSize, final long nowNs)
+    {
+        this(timeoutNs, maxSize, nowNs, UdpChannel::findInterface);
+    }
+
+    UdpChannelCache(
+        final long timeoutNs, final int maxSize, final long nowNs, final UdpChannel.InterfaceFinder interfaceFinder)
+    {
+        this.timeoutNs = timeoutNs;
+        this.maxSize = maxSize;
+        this.timeOfLastInvalidationNs = nowNs;
+        this.interfaceFinder = interfaceFinder;
+    }
+
+    /**
+     * Get the channel for a URI, parsing it if not already cached.
+     *
+     * @param uriStr of the channel.
+     * @return the channel for the URI.
+     * @see UdpChannel#parse(String)
+     */
+    public UdpChannel channel(final String uriStr)
+    {
+        if (0 == timeoutNs)
+        {
+            return UdpChannel.parse(uriStr, interfaceFinder);
+        }
+
+        UdpChannel udpChannel = channelByUriMap.get(uriStr);
+        if (null == udpChannel)
+        {
+            udpChannel = UdpChannel.parse(uriStr, cachingInterfaceFinder);
+
+            if (channelByUriMap.size() >= maxSize)
+            {
+                channelByUriMap.clear();
+            }
+
+            channelByUriMap.put(uriStr, udpChannel);
+        }
+
+        return udpChannel;
+    }
+
+    /**
+     * Clear the caches if the timeout has expired since they were last cleared.
+     *
+     * @param nowNs the current time.
+     * @return 1 if the caches were cleared, otherwise 0.
+     */
+    public int onCheckTimeout(final long nowNs)
+    {
+        int workCount = 0;
+
+        if (nowNs > (timeOfLastInvalidationNs + timeoutNs))
+        {
+            invalidate(nowNs);
+            workCount = 1;
+        }
+
+        return workCount;
+    }
+
+    /**
+     * Clear the caches so channels and interfaces are resolved again.
+     *
+     * @param nowNs the current time.
+     */
+    public void invalidate(final long nowNs)
+    {
+        channelByUriMap.clear();
+        interfaceBySearchAddressMap.clear();
+        timeOfLastInvalidationNs = nowNs;
+    }
+
+    /**
+     * Number of channels in the cache.
+     *
+     * @return the number of channels in the cache.
+     */
+    public int size()
+    {
+        return channelByUriMap.size();
+    }
+
+    private NetworkInterface findInterface(final InterfaceSearchAddress searchAddress)
+        throws SocketException, UnknownHostException
+    {
+        NetworkInterface localInterface = interfaceBySearchAddressMap.get(searchAddress);
+        if (null == localInterface)
+        {
+            localInterface = interfaceFinder.find(searchAddress);
+            interfaceBySearchAddressMap.put(searchAddress, localInterface);
+        }
+
+        return localInterface;
+    }
+}
@@ -104,14 +104,18 @@ public abstract class UdpChannelTransport implements AutoCloseable
                 }
             }
 
-            if (0 != Configuration.SOCKET_SNDBUF_LENGTH)
+            final int socketSndbufLength = 0 != udpChannel.socketSndbufLength() ?
+                udpChannel.socketSndbufLength() : Configuration.SOCKET_SNDBUF_LENGTH;
+            if (0 != socketSndbufLength)
             {
-                sendDatagramChannel.setOption(SO_SNDBUF, Configuration.SOCKET_SNDBUF_LENGTH);
+                sendDatagramChannel.setOption(SO_SNDBUF, socketSndbufLength);
             }
 
-            if (0 != Configuration.SOCKET_RCVBUF_LENGTH)
+            final int socketRcvbufLength = 0 != udpChannel.socketRcvbufLength() ?
+                udpChannel.socketRcvbufLength() : Configuration.SOCKET_RCVBUF_LENGTH;
+            if (0 != socketRcvbufLength)
             {
-                receiveDatagramChannel.setOption(SO_RCVBUF, Configuration.SOCKET_RCVBUF_LENGTH);
+                receiveDatagramChannel.setOption(SO_RCVBUF, socketRcvbufLength);
             }
 
             sendDatagramChannel.configureBlocking(false);
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import org.agrona.concurrent.status.CountersReader;
+import org.agrona.concurrent.status.Position;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.agrona.BitUtil.SIZE_OF_INT;
+
+/**
+ * Datagrams dropped by the kernel for the sockets bound to the port of a receive channel endpoint, such as when the
+ * socket receive buffer overflows.
+ */
+public class ReceiveSocketDrops
+{
+    /**
+     * Type id of a receive socket drops counter.
+     */
+    public static final int RECEIVE_SOCKET_DROPS_TYPE_ID = 6;
+
+    /**
+     * Human readable name for the counter.
+     */
+    public static final String NAME = "Rcv-socket-drops";
+
+    /**
+     * Offset in the key meta data for the channel of the counter.
+     */
+    public static final int CHANNEL_OFFSET = 0;
+
+    /**
+     * The maximum length in bytes of the encoded channel identity.
+     */
+    public static final int MAX_CHANNEL_LENGTH = CountersReader.MAX_KEY_LENGTH - (CHANNEL_OFFSET + SIZE_OF_INT);
+
+    public static Position allocate(final SegmentedCountersManager countersManager, final String channel)
+    {
+        return countersManager.newPosition(
+            NAME + ": " + channel,
+            RECEIVE_SOCKET_DROPS_TYPE_ID,
+            (buffer) ->
+            {
+                final byte[] channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+                final int length = Math.min(channelBytes.length, MAX_CHANNEL_LENGTH);
+
+                buffer.putInt(CHANNEL_OFFSET, length);
+                buffer.putBytes(CHANNEL_OFFSET + SIZE_OF_INT, channelBytes, 0, length);
+            }
+        );
+    }
+}
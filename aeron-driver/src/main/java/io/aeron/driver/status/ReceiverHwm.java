@@ -15,7 +15,6 @@
  */
 package io.aeron.driver.status;
 
-import org.agrona.concurrent.status.CountersManager;
 import org.agrona.concurrent.status.Position;
 
 public class ReceiverHwm
@@ -31,7 +30,7 @@ public class ReceiverHwm
     public static final String NAME = "Rcv-hwm";
 
     public static Position allocate(
-        final CountersManager countersManager,
+        final SegmentedCountersManager countersManager,
         final long registrationId,
         final int sessionId,
         final int streamId,
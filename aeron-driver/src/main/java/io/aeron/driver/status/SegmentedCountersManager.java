@@ -0,0 +1,288 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import io.aeron.SegmentedCountersReader;
+import io.aeron.driver.Configuration;
+import io.aeron.driver.buffer.MappedFiles;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.AtomicBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.agrona.concurrent.status.CountersReader;
+import org.agrona.concurrent.status.Position;
+
+import java.io.File;
+import java.util.function.Consumer;
+
+import static io.aeron.CncFileDescriptor.countersSegmentCountOffset;
+
+/**
+ * Manages the allocation and freeing of counters over a chain of segments so the number of counters can grow beyond
+ * what the CnC file holds. A new segment is only added, as a file in the Aeron directory, when all the segments before
+ * it are full, and counters freed in any segment are reused before the chain grows.
+ * <p>
+ * The count of segments is published to the CnC meta data with ordered semantics after a new segment is mapped, and
+ * before any counter in it is handed out, so clients can discover the segment from the first counter id they see in it.
+ * <p>
+ * <b>Note:</b> This class is not threadsafe and should only be used from the driver conductor.
+ */
+public class SegmentedCountersManager extends SegmentedCountersReader
+{
+    private final int maxSegmentCount;
+    private final int segmentFileLength;
+    private final int filePageLength;
+    private final int[] allocatedCounts;
+
+    /**
+     * Construct a manager over a single segment which never has segments added.
+     *
+     * @param firstSegment for allocating counters.
+     */
+    public SegmentedCountersManager(final CountersManager firstSegment)
+    {
+        this(firstSegment, null, null, 1);
+    }
+
+    /**
+     * Construct a manager which adds segments as required up to a maximum count of segments.
+     *
+     * @param firstSegment      for allocating counters, which are counted if already allocated.
+     * @param aeronDirectory    in which the files for the segments after the first are created.
+     * @param cncMetaDataBuffer in which the count of segments is published.
+     * @param maxSegmentCount   of segments, including the first, in the chain.
+     */
+    public SegmentedCountersManager(
+        final CountersManager firstSegment,
+        final File aeronDirectory,
+        final UnsafeBuffer cncMetaDataBuffer,
+        final int maxSegmentCount)
+    {
+        this(firstSegment, aeronDirectory, cncMetaDataBuffer, maxSegmentCount, Configuration.FILE_PAGE_LENGTH_DEFAULT);
+    }
+
+    /**
+     * Construct a manager which adds segments as required up to a maximum count of segments, with the lengths of the
+     * segment files aligned to the page length of the file system holding the Aeron directory.
+     *
+     * @param firstSegment      for allocating counters, which are counted if already allocated.
+     * @param aeronDirectory    in which the files for the segments after the first are created.
+     * @param cncMetaDataBuffer in which the count of segments is published.
+     * @param maxSegmentCount   of segments, including the first, in the chain.
+     * @param filePageLength    of the file system holding the Aeron directory.
+     */
+    public SegmentedCountersManager(
+        final CountersManager firstSegment,
+        final File aeronDirectory,
+        final UnsafeBuffer cncMetaDataBuffer,
+        final int maxSegmentCount,
+        final int filePageLength)
+    {
+        super(firstSegment, aeronDirectory, cncMetaDataBuffer);
+        this.filePageLength = filePageLength;
+
+        if (maxSegmentCount < 1)
+        {
+            throw new IllegalArgumentException("Max segment count must be at least 1: maxSegmentCount=" + maxSegmentCount);
+        }
+
+        this.maxSegmentCount = maxSegmentCount;
+        this.segmentFileLength = firstSegment.metaDataBuffer().capacity() + firstSegment.valuesBuffer().capacity();
+        this.allocatedCounts = new int[maxSegmentCount];
+
+        firstSegment.forEach((id, label) -> allocatedCounts[0]++);
+    }
+
+    /**
+     * The maximum number of segments, including the first, in the chain.
+     *
+     * @return the maximum number of segments in the chain.
+     */
+    public int maxSegmentCount()
+    {
+        return maxSegmentCount;
+    }
+
+    /**
+     * The number of counters currently allocated over all segments.
+     *
+     * @return the number of counters currently allocated.
+     */
+    public int allocatedCount()
+    {
+        int count = 0;
+        for (int i = 0, size = segments.size(); i < size; i++)
+        {
+            count += allocatedCounts[i];
+        }
+
+        return count;
+    }
+
+    /**
+     * Allocate a counter, reusing a freed counter in the first segment with space, and adding a segment when all
+     * segments are full. The value of the counter is reset to zero.
+     *
+     * @param label   to describe the counter.
+     * @param typeId  for the type of counter.
+     * @param keyFunc for setting the key value for the counter.
+     * @return the global id allocated for the counter.
+     */
+    public int allocate(final String label, final int typeId, final Consumer<MutableDirectBuffer> keyFunc)
+    {
+        final int segmentIndex = segmentIndexWithSpace();
+        final CountersManager segment = (CountersManager)segments.get(segmentIndex);
+
+        final int segmentCounterId = segment.allocate(label, typeId, keyFunc);
+        segment.setCounterValue(segmentCounterId, 0L);
+        allocatedCounts[segmentIndex]++;
+
+        return (segmentIndex * countersPerSegment) + segmentCounterId;
+    }
+
+    /**
+     * Allocate a counter and return a {@link Position} over it which frees the counter when closed.
+     *
+     * @param label   to describe the counter.
+     * @param typeId  for the type of counter.
+     * @param keyFunc for setting the key value for the counter.
+     * @return a position over the newly allocated counter.
+     */
+    public Position newPosition(final String label, final int typeId, final Consumer<MutableDirectBuffer> keyFunc)
+    {
+        final int counterId = allocate(label, typeId, keyFunc);
+        final UnsafeBuffer valuesBuffer = (UnsafeBuffer)segment(counterId).valuesBuffer();
+
+        return new SegmentPosition(valuesBuffer, counterId, counterOffset(counterId % countersPerSegment), this);
+    }
+
+    /**
+     * Free a counter so it can be reused by a later allocation.
+     *
+     * @param counterId to be freed.
+     */
+    public void free(final int counterId)
+    {
+        final int segmentIndex = counterId / countersPerSegment;
+
+        ((CountersManager)segments.get(segmentIndex)).free(counterId % countersPerSegment);
+        allocatedCounts[segmentIndex]--;
+    }
+
+    protected CountersReader newSegment(final AtomicBuffer metaDataBuffer, final AtomicBuffer valuesBuffer)
+    {
+        return new CountersManager(metaDataBuffer, valuesBuffer);
+    }
+
+    private int segmentIndexWithSpace()
+    {
+        final int segmentCount = segments.size();
+        for (int i = 0; i < segmentCount; i++)
+        {
+            if (allocatedCounts[i] < countersPerSegment)
+            {
+                return i;
+            }
+        }
+
+        if (segmentCount >= maxSegmentCount)
+        {
+            throw new IllegalStateException(
+                "Unable to allocate counter, all counter segments are full: segmentCount=" + segmentCount);
+        }
+
+        addSegment(MappedFiles.mapNewFile(segmentFile(aeronDirectory, segmentCount), segmentFileLength, filePageLength));
+        cncMetaDataBuffer.putIntOrdered(countersSegmentCountOffset(0), segments.size());
+
+        return segmentCount;
+    }
+
+    /**
+     * {@link Position} over a counter in a segment which reports the global id of the counter and frees it when closed.
+     */
+    static final class SegmentPosition implements Position
+    {
+        private final int counterId;
+        private final int offset;
+        private final UnsafeBuffer buffer;
+        private final SegmentedCountersManager countersManager;
+
+        SegmentPosition(
+            final UnsafeBuffer buffer, final int counterId, final int offset, final SegmentedCountersManager countersManager)
+        {
+            this.buffer = buffer;
+            this.counterId = counterId;
+            this.offset = offset;
+            this.countersManager = countersManager;
+        }
+
+        public int id()
+        {
+            return counterId;
+        }
+
+        public long get()
+        {
+            return buffer.getLong(offset);
+        }
+
+        public long getVolatile()
+        {
+            return buffer.getLongVolatile(offset);
+        }
+
+        public void set(final long value)
+        {
+            buffer.putLong(offset, value);
+        }
+
+        public void setOrdered(final long value)
+        {
+            buffer.putLongOrdered(offset, value);
+        }
+
+        public boolean proposeMax(final long proposedValue)
+        {
+            boolean updated = false;
+
+            if (buffer.getLong(offset) < proposedValue)
+            {
+                buffer.putLong(offset, proposedValue);
+                updated = true;
+            }
+
+            return updated;
+        }
+
+        public boolean proposeMaxOrdered(final long proposedValue)
+        {
+            boolean updated = false;
+
+            if (buffer.getLong(offset) < proposedValue)
+            {
+                buffer.putLongOrdered(offset, proposedValue);
+                updated = true;
+            }
+
+            return updated;
+        }
+
+        public void close()
+        {
+            countersManager.free(counterId);
+        }
+    }
+}
@@ -15,11 +15,8 @@
  */
 package io.aeron.driver.status;
 
-import org.agrona.concurrent.status.CountersManager;
 import org.agrona.concurrent.status.CountersReader;
-import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.Position;
-import org.agrona.concurrent.status.UnsafeBufferPosition;
 
 import java.nio.charset.StandardCharsets;
 
@@ -71,7 +68,7 @@ public class StreamPositionCounter
     public static Position allocate(
         final String name,
         final int typeId,
-        final CountersManager countersManager,
+        final SegmentedCountersManager countersManager,
         final long registrationId,
         final int sessionId,
         final int streamId,
@@ -79,7 +76,7 @@ public class StreamPositionCounter
     {
         final String label = name + ": " + registrationId + ' ' + sessionId + ' ' + streamId + ' ' + channel;
 
-        final int counterId = countersManager.allocate(
+        return countersManager.newPosition(
             label,
             typeId,
             (buffer) ->
@@ -95,8 +92,6 @@ public class StreamPositionCounter
                 buffer.putBytes(CHANNEL_OFFSET + SIZE_OF_INT, channelBytes, 0, length);
             }
         );
-
-        return new UnsafeBufferPosition((UnsafeBuffer)countersManager.valuesBuffer(), counterId, countersManager);
     }
 
     /**
@@ -121,6 +116,9 @@ public class StreamPositionCounter
             case SubscriberPos.SUBSCRIBER_POSITION_TYPE_ID:
                 return SubscriberPos.NAME;
 
+            case ReceiverWindow.RECEIVER_WINDOW_TYPE_ID:
+                return ReceiverWindow.NAME;
+
             default:
                 return "<unknown>";
         }
@@ -15,7 +15,6 @@
  */
 package io.aeron.driver.status;
 
-import org.agrona.concurrent.status.CountersManager;
 import org.agrona.concurrent.status.Position;
 
 public class SubscriberPos
@@ -31,7 +30,7 @@ public class SubscriberPos
     public static final String NAME = "Sub-pos";
 
     public static Position allocate(
-        final CountersManager countersManager,
+        final SegmentedCountersManager countersManager,
         final long registrationId,
         final int sessionId,
         final int streamId,
@@ -48,7 +48,24 @@ public enum SystemCounterDescriptor
     SENDER_FLOW_CONTROL_LIMITS(21, "Sender flow control limits applied"),
     UNBLOCKED_PUBLICATIONS(22, "Unblocked Publications"),
     UNBLOCKED_COMMANDS(23, "Unblocked Control Commands"),
-    POSSIBLE_TTL_ASYMMETRY(24, "Possible TTL Asymmetry");
+    POSSIBLE_TTL_ASYMMETRY(24, "Possible TTL Asymmetry"),
+    COMPRESSION_BYTES_IN(25, "Bytes in to compression"),
+    COMPRESSION_BYTES_OUT(26, "Bytes out of compression"),
+    COMPRESSION_TIME_NS(27, "Compression time (ns)"),
+    DECOMPRESSION_TIME_NS(28, "Decompression time (ns)"),
+    FEC_PARITY_PACKETS_SENT(29, "FEC parity packets sent"),
+    FEC_RECOVERED_PACKETS(30, "Packets recovered by FEC"),
+    NAK_RECOVERED_PACKETS(31, "Packets recovered by NAK retransmit"),
+    PACED_BYTES_SENT(32, "Bytes sent by paced publications"),
+    PACING_RATE_LIMITED_TIME_NS(33, "Time paced publications spent rate limited (ns)"),
+    HIGH_PRIORITY_BYTES_SENT(34, "Bytes sent by high priority publications"),
+    NORMAL_PRIORITY_BYTES_SENT(35, "Bytes sent by normal priority publications"),
+    LOW_PRIORITY_BYTES_SENT(36, "Bytes sent by low priority publications"),
+    SENDER_DUTY_CYCLES(37, "Sender duty cycles sampled"),
+    SENDER_DUTY_CYCLE_TIME_NS(38, "Sender sampled duty cycle time (ns)"),
+    RECEIVER_DUTY_CYCLES(39, "Receiver duty cycles"),
+    RECEIVER_DUTY_CYCLE_TIME_NS(40, "Receiver duty cycle time (ns)"),
+    MAPPED_FILE_PRE_FAULT_TIME_NS(41, "Mapped file pre-fault time (ns)");
 
     /**
      * All system counters have the same type id, i.e. system counters are the same type. Others types can exist.
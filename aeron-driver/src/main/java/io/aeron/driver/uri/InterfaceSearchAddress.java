@@ -101,4 +101,26 @@ public class InterfaceSearchAddress
     {
         return new InterfaceSearchAddress(new InetSocketAddress(0), 0);
     }
+
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+
+        if (null == o || getClass() != o.getClass())
+        {
+            return false;
+        }
+
+        final InterfaceSearchAddress that = (InterfaceSearchAddress)o;
+
+        return subnetPrefix == that.subnetPrefix && address.equals(that.address);
+    }
+
+    public int hashCode()
+    {
+        return 31 * address.hashCode() + subnetPrefix;
+    }
 }
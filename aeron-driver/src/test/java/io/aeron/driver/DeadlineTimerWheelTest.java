@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class DeadlineTimerWheelTest
+{
+    private static final long TICK_RESOLUTION_NS = 1000;
+    private static final int TICKS_PER_WHEEL = 8;
+
+    private final DeadlineTimerWheel<String> timerWheel =
+        new DeadlineTimerWheel<>(TICK_RESOLUTION_NS, TICKS_PER_WHEEL, 0);
+    private final List<String> expired = new ArrayList<>();
+
+    @Test
+    public void shouldExpireTimerOnlyOnceDeadlineHasPassed()
+    {
+        timerWheel.schedule("a", 2500);
+
+        assertThat(timerWheel.poll(2000, (element, now) -> expired.add(element)), is(0));
+        assertThat(timerWheel.poll(2499, (element, now) -> expired.add(element)), is(0));
+        assertThat(timerWheel.poll(2500, (element, now) -> expired.add(element)), is(1));
+
+        assertThat(expired, contains("a"));
+        assertThat(timerWheel.timerCount(), is(0));
+    }
+
+    @Test
+    public void shouldExpireDeadlineBeyondOneRevolutionOfTheWheel()
+    {
+        final long deadline = TICK_RESOLUTION_NS * TICKS_PER_WHEEL * 3 + 100;
+        timerWheel.schedule("a", deadline);
+
+        for (long now = 0; now < deadline; now += TICK_RESOLUTION_NS / 2)
+        {
+            timerWheel.poll(now, (element, time) -> expired.add(element));
+        }
+
+        assertThat(expired, is(empty()));
+
+        timerWheel.poll(deadline, (element, now) -> expired.add(element));
+
+        assertThat(expired, contains("a"));
+    }
+
+    @Test
+    public void shouldExpireAllDueTimersAfterLongGapBetweenPolls()
+    {
+        timerWheel.schedule("a", 1000);
+        timerWheel.schedule("b", 5000);
+        timerWheel.schedule("c", 7000);
+        timerWheel.schedule("d", 100_000);
+
+        assertThat(timerWheel.poll(50_000, (element, now) -> expired.add(element)), is(3));
+        assertThat(expired.size(), is(3));
+        assertThat(timerWheel.timerCount(), is(1));
+    }
+
+    @Test
+    public void shouldAllowHandlerToRescheduleExpiredElement()
+    {
+        timerWheel.schedule("a", 1000);
+
+        timerWheel.poll(1000, (element, now) ->
+        {
+            expired.add(element);
+            timerWheel.schedule(element, now + 1000);
+        });
+
+        assertThat(timerWheel.timerCount(), is(1));
+
+        timerWheel.poll(2000, (element, now) -> expired.add(element));
+
+        assertThat(expired, contains("a", "a"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectTicksPerWheelWhichIsNotPowerOfTwo()
+    {
+        new DeadlineTimerWheel<String>(TICK_RESOLUTION_NS, 10, 0);
+    }
+}
@@ -16,6 +16,7 @@
 package io.aeron.driver;
 
 import io.aeron.driver.buffer.RawLogFactory;
+import io.aeron.driver.status.SegmentedCountersManager;
 import io.aeron.driver.status.SystemCounters;
 import org.junit.Before;
 import org.junit.Test;
@@ -78,6 +79,7 @@ public class DirectPublicationTest
             .toConductorFromSenderCommandQueue(mock(OneToOneConcurrentArrayQueue.class))
             .epochClock(new SystemEpochClock())
             .countersManager(countersManager)
+            .segmentedCountersManager(new SegmentedCountersManager(countersManager))
             .systemCounters(mock(SystemCounters.class))
             .nanoClock(nanoClock);
 
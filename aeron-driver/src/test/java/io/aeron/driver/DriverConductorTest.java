@@ -18,6 +18,7 @@ package io.aeron.driver;
 import io.aeron.driver.buffer.RawLogFactory;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.SegmentedCountersManager;
 import io.aeron.driver.status.SystemCounters;
 import org.junit.After;
 import org.junit.Before;
@@ -25,15 +26,21 @@ import org.junit.Test;
 import org.mockito.*;
 import org.mockito.stubbing.Answer;
 import io.aeron.DriverProxy;
+import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.logbuffer.LogBufferPartition;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.errors.DistinctErrorLog;
 import org.agrona.concurrent.ringbuffer.ManyToOneRingBuffer;
 import org.agrona.concurrent.ringbuffer.RingBuffer;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.status.CountersManager;
+import org.agrona.concurrent.status.CountersReader;
+import org.agrona.concurrent.status.ReadablePosition;
+import org.agrona.concurrent.status.UnsafeBufferPosition;
 
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 
@@ -45,6 +52,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.*;
 import static io.aeron.ErrorCode.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.TERM_META_DATA_LENGTH;
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_TAIL_COUNTER_OFFSET;
 
 public class DriverConductorTest
 {
@@ -54,6 +62,7 @@ public class DriverConductorTest
     private static final String CHANNEL_4003 = "udp://localhost:4003";
     private static final String CHANNEL_4004 = "udp://localhost:4004";
     private static final String CHANNEL_IPC = "aeron:ipc";
+    private static final String CHANNEL_IPC_UNTETHERED = "aeron:ipc?tether=false";
     private static final String INVALID_URI = "udp://";
     private static final int SESSION_ID = 100;
     private static final int STREAM_ID_1 = 10;
@@ -63,6 +72,8 @@ public class DriverConductorTest
     private static final int TERM_BUFFER_LENGTH = Configuration.TERM_BUFFER_LENGTH_DEFAULT;
     private static final int BUFFER_LENGTH = 16 * 1024;
 
+    private final UnsafeBuffer counterBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(BUFFER_LENGTH));
+    private final UnsafeBuffer counterMetaDataBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(BUFFER_LENGTH * 2));
     private final ByteBuffer toDriverBuffer = ByteBuffer.allocateDirect(Configuration.CONDUCTOR_BUFFER_LENGTH);
 
     private final RawLogFactory mockRawLogFactory = mock(RawLogFactory.class);
@@ -101,7 +112,7 @@ public class DriverConductorTest
         // System GC required in order to ensure that the direct byte buffers get cleaned and avoid OOM.
         System.gc();
 
-        when(mockRawLogFactory.newNetworkPublication(anyObject(), anyInt(), anyInt(), anyInt()))
+        when(mockRawLogFactory.newNetworkPublication(anyObject(), anyInt(), anyInt(), anyLong(), anyInt()))
             .thenReturn(LogBufferHelper.newTestLogBuffers(TERM_BUFFER_LENGTH, TERM_META_DATA_LENGTH));
         when(mockRawLogFactory.newNetworkedImage(anyObject(), anyInt(), anyInt(), anyInt(), eq(TERM_BUFFER_LENGTH)))
             .thenReturn(LogBufferHelper.newTestLogBuffers(TERM_BUFFER_LENGTH, TERM_META_DATA_LENGTH));
@@ -110,9 +121,7 @@ public class DriverConductorTest
 
         currentTime = 0;
 
-        final UnsafeBuffer counterBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(BUFFER_LENGTH));
-        final CountersManager countersManager = new CountersManager(
-            new UnsafeBuffer(ByteBuffer.allocateDirect(BUFFER_LENGTH * 2)), counterBuffer);
+        final CountersManager countersManager = new CountersManager(counterMetaDataBuffer, counterBuffer);
 
         final MediaDriver.Context ctx = new MediaDriver.Context()
             .unicastFlowControlSupplier(Configuration.unicastFlowControlSupplier())
@@ -120,9 +129,11 @@ public class DriverConductorTest
                 // TODO: remove
             .toConductorFromReceiverCommandQueue(new OneToOneConcurrentArrayQueue<>(1024))
             .toConductorFromSenderCommandQueue(new OneToOneConcurrentArrayQueue<>(1024))
+            .imageFeedbackQueue(new OneToOneConcurrentArrayQueue<>(1024))
             .errorLog(mockErrorLog)
             .rawLogBuffersFactory(mockRawLogFactory)
             .countersManager(countersManager)
+            .segmentedCountersManager(new SegmentedCountersManager(countersManager))
             .nanoClock(nanoClock)
             .sendChannelEndpointSupplier(Configuration.sendChannelEndpointSupplier())
             .receiveChannelEndpointSupplier(Configuration.receiveChannelEndpointSupplier());
@@ -168,7 +179,7 @@ public class DriverConductorTest
         final NetworkPublication publication = captor.getValue();
         assertThat(publication.streamId(), is(STREAM_ID_1));
 
-        verify(mockClientProxy).onPublicationReady(anyLong(), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        verify(mockClientProxy).onPublicationReady(anyLong(), anyLong(), eq(STREAM_ID_1), anyInt(), any(), anyInt());
     }
 
     @Test
@@ -180,7 +191,7 @@ public class DriverConductorTest
 
         verify(receiverProxy).registerReceiveChannelEndpoint(any());
         verify(receiverProxy).addSubscription(any(), eq(STREAM_ID_1));
-        verify(mockClientProxy).operationSucceeded(id);
+        verify(mockClientProxy).operationSucceeded(anyLong(), eq(id));
 
         assertNotNull(driverConductor.receiverChannelEndpoint(UdpChannel.parse(CHANNEL_4000)));
     }
@@ -299,6 +310,212 @@ public class DriverConductorTest
         assertNull(driverConductor.receiverChannelEndpoint(udpChannel));
     }
 
+    @Test
+    public void shouldUseTermLengthAndMtuFromChannel() throws Exception
+    {
+        driverProxy.addPublication(CHANNEL_4000 + "?term-length=65536&mtu=1408", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(mockRawLogFactory).newNetworkPublication(anyObject(), anyInt(), eq(STREAM_ID_1), anyLong(), eq(65536));
+
+        final ArgumentCaptor<NetworkPublication> captor = ArgumentCaptor.forClass(NetworkPublication.class);
+        verify(senderProxy).newNetworkPublication(captor.capture());
+        assertThat(LogBufferDescriptor.mtuLength(captor.getValue().rawLog().logMetaData()), is(1408));
+    }
+
+    @Test
+    public void shouldErrorOnAddPublicationWithTermLengthDifferentToExistingPublication() throws Exception
+    {
+        final long id = driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+        driverProxy.addPublication(CHANNEL_4000 + "?term-length=65536", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final InOrder inOrder = inOrder(senderProxy, mockClientProxy);
+
+        inOrder.verify(senderProxy).newNetworkPublication(any());
+        inOrder.verify(mockClientProxy).onPublicationReady(anyLong(), eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        inOrder.verify(mockClientProxy).onError(
+            anyLong(), eq(INVALID_CHANNEL), argThat(not(isEmptyOrNullString())), anyLong());
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void shouldErrorOnAddPublicationWithCompressionDifferentToExistingPublication() throws Exception
+    {
+        final long id = driverProxy.addPublication(CHANNEL_4000 + "?compression=lz", STREAM_ID_1);
+        driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final InOrder inOrder = inOrder(senderProxy, mockClientProxy);
+
+        inOrder.verify(senderProxy).newNetworkPublication(any());
+        inOrder.verify(mockClientProxy).onPublicationReady(anyLong(), eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        inOrder.verify(mockClientProxy).onError(
+            anyLong(), eq(INVALID_CHANNEL), argThat(not(isEmptyOrNullString())), anyLong());
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void shouldErrorOnAddPublicationWithFecDifferentToExistingPublication() throws Exception
+    {
+        final long id = driverProxy.addPublication(CHANNEL_4000 + "?fec-group=4&fec-parity=1", STREAM_ID_1);
+        driverProxy.addPublication(CHANNEL_4000 + "?fec-group=8&fec-parity=1", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final InOrder inOrder = inOrder(senderProxy, mockClientProxy);
+
+        inOrder.verify(senderProxy).newNetworkPublication(any());
+        inOrder.verify(mockClientProxy).onPublicationReady(anyLong(), eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        inOrder.verify(mockClientProxy).onError(
+            anyLong(), eq(INVALID_CHANNEL), argThat(not(isEmptyOrNullString())), anyLong());
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void shouldShareFecPublicationWhenRequestedMtuMatches() throws Exception
+    {
+        final long id1 = driverProxy.addPublication(CHANNEL_4000 + "?mtu=1408&fec-group=4", STREAM_ID_1);
+        final long id2 = driverProxy.addPublication(CHANNEL_4000 + "?mtu=1408&fec-group=4", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(senderProxy).newNetworkPublication(any());
+        verify(mockClientProxy).onPublicationReady(anyLong(), eq(id1), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        verify(mockClientProxy).onPublicationReady(anyLong(), eq(id2), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        verify(mockClientProxy, never()).onError(anyLong(), any(), any(), anyLong());
+    }
+
+    @Test
+    public void shouldErrorOnAddFecPublicationWithMtuDifferentToExistingPublication() throws Exception
+    {
+        final long id = driverProxy.addPublication(CHANNEL_4000 + "?mtu=1408&fec-group=4", STREAM_ID_1);
+        driverProxy.addPublication(CHANNEL_4000 + "?mtu=4096&fec-group=4", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final InOrder inOrder = inOrder(senderProxy, mockClientProxy);
+
+        inOrder.verify(senderProxy).newNetworkPublication(any());
+        inOrder.verify(mockClientProxy).onPublicationReady(anyLong(), eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        inOrder.verify(mockClientProxy).onError(
+            anyLong(), eq(INVALID_CHANNEL), argThat(not(isEmptyOrNullString())), anyLong());
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void shouldErrorOnAddPublicationWithPacingDifferentToExistingPublication() throws Exception
+    {
+        final long id = driverProxy.addPublication(CHANNEL_4000 + "?pacing-rate=125000000", STREAM_ID_1);
+        driverProxy.addPublication(CHANNEL_4000 + "?pacing-rate=250000000", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final InOrder inOrder = inOrder(senderProxy, mockClientProxy);
+
+        inOrder.verify(senderProxy).newNetworkPublication(any());
+        inOrder.verify(mockClientProxy).onPublicationReady(anyLong(), eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        inOrder.verify(mockClientProxy).onError(
+            anyLong(), eq(INVALID_CHANNEL), argThat(not(isEmptyOrNullString())), anyLong());
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void shouldErrorOnAddPublicationWithPriorityDifferentToExistingPublication() throws Exception
+    {
+        final long id = driverProxy.addPublication(CHANNEL_4000 + "?priority=high", STREAM_ID_1);
+        driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final InOrder inOrder = inOrder(senderProxy, mockClientProxy);
+
+        inOrder.verify(senderProxy).newNetworkPublication(any());
+        inOrder.verify(mockClientProxy).onPublicationReady(anyLong(), eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        inOrder.verify(mockClientProxy).onError(
+            anyLong(), eq(INVALID_CHANNEL), argThat(not(isEmptyOrNullString())), anyLong());
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void shouldErrorOnAddSubscriptionWithSocketRcvbufDifferentToExistingChannelEndpoint() throws Exception
+    {
+        final long id = driverProxy.addSubscription(CHANNEL_4000 + "?so-rcvbuf=131072", STREAM_ID_1);
+        driverProxy.addSubscription(CHANNEL_4000 + "?so-rcvbuf=262144", STREAM_ID_2);
+
+        driverConductor.doWork();
+
+        final InOrder inOrder = inOrder(receiverProxy, mockClientProxy);
+
+        inOrder.verify(receiverProxy).registerReceiveChannelEndpoint(any());
+        inOrder.verify(receiverProxy).addSubscription(any(), eq(STREAM_ID_1));
+        inOrder.verify(mockClientProxy).operationSucceeded(anyLong(), eq(id));
+        inOrder.verify(mockClientProxy).onError(
+            anyLong(), eq(INVALID_CHANNEL), argThat(not(isEmptyOrNullString())), anyLong());
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void shouldErrorOnAddSubscriptionWithInitialWindowDifferentToExistingChannelEndpoint() throws Exception
+    {
+        final long id = driverProxy.addSubscription(CHANNEL_4000 + "?initial-window=65536", STREAM_ID_1);
+        driverProxy.addSubscription(CHANNEL_4000 + "?initial-window=131072", STREAM_ID_2);
+
+        driverConductor.doWork();
+
+        final InOrder inOrder = inOrder(receiverProxy, mockClientProxy);
+
+        inOrder.verify(receiverProxy).registerReceiveChannelEndpoint(any());
+        inOrder.verify(receiverProxy).addSubscription(any(), eq(STREAM_ID_1));
+        inOrder.verify(mockClientProxy).operationSucceeded(anyLong(), eq(id));
+        inOrder.verify(mockClientProxy).onError(
+            anyLong(), eq(INVALID_CHANNEL), argThat(not(isEmptyOrNullString())), anyLong());
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void shouldErrorOnAddSubscriptionWithCatchupDifferentToExistingChannelEndpoint() throws Exception
+    {
+        final long id = driverProxy.addSubscription(CHANNEL_4000 + "?catchup=true", STREAM_ID_1);
+        driverProxy.addSubscription(CHANNEL_4000, STREAM_ID_2);
+
+        driverConductor.doWork();
+
+        final InOrder inOrder = inOrder(receiverProxy, mockClientProxy);
+
+        inOrder.verify(receiverProxy).registerReceiveChannelEndpoint(any());
+        inOrder.verify(receiverProxy).addSubscription(any(), eq(STREAM_ID_1));
+        inOrder.verify(mockClientProxy).operationSucceeded(anyLong(), eq(id));
+        inOrder.verify(mockClientProxy).onError(
+            anyLong(), eq(INVALID_CHANNEL), argThat(not(isEmptyOrNullString())), anyLong());
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void shouldErrorOnAddPublicationWithMtuGreaterThanSocketSndbuf() throws Exception
+    {
+        driverProxy.addPublication(CHANNEL_4000 + "?mtu=16384&so-sndbuf=4096", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(senderProxy, never()).newNetworkPublication(any());
+        verify(mockClientProxy).onError(anyLong(), eq(GENERIC_ERROR), argThat(not(isEmptyOrNullString())), anyLong());
+    }
+
+    @Test
+    public void shouldNotCreateSendChannelEndpointForPublicationWithMtuGreaterThanSocketSndbuf() throws Exception
+    {
+        driverProxy.addPublication(CHANNEL_4000 + "?mtu=16384&so-sndbuf=4096", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(senderProxy, never()).registerSendChannelEndpoint(any());
+        assertNull(driverConductor.senderChannelEndpoint(UdpChannel.parse(CHANNEL_4000)));
+    }
+
     @Test
     public void shouldErrorOnRemovePublicationOnUnknownRegistrationId() throws Exception
     {
@@ -310,8 +527,9 @@ public class DriverConductorTest
         final InOrder inOrder = inOrder(senderProxy, mockClientProxy);
 
         inOrder.verify(senderProxy).newNetworkPublication(any());
-        inOrder.verify(mockClientProxy).onPublicationReady(eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt());
-        inOrder.verify(mockClientProxy).onError(eq(UNKNOWN_PUBLICATION), argThat(not(isEmptyOrNullString())), anyLong());
+        inOrder.verify(mockClientProxy).onPublicationReady(anyLong(), eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        inOrder.verify(mockClientProxy).onError(
+            anyLong(), eq(UNKNOWN_PUBLICATION), argThat(not(isEmptyOrNullString())), anyLong());
         inOrder.verifyNoMoreInteractions();
 
         verify(mockErrorCounter).increment();
@@ -329,8 +547,9 @@ public class DriverConductorTest
         final InOrder inOrder = inOrder(receiverProxy, mockClientProxy);
 
         inOrder.verify(receiverProxy).addSubscription(any(), anyInt());
-        inOrder.verify(mockClientProxy).operationSucceeded(id1);
-        inOrder.verify(mockClientProxy).onError(eq(UNKNOWN_SUBSCRIPTION), argThat(not(isEmptyOrNullString())), anyLong());
+        inOrder.verify(mockClientProxy).operationSucceeded(anyLong(), eq(id1));
+        inOrder.verify(mockClientProxy).onError(
+            anyLong(), eq(UNKNOWN_SUBSCRIPTION), argThat(not(isEmptyOrNullString())), anyLong());
         inOrder.verifyNoMoreInteractions();
 
         verify(mockErrorLog).record(any(Throwable.class));
@@ -346,8 +565,8 @@ public class DriverConductorTest
 
         verify(senderProxy, never()).newNetworkPublication(any());
 
-        verify(mockClientProxy).onError(eq(INVALID_CHANNEL), argThat(not(isEmptyOrNullString())), anyLong());
-        verify(mockClientProxy, never()).operationSucceeded(anyLong());
+        verify(mockClientProxy).onError(anyLong(), eq(INVALID_CHANNEL), argThat(not(isEmptyOrNullString())), anyLong());
+        verify(mockClientProxy, never()).operationSucceeded(anyLong(), anyLong());
 
         verify(mockErrorCounter).increment();
         verify(mockErrorLog).record(any(Throwable.class));
@@ -476,6 +695,42 @@ public class DriverConductorTest
             anyLong(), eq(STREAM_ID_1), eq(SESSION_ID), anyObject(), anyObject(), anyString());
     }
 
+    @Test
+    public void shouldCloseImageSubscriberPositionOnlyAfterReceiverReleasesIt() throws Exception
+    {
+        final InetSocketAddress sourceAddress = new InetSocketAddress("localhost", 4400);
+
+        final long id = driverProxy.addSubscription(CHANNEL_4000, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final ReceiveChannelEndpoint receiveChannelEndpoint =
+            driverConductor.receiverChannelEndpoint(UdpChannel.parse(CHANNEL_4000));
+        receiveChannelEndpoint.openChannel();
+
+        driverConductor.onCreatePublicationImage(
+            SESSION_ID, STREAM_ID_1, 1, 1, 0, TERM_BUFFER_LENGTH, MTU_LENGTH,
+            mock(InetSocketAddress.class), sourceAddress, receiveChannelEndpoint);
+
+        final ArgumentCaptor<PublicationImage> imageCaptor = ArgumentCaptor.forClass(PublicationImage.class);
+        verify(receiverProxy).newPublicationImage(eq(receiveChannelEndpoint), imageCaptor.capture());
+        final PublicationImage publicationImage = imageCaptor.getValue();
+
+        driverProxy.removeSubscription(id);
+        driverConductor.doWork();
+
+        final ArgumentCaptor<ReadablePosition> positionCaptor = ArgumentCaptor.forClass(ReadablePosition.class);
+        verify(receiverProxy).releaseSubscriberPosition(positionCaptor.capture());
+        final ReadablePosition subscriberPosition = positionCaptor.getValue();
+
+        assertThat(publicationImage.subscriberCount(), is(0));
+        assertThat(counterRecordState(subscriberPosition.id()), is(CountersReader.RECORD_ALLOCATED));
+
+        driverConductor.onCloseSubscriberPosition(subscriberPosition);
+
+        assertThat(counterRecordState(subscriberPosition.id()), is(CountersReader.RECORD_RECLAIMED));
+    }
+
     @Test
     public void shouldNotCreateImageOnUnknownSubscription() throws Exception
     {
@@ -580,7 +835,7 @@ public class DriverConductorTest
         driverConductor.doWork();
 
         assertNotNull(driverConductor.getDirectPublication(STREAM_ID_1));
-        verify(mockClientProxy).onPublicationReady(eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        verify(mockClientProxy).onPublicationReady(anyLong(), eq(id), eq(STREAM_ID_1), anyInt(), any(), anyInt());
     }
 
     @Test
@@ -594,7 +849,7 @@ public class DriverConductorTest
         assertNotNull(directPublication);
 
         final InOrder inOrder = inOrder(mockClientProxy);
-        inOrder.verify(mockClientProxy).operationSucceeded(eq(id));
+        inOrder.verify(mockClientProxy).operationSucceeded(anyLong(), eq(id));
         inOrder.verify(mockClientProxy).onAvailableImage(
             eq(directPublication.correlationId()), eq(STREAM_ID_1), eq(directPublication.sessionId()),
             eq(directPublication.rawLog().logFileName()), anyObject(), anyString());
@@ -612,8 +867,8 @@ public class DriverConductorTest
         assertNotNull(directPublication);
 
         final InOrder inOrder = inOrder(mockClientProxy);
-        inOrder.verify(mockClientProxy).onPublicationReady(eq(idPub), eq(STREAM_ID_1), anyInt(), any(), anyInt());
-        inOrder.verify(mockClientProxy).operationSucceeded(eq(idSub));
+        inOrder.verify(mockClientProxy).onPublicationReady(anyLong(), eq(idPub), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        inOrder.verify(mockClientProxy).operationSucceeded(anyLong(), eq(idSub));
         inOrder.verify(mockClientProxy).onAvailableImage(
             eq(directPublication.correlationId()), eq(STREAM_ID_1), eq(directPublication.sessionId()),
             eq(directPublication.rawLog().logFileName()), anyObject(), anyString());
@@ -631,11 +886,103 @@ public class DriverConductorTest
         assertNotNull(directPublication);
 
         final InOrder inOrder = inOrder(mockClientProxy);
-        inOrder.verify(mockClientProxy).operationSucceeded(eq(idSub));
+        inOrder.verify(mockClientProxy).operationSucceeded(anyLong(), eq(idSub));
         inOrder.verify(mockClientProxy).onAvailableImage(
             eq(directPublication.correlationId()), eq(STREAM_ID_1), eq(directPublication.sessionId()),
             eq(directPublication.rawLog().logFileName()), anyObject(), anyString());
-        inOrder.verify(mockClientProxy).onPublicationReady(eq(idPub), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+        inOrder.verify(mockClientProxy).onPublicationReady(anyLong(), eq(idPub), eq(STREAM_ID_1), anyInt(), any(), anyInt());
+    }
+
+    @Test
+    public void shouldAddExclusivePublicationsWithSeparateSessions() throws Exception
+    {
+        driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+        driverProxy.addExclusivePublication(CHANNEL_4000, STREAM_ID_1);
+        driverProxy.addExclusivePublication(CHANNEL_4000, STREAM_ID_1);
+        driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final ArgumentCaptor<NetworkPublication> captor = ArgumentCaptor.forClass(NetworkPublication.class);
+        verify(senderProxy, times(3)).newNetworkPublication(captor.capture());
+
+        final List<NetworkPublication> publications = captor.getAllValues();
+        assertThat(publications.get(1).sessionId(), not(publications.get(0).sessionId()));
+        assertThat(publications.get(2).sessionId(), not(publications.get(1).sessionId()));
+        assertTrue(publications.get(1).isExclusive());
+        assertThat(publications.get(0).sendChannelEndpoint().sessionCount(), is(3));
+    }
+
+    @Test
+    public void shouldLinkExclusiveDirectPublicationsToSubscription() throws Exception
+    {
+        final long idSub = driverProxy.addSubscription(CHANNEL_IPC, STREAM_ID_1);
+        driverProxy.addExclusivePublication(CHANNEL_IPC, STREAM_ID_1);
+        driverProxy.addExclusivePublication(CHANNEL_IPC, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final DirectPublication sharedPublication = driverConductor.getDirectPublication(STREAM_ID_1);
+        assertNotNull(sharedPublication);
+        assertFalse(sharedPublication.isExclusive());
+
+        verify(mockClientProxy).operationSucceeded(anyLong(), eq(idSub));
+        verify(mockClientProxy, times(3)).onAvailableImage(
+            anyLong(), eq(STREAM_ID_1), anyInt(), anyString(), anyObject(), anyString());
+    }
+
+    @Test
+    public void shouldNotifySubscriberWhenExclusiveDirectPublicationRemoved() throws Exception
+    {
+        driverProxy.addSubscription(CHANNEL_IPC, STREAM_ID_1);
+        final long idPub = driverProxy.addExclusivePublication(CHANNEL_IPC, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final ArgumentCaptor<Long> captor = ArgumentCaptor.forClass(Long.class);
+        verify(mockClientProxy, times(2)).onAvailableImage(
+            captor.capture(), eq(STREAM_ID_1), anyInt(), anyString(), anyObject(), anyString());
+
+        driverProxy.removePublication(idPub);
+
+        doWorkUntil(() -> nanoClock.nanoTime() >= CLIENT_LIVENESS_TIMEOUT_NS);
+
+        verify(mockClientProxy).onUnavailableImage(eq(captor.getAllValues().get(1)), eq(STREAM_ID_1), eq(CHANNEL_IPC));
+        assertNotNull(driverConductor.getDirectPublication(STREAM_ID_1));
+    }
+
+    @Test
+    public void shouldRestUntetheredDirectSubscriptionWhichFallsBehindWithoutHoldingBackPublisher() throws Exception
+    {
+        driverProxy.addPublication(CHANNEL_IPC, STREAM_ID_1);
+        driverProxy.addSubscription(CHANNEL_IPC_UNTETHERED, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final DirectPublication publication = driverConductor.getDirectPublication(STREAM_ID_1);
+        final ArgumentCaptor<Long> captor = ArgumentCaptor.forClass(Long.class);
+        verify(mockClientProxy).onAvailableImage(
+            captor.capture(), eq(STREAM_ID_1), anyInt(), anyString(), anyObject(), anyString());
+        final long imageCorrelationId = captor.getValue();
+        assertThat(imageCorrelationId, not(publication.correlationId()));
+
+        final LogBufferPartition partition = publication.rawLog().partitions()[0];
+        final long rawTail = partition.rawTailVolatile();
+        partition.metaDataBuffer().putLongOrdered(TERM_TAIL_COUNTER_OFFSET, rawTail + (TERM_BUFFER_LENGTH / 2));
+
+        driverConductor.doWork();
+
+        final long producerPosition = publication.producerPosition();
+        final long publisherLimit = new UnsafeBufferPosition(counterBuffer, publication.publisherLimitId()).get();
+        assertThat(publisherLimit, is(producerPosition + ipcPublicationTermWindowLength(TERM_BUFFER_LENGTH)));
+        verify(mockClientProxy).onUnavailableImage(eq(imageCorrelationId), eq(STREAM_ID_1), eq(CHANNEL_IPC));
+
+        doWorkUntil(() -> nanoClock.nanoTime() >= UNTETHERED_RESTING_TIMEOUT_NS + TimeUnit.MILLISECONDS.toNanos(100));
+
+        verify(mockClientProxy, times(2)).onAvailableImage(
+            captor.capture(), eq(STREAM_ID_1), anyInt(), anyString(), anyObject(), anyString());
+        assertThat(captor.getValue(), not(imageCorrelationId));
+        verify(mockClientProxy, times(1)).onUnavailableImage(anyLong(), eq(STREAM_ID_1), anyString());
     }
 
     @Test
@@ -794,6 +1141,11 @@ public class DriverConductorTest
         assertNotNull(directPublication);
     }
 
+    private int counterRecordState(final int counterId)
+    {
+        return counterMetaDataBuffer.getIntVolatile(CountersReader.metaDataOffset(counterId));
+    }
+
     private long doWorkUntil(final BooleanSupplier condition) throws Exception
     {
         final long startTime = currentTime;
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecHeaderFlyweight;
+import io.aeron.protocol.HeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FecEncoderTest
+{
+    private static final int TERM_LENGTH = 64 * 1024;
+    private static final int MTU_LENGTH = 4096;
+    private static final int SESSION_ID = 7;
+    private static final int STREAM_ID = 10;
+    private static final int TERM_ID = 3;
+    private static final int[] PACKET_LENGTHS = { 1408, 96, 2048, 512, 992, 64 };
+
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(TERM_LENGTH));
+    private final UnsafeBuffer receivedTermBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(TERM_LENGTH));
+    private final UnsafeBuffer recoveredBuffer = new UnsafeBuffer(0, 0);
+    private final SendChannelEndpoint channelEndpoint = mock(SendChannelEndpoint.class);
+    private final List<FecHeaderFlyweight> parityPackets = new ArrayList<>();
+    private final int[] packetOffsets = new int[PACKET_LENGTHS.length];
+
+    @Before
+    public void setUp()
+    {
+        when(channelEndpoint.send(any(ByteBuffer.class))).then(
+            (invocation) ->
+            {
+                final ByteBuffer buffer = (ByteBuffer)invocation.getArguments()[0];
+                final int length = buffer.remaining();
+                final FecHeaderFlyweight parityPacket = new FecHeaderFlyweight(ByteBuffer.allocateDirect(length));
+                parityPacket.putBytes(0, buffer, buffer.position(), length);
+                parityPackets.add(parityPacket);
+
+                return length;
+            });
+
+        int termOffset = 0;
+        for (int i = 0; i < PACKET_LENGTHS.length; i++)
+        {
+            packetOffsets[i] = termOffset;
+            final DataHeaderFlyweight header = new DataHeaderFlyweight();
+            header.wrap(termBuffer, termOffset, PACKET_LENGTHS[i]);
+            header
+                .termOffset(termOffset)
+                .sessionId(SESSION_ID)
+                .streamId(STREAM_ID)
+                .termId(TERM_ID)
+                .version(HeaderFlyweight.CURRENT_VERSION)
+                .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+                .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+                .frameLength(PACKET_LENGTHS[i]);
+
+            for (int j = DataHeaderFlyweight.HEADER_LENGTH; j < PACKET_LENGTHS[i]; j++)
+            {
+                termBuffer.putByte(termOffset + j, (byte)(i * 31 + j));
+            }
+
+            termOffset += PACKET_LENGTHS[i];
+        }
+    }
+
+    @Test
+    public void shouldRecoverSingleLostPacketInGroup()
+    {
+        final FecEncoder encoder = new FecEncoder(4, 1, SESSION_ID, STREAM_ID, MTU_LENGTH);
+
+        assertThat(sendPackets(encoder, 4), is(true));
+        assertThat(encoder.flush(channelEndpoint), is(1));
+
+        receivePacketsExcept(4, 2);
+
+        assertRecovered(parityPackets.get(0), 2);
+    }
+
+    @Test
+    public void shouldRecoverLostPacketFromPartialGroup()
+    {
+        final FecEncoder encoder = new FecEncoder(8, 1, SESSION_ID, STREAM_ID, MTU_LENGTH);
+
+        assertThat(sendPackets(encoder, 5), is(false));
+        assertThat(encoder.flush(channelEndpoint), is(1));
+
+        receivePacketsExcept(5, 4);
+
+        assertRecovered(parityPackets.get(0), 4);
+    }
+
+    @Test
+    public void shouldRecoverOneLostPacketPerParitySubset()
+    {
+        final FecEncoder encoder = new FecEncoder(6, 2, SESSION_ID, STREAM_ID, MTU_LENGTH);
+
+        assertThat(sendPackets(encoder, 6), is(true));
+        assertThat(encoder.flush(channelEndpoint), is(2));
+
+        receivePacketsExcept(6, 1, 2);
+
+        assertRecovered(parityPackets.get(0), 2);
+        assertRecovered(parityPackets.get(1), 1);
+    }
+
+    @Test
+    public void shouldNotRecoverWhenTwoPacketsOfSubsetAreLost()
+    {
+        final FecEncoder encoder = new FecEncoder(4, 1, SESSION_ID, STREAM_ID, MTU_LENGTH);
+
+        sendPackets(encoder, 4);
+        encoder.flush(channelEndpoint);
+
+        receivePacketsExcept(4, 0, 3);
+
+        final FecHeaderFlyweight parityPacket = parityPackets.get(0);
+        assertThat(FecDecoder.recover(receivedTermBuffer, parityPacket, parityPacket.capacity(), recoveredBuffer), is(-1));
+    }
+
+    private boolean sendPackets(final FecEncoder encoder, final int count)
+    {
+        boolean isGroupComplete = false;
+        for (int i = 0; i < count; i++)
+        {
+            isGroupComplete = encoder.onPacketSent(termBuffer, TERM_ID, packetOffsets[i], PACKET_LENGTHS[i]);
+        }
+
+        return isGroupComplete;
+    }
+
+    private void receivePacketsExcept(final int count, final int... lostPackets)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            boolean isLost = false;
+            for (final int lostPacket : lostPackets)
+            {
+                isLost |= lostPacket == i;
+            }
+
+            if (!isLost)
+            {
+                receivedTermBuffer.putBytes(packetOffsets[i], termBuffer, packetOffsets[i], PACKET_LENGTHS[i]);
+            }
+        }
+    }
+
+    private void assertRecovered(final FecHeaderFlyweight parityPacket, final int packetIndex)
+    {
+        final int termOffset = FecDecoder.recover(receivedTermBuffer, parityPacket, parityPacket.capacity(), recoveredBuffer);
+
+        assertThat(termOffset, is(packetOffsets[packetIndex]));
+        assertThat(recoveredBuffer.capacity(), is(PACKET_LENGTHS[packetIndex]));
+        assertThat(recoveredBuffer.compareTo(new UnsafeBuffer(termBuffer, termOffset, PACKET_LENGTHS[packetIndex])), is(0));
+    }
+}
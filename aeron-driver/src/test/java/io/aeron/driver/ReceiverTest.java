@@ -17,6 +17,7 @@ package io.aeron.driver;
 
 import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.buffer.RawLogFactory;
+import io.aeron.driver.status.SystemCounterDescriptor;
 import io.aeron.driver.status.SystemCounters;
 import org.junit.After;
 import org.junit.Before;
@@ -25,6 +26,7 @@ import io.aeron.driver.cmd.CreatePublicationImageCmd;
 import io.aeron.driver.cmd.DriverConductorCmd;
 import io.aeron.driver.media.ControlTransportPoller;
 import io.aeron.driver.media.DataTransportPoller;
+import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.UdpChannel;
 import io.aeron.logbuffer.FrameDescriptor;
@@ -32,7 +34,9 @@ import io.aeron.logbuffer.Header;
 import io.aeron.logbuffer.LogBufferPartition;
 import io.aeron.logbuffer.TermReader;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecHeaderFlyweight;
 import io.aeron.protocol.HeaderFlyweight;
+import io.aeron.protocol.NakFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.ErrorHandler;
@@ -70,6 +74,8 @@ public class ReceiverTest
     private static final int ACTIVE_TERM_ID = 3;
     private static final int SESSION_ID = 1;
     private static final int INITIAL_TERM_OFFSET = 0;
+    private static final long JOINING_POSITION =
+        computePosition(ACTIVE_TERM_ID, INITIAL_TERM_OFFSET, numberOfTrailingZeros(TERM_BUFFER_LENGTH), INITIAL_TERM_ID);
     private static final int ACTIVE_INDEX = indexByTerm(ACTIVE_TERM_ID, ACTIVE_TERM_ID);
     private static final byte[] FAKE_PAYLOAD = "Hello there, message!".getBytes();
     private static final int INITIAL_WINDOW_LENGTH = Configuration.INITIAL_WINDOW_LENGTH_DEFAULT;
@@ -86,6 +92,7 @@ public class ReceiverTest
     private final SystemCounters mockSystemCounters = mock(SystemCounters.class);
     private final RawLogFactory mockRawLogFactory = mock(RawLogFactory.class);
     private final Position mockHighestReceivedPosition = spy(new AtomicLongPosition());
+    private final Position mockReceiverWindow = spy(new AtomicLongPosition());
     private final ByteBuffer dataFrameBuffer = ByteBuffer.allocateDirect(2 * 1024);
     private final UnsafeBuffer dataBuffer = new UnsafeBuffer(dataFrameBuffer);
     private final ByteBuffer setupFrameBuffer = ByteBuffer.allocateDirect(SetupFlyweight.HEADER_LENGTH);
@@ -110,6 +117,7 @@ public class ReceiverTest
     private Receiver receiver;
     private ReceiverProxy receiverProxy;
     private OneToOneConcurrentArrayQueue<DriverConductorCmd> toConductorQueue;
+    private OneToOneConcurrentArrayQueue<PublicationImage> imageFeedbackQueue;
 
     private MediaDriver.Context context = new MediaDriver.Context();
     private ReceiveChannelEndpoint receiveChannelEndpoint;
@@ -130,9 +138,11 @@ public class ReceiverTest
             .rawLogBuffersFactory(mockRawLogFactory)
             .systemCounters(mockSystemCounters)
             .receiverCommandQueue(new OneToOneConcurrentArrayQueue<>(1024))
+            .imageFeedbackQueue(new OneToOneConcurrentArrayQueue<>(1024))
             .nanoClock(() -> currentTime);
 
         toConductorQueue = ctx.toConductorFromReceiverCommandQueue();
+        imageFeedbackQueue = ctx.imageFeedbackQueue();
         final DriverConductorProxy driverConductorProxy =
             new DriverConductorProxy(ThreadingMode.DEDICATED, toConductorQueue, mock(AtomicCounter.class));
         ctx.fromReceiverDriverConductorProxy(driverConductorProxy);
@@ -187,14 +197,19 @@ public class ReceiverTest
             INITIAL_TERM_ID,
             ACTIVE_TERM_ID,
             INITIAL_TERM_OFFSET,
+            JOINING_POSITION,
             INITIAL_WINDOW_LENGTH,
             rawLog,
             mockFeedbackDelayGenerator,
             POSITIONS,
             mockHighestReceivedPosition,
+            mockReceiverWindow,
             clock,
             mockSystemCounters,
-            SOURCE_ADDRESS);
+            SOURCE_ADDRESS,
+            imageFeedbackQueue,
+            null,
+            null);
 
         final int messagesRead = toConductorQueue.drain(
             (e) ->
@@ -265,14 +280,19 @@ public class ReceiverTest
                         INITIAL_TERM_ID,
                         ACTIVE_TERM_ID,
                         INITIAL_TERM_OFFSET,
+                        JOINING_POSITION,
                         INITIAL_WINDOW_LENGTH,
                         rawLog,
                         mockFeedbackDelayGenerator,
                         POSITIONS,
                         mockHighestReceivedPosition,
+                        mockReceiverWindow,
                         clock,
                         mockSystemCounters,
-                        SOURCE_ADDRESS));
+                        SOURCE_ADDRESS,
+                        imageFeedbackQueue,
+                        null,
+                        null));
             });
 
         assertThat(commandsRead, is(1));
@@ -329,14 +349,19 @@ public class ReceiverTest
                         INITIAL_TERM_ID,
                         ACTIVE_TERM_ID,
                         INITIAL_TERM_OFFSET,
+                        JOINING_POSITION,
                         INITIAL_WINDOW_LENGTH,
                         rawLog,
                         mockFeedbackDelayGenerator,
                         POSITIONS,
                         mockHighestReceivedPosition,
+                        mockReceiverWindow,
                         clock,
                         mockSystemCounters,
-                        SOURCE_ADDRESS));
+                        SOURCE_ADDRESS,
+                        imageFeedbackQueue,
+                        null,
+                        null));
             });
 
         assertThat(commandsRead, is(1));
@@ -396,14 +421,19 @@ public class ReceiverTest
                         INITIAL_TERM_ID,
                         ACTIVE_TERM_ID,
                         INITIAL_TERM_OFFSET,
+                        JOINING_POSITION,
                         INITIAL_WINDOW_LENGTH,
                         rawLog,
                         mockFeedbackDelayGenerator,
                         POSITIONS,
                         mockHighestReceivedPosition,
+                        mockReceiverWindow,
                         clock,
                         mockSystemCounters,
-                        SOURCE_ADDRESS));
+                        SOURCE_ADDRESS,
+                        imageFeedbackQueue,
+                        null,
+                        null));
             });
 
         assertThat(commandsRead, is(1));
@@ -467,14 +497,19 @@ public class ReceiverTest
                         INITIAL_TERM_ID,
                         ACTIVE_TERM_ID,
                         initialTermOffset,
+                        initialTermOffset,
                         INITIAL_WINDOW_LENGTH,
                         rawLog,
                         mockFeedbackDelayGenerator,
                         POSITIONS,
                         mockHighestReceivedPosition,
+                        mockReceiverWindow,
                         clock,
                         mockSystemCounters,
-                        SOURCE_ADDRESS));
+                        SOURCE_ADDRESS,
+                        imageFeedbackQueue,
+                        null,
+                        null));
             });
 
         assertThat(commandsRead, is(1));
@@ -529,6 +564,22 @@ public class ReceiverTest
         verify(mockImage).removeFromDispatcher();
     }
 
+    @Test
+    public void shouldHandSubscriberPositionBackToConductorOnlyOnDutyCycle() throws Exception
+    {
+        final ReadablePosition subscriberPosition = mock(ReadablePosition.class);
+        final DriverConductor mockConductor = mock(DriverConductor.class);
+
+        receiverProxy.releaseSubscriberPosition(subscriberPosition);
+
+        assertThat(toConductorQueue.drain((cmd) -> cmd.execute(mockConductor)), is(0));
+
+        receiver.doWork();
+
+        assertThat(toConductorQueue.drain((cmd) -> cmd.execute(mockConductor)), is(1));
+        verify(mockConductor).onCloseSubscriberPosition(subscriberPosition);
+    }
+
     @Test
     public void shouldNotRemoveImageFromDispatcherOnRemoveSubscription() throws Exception
     {
@@ -544,6 +595,7 @@ public class ReceiverTest
         when(mockImage.sessionId()).thenReturn(SESSION_ID);
         when(mockImage.streamId()).thenReturn(STREAM_ID);
         when(mockImage.checkForActivity(anyLong())).thenReturn(true);
+        when(mockImage.nextReceiverDeadline(anyLong(), anyLong())).thenReturn(STATUS_MESSAGE_TIMEOUT);
 
         receiver.onNewPublicationImage(receiveChannelEndpoint, mockImage);
         receiver.onRemoveSubscription(receiveChannelEndpoint, STREAM_ID);
@@ -553,6 +605,410 @@ public class ReceiverTest
         verify(mockImage, never()).removeFromDispatcher();
     }
 
+    @Test
+    public void shouldNakFromJoiningPositionWhenCatchingUpOnRetainedTerms() throws Exception
+    {
+        receiverProxy.registerReceiveChannelEndpoint(receiveChannelEndpoint);
+        receiver.doWork();
+
+        final int liveTermOffset = TERM_BUFFER_LENGTH / 2;
+        final PublicationImage image = new PublicationImage(
+            CORRELATION_ID,
+            Configuration.IMAGE_LIVENESS_TIMEOUT_NS,
+            receiveChannelEndpoint,
+            senderAddress,
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            ACTIVE_TERM_ID,
+            liveTermOffset,
+            JOINING_POSITION,
+            INITIAL_WINDOW_LENGTH,
+            rawLog,
+            mockFeedbackDelayGenerator,
+            POSITIONS,
+            mockHighestReceivedPosition,
+            mockReceiverWindow,
+            clock,
+            mockSystemCounters,
+            SOURCE_ADDRESS,
+            imageFeedbackQueue,
+            null,
+            null);
+
+        assertThat(image.rebuildPosition(), is(JOINING_POSITION));
+        assertThat(mockHighestReceivedPosition.get(), is(JOINING_POSITION + liveTermOffset));
+
+        image.trackRebuild(currentTime);
+        image.trackRebuild(currentTime + 1);
+        image.sendPendingNak();
+
+        final ByteBuffer rcvBuffer = ByteBuffer.allocateDirect(256);
+        InetSocketAddress rcvAddress;
+
+        do
+        {
+            rcvAddress = (InetSocketAddress)senderChannel.receive(rcvBuffer);
+        }
+        while (null == rcvAddress);
+
+        final NakFlyweight nakHeader = new NakFlyweight(new UnsafeBuffer(rcvBuffer));
+
+        assertThat(nakHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_NAK));
+        assertThat(nakHeader.termId(), is(ACTIVE_TERM_ID));
+        assertThat(nakHeader.termOffset(), is(INITIAL_TERM_OFFSET));
+        assertThat(nakHeader.length(), is(Math.min(liveTermOffset, INITIAL_WINDOW_LENGTH)));
+    }
+
+    @Test
+    public void shouldNakFromPreviousTermWhenCatchingUpAfterInitialTerm() throws Exception
+    {
+        receiverProxy.registerReceiveChannelEndpoint(receiveChannelEndpoint);
+        receiver.doWork();
+
+        final int activeTermId = INITIAL_TERM_ID + 1;
+        final int liveTermOffset = TERM_BUFFER_LENGTH / 2;
+        final int positionBitsToShift = numberOfTrailingZeros(TERM_BUFFER_LENGTH);
+        final long joiningPosition =
+            DriverConductor.computeRetainedPosition(activeTermId, positionBitsToShift, INITIAL_TERM_ID);
+
+        assertThat(joiningPosition, is(computeTermBeginPosition(INITIAL_TERM_ID, positionBitsToShift, INITIAL_TERM_ID)));
+
+        final PublicationImage image = new PublicationImage(
+            CORRELATION_ID,
+            Configuration.IMAGE_LIVENESS_TIMEOUT_NS,
+            receiveChannelEndpoint,
+            senderAddress,
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            activeTermId,
+            liveTermOffset,
+            joiningPosition,
+            INITIAL_WINDOW_LENGTH,
+            rawLog,
+            mockFeedbackDelayGenerator,
+            POSITIONS,
+            mockHighestReceivedPosition,
+            mockReceiverWindow,
+            clock,
+            mockSystemCounters,
+            SOURCE_ADDRESS,
+            imageFeedbackQueue,
+            null,
+            null);
+
+        assertThat(image.rebuildPosition(), is(joiningPosition));
+        assertThat(mockHighestReceivedPosition.get(), is(joiningPosition + TERM_BUFFER_LENGTH + liveTermOffset));
+
+        image.trackRebuild(currentTime);
+        image.trackRebuild(currentTime + 1);
+        image.sendPendingNak();
+
+        final ByteBuffer rcvBuffer = ByteBuffer.allocateDirect(256);
+        InetSocketAddress rcvAddress;
+
+        do
+        {
+            rcvAddress = (InetSocketAddress)senderChannel.receive(rcvBuffer);
+        }
+        while (null == rcvAddress);
+
+        final NakFlyweight nakHeader = new NakFlyweight(new UnsafeBuffer(rcvBuffer));
+
+        assertThat(nakHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_NAK));
+        assertThat(nakHeader.termId(), is(INITIAL_TERM_ID));
+        assertThat(nakHeader.termOffset(), is(0));
+        assertThat(nakHeader.length(), is(Math.min(TERM_BUFFER_LENGTH, INITIAL_WINDOW_LENGTH)));
+    }
+
+    @Test(timeout = 10000)
+    public void shouldSendNakSignalledByImageOnNextDutyCycle() throws Exception
+    {
+        receiverProxy.registerReceiveChannelEndpoint(receiveChannelEndpoint);
+        receiverProxy.addSubscription(receiveChannelEndpoint, STREAM_ID);
+        receiver.doWork();
+
+        final int liveTermOffset = TERM_BUFFER_LENGTH / 2;
+        final PublicationImage image = new PublicationImage(
+            CORRELATION_ID,
+            Configuration.IMAGE_LIVENESS_TIMEOUT_NS,
+            receiveChannelEndpoint,
+            senderAddress,
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            ACTIVE_TERM_ID,
+            liveTermOffset,
+            JOINING_POSITION,
+            INITIAL_WINDOW_LENGTH,
+            rawLog,
+            mockFeedbackDelayGenerator,
+            POSITIONS,
+            mockHighestReceivedPosition,
+            mockReceiverWindow,
+            clock,
+            mockSystemCounters,
+            SOURCE_ADDRESS,
+            imageFeedbackQueue,
+            null,
+            null);
+
+        receiver.onNewPublicationImage(receiveChannelEndpoint, image);
+        receiver.doWork();
+        assertThat(imageFeedbackQueue.size(), is(0));
+
+        image.trackRebuild(currentTime);
+        image.trackRebuild(currentTime + 1);
+        assertThat(imageFeedbackQueue.size(), is(1));
+
+        receiver.doWork();
+        assertThat(imageFeedbackQueue.size(), is(0));
+
+        final ByteBuffer rcvBuffer = ByteBuffer.allocateDirect(256);
+        final NakFlyweight nakHeader = new NakFlyweight(new UnsafeBuffer(rcvBuffer));
+
+        do
+        {
+            rcvBuffer.clear();
+            while (null == senderChannel.receive(rcvBuffer))
+            {
+                Thread.yield();
+            }
+        }
+        while (nakHeader.headerType() != HeaderFlyweight.HDR_TYPE_NAK);
+
+        assertThat(nakHeader.termId(), is(ACTIVE_TERM_ID));
+        assertThat(nakHeader.termOffset(), is(INITIAL_TERM_OFFSET));
+    }
+
+    @Test(timeout = 10000)
+    public void shouldTrackRebuildAndSendNakOnReceiverWhenRebuildTrackingOnReceiver() throws Exception
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .dataTransportPoller(mockDataTransportPoller)
+            .systemCounters(mockSystemCounters)
+            .receiverCommandQueue(new OneToOneConcurrentArrayQueue<>(1024))
+            .imageFeedbackQueue(imageFeedbackQueue)
+            .receiverRebuildTracking(true)
+            .nanoClock(() -> currentTime);
+
+        final Receiver rebuildTrackingReceiver = new Receiver(ctx);
+
+        receiverProxy.registerReceiveChannelEndpoint(receiveChannelEndpoint);
+        receiverProxy.addSubscription(receiveChannelEndpoint, STREAM_ID);
+        receiver.doWork();
+
+        final int liveTermOffset = TERM_BUFFER_LENGTH / 2;
+        final PublicationImage image = new PublicationImage(
+            CORRELATION_ID,
+            Configuration.IMAGE_LIVENESS_TIMEOUT_NS,
+            receiveChannelEndpoint,
+            senderAddress,
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            ACTIVE_TERM_ID,
+            liveTermOffset,
+            JOINING_POSITION,
+            INITIAL_WINDOW_LENGTH,
+            rawLog,
+            mockFeedbackDelayGenerator,
+            POSITIONS,
+            mockHighestReceivedPosition,
+            mockReceiverWindow,
+            clock,
+            mockSystemCounters,
+            SOURCE_ADDRESS,
+            imageFeedbackQueue,
+            null,
+            null);
+
+        rebuildTrackingReceiver.onNewPublicationImage(receiveChannelEndpoint, image);
+        rebuildTrackingReceiver.doWork();
+        currentTime += 1;
+        rebuildTrackingReceiver.doWork();
+
+        assertThat(imageFeedbackQueue.size(), is(0));
+
+        final ByteBuffer rcvBuffer = ByteBuffer.allocateDirect(256);
+        final NakFlyweight nakHeader = new NakFlyweight(new UnsafeBuffer(rcvBuffer));
+
+        do
+        {
+            rcvBuffer.clear();
+            while (null == senderChannel.receive(rcvBuffer))
+            {
+                Thread.yield();
+            }
+        }
+        while (nakHeader.headerType() != HeaderFlyweight.HDR_TYPE_NAK);
+
+        assertThat(nakHeader.termId(), is(ACTIVE_TERM_ID));
+        assertThat(nakHeader.termOffset(), is(INITIAL_TERM_OFFSET));
+    }
+
+    @Test
+    public void shouldRecoverLostPacketFromParityForGroupEndingAtTermBoundary() throws Exception
+    {
+        final int packetLength = 1024;
+        final int groupSize = 3;
+        final int groupOffset = TERM_BUFFER_LENGTH - (groupSize * packetLength);
+        final int lostPacketOffset = groupOffset + packetLength;
+        final UnsafeBuffer sentTermBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(TERM_BUFFER_LENGTH));
+
+        for (int termOffset = groupOffset; termOffset < TERM_BUFFER_LENGTH; termOffset += packetLength)
+        {
+            final boolean isLastPacket = termOffset + packetLength == TERM_BUFFER_LENGTH;
+            final int frameLength = isLastPacket ? packetLength - DataHeaderFlyweight.HEADER_LENGTH : packetLength;
+            fillTermFrame(sentTermBuffer, termOffset, frameLength, HeaderFlyweight.HDR_TYPE_DATA);
+            sentTermBuffer.setMemory(termOffset + DataHeaderFlyweight.HEADER_LENGTH, 16, (byte)termOffset);
+
+            if (isLastPacket)
+            {
+                fillTermFrame(
+                    sentTermBuffer, termOffset + frameLength, DataHeaderFlyweight.HEADER_LENGTH, HeaderFlyweight.HDR_TYPE_PAD);
+            }
+        }
+
+        final FecEncoder fecEncoder = new FecEncoder(groupSize, 1, SESSION_ID, STREAM_ID, 2 * packetLength);
+        for (int termOffset = groupOffset; termOffset < TERM_BUFFER_LENGTH; termOffset += packetLength)
+        {
+            fecEncoder.onPacketSent(sentTermBuffer, ACTIVE_TERM_ID, termOffset, packetLength);
+        }
+
+        final FecHeaderFlyweight parityHeader = new FecHeaderFlyweight(ByteBuffer.allocateDirect(2 * packetLength));
+        final SendChannelEndpoint sendChannelEndpoint = mock(SendChannelEndpoint.class);
+        when(sendChannelEndpoint.send(any(ByteBuffer.class))).then(
+            (invocation) ->
+            {
+                final ByteBuffer buffer = (ByteBuffer)invocation.getArguments()[0];
+                final int length = buffer.remaining();
+                parityHeader.putBytes(0, buffer, buffer.position(), length);
+
+                return length;
+            });
+        assertThat(fecEncoder.flush(sendChannelEndpoint), is(1));
+
+        final PublicationImage image = new PublicationImage(
+            CORRELATION_ID,
+            Configuration.IMAGE_LIVENESS_TIMEOUT_NS,
+            receiveChannelEndpoint,
+            senderAddress,
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            ACTIVE_TERM_ID,
+            groupOffset,
+            groupOffset,
+            INITIAL_WINDOW_LENGTH,
+            rawLog,
+            mockFeedbackDelayGenerator,
+            POSITIONS,
+            mockHighestReceivedPosition,
+            mockReceiverWindow,
+            clock,
+            mockSystemCounters,
+            SOURCE_ADDRESS,
+            imageFeedbackQueue,
+            null,
+            null);
+
+        final UnsafeBuffer packetBuffer = new UnsafeBuffer(0, 0);
+        for (int termOffset = groupOffset; termOffset < TERM_BUFFER_LENGTH; termOffset += packetLength)
+        {
+            if (lostPacketOffset != termOffset)
+            {
+                packetBuffer.wrap(sentTermBuffer, termOffset, packetLength);
+                image.insertPacket(ACTIVE_TERM_ID, termOffset, packetBuffer, packetLength);
+            }
+        }
+
+        final UnsafeBuffer rebuiltTermBuffer = termBuffers[ACTIVE_INDEX];
+        assertThat(rebuiltTermBuffer.getInt(lostPacketOffset), is(0));
+
+        assertThat(image.insertParityPacket(parityHeader, parityHeader.frameLength()), is(packetLength));
+
+        for (int i = 0; i < packetLength; i++)
+        {
+            assertThat(rebuiltTermBuffer.getByte(lostPacketOffset + i), is(sentTermBuffer.getByte(lostPacketOffset + i)));
+        }
+    }
+
+    @Test
+    public void shouldOnlyCountGapsFilledWithinNakedRangeAsNakRecovered() throws Exception
+    {
+        final AtomicCounter nakRecoveredPackets = mock(AtomicCounter.class);
+        when(mockSystemCounters.get(SystemCounterDescriptor.NAK_RECOVERED_PACKETS)).thenReturn(nakRecoveredPackets);
+
+        receiverProxy.registerReceiveChannelEndpoint(receiveChannelEndpoint);
+        receiverProxy.addSubscription(receiveChannelEndpoint, STREAM_ID);
+        receiver.doWork();
+
+        final int packetLength = 1024;
+        final UnsafeBuffer sentTermBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(TERM_BUFFER_LENGTH));
+        for (int termOffset = 0; termOffset < 5 * packetLength; termOffset += packetLength)
+        {
+            fillTermFrame(sentTermBuffer, termOffset, packetLength, HeaderFlyweight.HDR_TYPE_DATA);
+        }
+
+        final PublicationImage image = new PublicationImage(
+            CORRELATION_ID,
+            Configuration.IMAGE_LIVENESS_TIMEOUT_NS,
+            receiveChannelEndpoint,
+            senderAddress,
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            ACTIVE_TERM_ID,
+            INITIAL_TERM_OFFSET,
+            JOINING_POSITION,
+            INITIAL_WINDOW_LENGTH,
+            rawLog,
+            mockFeedbackDelayGenerator,
+            POSITIONS,
+            mockHighestReceivedPosition,
+            mockReceiverWindow,
+            clock,
+            mockSystemCounters,
+            SOURCE_ADDRESS,
+            imageFeedbackQueue,
+            null,
+            null);
+
+        final UnsafeBuffer packetBuffer = new UnsafeBuffer(0, 0);
+        for (final int termOffset : new int[]{ 0, 2 * packetLength, 4 * packetLength, packetLength })
+        {
+            packetBuffer.wrap(sentTermBuffer, termOffset, packetLength);
+            image.insertPacket(ACTIVE_TERM_ID, termOffset, packetBuffer, packetLength);
+        }
+
+        verify(nakRecoveredPackets, never()).orderedIncrement();
+
+        image.onLossDetected(ACTIVE_TERM_ID, 3 * packetLength, packetLength);
+        assertThat(image.sendPendingNak(), is(1));
+
+        packetBuffer.wrap(sentTermBuffer, 3 * packetLength, packetLength);
+        image.insertPacket(ACTIVE_TERM_ID, 3 * packetLength, packetBuffer, packetLength);
+
+        verify(nakRecoveredPackets, times(1)).orderedIncrement();
+    }
+
+    private void fillTermFrame(final UnsafeBuffer termBuffer, final int termOffset, final int frameLength, final int type)
+    {
+        final DataHeaderFlyweight header = new DataHeaderFlyweight();
+        header.wrap(termBuffer, termOffset, frameLength);
+        header
+            .termOffset(termOffset)
+            .termId(ACTIVE_TERM_ID)
+            .streamId(STREAM_ID)
+            .sessionId(SESSION_ID)
+            .frameLength(frameLength)
+            .headerType(type)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .version(HeaderFlyweight.CURRENT_VERSION);
+    }
+
     private void fillDataFrame(final DataHeaderFlyweight header, final int termOffset, final byte[] payload)
     {
         header.wrap(dataBuffer);
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ReceiverWindowAutotunerTest
+{
+    private static final int INITIAL_WINDOW_LENGTH = 128 * 1024;
+    private static final int MIN_WINDOW_LENGTH = 4 * 1408;
+    private static final int MAX_WINDOW_LENGTH = 1024 * 1024;
+    private static final long RTT_EXPIRY_NS = TimeUnit.SECONDS.toNanos(10);
+    private static final long RTT_NS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int MTU_LENGTH = 1408;
+
+    private final ReceiverWindowAutotuner autotuner = new ReceiverWindowAutotuner(
+        INITIAL_WINDOW_LENGTH, MIN_WINDOW_LENGTH, MAX_WINDOW_LENGTH, RTT_EXPIRY_NS);
+
+    @Test
+    public void shouldStartWithInitialWindowLength()
+    {
+        assertThat(autotuner.windowLength(), is(INITIAL_WINDOW_LENGTH));
+        assertThat(autotuner.minRttNs(), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldGrowToTwiceBandwidthDelayProductWhenWindowLimited()
+    {
+        final long edgePosition = INITIAL_WINDOW_LENGTH;
+        autotuner.onStatusMessage(edgePosition, edgePosition + 32 * 1024, edgePosition, 0, 0);
+        autotuner.onPacket(edgePosition + MTU_LENGTH, 96 * 1024, RTT_NS);
+
+        assertThat(autotuner.minRttNs(), is(RTT_NS));
+        assertThat(autotuner.windowLength(), is(192 * 1024));
+    }
+
+    @Test
+    public void shouldNotGrowWhenNotWindowLimited()
+    {
+        final long edgePosition = INITIAL_WINDOW_LENGTH;
+        autotuner.onStatusMessage(edgePosition, edgePosition + 32 * 1024, edgePosition / 2, 0, 0);
+        autotuner.onPacket(edgePosition + MTU_LENGTH, 96 * 1024, RTT_NS);
+
+        assertThat(autotuner.windowLength(), is(INITIAL_WINDOW_LENGTH));
+    }
+
+    @Test
+    public void shouldShrinkWhenWindowLimitedAndConsumptionIsLessThanWindow()
+    {
+        final long edgePosition = INITIAL_WINDOW_LENGTH;
+        autotuner.onStatusMessage(edgePosition, edgePosition + 32 * 1024, edgePosition, 0, 0);
+        autotuner.onPacket(edgePosition + MTU_LENGTH, 8 * 1024, RTT_NS);
+
+        assertThat(autotuner.windowLength(), is(16 * 1024));
+    }
+
+    @Test
+    public void shouldNotShrinkWhenNotWindowLimited()
+    {
+        final long edgePosition = INITIAL_WINDOW_LENGTH;
+        autotuner.onStatusMessage(edgePosition, edgePosition + 32 * 1024, edgePosition / 2, 0, 0);
+        autotuner.onPacket(edgePosition + MTU_LENGTH, 8 * 1024, RTT_NS);
+
+        assertThat(autotuner.windowLength(), is(INITIAL_WINDOW_LENGTH));
+    }
+
+    @Test
+    public void shouldKeepWindowFromBurstThroughIdlePeriodForNextBurst()
+    {
+        long edgePosition = INITIAL_WINDOW_LENGTH;
+        long consumptionPosition = 0;
+        long nowNs = 0;
+        autotuner.onStatusMessage(edgePosition, edgePosition + 32 * 1024, edgePosition, consumptionPosition, nowNs);
+        consumptionPosition += 96 * 1024;
+        nowNs += RTT_NS;
+        autotuner.onPacket(edgePosition + MTU_LENGTH, consumptionPosition, nowNs);
+
+        assertThat(autotuner.windowLength(), is(192 * 1024));
+
+        for (int i = 0; i < 10; i++)
+        {
+            edgePosition += 32 * 1024;
+            autotuner.onStatusMessage(edgePosition, edgePosition + 32 * 1024, edgePosition / 2, consumptionPosition, nowNs);
+            consumptionPosition += MTU_LENGTH;
+            nowNs += 100 * RTT_NS;
+            autotuner.onPacket(edgePosition + MTU_LENGTH, consumptionPosition, nowNs);
+
+            assertThat(autotuner.windowLength(), is(192 * 1024));
+        }
+
+        edgePosition += 32 * 1024;
+        autotuner.onStatusMessage(edgePosition, edgePosition + 32 * 1024, edgePosition, consumptionPosition, nowNs);
+        consumptionPosition += 96 * 1024;
+        nowNs += RTT_NS;
+        autotuner.onPacket(edgePosition + MTU_LENGTH, consumptionPosition, nowNs);
+
+        assertThat(autotuner.windowLength(), is(192 * 1024));
+    }
+
+    @Test
+    public void shouldBeBoundedByMinAndMaxWindowLengths()
+    {
+        long edgePosition = INITIAL_WINDOW_LENGTH;
+        autotuner.onStatusMessage(edgePosition, edgePosition + 32 * 1024, edgePosition, 0, 0);
+        autotuner.onPacket(edgePosition + MTU_LENGTH, 0, RTT_NS);
+
+        assertThat(autotuner.windowLength(), is(MIN_WINDOW_LENGTH));
+
+        edgePosition += MIN_WINDOW_LENGTH;
+        autotuner.onStatusMessage(edgePosition, edgePosition + 32 * 1024, edgePosition, 0, 2 * RTT_NS);
+        autotuner.onPacket(edgePosition + MTU_LENGTH, 4L * MAX_WINDOW_LENGTH, 3 * RTT_NS);
+
+        assertThat(autotuner.windowLength(), is(MAX_WINDOW_LENGTH));
+    }
+
+    @Test
+    public void shouldOnlySampleWhenEdgeAdvancesAndPacketIsBeyondIt()
+    {
+        final long edgePosition = INITIAL_WINDOW_LENGTH;
+        autotuner.onStatusMessage(edgePosition, edgePosition, edgePosition, 0, 0);
+        autotuner.onPacket(edgePosition + MTU_LENGTH, 0, RTT_NS);
+
+        assertThat(autotuner.minRttNs(), is(Long.MAX_VALUE));
+
+        autotuner.onStatusMessage(edgePosition, edgePosition + 32 * 1024, edgePosition, 0, 0);
+        autotuner.onPacket(edgePosition, 0, RTT_NS);
+
+        assertThat(autotuner.minRttNs(), is(Long.MAX_VALUE));
+
+        autotuner.onPacket(edgePosition + MTU_LENGTH, 0, 2 * RTT_NS);
+
+        assertThat(autotuner.minRttNs(), is(2 * RTT_NS));
+    }
+
+    @Test
+    public void shouldKeepMinimumRttUntilExpired()
+    {
+        long edgePosition = INITIAL_WINDOW_LENGTH;
+        long nowNs = 0;
+        autotuner.onStatusMessage(edgePosition, edgePosition + 32 * 1024, edgePosition, 0, nowNs);
+        autotuner.onPacket(edgePosition + MTU_LENGTH, 0, nowNs + RTT_NS);
+
+        edgePosition += 32 * 1024;
+        nowNs += 2 * RTT_NS;
+        autotuner.onStatusMessage(edgePosition, edgePosition + 32 * 1024, edgePosition, 0, nowNs);
+        autotuner.onPacket(edgePosition + MTU_LENGTH, 0, nowNs + 5 * RTT_NS);
+
+        assertThat(autotuner.minRttNs(), is(RTT_NS));
+
+        edgePosition += 32 * 1024;
+        nowNs += RTT_EXPIRY_NS;
+        autotuner.onStatusMessage(edgePosition, edgePosition + 32 * 1024, edgePosition, 0, nowNs);
+        autotuner.onPacket(edgePosition + MTU_LENGTH, 0, nowNs + 5 * RTT_NS);
+
+        assertThat(autotuner.minRttNs(), is(5 * RTT_NS));
+    }
+}
@@ -18,6 +18,7 @@ package io.aeron.driver;
 import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.cmd.NewPublicationCmd;
 import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.SystemCounterDescriptor;
 import io.aeron.driver.status.SystemCounters;
 import org.junit.After;
 import org.junit.Before;
@@ -30,6 +31,7 @@ import io.aeron.logbuffer.HeaderWriter;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.TermAppender;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecHeaderFlyweight;
 import io.aeron.protocol.HeaderFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
@@ -68,6 +70,8 @@ public class SenderTest
 
     private final RawLog rawLog = LogBufferHelper.newTestLogBuffers(TERM_BUFFER_LENGTH, TERM_META_DATA_LENGTH);
 
+    private final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
+
     private TermAppender[] termAppenders;
     private NetworkPublication publication;
     private Sender sender;
@@ -104,7 +108,6 @@ public class SenderTest
     @Before
     public void setUp() throws Exception
     {
-        final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
         when(mockSendChannelEndpoint.udpChannel()).thenReturn(udpChannel);
         when(mockSendChannelEndpoint.send(anyObject())).thenAnswer(saveByteBufferAnswer);
         when(mockSystemCounters.get(anyObject())).thenReturn(mock(AtomicCounter.class));
@@ -114,7 +117,8 @@ public class SenderTest
                 .controlTransportPoller(mockTransportPoller)
                 .systemCounters(mockSystemCounters)
                 .senderCommandQueue(senderCommandQueue)
-                .nanoClock(() -> currentTimestamp));
+                .nanoClock(() -> currentTimestamp)
+                .epochClock(() -> currentTimestamp / (1_000_000L)));
 
         final UnsafeBuffer termMetaData = rawLog.partitions()[0].metaDataBuffer();
         LogBufferDescriptor.initialiseTailWithTermId(termMetaData, INITIAL_TERM_ID);
@@ -124,12 +128,36 @@ public class SenderTest
             .map((log) -> new TermAppender(log.termBuffer(), log.metaDataBuffer()))
             .toArray(TermAppender[]::new);
 
-        publication = new NetworkPublication(
+        publication = newNetworkPublication(mock(Position.class), false);
+
+        senderCommandQueue.offer(new NewPublicationCmd(publication));
+    }
+
+    private NetworkPublication newNetworkPublication(
+        final Position publisherLimit, final boolean isPublisherLimitUpdatedBySender)
+    {
+        return newNetworkPublication(publisherLimit, isPublisherLimitUpdatedBySender, null);
+    }
+
+    private NetworkPublication newNetworkPublication(
+        final Position publisherLimit, final boolean isPublisherLimitUpdatedBySender, final TokenBucketPacer pacer)
+    {
+        return newNetworkPublication(publisherLimit, isPublisherLimitUpdatedBySender, pacer, null);
+    }
+
+    private NetworkPublication newNetworkPublication(
+        final Position publisherLimit,
+        final boolean isPublisherLimitUpdatedBySender,
+        final TokenBucketPacer pacer,
+        final FecEncoder fecEncoder)
+    {
+        return new NetworkPublication(
             mockSendChannelEndpoint,
+            udpChannel,
             () -> currentTimestamp,
             () -> currentTimestamp / (1_000_000L),
             rawLog,
-            mock(Position.class),
+            publisherLimit,
             new AtomicLongPosition(),
             SESSION_ID,
             STREAM_ID,
@@ -137,9 +165,13 @@ public class SenderTest
             MAX_FRAME_LENGTH,
             mockSystemCounters,
             flowControl,
-            mockRetransmitHandler);
-
-        senderCommandQueue.offer(new NewPublicationCmd(publication));
+            mockRetransmitHandler,
+            false,
+            fecEncoder,
+            pacer,
+            PublicationPriority.NORMAL,
+            isPublisherLimitUpdatedBySender,
+            false);
     }
 
     @After
@@ -234,6 +266,75 @@ public class SenderTest
         assertThat(setupHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_SETUP));
     }
 
+    @Test
+    public void shouldUpdatePublisherLimitOnStatusMessageAndSendWhenUpdatedBySender() throws Exception
+    {
+        final Position publisherLimit = new AtomicLongPosition();
+        final NetworkPublication publication = newNetworkPublication(publisherLimit, true);
+        final int termWindowLength = Configuration.publicationTermWindowLength(TERM_BUFFER_LENGTH);
+        sender.onNewNetworkPublication(publication);
+
+        publication.onStatusMessage(INITIAL_TERM_ID, 0, ALIGNED_FRAME_LENGTH, rcvAddress);
+        assertThat(publisherLimit.get(), is((long)termWindowLength));
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length);
+        sender.doWork();
+
+        assertThat(publisherLimit.get(), is((long)(ALIGNED_FRAME_LENGTH + termWindowLength)));
+    }
+
+    @Test
+    public void shouldSignalWaitersWhenPublisherLimitIsRaisedOnSend() throws Exception
+    {
+        final Position publisherLimit = new AtomicLongPosition();
+        final NetworkPublication publication = newNetworkPublication(publisherLimit, true);
+        sender.onNewNetworkPublication(publication);
+
+        publication.onStatusMessage(INITIAL_TERM_ID, 0, ALIGNED_FRAME_LENGTH, rcvAddress);
+
+        final UnsafeBuffer logMetaData = rawLog.logMetaData();
+        logMetaData.putIntVolatile(LogBufferDescriptor.LOG_WAITER_COUNT_OFFSET, 1);
+        final long wakeupSequence = logMetaData.getLongVolatile(LogBufferDescriptor.LOG_WAKEUP_SEQUENCE_OFFSET);
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length);
+        sender.doWork();
+
+        assertThat(
+            logMetaData.getLongVolatile(LogBufferDescriptor.LOG_WAKEUP_SEQUENCE_OFFSET), is(wakeupSequence + 1));
+    }
+
+    @Test
+    public void shouldUpdateDirectPublisherLimitOnDutyCycleWhenUpdatedBySender() throws Exception
+    {
+        final Position publisherLimit = new AtomicLongPosition();
+        final Position subscriberPosition = new AtomicLongPosition();
+        final int termWindowLength = Configuration.ipcPublicationTermWindowLength(TERM_BUFFER_LENGTH);
+        final DirectPublication directPublication = new DirectPublication(
+            1L,
+            SESSION_ID,
+            STREAM_ID,
+            publisherLimit,
+            LogBufferHelper.newTestLogBuffers(TERM_BUFFER_LENGTH, TERM_META_DATA_LENGTH),
+            true,
+            false);
+
+        directPublication.addSubscription(subscriberPosition);
+        sender.onNewDirectPublication(directPublication);
+
+        sender.doWork();
+        assertThat(publisherLimit.get(), is((long)termWindowLength));
+
+        subscriberPosition.setOrdered(termWindowLength);
+        sender.doWork();
+        assertThat(publisherLimit.get(), is((long)(2 * termWindowLength)));
+    }
+
     @Test
     public void shouldBeAbleToSendOnChannel() throws Exception
     {
@@ -361,6 +462,28 @@ public class SenderTest
         assertThat(receivedFrames.size(), is(0));
     }
 
+    @Test
+    public void shouldOnlyBeReadyToSendWithNewDataOrDueTimer() throws Exception
+    {
+        publication.senderPositionLimit(
+            flowControl.onStatusMessage(INITIAL_TERM_ID, 0, ALIGNED_FRAME_LENGTH, rcvAddress));
+
+        sender.doWork();
+        assertThat(publication.isReadyToSend(currentTimestamp), is(false));
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length);
+        assertThat(publication.isReadyToSend(currentTimestamp), is(true));
+
+        sender.doWork();
+        assertThat(publication.isReadyToSend(currentTimestamp), is(false));
+
+        currentTimestamp += Configuration.PUBLICATION_HEARTBEAT_TIMEOUT_NS + 1;
+        assertThat(publication.isReadyToSend(currentTimestamp), is(true));
+    }
+
     @Test
     public void shouldSendLastDataFrameAsHeartbeatWhenIdle() throws Exception
     {
@@ -430,6 +553,136 @@ public class SenderTest
         assertThat(dataHeader.termOffset(), is(offsetOfMessage(2)));
     }
 
+    @Test
+    public void shouldSendHeartbeatAndProcessRetransmitTimeoutsWhenRateLimited()
+    {
+        final TokenBucketPacer pacer = new TokenBucketPacer(
+            1, ALIGNED_FRAME_LENGTH, currentTimestamp, mock(AtomicCounter.class), mock(AtomicCounter.class));
+        final NetworkPublication publication = newNetworkPublication(mock(Position.class), false, pacer);
+        senderCommandQueue.clear();
+        sender.onNewNetworkPublication(publication);
+
+        publication.senderPositionLimit(
+            flowControl.onStatusMessage(INITIAL_TERM_ID, 0, 2 * ALIGNED_FRAME_LENGTH, rcvAddress));
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length);
+        sender.doWork();
+
+        assertThat(receivedFrames.size(), is(2));  // setup & data frame consume the burst
+        receivedFrames.remove();
+        receivedFrames.remove();
+        assertThat(pacer.tokens(), is(0L));
+
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length);
+        sender.doWork();
+        assertThat(receivedFrames.size(), is(0));  // new data is rate limited
+
+        currentTimestamp += Configuration.PUBLICATION_HEARTBEAT_TIMEOUT_NS + 1;
+        sender.doWork();
+        assertThat(receivedFrames.size(), is(1));  // heartbeat is not paced
+
+        dataHeader.wrap(receivedFrames.remove());
+        assertThat(dataHeader.frameLength(), is(0));
+        assertThat(dataHeader.termOffset(), is(offsetOfMessage(2)));
+        assertThat(pacer.tokens(), is(0L));
+
+        verify(mockRetransmitHandler, times(3)).processTimeouts(anyLong(), eq(publication));
+    }
+
+    @Test
+    public void shouldOnlyTimeSampledDutyCycles() throws Exception
+    {
+        final AtomicCounter dutyCycles = mock(AtomicCounter.class);
+        final AtomicCounter dutyCycleTimeNs = mock(AtomicCounter.class);
+        when(mockSystemCounters.get(SystemCounterDescriptor.SENDER_DUTY_CYCLES)).thenReturn(dutyCycles);
+        when(mockSystemCounters.get(SystemCounterDescriptor.SENDER_DUTY_CYCLE_TIME_NS)).thenReturn(dutyCycleTimeNs);
+
+        final Sender sender = new Sender(
+            new MediaDriver.Context()
+                .controlTransportPoller(mockTransportPoller)
+                .systemCounters(mockSystemCounters)
+                .senderCommandQueue(senderCommandQueue)
+                .nanoClock(() -> currentTimestamp)
+                .epochClock(() -> currentTimestamp / (1_000_000L)));
+
+        for (int i = 1; i < Configuration.SENDER_DUTY_CYCLE_SAMPLE_INTERVAL; i++)
+        {
+            sender.doWork();
+        }
+
+        verify(dutyCycles, never()).orderedIncrement();
+        verify(dutyCycleTimeNs, never()).addOrdered(anyLong());
+
+        sender.doWork();
+
+        verify(dutyCycles).orderedIncrement();
+        verify(dutyCycleTimeNs).addOrdered(anyLong());
+    }
+
+    @Test
+    public void shouldFlushParityWhenGroupEndsAtTermBoundary()
+    {
+        final int groupSize = 3;
+        final int payloadLength = MAX_FRAME_LENGTH - DataHeaderFlyweight.HEADER_LENGTH;
+        final int frameCount = (TERM_BUFFER_LENGTH / MAX_FRAME_LENGTH) - 1;
+        final NetworkPublication publication = newNetworkPublication(
+            mock(Position.class), false, null, new FecEncoder(groupSize, 1, SESSION_ID, STREAM_ID, 2 * MAX_FRAME_LENGTH));
+        senderCommandQueue.clear();
+        sender.onNewNetworkPublication(publication);
+
+        publication.senderPositionLimit(
+            flowControl.onStatusMessage(INITIAL_TERM_ID, 0, TERM_BUFFER_LENGTH, rcvAddress));
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(payloadLength));
+        for (int i = 0; i < frameCount; i++)
+        {
+            termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, payloadLength);
+        }
+
+        // leave room for only the header of a padding frame so the term ends without any padding to skip
+        termAppenders[0].appendUnfragmentedMessage(
+            headerWriter, buffer, 0, payloadLength - DataHeaderFlyweight.HEADER_LENGTH);
+        termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, payloadLength);
+
+        final int lastFrameOffset = frameCount * MAX_FRAME_LENGTH;
+        boolean isLastFrameSent = false;
+        while (!isLastFrameSent)
+        {
+            sender.doWork();
+            for (final ByteBuffer frame : receivedFrames)
+            {
+                dataHeader.wrap(frame);
+                isLastFrameSent |= HeaderFlyweight.HDR_TYPE_DATA == dataHeader.headerType() &&
+                    lastFrameOffset == dataHeader.termOffset();
+            }
+        }
+
+        final FecHeaderFlyweight parityHeader = new FecHeaderFlyweight();
+        int lastFrameType = 0;
+        for (final ByteBuffer frame : receivedFrames)
+        {
+            dataHeader.wrap(frame);
+            lastFrameType = dataHeader.headerType();
+            if (HeaderFlyweight.HDR_TYPE_FEC == lastFrameType)
+            {
+                parityHeader.wrap(frame);
+            }
+        }
+
+        int groupEndOffset = parityHeader.termOffset();
+        for (int i = 0; i < parityHeader.packetCount(); i++)
+        {
+            groupEndOffset += parityHeader.packetLength(i);
+        }
+
+        assertThat(lastFrameType, is(HeaderFlyweight.HDR_TYPE_FEC));
+        assertThat(parityHeader.termId(), is(INITIAL_TERM_ID));
+        assertThat(groupEndOffset, is(TERM_BUFFER_LENGTH));
+    }
+
     private int offsetOfMessage(final int offset)
     {
         return (offset - 1) * align(HEADER.capacity() + PAYLOAD.length, FRAME_ALIGNMENT);
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.logbuffer.TermGapScanner;
+import io.aeron.logbuffer.TermGapScanner.GapHandler;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyObject;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class TermArrivalBitmapTest
+{
+    private static final int TERM_LENGTH = TERM_MIN_LENGTH;
+    private static final int BLOCK_LENGTH = 1024;
+    private static final int PARTITION_INDEX = 1;
+    private static final int TERM_ID = 7;
+    private static final int FRAME_LENGTH = DataHeaderFlyweight.HEADER_LENGTH;
+
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(TERM_LENGTH));
+    private final TermArrivalBitmap arrivalBitmap = new TermArrivalBitmap(TERM_LENGTH, BLOCK_LENGTH);
+    private final GapHandler gapHandler = mock(GapHandler.class);
+
+    @Test
+    public void shouldReportNoGapWhenContiguous()
+    {
+        insertPacket(0, 3 * FRAME_LENGTH);
+        insertPacket(3 * FRAME_LENGTH, 2 * FRAME_LENGTH);
+
+        final int hwmOffset = 5 * FRAME_LENGTH;
+        assertThat(arrivalBitmap.scanForGap(termBuffer, PARTITION_INDEX, TERM_ID, 0, hwmOffset, gapHandler), is(hwmOffset));
+
+        verify(gapHandler, never()).onGap(anyInt(), anyObject(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void shouldFindGapEndingInSameBlock()
+    {
+        insertPacket(0, FRAME_LENGTH);
+        insertPacket(4 * FRAME_LENGTH, FRAME_LENGTH);
+
+        final int hwmOffset = 5 * FRAME_LENGTH;
+        assertThat(arrivalBitmap.scanForGap(termBuffer, PARTITION_INDEX, TERM_ID, 0, hwmOffset, gapHandler), is(FRAME_LENGTH));
+
+        verify(gapHandler).onGap(TERM_ID, termBuffer, FRAME_LENGTH, 3 * FRAME_LENGTH);
+    }
+
+    @Test
+    public void shouldFindGapEndingInLaterBlock()
+    {
+        final int gapEndOffset = 40 * BLOCK_LENGTH + 7 * FRAME_LENGTH;
+        insertPacket(0, FRAME_LENGTH);
+        insertPacket(gapEndOffset, 2 * FRAME_LENGTH);
+
+        final int hwmOffset = gapEndOffset + 2 * FRAME_LENGTH;
+        arrivalBitmap.scanForGap(termBuffer, PARTITION_INDEX, TERM_ID, 0, hwmOffset, gapHandler);
+
+        verify(gapHandler).onGap(TERM_ID, termBuffer, FRAME_LENGTH, gapEndOffset - FRAME_LENGTH);
+    }
+
+    @Test
+    public void shouldReportGapUpToHwmWhenNothingArrivedAfterGap()
+    {
+        insertPacket(0, FRAME_LENGTH);
+
+        arrivalBitmap.scanForGap(termBuffer, PARTITION_INDEX, TERM_ID, 0, TERM_LENGTH, gapHandler);
+
+        verify(gapHandler).onGap(TERM_ID, termBuffer, FRAME_LENGTH, TERM_LENGTH - FRAME_LENGTH);
+    }
+
+    @Test
+    public void shouldNotSeeArrivalsAfterClear()
+    {
+        insertPacket(0, FRAME_LENGTH);
+        insertPacket(10 * BLOCK_LENGTH, FRAME_LENGTH);
+
+        arrivalBitmap.clear(PARTITION_INDEX);
+        termBuffer.setMemory(10 * BLOCK_LENGTH, FRAME_LENGTH, (byte)0);
+
+        arrivalBitmap.scanForGap(termBuffer, PARTITION_INDEX, TERM_ID, 0, TERM_LENGTH, gapHandler);
+
+        verify(gapHandler).onGap(TERM_ID, termBuffer, FRAME_LENGTH, TERM_LENGTH - FRAME_LENGTH);
+    }
+
+    @Test
+    public void shouldFindSameGapsAsTermGapScanner()
+    {
+        final Random random = new Random(7);
+        final int[] scannerGap = new int[2];
+        final int[] bitmapGap = new int[2];
+
+        for (int run = 0; run < 100; run++)
+        {
+            termBuffer.setMemory(0, TERM_LENGTH, (byte)0);
+            arrivalBitmap.clear(PARTITION_INDEX);
+
+            int offset = 0;
+            while (true)
+            {
+                final int length = (1 + random.nextInt(48)) * FRAME_LENGTH;
+                if (offset + length > TERM_LENGTH)
+                {
+                    break;
+                }
+
+                if (0 == offset || random.nextInt(4) != 0)
+                {
+                    insertPacket(offset, length);
+                }
+
+                offset += length;
+            }
+
+            final int hwmOffset = offset;
+            int rebuildOffset = 0;
+            while (rebuildOffset < hwmOffset)
+            {
+                scannerGap[0] = scannerGap[1] = bitmapGap[0] = bitmapGap[1] = -1;
+
+                final int scannerOffset = TermGapScanner.scanForGap(
+                    termBuffer, TERM_ID, rebuildOffset, hwmOffset,
+                    (termId, buffer, gapOffset, gapLength) ->
+                    {
+                        scannerGap[0] = gapOffset;
+                        scannerGap[1] = gapLength;
+                    });
+
+                final int bitmapOffset = arrivalBitmap.scanForGap(
+                    termBuffer, PARTITION_INDEX, TERM_ID, rebuildOffset, hwmOffset,
+                    (termId, buffer, gapOffset, gapLength) ->
+                    {
+                        bitmapGap[0] = gapOffset;
+                        bitmapGap[1] = gapLength;
+                    });
+
+                assertThat(bitmapOffset, is(scannerOffset));
+                assertThat(bitmapGap, is(scannerGap));
+
+                if (-1 == scannerGap[0])
+                {
+                    break;
+                }
+
+                insertPacket(scannerGap[0], scannerGap[1]);
+                rebuildOffset = scannerOffset;
+            }
+        }
+    }
+
+    private void insertPacket(final int termOffset, final int length)
+    {
+        for (int frameOffset = termOffset; frameOffset < termOffset + length; frameOffset += FRAME_LENGTH)
+        {
+            termBuffer.putInt(frameOffset, FRAME_LENGTH);
+        }
+
+        arrivalBitmap.onPacket(PARTITION_INDEX, termOffset);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TokenBucketPacerTest
+{
+    private static final long RATE = 1_000_000;
+    private static final long BURST_LENGTH = 4096;
+    private static final int MTU_LENGTH = 1408;
+
+    private final AtomicCounter pacedBytes = mock(AtomicCounter.class);
+    private final AtomicCounter rateLimitedTimeNs = mock(AtomicCounter.class);
+    private final TokenBucketPacer pacer = new TokenBucketPacer(RATE, BURST_LENGTH, 0, pacedBytes, rateLimitedTimeNs);
+
+    @Test
+    public void shouldPermitBurstThenRateLimit()
+    {
+        int sends = 0;
+        while (pacer.tryAcquire(0))
+        {
+            pacer.onBytesSent(MTU_LENGTH);
+            sends++;
+        }
+
+        assertThat(sends, is(3));
+        assertThat(pacer.tokens(), is(BURST_LENGTH - (3 * MTU_LENGTH)));
+        verify(pacedBytes, times(3)).addOrdered(MTU_LENGTH);
+    }
+
+    @Test
+    public void shouldRefillAtRate()
+    {
+        pacer.onBytesSent((int)BURST_LENGTH);
+        assertThat(pacer.tryAcquire(0), is(false));
+
+        final long oneMillisecond = TimeUnit.MILLISECONDS.toNanos(1);
+        assertThat(pacer.tryAcquire(oneMillisecond), is(true));
+        assertThat(pacer.tokens(), is(RATE / 1000));
+    }
+
+    @Test
+    public void shouldNotRefillBeyondBurstLength()
+    {
+        pacer.onBytesSent(MTU_LENGTH);
+
+        assertThat(pacer.tryAcquire(TimeUnit.SECONDS.toNanos(10)), is(true));
+        assertThat(pacer.tokens(), is(BURST_LENGTH));
+    }
+
+    @Test
+    public void shouldAccumulateTimeSpentRateLimited()
+    {
+        pacer.onBytesSent((int)BURST_LENGTH + MTU_LENGTH);
+
+        assertThat(pacer.tryAcquire(100), is(false));
+        assertThat(pacer.tryAcquire(500), is(false));
+
+        final long timeToRecover = ((MTU_LENGTH + 1) * TimeUnit.SECONDS.toNanos(1)) / RATE;
+        assertThat(pacer.tryAcquire(timeToRecover), is(true));
+
+        verify(rateLimitedTimeNs).addOrdered(timeToRecover - 100);
+    }
+}
@@ -140,6 +140,172 @@ public class UdpChannelTest
         assertThat(udpChannel.localInterface(), is(NetworkInterface.getByInetAddress(InetAddress.getByName("localhost"))));
     }
 
+    @Test
+    public void shouldParseCatchupOption() throws Exception
+    {
+        final UdpChannel udpChannel = UdpChannel.parse("udp://localhost:40124?catchup=true");
+        final UdpChannel udpChannelAeronUri = UdpChannel.parse("aeron:udp?remote=localhost:40124|catchup=true");
+        final UdpChannel udpChannelDefault = UdpChannel.parse("aeron:udp?remote=localhost:40124");
+
+        assertThat(udpChannel.isCatchup(), is(true));
+        assertThat(udpChannelAeronUri.isCatchup(), is(true));
+        assertThat(udpChannelDefault.isCatchup(), is(false));
+        assertThat(udpChannel.canonicalForm(), is(udpChannelDefault.canonicalForm()));
+    }
+
+    @Test
+    public void shouldParseCompressionOption() throws Exception
+    {
+        final UdpChannel udpChannel = UdpChannel.parse("udp://localhost:40124?compression=lz");
+        final UdpChannel udpChannelAeronUri = UdpChannel.parse("aeron:udp?remote=localhost:40124|compression=lz");
+
+        assertThat(udpChannel.isCompressed(), is(true));
+        assertThat(udpChannelAeronUri.isCompressed(), is(true));
+        assertThat(UdpChannel.parse("aeron:udp?remote=localhost:40124").isCompressed(), is(false));
+    }
+
+    @Test(expected = InvalidChannelException.class)
+    public void shouldThrowExceptionForUnknownCompressionCodec() throws Exception
+    {
+        UdpChannel.parse("aeron:udp?remote=localhost:40124|compression=zip");
+    }
+
+    @Test
+    public void shouldParseFecOptions() throws Exception
+    {
+        final UdpChannel udpChannel = UdpChannel.parse("udp://localhost:40124?fec-group=8&fec-parity=2");
+        final UdpChannel udpChannelAeronUri = UdpChannel.parse("aeron:udp?remote=localhost:40124|fec-group=4");
+        final UdpChannel udpChannelNoFec = UdpChannel.parse("aeron:udp?remote=localhost:40124");
+
+        assertThat(udpChannel.fecGroupSize(), is(8));
+        assertThat(udpChannel.fecParityCount(), is(2));
+        assertThat(udpChannelAeronUri.fecGroupSize(), is(4));
+        assertThat(udpChannelAeronUri.fecParityCount(), is(1));
+        assertThat(udpChannelNoFec.fecGroupSize(), is(0));
+    }
+
+    @Test(expected = InvalidChannelException.class)
+    public void shouldThrowExceptionForFecParityCountGreaterThanGroupSize() throws Exception
+    {
+        UdpChannel.parse("aeron:udp?remote=localhost:40124|fec-group=2|fec-parity=3");
+    }
+
+    @Test(expected = InvalidChannelException.class)
+    public void shouldThrowExceptionForFecCombinedWithCompression() throws Exception
+    {
+        UdpChannel.parse("aeron:udp?remote=localhost:40124|fec-group=4|compression=lz");
+    }
+
+    @Test
+    public void shouldParsePacingOptions() throws Exception
+    {
+        final UdpChannel udpChannel = UdpChannel.parse("udp://localhost:40124?pacing-rate=125000000&pacing-burst=16384");
+        final UdpChannel udpChannelAeronUri = UdpChannel.parse("aeron:udp?remote=localhost:40124|pacing-rate=1000000");
+
+        assertThat(udpChannel.pacingRate(), is(125_000_000L));
+        assertThat(udpChannel.pacingBurstLength(), is(16384L));
+        assertThat(udpChannelAeronUri.pacingRate(), is(1_000_000L));
+        assertThat(udpChannelAeronUri.pacingBurstLength(), is(Configuration.PACING_BURST_LENGTH));
+        assertThat(UdpChannel.parse("aeron:udp?remote=localhost:40124").pacingRate(), is(0L));
+    }
+
+    @Test(expected = InvalidChannelException.class)
+    public void shouldThrowExceptionForNonPositivePacingRate() throws Exception
+    {
+        UdpChannel.parse("aeron:udp?remote=localhost:40124|pacing-rate=0");
+    }
+
+    @Test
+    public void shouldParseStreamOptions() throws Exception
+    {
+        final UdpChannel udpChannel =
+            UdpChannel.parse("udp://localhost:40124?term-length=131072&mtu=1408&initial-window=65536");
+        final UdpChannel udpChannelAeronUri = UdpChannel.parse("aeron:udp?remote=localhost:40124|mtu=8192");
+
+        assertThat(udpChannel.termLength(), is(131072));
+        assertThat(udpChannel.mtuLength(), is(1408));
+        assertThat(udpChannel.initialWindowLength(), is(65536));
+        assertThat(udpChannelAeronUri.termLength(), is(0));
+        assertThat(udpChannelAeronUri.mtuLength(), is(8192));
+        assertThat(udpChannelAeronUri.initialWindowLength(), is(0));
+    }
+
+    @Test(expected = InvalidChannelException.class)
+    public void shouldThrowExceptionForTermLengthNotPowerOfTwo() throws Exception
+    {
+        UdpChannel.parse("aeron:udp?remote=localhost:40124|term-length=100000");
+    }
+
+    @Test(expected = InvalidChannelException.class)
+    public void shouldThrowExceptionForTermLengthLessThanMinimum() throws Exception
+    {
+        UdpChannel.parse("aeron:udp?remote=localhost:40124|term-length=32768");
+    }
+
+    @Test(expected = InvalidChannelException.class)
+    public void shouldThrowExceptionForMtuNotFrameAligned() throws Exception
+    {
+        UdpChannel.parse("aeron:udp?remote=localhost:40124|mtu=1404");
+    }
+
+    @Test(expected = InvalidChannelException.class)
+    public void shouldThrowExceptionForMtuGreaterThanMaxUdpPayload() throws Exception
+    {
+        UdpChannel.parse("aeron:udp?remote=localhost:40124|mtu=65536");
+    }
+
+    @Test(expected = InvalidChannelException.class)
+    public void shouldThrowExceptionForInitialWindowLessThanMtu() throws Exception
+    {
+        UdpChannel.parse("aeron:udp?remote=localhost:40124|mtu=8192|initial-window=4096");
+    }
+
+    @Test
+    public void shouldParseSocketBufferOptions() throws Exception
+    {
+        final UdpChannel udpChannel = UdpChannel.parse("udp://localhost:40124?so-rcvbuf=2097152&so-sndbuf=65536");
+        final UdpChannel udpChannelAeronUri = UdpChannel.parse("aeron:udp?remote=localhost:40124|so-rcvbuf=1048576");
+
+        assertThat(udpChannel.socketRcvbufLength(), is(2097152));
+        assertThat(udpChannel.socketSndbufLength(), is(65536));
+        assertThat(udpChannelAeronUri.socketRcvbufLength(), is(1048576));
+        assertThat(udpChannelAeronUri.socketSndbufLength(), is(0));
+    }
+
+    @Test(expected = InvalidChannelException.class)
+    public void shouldThrowExceptionForSocketBufferLengthNotPositive() throws Exception
+    {
+        UdpChannel.parse("aeron:udp?remote=localhost:40124|so-rcvbuf=0");
+    }
+
+    @Test
+    public void shouldParsePriorityOption() throws Exception
+    {
+        final UdpChannel udpChannel = UdpChannel.parse("udp://localhost:40124?priority=high");
+        final UdpChannel udpChannelAeronUri = UdpChannel.parse("aeron:udp?remote=localhost:40124|priority=low");
+
+        assertThat(udpChannel.priority(), is(PublicationPriority.HIGH));
+        assertThat(udpChannelAeronUri.priority(), is(PublicationPriority.LOW));
+        assertThat(UdpChannel.parse("aeron:udp?remote=localhost:40124").priority(), is(PublicationPriority.NORMAL));
+    }
+
+    @Test
+    public void shouldParseTetherOption() throws Exception
+    {
+        final UdpChannel udpChannel = UdpChannel.parse("udp://localhost:40124?tether=false");
+        final UdpChannel udpChannelAeronUri = UdpChannel.parse("aeron:udp?remote=localhost:40124|tether=false");
+
+        assertThat(udpChannel.isTethered(), is(false));
+        assertThat(udpChannelAeronUri.isTethered(), is(false));
+        assertThat(UdpChannel.parse("aeron:udp?remote=localhost:40124").isTethered(), is(true));
+    }
+
+    @Test(expected = InvalidChannelException.class)
+    public void shouldThrowExceptionForUnknownPriority() throws Exception
+    {
+        UdpChannel.parse("aeron:udp?remote=localhost:40124|priority=urgent");
+    }
+
     private Matcher<InetSocketAddress> isMulticastAddress(final String addressName, final int port)
         throws UnknownHostException
     {
@@ -15,6 +15,7 @@
  */
 package io.aeron.driver.buffer;
 
+import io.aeron.LogBuffers;
 import io.aeron.driver.Configuration;
 import io.aeron.driver.media.UdpChannel;
 import org.junit.After;
@@ -24,13 +25,16 @@ import io.aeron.logbuffer.LogBufferDescriptor;
 import org.agrona.IoUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.errors.DistinctErrorLog;
+import org.agrona.concurrent.status.AtomicCounter;
 
 import java.io.File;
 import java.io.IOException;
 
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class RawLogFactoryTest
 {
@@ -42,6 +46,8 @@ public class RawLogFactoryTest
     private static final int TERM_BUFFER_LENGTH = Configuration.TERM_BUFFER_LENGTH_DEFAULT;
     private static final int TERM_BUFFER_MAX_LENGTH = Configuration.TERM_BUFFER_LENGTH_MAX_DEFAULT;
     private static final boolean PRE_ZERO_LOG = false;
+    private static final int HUGE_PAGE_LENGTH = 2 * 1024 * 1024;
+    private final AtomicCounter preFaultTimeNs = mock(AtomicCounter.class);
     private RawLogFactory rawLogFactory;
     private UdpChannel udpChannel = UdpChannel.parse(CHANNEL);
 
@@ -54,7 +60,9 @@ public class RawLogFactoryTest
             TERM_BUFFER_LENGTH,
             TERM_BUFFER_MAX_LENGTH,
             TERM_BUFFER_LENGTH, PRE_ZERO_LOG,
-            mock(DistinctErrorLog.class));
+            Configuration.FILE_PAGE_LENGTH_DEFAULT,
+            mock(DistinctErrorLog.class),
+            preFaultTimeNs);
     }
 
     @After
@@ -111,6 +119,40 @@ public class RawLogFactoryTest
             });
     }
 
+    @Test
+    public void shouldAlignLogLengthToFilePageLengthWithTermLengthInMetaDataForClients() throws Exception
+    {
+        final RawLogFactory hugePageRawLogFactory = new RawLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            TERM_BUFFER_LENGTH,
+            TERM_BUFFER_MAX_LENGTH,
+            TERM_BUFFER_LENGTH, PRE_ZERO_LOG,
+            HUGE_PAGE_LENGTH,
+            mock(DistinctErrorLog.class),
+            preFaultTimeNs);
+
+        final RawLog rawLog = hugePageRawLogFactory.newNetworkPublication(
+            udpChannel.canonicalForm(), SESSION_ID, STREAM_ID, CREATION_ID);
+        LogBufferDescriptor.mtuLength(rawLog.logMetaData(), 1408);
+        rawLog.partitions()[2].metaDataBuffer().putLong(0, 7L);
+
+        final File logFile = new File(rawLog.logFileName());
+        assertThat(logFile.length() % HUGE_PAGE_LENGTH, is(0L));
+        assertThat(logFile.length() > LogBufferDescriptor.computeLogLength(TERM_BUFFER_LENGTH), is(true));
+        verify(preFaultTimeNs).add(anyLong());
+
+        try (final LogBuffers logBuffers = new LogBuffers(rawLog.logFileName()))
+        {
+            final UnsafeBuffer[] buffers = logBuffers.atomicBuffers();
+
+            assertThat(logBuffers.termLength(), is(TERM_BUFFER_LENGTH));
+            assertThat(LogBufferDescriptor.mtuLength(buffers[buffers.length - 1]), is(1408));
+            assertThat(buffers[LogBufferDescriptor.PARTITION_COUNT + 2].getLong(0), is(7L));
+        }
+
+        rawLog.close();
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldExceptionIfRequestedTermBufferLengthGreaterThanMax()
     {
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class LzCodecTest
+{
+    private static final int LENGTH = 16 * 1024;
+
+    private final LzCodec codec = new LzCodec();
+    private final UnsafeBuffer src = new UnsafeBuffer(ByteBuffer.allocateDirect(LENGTH));
+    private final UnsafeBuffer compressed = new UnsafeBuffer(ByteBuffer.allocateDirect(LENGTH * 2));
+    private final UnsafeBuffer dst = new UnsafeBuffer(ByteBuffer.allocateDirect(LENGTH));
+
+    @Test
+    public void shouldRoundTripRepetitiveData()
+    {
+        final byte[] message = "Hello World! This is a message to be compressed. ".getBytes();
+        for (int i = 0; i < LENGTH; i++)
+        {
+            src.putByte(i, message[i % message.length]);
+        }
+
+        final int compressedLength = codec.compress(src, 0, LENGTH, compressed, 0, compressed.capacity());
+
+        assertThat(compressedLength, lessThan(LENGTH / 10));
+        assertThat(LzCodec.decompress(compressed, 0, compressedLength, dst, 0, LENGTH), is(LENGTH));
+        assertThat(dst.compareTo(src), is(0));
+    }
+
+    @Test
+    public void shouldRoundTripRandomData()
+    {
+        final byte[] bytes = new byte[LENGTH];
+        new Random(7).nextBytes(bytes);
+        src.putBytes(0, bytes);
+
+        final int compressedLength = codec.compress(src, 0, LENGTH, compressed, 0, compressed.capacity());
+
+        assertThat(LzCodec.decompress(compressed, 0, compressedLength, dst, 0, LENGTH), is(LENGTH));
+        assertThat(dst.compareTo(src), is(0));
+    }
+
+    @Test
+    public void shouldRoundTripAtOffsetsAcrossSuccessiveBlocks()
+    {
+        final Random random = new Random(11);
+        for (int i = 0; i < LENGTH; i++)
+        {
+            src.putByte(i, (byte)random.nextInt(4));
+        }
+
+        for (int offset = 0; offset < LENGTH; offset += 1000)
+        {
+            final int length = Math.min(1000, LENGTH - offset);
+            final int compressedLength = codec.compress(src, offset, length, compressed, 8, compressed.capacity() - 8);
+            final int decompressedLength = LzCodec.decompress(compressed, 8, compressedLength, dst, offset, length);
+
+            assertThat(decompressedLength, is(length));
+        }
+
+        assertThat(dst.compareTo(src), is(0));
+    }
+
+    @Test
+    public void shouldReturnMinusOneWhenCompressedBlockDoesNotFit()
+    {
+        final byte[] bytes = new byte[LENGTH];
+        new Random(13).nextBytes(bytes);
+        src.putBytes(0, bytes);
+
+        assertThat(codec.compress(src, 0, LENGTH, compressed, 0, LENGTH / 2), is(-1));
+    }
+
+    @Test
+    public void shouldRejectMalformedBlock()
+    {
+        compressed.putByte(0, (byte)0x0F);
+        compressed.putByte(1, (byte)0xFF);
+        compressed.putByte(2, (byte)0xFF);
+
+        assertThat(LzCodec.decompress(compressed, 0, 3, dst, 0, LENGTH), is(-1));
+    }
+}
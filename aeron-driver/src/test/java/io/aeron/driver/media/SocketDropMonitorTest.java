@@ -0,0 +1,112 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import org.agrona.concurrent.status.AtomicLongPosition;
+import org.agrona.concurrent.status.Position;
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class SocketDropMonitorTest
+{
+    private static final long INTERVAL_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final String HEADER =
+        "   sl  local_address rem_address   st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode ref pointer drops\n";
+    private static final String HEADER_6 =
+        "  sl  local_address                         remote_address                        st tx_queue rx_queue tr " +
+        "tm->when retrnsmt   uid  timeout inode ref pointer drops\n";
+
+    private final UdpChannel unicastChannel = UdpChannel.parse("aeron:udp?endpoint=localhost:40124");
+    private final UdpChannel multicastChannel = UdpChannel.parse("aeron:udp?group=224.10.9.9:40125|interface=localhost");
+    private final Position unicastDrops = spy(new AtomicLongPosition());
+    private final Position multicastDrops = spy(new AtomicLongPosition());
+
+    private Path procNetUdp;
+    private Path procNetUdp6;
+
+    @After
+    public void tearDown() throws Exception
+    {
+        Files.deleteIfExists(procNetUdp);
+        Files.deleteIfExists(procNetUdp6);
+    }
+
+    @Test
+    public void shouldPublishDropsOfSocketsBoundToPortOfChannel() throws Exception
+    {
+        procNetUdp = newProcFile(
+            HEADER +
+            "  123: 0100007F:9CBC 00000000:0000 07 00000000:00000000 00:00000000 00000000  1000        0 1001 2 " +
+            "ffff88003a7b6c00 17\n" +
+            "  124: 00000000:9CBD 00000000:0000 07 00000000:00000000 00:00000000 00000000  1000        0 1002 2 " +
+            "ffff88003a7b6d00 3\n" +
+            "  125: 00000000:9CBD 00000000:0000 07 00000000:00000000 00:00000000 00000000  1000        0 1003 2 " +
+            "ffff88003a7b6e00 4\n" +
+            "  126: 00000000:1F90 00000000:0000 07 00000000:00000000 00:00000000 00000000  1000        0 1004 2 " +
+            "ffff88003a7b6f00 99\n");
+        procNetUdp6 = newProcFile(
+            HEADER_6 +
+            "  127: 00000000000000000000000000000000:9CBC 00000000000000000000000000000000:0000 07 " +
+            "00000000:00000000 00:00000000 00000000  1000        0 1005 2 ffff88003a7b7000 5\n");
+
+        final SocketDropMonitor monitor = new SocketDropMonitor(INTERVAL_NS, 0, procNetUdp, procNetUdp6);
+        monitor.add(unicastChannel, unicastDrops);
+        monitor.add(multicastChannel, multicastDrops);
+
+        assertThat(monitor.onCheckTimeout(INTERVAL_NS), is(0));
+        assertThat(monitor.onCheckTimeout(INTERVAL_NS + 1), is(1));
+
+        assertThat(unicastDrops.get(), is(22L));
+        assertThat(multicastDrops.get(), is(7L));
+    }
+
+    @Test
+    public void shouldCloseCounterWhenRemoved() throws Exception
+    {
+        procNetUdp = newProcFile(
+            HEADER +
+            "  123: 0100007F:9CBC 00000000:0000 07 00000000:00000000 00:00000000 00000000  1000        0 1001 2 " +
+            "ffff88003a7b6c00 17\n");
+        procNetUdp6 = procNetUdp.resolveSibling(procNetUdp.getFileName() + "6");
+
+        final SocketDropMonitor monitor = new SocketDropMonitor(INTERVAL_NS, 0, procNetUdp, procNetUdp6);
+        monitor.add(unicastChannel, unicastDrops);
+        monitor.remove(unicastChannel);
+
+        verify(unicastDrops).close();
+
+        monitor.readDrops();
+        assertThat(unicastDrops.get(), is(0L));
+    }
+
+    private static Path newProcFile(final String content) throws Exception
+    {
+        final Path file = Files.createTempFile("udp", null);
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+
+        return file;
+    }
+}
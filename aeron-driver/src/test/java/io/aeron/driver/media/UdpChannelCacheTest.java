@@ -0,0 +1,120 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import io.aeron.driver.exceptions.InvalidChannelException;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class UdpChannelCacheTest
+{
+    private static final long TIMEOUT_NS = TimeUnit.SECONDS.toNanos(10);
+    private static final int MAX_SIZE = 2;
+    private static final String UNICAST_URI = "aeron:udp?endpoint=localhost:40124";
+    private static final String MULTICAST_URI = "aeron:udp?group=224.10.9.9:40124|interface=localhost";
+    private static final String OTHER_MULTICAST_URI = "aeron:udp?group=224.10.9.11:40124|interface=localhost";
+
+    private int interfaceLookups = 0;
+    private final UdpChannelCache cache = new UdpChannelCache(
+        TIMEOUT_NS,
+        MAX_SIZE,
+        0,
+        (searchAddress) ->
+        {
+            interfaceLookups++;
+            return UdpChannel.findInterface(searchAddress);
+        });
+
+    @Test
+    public void shouldReturnCachedChannelForSameUri()
+    {
+        final UdpChannel udpChannel = cache.channel(UNICAST_URI);
+
+        assertThat(cache.channel(UNICAST_URI), sameInstance(udpChannel));
+        assertThat(udpChannel, is(UdpChannel.parse(UNICAST_URI)));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void shouldReuseInterfaceLookupAcrossChannels() throws Exception
+    {
+        final UdpChannel udpChannel = cache.channel(MULTICAST_URI);
+        final UdpChannel otherUdpChannel = cache.channel(OTHER_MULTICAST_URI);
+
+        assertThat(interfaceLookups, is(1));
+        assertThat(otherUdpChannel.localInterface(), is(udpChannel.localInterface()));
+    }
+
+    @Test
+    public void shouldResolveAgainAfterTimeout()
+    {
+        final UdpChannel udpChannel = cache.channel(MULTICAST_URI);
+
+        assertThat(cache.onCheckTimeout(TIMEOUT_NS), is(0));
+        assertThat(cache.channel(MULTICAST_URI), sameInstance(udpChannel));
+
+        assertThat(cache.onCheckTimeout(TIMEOUT_NS + 1), is(1));
+        assertThat(cache.size(), is(0));
+
+        final UdpChannel resolvedUdpChannel = cache.channel(MULTICAST_URI);
+        assertThat(resolvedUdpChannel, not(sameInstance(udpChannel)));
+        assertThat(resolvedUdpChannel, is(udpChannel));
+        assertThat(interfaceLookups, is(2));
+    }
+
+    @Test
+    public void shouldClearWhenMaxSizeReached()
+    {
+        cache.channel(UNICAST_URI);
+        cache.channel(MULTICAST_URI);
+        cache.channel(OTHER_MULTICAST_URI);
+
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void shouldNotCacheWhenTimeoutIsZero()
+    {
+        final UdpChannelCache uncached = new UdpChannelCache(0, MAX_SIZE, 0);
+        final UdpChannel udpChannel = uncached.channel(UNICAST_URI);
+
+        assertThat(uncached.channel(UNICAST_URI), not(sameInstance(udpChannel)));
+        assertThat(uncached.size(), is(0));
+    }
+
+    @Test
+    public void shouldNotCacheInvalidChannel()
+    {
+        try
+        {
+            cache.channel("aeron:udp?interface=localhost");
+            fail("expected " + InvalidChannelException.class.getSimpleName());
+        }
+        catch (final InvalidChannelException ignore)
+        {
+            // no endpoint so the channel is invalid.
+        }
+
+        assertThat(cache.size(), is(0));
+    }
+}
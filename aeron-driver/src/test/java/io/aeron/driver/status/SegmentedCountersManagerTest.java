@@ -0,0 +1,153 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import io.aeron.CncFileDescriptor;
+import io.aeron.SegmentedCountersReader;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.agrona.concurrent.status.Position;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+
+import static io.aeron.CncFileDescriptor.countersSegmentCountOffset;
+import static org.agrona.concurrent.status.CountersManager.DEFAULT_KEY_FUNC;
+import static org.agrona.concurrent.status.CountersReader.COUNTER_LENGTH;
+import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SegmentedCountersManagerTest
+{
+    private static final int COUNTERS_PER_SEGMENT = 4;
+    private static final int MAX_SEGMENT_COUNT = 3;
+    private static final int TYPE_ID = 7;
+
+    private final File aeronDirectory = new File(IoUtil.tmpDirName(), "aeron-counters-test");
+    private final UnsafeBuffer cncMetaDataBuffer =
+        new UnsafeBuffer(ByteBuffer.allocateDirect(CncFileDescriptor.END_OF_METADATA_OFFSET));
+    private final CountersManager firstSegment = new CountersManager(
+        new UnsafeBuffer(ByteBuffer.allocateDirect(COUNTERS_PER_SEGMENT * METADATA_LENGTH)),
+        new UnsafeBuffer(ByteBuffer.allocateDirect(COUNTERS_PER_SEGMENT * COUNTER_LENGTH)));
+
+    private SegmentedCountersManager countersManager;
+
+    @Before
+    public void setUp()
+    {
+        IoUtil.ensureDirectoryExists(aeronDirectory, "aeron directory");
+        cncMetaDataBuffer.putInt(countersSegmentCountOffset(0), 1);
+        firstSegment.allocate("system");
+
+        countersManager = new SegmentedCountersManager(firstSegment, aeronDirectory, cncMetaDataBuffer, MAX_SEGMENT_COUNT);
+    }
+
+    @After
+    public void tearDown()
+    {
+        countersManager.close();
+        IoUtil.delete(aeronDirectory, true);
+    }
+
+    @Test
+    public void shouldCountCountersAlreadyAllocatedInFirstSegment()
+    {
+        assertThat(countersManager.allocatedCount(), is(1));
+        assertThat(countersManager.segmentCount(), is(1));
+    }
+
+    @Test
+    public void shouldAddAndPublishSegmentWhenFull()
+    {
+        for (int i = 0; i < COUNTERS_PER_SEGMENT; i++)
+        {
+            assertThat(countersManager.allocate("counter", TYPE_ID, DEFAULT_KEY_FUNC), is(i + 1));
+        }
+
+        assertThat(countersManager.segmentCount(), is(2));
+        assertThat(cncMetaDataBuffer.getInt(countersSegmentCountOffset(0)), is(2));
+        assertThat(SegmentedCountersReader.segmentFile(aeronDirectory, 1).exists(), is(true));
+    }
+
+    @Test
+    public void shouldReuseFreedCounterBeforeAddingSegment()
+    {
+        final int counterId = countersManager.allocate("counter", TYPE_ID, DEFAULT_KEY_FUNC);
+        countersManager.allocate("counter", TYPE_ID, DEFAULT_KEY_FUNC);
+        countersManager.allocate("counter", TYPE_ID, DEFAULT_KEY_FUNC);
+
+        countersManager.free(counterId);
+
+        assertThat(countersManager.allocate("counter", TYPE_ID, DEFAULT_KEY_FUNC), is(counterId));
+        assertThat(countersManager.segmentCount(), is(1));
+    }
+
+    @Test
+    public void shouldReportGlobalIdAndResetValueOfPositionInLaterSegment()
+    {
+        for (int i = 1; i < COUNTERS_PER_SEGMENT; i++)
+        {
+            countersManager.allocate("counter", TYPE_ID, DEFAULT_KEY_FUNC);
+        }
+
+        final Position position = countersManager.newPosition("position", TYPE_ID, DEFAULT_KEY_FUNC);
+        position.setOrdered(42);
+
+        assertThat(position.id(), is(COUNTERS_PER_SEGMENT));
+        assertThat(countersManager.getCounterValue(COUNTERS_PER_SEGMENT), is(42L));
+
+        position.close();
+        final Position reusedPosition = countersManager.newPosition("position", TYPE_ID, DEFAULT_KEY_FUNC);
+
+        assertThat(reusedPosition.id(), is(COUNTERS_PER_SEGMENT));
+        assertThat(reusedPosition.get(), is(0L));
+    }
+
+    @Test
+    public void shouldDiscoverPublishedSegmentsFromReader()
+    {
+        final SegmentedCountersReader reader = new SegmentedCountersReader(
+            firstSegment.metaDataBuffer(), firstSegment.valuesBuffer(), aeronDirectory, cncMetaDataBuffer);
+
+        final int lastCounterId = (COUNTERS_PER_SEGMENT * MAX_SEGMENT_COUNT) - 1;
+        for (int i = 1; i <= lastCounterId; i++)
+        {
+            countersManager.allocate("counter-" + i, TYPE_ID, DEFAULT_KEY_FUNC);
+        }
+
+        final int[] count = new int[1];
+        reader.forEach((id, label) -> count[0]++);
+
+        assertThat(count[0], is(lastCounterId + 1));
+        assertThat(reader.segmentCount(), is(MAX_SEGMENT_COUNT));
+
+        reader.close();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowWhenAllSegmentsFull()
+    {
+        for (int i = 0; i < COUNTERS_PER_SEGMENT * MAX_SEGMENT_COUNT; i++)
+        {
+            countersManager.allocate("counter", TYPE_ID, DEFAULT_KEY_FUNC);
+        }
+    }
+}
@@ -25,15 +25,19 @@ import java.util.regex.Pattern;
 
 import io.aeron.CncFileDescriptor;
 import io.aeron.CommonContext;
+import io.aeron.SegmentedCountersReader;
+import io.aeron.driver.status.ReceiveSocketDrops;
 import org.agrona.DirectBuffer;
 import org.agrona.IoUtil;
 import org.agrona.concurrent.status.CountersReader;
 import org.agrona.concurrent.SigInt;
+import org.agrona.concurrent.UnsafeBuffer;
 
 import static io.aeron.CncFileDescriptor.*;
 import static io.aeron.driver.status.StreamPositionCounter.*;
 import static io.aeron.driver.status.PublisherLimit.PUBLISHER_LIMIT_TYPE_ID;
-import static io.aeron.driver.status.SubscriberPos.SUBSCRIBER_POSITION_TYPE_ID;
+import static io.aeron.driver.status.ReceiveSocketDrops.RECEIVE_SOCKET_DROPS_TYPE_ID;
+import static io.aeron.driver.status.ReceiverWindow.RECEIVER_WINDOW_TYPE_ID;
 import static io.aeron.driver.status.SystemCounterDescriptor.SYSTEM_COUNTER_TYPE_ID;
 
 /**
@@ -119,7 +123,7 @@ public class AeronStat
         System.out.println("Command `n Control file " + cncFile);
 
         final MappedByteBuffer cncByteBuffer = IoUtil.mapExistingFile(cncFile, "cnc");
-        final DirectBuffer cncMetaData = createMetaDataBuffer(cncByteBuffer);
+        final UnsafeBuffer cncMetaData = createMetaDataBuffer(cncByteBuffer);
         final int cncVersion = cncMetaData.getInt(cncVersionOffset(0));
 
         if (CncFileDescriptor.CNC_VERSION != cncVersion)
@@ -127,9 +131,11 @@ public class AeronStat
             throw new IllegalStateException("CnC version not supported: file version=" + cncVersion);
         }
 
-        return new CountersReader(
+        return new SegmentedCountersReader(
             createCountersMetaDataBuffer(cncByteBuffer, cncMetaData),
-            createCountersValuesBuffer(cncByteBuffer, cncMetaData));
+            createCountersValuesBuffer(cncByteBuffer, cncMetaData),
+            cncFile.getParentFile(),
+            cncMetaData);
     }
 
     public static void main(final String[] args) throws Exception
@@ -248,7 +254,7 @@ public class AeronStat
         {
             return false;
         }
-        else if (typeId >= PUBLISHER_LIMIT_TYPE_ID && typeId <= SUBSCRIBER_POSITION_TYPE_ID)
+        else if (typeId >= PUBLISHER_LIMIT_TYPE_ID && typeId <= RECEIVER_WINDOW_TYPE_ID)
         {
             if (!match(identityFilter, () -> Long.toString(keyBuffer.getLong(REGISTRATION_ID_OFFSET))) ||
                 !match(sessionFilter, () -> Integer.toString(keyBuffer.getInt(SESSION_ID_OFFSET))) ||
@@ -258,6 +264,13 @@ public class AeronStat
                 return false;
             }
         }
+        else if (RECEIVE_SOCKET_DROPS_TYPE_ID == typeId)
+        {
+            if (!match(channelFilter, () -> keyBuffer.getStringUtf8(ReceiveSocketDrops.CHANNEL_OFFSET)))
+            {
+                return false;
+            }
+        }
 
         return true;
     }
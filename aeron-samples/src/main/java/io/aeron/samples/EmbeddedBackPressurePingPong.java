@@ -0,0 +1,161 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import org.HdrHistogram.Histogram;
+import org.agrona.concurrent.BusySpinIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency from a subscriber consuming a full window to a back pressured publisher being able to offer again, with
+ * publisher limits updated by the conductor compared to the sender, for IPC and UDP.
+ * <p>
+ * The publisher offers until back pressured then pings the subscriber, which drains the window and pongs back the time
+ * it finished. The publisher records the time from the pong until its next offer succeeds.
+ */
+public class EmbeddedBackPressurePingPong
+{
+    private static final String UDP_CHANNEL = SampleConfiguration.CHANNEL;
+    private static final String IPC_CHANNEL = "aeron:ipc";
+    private static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+    private static final int MESSAGE_LENGTH = SampleConfiguration.MESSAGE_LENGTH;
+    private static final int FRAGMENT_COUNT_LIMIT = SampleConfiguration.FRAGMENT_COUNT_LIMIT;
+    private static final int TERM_BUFFER_LENGTH = 64 * 1024;
+    private static final int WARMUP_ROUNDS = 1_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+
+    private static final UnsafeBuffer ATOMIC_BUFFER = new UnsafeBuffer(ByteBuffer.allocateDirect(MESSAGE_LENGTH));
+    private static final Histogram HISTOGRAM = new Histogram(TimeUnit.SECONDS.toNanos(10), 3);
+    private static final AtomicBoolean PING = new AtomicBoolean();
+    private static final AtomicLong PONG_TIME_NS = new AtomicLong();
+    private static final AtomicLong BYTES_CONSUMED = new AtomicLong();
+
+    public static void main(final String[] args) throws Exception
+    {
+        MediaDriver.loadPropertiesFiles(args);
+
+        System.out.println("Message size of " + MESSAGE_LENGTH + " bytes, term length of " + TERM_BUFFER_LENGTH + " bytes");
+
+        runPhase("IPC with conductor publisher limit updates", IPC_CHANNEL, false);
+        runPhase("IPC with sender publisher limit updates", IPC_CHANNEL, true);
+        runPhase("UDP with conductor publisher limit updates", UDP_CHANNEL, false);
+        runPhase("UDP with sender publisher limit updates", UDP_CHANNEL, true);
+    }
+
+    private static void runPhase(final String name, final String channel, final boolean senderPublisherLimitUpdates)
+        throws InterruptedException
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.DEDICATED)
+            .publicationTermBufferLength(TERM_BUFFER_LENGTH)
+            .ipcTermBufferLength(TERM_BUFFER_LENGTH)
+            .senderPublisherLimitUpdates(senderPublisherLimitUpdates)
+            .dirsDeleteOnStart(true);
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+
+        try (final MediaDriver driver = MediaDriver.launch(ctx);
+             final Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(driver.aeronDirectoryName()));
+             final Publication publication = aeron.addPublication(channel, STREAM_ID);
+             final Subscription subscription = aeron.addSubscription(channel, STREAM_ID))
+        {
+            final Thread subscriberThread = new Thread(() -> runSubscriber(subscription, running));
+            subscriberThread.start();
+
+            while (!publication.isConnected())
+            {
+                Thread.sleep(1);
+            }
+
+            PING.set(false);
+            roundTrips(publication, WARMUP_ROUNDS);
+            HISTOGRAM.reset();
+            roundTrips(publication, MEASURED_ROUNDS);
+
+            running.set(false);
+            subscriberThread.join();
+
+            System.out.println(name + ": bytes consumed " + BYTES_CONSUMED.getAndSet(0));
+            System.out.println(name + ": histogram of back pressure release latencies in microseconds.");
+            HISTOGRAM.outputPercentileDistribution(System.out, 1000.0);
+        }
+    }
+
+    private static void roundTrips(final Publication publication, final int rounds)
+    {
+        final IdleStrategy idleStrategy = new BusySpinIdleStrategy();
+
+        for (int i = 0; i < rounds; i++)
+        {
+            while (publication.offer(ATOMIC_BUFFER, 0, MESSAGE_LENGTH) > 0L)
+            {
+                idleStrategy.idle();
+            }
+
+            PONG_TIME_NS.set(0);
+            PING.set(true);
+
+            long pongTimeNs;
+            while (0 == (pongTimeNs = PONG_TIME_NS.get()))
+            {
+                idleStrategy.idle();
+            }
+
+            while (publication.offer(ATOMIC_BUFFER, 0, MESSAGE_LENGTH) < 0L)
+            {
+                idleStrategy.idle();
+            }
+
+            HISTOGRAM.recordValue(System.nanoTime() - pongTimeNs);
+        }
+    }
+
+    private static void runSubscriber(final Subscription subscription, final AtomicBoolean running)
+    {
+        final IdleStrategy idleStrategy = new BusySpinIdleStrategy();
+        final FragmentHandler handler =
+            (buffer, offset, length, header) -> BYTES_CONSUMED.lazySet(BYTES_CONSUMED.get() + length);
+
+        while (running.get())
+        {
+            if (!PING.get())
+            {
+                idleStrategy.idle();
+                continue;
+            }
+
+            while (subscription.poll(handler, FRAGMENT_COUNT_LIMIT) > 0)
+            {
+                idleStrategy.idle();
+            }
+
+            PING.set(false);
+            PONG_TIME_NS.set(System.nanoTime());
+        }
+    }
+}
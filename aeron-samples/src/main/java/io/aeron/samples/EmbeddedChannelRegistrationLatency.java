@@ -0,0 +1,108 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.Configuration;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import org.agrona.CloseHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Average latency of adding and removing a publication and a subscription on channels which are already in use, with
+ * and without the driver caching the channels parsed from URIs and the network interfaces found for them. Each
+ * channel names its interface so registering it searches the network interfaces of the host. The driver runs on the
+ * calling thread so the latency is that of the commands alone.
+ */
+public class EmbeddedChannelRegistrationLatency
+{
+    private static final int CHANNEL_COUNT = 10;
+    private static final int BASE_PORT = 40200;
+    private static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+    private static final int TERM_BUFFER_LENGTH = 64 * 1024;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASUREMENT_ITERATIONS = 1000;
+
+    public static void main(final String[] args) throws Exception
+    {
+        MediaDriver.loadPropertiesFiles(args);
+
+        System.out.format("%12s %20s%n", "cache", "registration (ns)");
+        System.out.format("%12s %20.1f%n", "off", measure(0));
+        System.out.format("%12s %20.1f%n", "on", measure(Configuration.UDP_CHANNEL_CACHE_TIMEOUT_DEFAULT_NS));
+    }
+
+    private static double measure(final long udpChannelCacheTimeoutNs)
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.INVOKER)
+            .publicationTermBufferLength(TERM_BUFFER_LENGTH)
+            .udpChannelCacheTimeoutNs(udpChannelCacheTimeoutNs)
+            .dirsDeleteOnStart(true);
+
+        final String[] channels = new String[CHANNEL_COUNT];
+        for (int i = 0; i < CHANNEL_COUNT; i++)
+        {
+            channels[i] = "aeron:udp?endpoint=127.0.0.1:" + (BASE_PORT + i) + "|interface=127.0.0.1";
+        }
+
+        final List<AutoCloseable> channelsInUse = new ArrayList<>();
+
+        try (final MediaDriver driver = MediaDriver.launch(ctx);
+             final Aeron aeron = Aeron.connect(new Aeron.Context()
+                .aeronDirectoryName(driver.aeronDirectoryName())
+                .useConductorInvoker(true)
+                .driverAgent(driver.sharedAgent())))
+        {
+            for (final String channel : channels)
+            {
+                channelsInUse.add(aeron.addSubscription(channel, STREAM_ID));
+                channelsInUse.add(aeron.addPublication(channel, STREAM_ID));
+            }
+
+            run(aeron, channels, WARMUP_ITERATIONS);
+            final long durationNs = run(aeron, channels, MEASUREMENT_ITERATIONS);
+
+            channelsInUse.forEach(CloseHelper::quietClose);
+
+            return (double)durationNs / ((long)MEASUREMENT_ITERATIONS * CHANNEL_COUNT * 2);
+        }
+    }
+
+    private static long run(final Aeron aeron, final String[] channels, final int iterations)
+    {
+        final long startNs = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++)
+        {
+            for (final String channel : channels)
+            {
+                final Subscription subscription = aeron.addSubscription(channel, STREAM_ID);
+                final Publication publication = aeron.addPublication(channel, STREAM_ID);
+
+                subscription.close();
+                publication.close();
+            }
+        }
+
+        return System.nanoTime() - startNs;
+    }
+}
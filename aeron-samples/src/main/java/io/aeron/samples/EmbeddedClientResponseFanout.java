@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.Agent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Average time each idle client spends in its conductor per subscription added and removed by another client, for
+ * increasing numbers of clients. Responses are addressed to the client which made the request so idle clients only
+ * read the header of each response rather than copying it. The driver and all clients run on the calling thread so
+ * the time measured is the work of the idle clients alone.
+ */
+public class EmbeddedClientResponseFanout
+{
+    private static final String CHANNEL = "aeron:ipc";
+    private static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+    private static final int[] CLIENT_COUNTS = { 1, 10, 50, 100 };
+    private static final int TERM_BUFFER_LENGTH = 64 * 1024;
+    private static final int WARMUP_OPERATIONS = 1000;
+    private static final int MEASUREMENT_OPERATIONS = 5000;
+
+    public static void main(final String[] args) throws Exception
+    {
+        MediaDriver.loadPropertiesFiles(args);
+
+        System.out.format("%12s %28s%n", "idle clients", "work per client per op (ns)");
+
+        for (final int clientCount : CLIENT_COUNTS)
+        {
+            System.out.format("%12d %28.1f%n", clientCount, measure(clientCount));
+        }
+    }
+
+    private static double measure(final int clientCount) throws Exception
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.INVOKER)
+            .ipcTermBufferLength(TERM_BUFFER_LENGTH)
+            .dirsDeleteOnStart(true);
+
+        final List<Aeron> idleClients = new ArrayList<>(clientCount);
+
+        try (final MediaDriver driver = MediaDriver.launch(ctx))
+        {
+            final Agent driverAgent = driver.sharedAgent();
+            for (int i = 0; i < clientCount; i++)
+            {
+                idleClients.add(Aeron.connect(newClientContext(driver, driverAgent)));
+            }
+
+            try (final Aeron client = Aeron.connect(newClientContext(driver, driverAgent));
+                 final Publication publication = client.addPublication(CHANNEL, STREAM_ID))
+            {
+                run(client, driverAgent, idleClients, WARMUP_OPERATIONS);
+                final long durationNs = run(client, driverAgent, idleClients, MEASUREMENT_OPERATIONS);
+
+                return (double)durationNs / ((long)MEASUREMENT_OPERATIONS * clientCount);
+            }
+            finally
+            {
+                idleClients.forEach(CloseHelper::quietClose);
+            }
+        }
+    }
+
+    private static long run(
+        final Aeron client, final Agent driverAgent, final List<Aeron> idleClients, final int operations)
+        throws Exception
+    {
+        long durationNs = 0;
+
+        for (int i = 0; i < operations; i++)
+        {
+            final Subscription subscription = client.addSubscription(CHANNEL, STREAM_ID);
+            subscription.close();
+
+            while (driverAgent.doWork() > 0)
+            {
+                client.invokeConductor();
+            }
+
+            final long startNs = System.nanoTime();
+            for (final Aeron idleClient : idleClients)
+            {
+                while (idleClient.invokeConductor() > 0)
+                {
+                    // drain the responses to other clients.
+                }
+            }
+
+            durationNs += System.nanoTime() - startNs;
+        }
+
+        return durationNs;
+    }
+
+    private static Aeron.Context newClientContext(final MediaDriver driver, final Agent driverAgent)
+    {
+        return new Aeron.Context()
+            .aeronDirectoryName(driver.aeronDirectoryName())
+            .useConductorInvoker(true)
+            .driverAgent(driverAgent);
+    }
+}
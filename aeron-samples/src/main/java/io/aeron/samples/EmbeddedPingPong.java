@@ -20,6 +20,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.aeron.driver.Configuration;
 import io.aeron.driver.MediaDriver;
 import io.aeron.driver.ThreadingMode;
 import org.HdrHistogram.Histogram;
@@ -32,6 +33,8 @@ import io.aeron.Subscription;
 import io.aeron.logbuffer.FragmentHandler;
 import io.aeron.logbuffer.Header;
 import org.agrona.DirectBuffer;
+import org.agrona.LangUtil;
+import org.agrona.concurrent.Agent;
 import org.agrona.concurrent.BackoffIdleStrategy;
 import org.agrona.concurrent.BusySpinIdleStrategy;
 import org.agrona.concurrent.IdleStrategy;
@@ -57,19 +60,27 @@ public class EmbeddedPingPong
     private static final CountDownLatch PONG_IMAGE_LATCH = new CountDownLatch(1);
     private static final BusySpinIdleStrategy PING_HANDLER_IDLE_STRATEGY = new BusySpinIdleStrategy();
     private static final AtomicBoolean RUNNING = new AtomicBoolean(true);
+    private static final ThreadingMode THREADING_MODE = Configuration.threadingMode();
+
+    private static Agent driverAgent;
 
     public static void main(final String[] args) throws Exception
     {
         MediaDriver.loadPropertiesFiles(args);
 
+        final ThreadingMode threadingMode =
+            ThreadingMode.INVOKER == THREADING_MODE ? ThreadingMode.INVOKER : ThreadingMode.DEDICATED;
         final MediaDriver.Context ctx = new MediaDriver.Context()
-            .threadingMode(ThreadingMode.DEDICATED)
+            .threadingMode(threadingMode)
             .conductorIdleStrategy(new BackoffIdleStrategy(1, 1, 1, 1))
             .receiverIdleStrategy(new NoOpIdleStrategy())
             .senderIdleStrategy(new NoOpIdleStrategy());
 
         try (final MediaDriver ignored = MediaDriver.launch(ctx))
         {
+            driverAgent = ignored.sharedAgent();
+            System.out.println("Media driver threading mode " + threadingMode);
+
             final Thread pongThread = startPong(ignored.aeronDirectoryName());
             pongThread.start();
 
@@ -85,7 +96,8 @@ public class EmbeddedPingPong
     {
         final Aeron.Context ctx = new Aeron.Context()
             .availableImageHandler(EmbeddedPingPong::availablePongImageHandler)
-            .aeronDirectoryName(embeddedDirName);
+            .aeronDirectoryName(embeddedDirName)
+            .driverAgent(driverAgent);
 
         System.out.println("Publishing Ping at " + PING_CHANNEL + " on stream Id " + PING_STREAM_ID);
         System.out.println("Subscribing Pong at " + PONG_CHANNEL + " on stream Id " + PONG_STREAM_ID);
@@ -135,7 +147,9 @@ public class EmbeddedPingPong
                 System.out.println("Subscribing Ping at " + PING_CHANNEL + " on stream Id " + PING_STREAM_ID);
                 System.out.println("Publishing Pong at " + PONG_CHANNEL + " on stream Id " + PONG_STREAM_ID);
 
-                final Aeron.Context ctx = new Aeron.Context().aeronDirectoryName(embeddedDirName);
+                final Aeron.Context ctx = new Aeron.Context()
+                    .aeronDirectoryName(embeddedDirName)
+                    .driverAgent(driverAgent);
 
                 try (final Aeron aeron = Aeron.connect(ctx);
                      final Publication pongPublication = aeron.addPublication(PONG_CHANNEL, PONG_STREAM_ID);
@@ -146,7 +160,13 @@ public class EmbeddedPingPong
 
                     while (RUNNING.get())
                     {
-                        PING_HANDLER_IDLE_STRATEGY.idle(pingSubscription.poll(dataHandler, FRAME_COUNT_LIMIT));
+                        final int fragmentsRead = pingSubscription.poll(dataHandler, FRAME_COUNT_LIMIT);
+                        if (0 == fragmentsRead)
+                        {
+                            invokeDriver();
+                        }
+
+                        PING_HANDLER_IDLE_STRATEGY.idle(fragmentsRead);
                     }
 
                     System.out.println("Shutting down...");
@@ -165,15 +185,17 @@ public class EmbeddedPingPong
 
         for (int i = 0; i < numMessages; i++)
         {
-            do
+            ATOMIC_BUFFER.putLong(0, System.nanoTime());
+            while (pingPublication.offer(ATOMIC_BUFFER, 0, MESSAGE_LENGTH) < 0L)
             {
+                invokeDriver();
                 ATOMIC_BUFFER.putLong(0, System.nanoTime());
             }
-            while (pingPublication.offer(ATOMIC_BUFFER, 0, MESSAGE_LENGTH) < 0L);
 
             idleStrategy.reset();
             while (pongSubscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT) <= 0)
             {
+                invokeDriver();
                 idleStrategy.idle();
             }
         }
@@ -208,7 +230,27 @@ public class EmbeddedPingPong
 
         while (pongPublication.offer(buffer, offset, length) < 0L)
         {
+            invokeDriver();
             PING_HANDLER_IDLE_STRATEGY.idle();
         }
     }
+
+    /**
+     * With {@link ThreadingMode#INVOKER} the driver has no threads so it is run from the ping and pong duty cycles
+     * while they wait. Only one thread runs it at a time.
+     */
+    private static void invokeDriver()
+    {
+        if (null != driverAgent)
+        {
+            try
+            {
+                driverAgent.doWork();
+            }
+            catch (final Exception ex)
+            {
+                LangUtil.rethrowUnchecked(ex);
+            }
+        }
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.CommonContext;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.status.SystemCounterDescriptor;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.HdrHistogram.Histogram;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and tail latency of offers over IPC for the first pass through each term of a new log, when the log
+ * buffers are sparse, pre-faulted by the driver, and also pre-touched by the client, along with the time the driver
+ * spent pre-faulting. The driver and client run on the calling thread so page faults on the append path show in the
+ * offer latency.
+ * <p>
+ * To place the log buffers and CnC file on huge pages run with aeron.dir on a hugetlbfs mount and
+ * aeron.file.page.length set to the huge page length of the mount.
+ */
+public class EmbeddedPreFaultThroughput
+{
+    private static final String CHANNEL = CommonContext.IPC_CHANNEL;
+    private static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+    private static final int MESSAGE_LENGTH = 32;
+    private static final int TERM_BUFFER_LENGTH = 16 * 1024 * 1024;
+    private static final int FRAGMENT_COUNT_LIMIT = 64;
+    private static final long MESSAGE_COUNT = (3L * TERM_BUFFER_LENGTH) / (DataHeaderFlyweight.HEADER_LENGTH + MESSAGE_LENGTH);
+
+    private static final UnsafeBuffer BUFFER = new UnsafeBuffer(ByteBuffer.allocateDirect(MESSAGE_LENGTH));
+    private static final Histogram HISTOGRAM = new Histogram(TimeUnit.SECONDS.toNanos(10), 3);
+
+    private static long receivedCount;
+
+    public static void main(final String[] args) throws Exception
+    {
+        MediaDriver.loadPropertiesFiles(args);
+
+        System.out.format(
+            "%10s %20s %12s %14s %12s %16s%n", "mode", "throughput (msg/s)", "p99 (ns)", "p99.99 (ns)", "max (ns)",
+            "pre-fault (ms)");
+        measure("sparse", true, false);
+        measure("pre-fault", false, false);
+        measure("pre-touch", false, true);
+    }
+
+    private static void measure(final String mode, final boolean sparse, final boolean preTouch) throws Exception
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.INVOKER)
+            .ipcTermBufferLength(TERM_BUFFER_LENGTH)
+            .termBufferSparseFile(sparse)
+            .preTouchMappedMemory(preTouch)
+            .dirsDeleteOnStart(true);
+
+        try (final MediaDriver driver = MediaDriver.launch(ctx);
+             final Aeron aeron = Aeron.connect(new Aeron.Context()
+                .aeronDirectoryName(driver.aeronDirectoryName())
+                .preTouchMappedMemory(preTouch)
+                .useConductorInvoker(true)
+                .driverAgent(driver.sharedAgent()));
+             final Subscription subscription = aeron.addSubscription(CHANNEL, STREAM_ID);
+             final Publication publication = aeron.addPublication(CHANNEL, STREAM_ID))
+        {
+            final Agent driverAgent = driver.sharedAgent();
+            final FragmentHandler handler = (buffer, offset, length, header) -> receivedCount++;
+
+            HISTOGRAM.reset();
+            receivedCount = 0;
+            long sentCount = 0;
+
+            final long startNs = System.nanoTime();
+            while (receivedCount < MESSAGE_COUNT)
+            {
+                if (sentCount < MESSAGE_COUNT)
+                {
+                    final long offerStartNs = System.nanoTime();
+                    if (publication.offer(BUFFER, 0, MESSAGE_LENGTH) > 0)
+                    {
+                        HISTOGRAM.recordValue(System.nanoTime() - offerStartNs);
+                        sentCount++;
+                    }
+                }
+
+                driverAgent.doWork();
+                aeron.invokeConductor();
+                subscription.poll(handler, FRAGMENT_COUNT_LIMIT);
+            }
+            final long durationNs = System.nanoTime() - startNs;
+
+            final long preFaultTimeNs = ctx.systemCounters().get(SystemCounterDescriptor.MAPPED_FILE_PRE_FAULT_TIME_NS).get();
+
+            System.out.format(
+                "%10s %20.0f %12d %14d %12d %16.3f%n",
+                mode,
+                MESSAGE_COUNT * 1e9 / durationNs,
+                HISTOGRAM.getValueAtPercentile(99),
+                HISTOGRAM.getValueAtPercentile(99.99),
+                HISTOGRAM.getMaxValue(),
+                preFaultTimeNs / 1e6);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.FragmentAssembler;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import org.HdrHistogram.Histogram;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.BusySpinIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.NoOpIdleStrategy;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency of a ping pong order stream measured alone, alongside a bulk stream at the same priority, and alongside a
+ * bulk stream when the order stream has high priority in the sender.
+ */
+public class EmbeddedPriorityPingPong
+{
+    private static final String PING_CHANNEL = SampleConfiguration.PING_CHANNEL;
+    private static final String PONG_CHANNEL = SampleConfiguration.PONG_CHANNEL;
+    private static final String BULK_CHANNEL = System.getProperty("aeron.sample.bulk.channel", "udp://localhost:40125");
+    private static final int BULK_STREAM_ID = 20;
+    private static final int BULK_MESSAGE_LENGTH = Integer.getInteger("aeron.sample.bulk.messageLength", 8192);
+    private static final int NUMBER_OF_MESSAGES = SampleConfiguration.NUMBER_OF_MESSAGES;
+    private static final int WARMUP_NUMBER_OF_MESSAGES = SampleConfiguration.WARMUP_NUMBER_OF_MESSAGES;
+    private static final int MESSAGE_LENGTH = SampleConfiguration.MESSAGE_LENGTH;
+    private static final int FRAGMENT_COUNT_LIMIT = SampleConfiguration.FRAGMENT_COUNT_LIMIT;
+
+    private static final UnsafeBuffer ATOMIC_BUFFER = new UnsafeBuffer(ByteBuffer.allocateDirect(MESSAGE_LENGTH));
+    private static final UnsafeBuffer BULK_BUFFER = new UnsafeBuffer(ByteBuffer.allocateDirect(BULK_MESSAGE_LENGTH));
+    private static final Histogram HISTOGRAM = new Histogram(TimeUnit.SECONDS.toNanos(10), 3);
+    private static final AtomicLong BULK_BYTES_RECEIVED = new AtomicLong();
+
+    public static void main(final String[] args) throws Exception
+    {
+        MediaDriver.loadPropertiesFiles(args);
+
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.DEDICATED)
+            .conductorIdleStrategy(new BackoffIdleStrategy(1, 1, 1, 1))
+            .receiverIdleStrategy(new NoOpIdleStrategy())
+            .senderIdleStrategy(new NoOpIdleStrategy());
+
+        try (final MediaDriver driver = MediaDriver.launch(ctx);
+             final Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(driver.aeronDirectoryName())))
+        {
+            System.out.println("Order stream message size of " + MESSAGE_LENGTH + " bytes");
+            System.out.println("Bulk stream at " + BULK_CHANNEL + " with message size of " + BULK_MESSAGE_LENGTH + " bytes");
+
+            runPhase("Order stream alone", aeron, "", 1, false);
+            runPhase("Order stream with bulk stream at normal priority", aeron, "", 3, true);
+            runPhase("Order stream with bulk stream and order stream at high priority", aeron, "priority=high", 5, true);
+        }
+    }
+
+    private static void runPhase(
+        final String name,
+        final Aeron aeron,
+        final String channelParams,
+        final int pingStreamId,
+        final boolean withBulkStream) throws InterruptedException
+    {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final String pingChannel = withParams(PING_CHANNEL, channelParams);
+        final String pongChannel = withParams(PONG_CHANNEL, channelParams);
+        final int pongStreamId = pingStreamId + 1;
+
+        final Thread pongThread = new Thread(() -> runPong(aeron, pingChannel, pingStreamId, pongChannel, pongStreamId, running));
+        final Thread bulkPublisherThread = new Thread(() -> runBulkPublisher(aeron, running));
+        final Thread bulkSubscriberThread = new Thread(() -> runBulkSubscriber(aeron, running));
+
+        pongThread.start();
+        if (withBulkStream)
+        {
+            bulkSubscriberThread.start();
+            bulkPublisherThread.start();
+        }
+
+        final FragmentAssembler dataHandler = new FragmentAssembler(
+            (buffer, offset, length, header) -> HISTOGRAM.recordValue(System.nanoTime() - buffer.getLong(offset)));
+
+        try (final Publication pingPublication = aeron.addPublication(pingChannel, pingStreamId);
+             final Subscription pongSubscription = aeron.addSubscription(pongChannel, pongStreamId))
+        {
+            while (!pingPublication.isConnected() || 0 == pongSubscription.imageCount())
+            {
+                Thread.sleep(1);
+            }
+
+            roundTripMessages(dataHandler, pingPublication, pongSubscription, WARMUP_NUMBER_OF_MESSAGES);
+
+            HISTOGRAM.reset();
+            BULK_BYTES_RECEIVED.set(0);
+            roundTripMessages(dataHandler, pingPublication, pongSubscription, NUMBER_OF_MESSAGES);
+
+            System.out.println(name + ": bulk bytes received " + BULK_BYTES_RECEIVED.get());
+            System.out.println(name + ": histogram of RTT latencies in microseconds.");
+            HISTOGRAM.outputPercentileDistribution(System.out, 1000.0);
+        }
+        finally
+        {
+            running.set(false);
+            pongThread.join();
+            if (withBulkStream)
+            {
+                bulkPublisherThread.join();
+                bulkSubscriberThread.join();
+            }
+        }
+    }
+
+    private static String withParams(final String channel, final String params)
+    {
+        if (params.isEmpty())
+        {
+            return channel;
+        }
+
+        return channel + (channel.startsWith("aeron:") ? "|" : (channel.indexOf('?') >= 0 ? "&" : "?")) + params;
+    }
+
+    private static void roundTripMessages(
+        final FragmentHandler fragmentHandler,
+        final Publication pingPublication,
+        final Subscription pongSubscription,
+        final int numMessages)
+    {
+        final IdleStrategy idleStrategy = new BusySpinIdleStrategy();
+
+        for (int i = 0; i < numMessages; i++)
+        {
+            do
+            {
+                ATOMIC_BUFFER.putLong(0, System.nanoTime());
+            }
+            while (pingPublication.offer(ATOMIC_BUFFER, 0, MESSAGE_LENGTH) < 0L);
+
+            idleStrategy.reset();
+            while (pongSubscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT) <= 0)
+            {
+                idleStrategy.idle();
+            }
+        }
+    }
+
+    private static void runPong(
+        final Aeron aeron,
+        final String pingChannel,
+        final int pingStreamId,
+        final String pongChannel,
+        final int pongStreamId,
+        final AtomicBoolean running)
+    {
+        final IdleStrategy idleStrategy = new BusySpinIdleStrategy();
+
+        try (final Publication pongPublication = aeron.addPublication(pongChannel, pongStreamId);
+             final Subscription pingSubscription = aeron.addSubscription(pingChannel, pingStreamId))
+        {
+            final FragmentAssembler dataHandler = new FragmentAssembler(
+                (buffer, offset, length, header) ->
+                {
+                    while (pongPublication.offer(buffer, offset, length) < 0L)
+                    {
+                        idleStrategy.idle();
+                    }
+                });
+
+            while (running.get())
+            {
+                idleStrategy.idle(pingSubscription.poll(dataHandler, FRAGMENT_COUNT_LIMIT));
+            }
+        }
+    }
+
+    private static void runBulkPublisher(final Aeron aeron, final AtomicBoolean running)
+    {
+        final IdleStrategy idleStrategy = new BusySpinIdleStrategy();
+
+        try (final Publication publication = aeron.addPublication(BULK_CHANNEL, BULK_STREAM_ID))
+        {
+            while (running.get())
+            {
+                idleStrategy.idle(publication.offer(BULK_BUFFER, 0, BULK_MESSAGE_LENGTH) > 0L ? 1 : 0);
+            }
+        }
+    }
+
+    private static void runBulkSubscriber(final Aeron aeron, final AtomicBoolean running)
+    {
+        final IdleStrategy idleStrategy = new BusySpinIdleStrategy();
+        final FragmentHandler handler = (buffer, offset, length, header) -> BULK_BYTES_RECEIVED.getAndAdd(length);
+
+        try (final Subscription subscription = aeron.addSubscription(BULK_CHANNEL, BULK_STREAM_ID))
+        {
+            while (running.get())
+            {
+                idleStrategy.idle(subscription.poll(handler, FRAGMENT_COUNT_LIMIT));
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.Publication;
+import io.aeron.SegmentedCountersReader;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.status.ReceiverWindow;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Throughput of a stream over UDP on the loopback interface and the window advertised by its image at the end, with
+ * and without the receiver window being autotuned. The round trip on the loopback interface is short so an autotuned
+ * window shrinks well below the initial window while keeping the throughput. The driver and client run on the calling
+ * thread so the rate is that of the driver and client alone.
+ */
+public class EmbeddedReceiverWindowAutotune
+{
+    private static final String CHANNEL = "aeron:udp?endpoint=localhost:40123";
+    private static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+    private static final int MESSAGE_LENGTH = 32;
+    private static final int TERM_BUFFER_LENGTH = 1024 * 1024;
+    private static final int FRAGMENT_COUNT_LIMIT = 64;
+    private static final long WARMUP_MESSAGES = 1_000_000;
+    private static final long MEASUREMENT_MESSAGES = 5_000_000;
+
+    private static final UnsafeBuffer BUFFER = new UnsafeBuffer(ByteBuffer.allocateDirect(MESSAGE_LENGTH));
+
+    private static long receivedCount;
+
+    public static void main(final String[] args) throws Exception
+    {
+        MediaDriver.loadPropertiesFiles(args);
+
+        System.out.format("%12s %20s %24s%n", "autotune", "throughput (msg/s)", "receiver window (bytes)");
+        measure(false);
+        measure(true);
+    }
+
+    private static void measure(final boolean receiverWindowAutotune) throws Exception
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.INVOKER)
+            .publicationTermBufferLength(TERM_BUFFER_LENGTH)
+            .receiverWindowAutotune(receiverWindowAutotune)
+            .dirsDeleteOnStart(true);
+
+        try (final MediaDriver driver = MediaDriver.launch(ctx);
+             final Aeron aeron = Aeron.connect(new Aeron.Context()
+                .aeronDirectoryName(driver.aeronDirectoryName())
+                .useConductorInvoker(true)
+                .driverAgent(driver.sharedAgent()));
+             final SegmentedCountersReader countersReader = new SegmentedCountersReader(
+                 ctx.countersMetaDataBuffer(), ctx.countersValuesBuffer());
+             final Subscription subscription = aeron.addSubscription(CHANNEL, STREAM_ID);
+             final Publication publication = aeron.addPublication(CHANNEL, STREAM_ID))
+        {
+            final Agent driverAgent = driver.sharedAgent();
+            final FragmentHandler handler = (buffer, offset, length, header) -> receivedCount++;
+
+            run(driverAgent, aeron, publication, subscription, handler, WARMUP_MESSAGES);
+
+            final long startNs = System.nanoTime();
+            run(driverAgent, aeron, publication, subscription, handler, MEASUREMENT_MESSAGES);
+            final long durationNs = System.nanoTime() - startNs;
+
+            final long[] windowLength = { 0 };
+            countersReader.forEach(
+                (counterId, typeId, keyBuffer, label) ->
+                {
+                    if (ReceiverWindow.RECEIVER_WINDOW_TYPE_ID == typeId)
+                    {
+                        windowLength[0] = countersReader.getCounterValue(counterId);
+                    }
+                });
+
+            System.out.format(
+                "%12s %20.0f %24d%n",
+                receiverWindowAutotune ? "on" : "off",
+                MEASUREMENT_MESSAGES * 1e9 / durationNs,
+                windowLength[0]);
+        }
+    }
+
+    private static void run(
+        final Agent driverAgent,
+        final Aeron aeron,
+        final Publication publication,
+        final Subscription subscription,
+        final FragmentHandler handler,
+        final long messageCount)
+        throws Exception
+    {
+        receivedCount = 0;
+        long sentCount = 0;
+
+        while (receivedCount < messageCount)
+        {
+            if (sentCount < messageCount && publication.offer(BUFFER, 0, MESSAGE_LENGTH) > 0)
+            {
+                sentCount++;
+            }
+
+            driverAgent.doWork();
+            aeron.invokeConductor();
+            subscription.poll(handler, FRAGMENT_COUNT_LIMIT);
+        }
+    }
+}
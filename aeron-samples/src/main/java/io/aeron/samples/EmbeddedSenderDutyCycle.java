@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.Publication;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.status.SystemCounterDescriptor;
+import io.aeron.driver.status.SystemCounters;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.NoOpIdleStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Average sender duty cycle time for increasing numbers of idle publications, with and without the sender only
+ * visiting publications which are ready to send. The driver agents share a single thread so the sender duty cycle is
+ * not inflated by other driver agents preempting it. The sender times one in every
+ * {@link io.aeron.driver.Configuration#SENDER_DUTY_CYCLE_SAMPLE_INTERVAL} duty cycles.
+ */
+public class EmbeddedSenderDutyCycle
+{
+    private static final String CHANNEL = SampleConfiguration.CHANNEL;
+    private static final int[] PUBLICATION_COUNTS = { 0, 10, 100, 1000, 4000 };
+    private static final int TERM_BUFFER_LENGTH = 64 * 1024;
+    private static final long WARMUP_MS = 1000;
+    private static final long MEASUREMENT_MS = 3000;
+
+    public static void main(final String[] args) throws Exception
+    {
+        MediaDriver.loadPropertiesFiles(args);
+
+        System.out.println("Idle publications on " + CHANNEL);
+        System.out.format("%12s %20s %20s%n", "publications", "visit all (ns)", "ready set (ns)");
+
+        for (final int publicationCount : PUBLICATION_COUNTS)
+        {
+            final double visitAllNs = measure(publicationCount, false);
+            final double readySetNs = measure(publicationCount, true);
+
+            System.out.format("%12d %20.1f %20.1f%n", publicationCount, visitAllNs, readySetNs);
+        }
+    }
+
+    private static double measure(final int publicationCount, final boolean readySetScheduling) throws Exception
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.SHARED)
+            .sharedIdleStrategy(new NoOpIdleStrategy())
+            .publicationTermBufferLength(TERM_BUFFER_LENGTH)
+            .senderReadySetScheduling(readySetScheduling)
+            .dirsDeleteOnStart(true);
+
+        final List<Publication> publications = new ArrayList<>(publicationCount);
+
+        try (final MediaDriver driver = MediaDriver.launch(ctx);
+             final Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(driver.aeronDirectoryName())))
+        {
+            for (int i = 0; i < publicationCount; i++)
+            {
+                publications.add(aeron.addPublication(CHANNEL, i + 1));
+            }
+
+            Thread.sleep(WARMUP_MS);
+
+            final SystemCounters systemCounters = ctx.systemCounters();
+            final long startCycles = systemCounters.get(SystemCounterDescriptor.SENDER_DUTY_CYCLES).get();
+            final long startTimeNs = systemCounters.get(SystemCounterDescriptor.SENDER_DUTY_CYCLE_TIME_NS).get();
+
+            Thread.sleep(MEASUREMENT_MS);
+
+            final long cycles = systemCounters.get(SystemCounterDescriptor.SENDER_DUTY_CYCLES).get() - startCycles;
+            final long timeNs = systemCounters.get(SystemCounterDescriptor.SENDER_DUTY_CYCLE_TIME_NS).get() - startTimeNs;
+
+            publications.forEach(CloseHelper::quietClose);
+
+            return cycles > 0 ? (double)timeNs / cycles : 0.0;
+        }
+    }
+}
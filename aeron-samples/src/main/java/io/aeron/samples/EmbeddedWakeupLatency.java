@@ -0,0 +1,143 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.Image;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import org.HdrHistogram.Histogram;
+import org.agrona.concurrent.BackoffIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Latency from offer to receipt of sparse messages over IPC for a subscriber which idles with a
+ * {@link BackoffIdleStrategy} compared to one which blocks in {@link Image#awaitAvailable(long)}, along with the CPU
+ * time used by the subscriber thread while waiting for the messages.
+ */
+public class EmbeddedWakeupLatency
+{
+    private static final String CHANNEL = "aeron:ipc";
+    private static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+    private static final int FRAGMENT_COUNT_LIMIT = SampleConfiguration.FRAGMENT_COUNT_LIMIT;
+    private static final long MESSAGE_INTERVAL_NS = TimeUnit.MICROSECONDS.toNanos(500);
+    private static final long AWAIT_TIMEOUT_NS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int WARMUP_MESSAGES = 2_000;
+    private static final int MEASURED_MESSAGES = 10_000;
+
+    private static final UnsafeBuffer ATOMIC_BUFFER = new UnsafeBuffer(ByteBuffer.allocateDirect(64));
+    private static final Histogram HISTOGRAM = new Histogram(TimeUnit.SECONDS.toNanos(10), 3);
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    public static void main(final String[] args) throws Exception
+    {
+        MediaDriver.loadPropertiesFiles(args);
+
+        runPhase("BackoffIdleStrategy", false);
+        runPhase("Image.awaitAvailable", true);
+    }
+
+    private static void runPhase(final String name, final boolean useAwait) throws InterruptedException
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.DEDICATED)
+            .dirsDeleteOnStart(true);
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final long[] subscriberCpuTimeNs = new long[1];
+
+        try (final MediaDriver driver = MediaDriver.launch(ctx);
+             final Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(driver.aeronDirectoryName()));
+             final Publication publication = aeron.addPublication(CHANNEL, STREAM_ID);
+             final Subscription subscription = aeron.addSubscription(CHANNEL, STREAM_ID))
+        {
+            while (subscription.imageCount() == 0)
+            {
+                Thread.sleep(1);
+            }
+
+            final Image image = subscription.images().get(0);
+            final Thread subscriberThread = new Thread(
+                () -> subscriberCpuTimeNs[0] = runSubscriber(image, useAwait, running));
+            subscriberThread.start();
+
+            publish(publication, WARMUP_MESSAGES);
+            HISTOGRAM.reset();
+            publish(publication, MEASURED_MESSAGES);
+
+            running.set(false);
+            subscriberThread.join();
+
+            System.out.format(
+                "%s: subscriber CPU time %dms over %dms of messages%n",
+                name,
+                TimeUnit.NANOSECONDS.toMillis(subscriberCpuTimeNs[0]),
+                TimeUnit.NANOSECONDS.toMillis((WARMUP_MESSAGES + MEASURED_MESSAGES) * MESSAGE_INTERVAL_NS));
+            System.out.println(name + ": histogram of wakeup latencies in microseconds.");
+            HISTOGRAM.outputPercentileDistribution(System.out, 1000.0);
+        }
+    }
+
+    private static void publish(final Publication publication, final int messageCount)
+    {
+        for (int i = 0; i < messageCount; i++)
+        {
+            LockSupport.parkNanos(MESSAGE_INTERVAL_NS);
+
+            ATOMIC_BUFFER.putLong(0, System.nanoTime());
+            while (publication.offer(ATOMIC_BUFFER, 0, ATOMIC_BUFFER.capacity()) < 0L)
+            {
+                Thread.yield();
+            }
+        }
+    }
+
+    private static long runSubscriber(final Image image, final boolean useAwait, final AtomicBoolean running)
+    {
+        final IdleStrategy idleStrategy = new BackoffIdleStrategy(
+            100, 10, TimeUnit.MICROSECONDS.toNanos(1), TimeUnit.MICROSECONDS.toNanos(100));
+        final FragmentHandler handler =
+            (buffer, offset, length, header) -> HISTOGRAM.recordValue(System.nanoTime() - buffer.getLong(offset));
+
+        final long startCpuTimeNs = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+
+        while (running.get())
+        {
+            if (useAwait)
+            {
+                image.awaitAvailable(AWAIT_TIMEOUT_NS);
+                image.poll(handler, FRAGMENT_COUNT_LIMIT);
+            }
+            else
+            {
+                idleStrategy.idle(image.poll(handler, FRAGMENT_COUNT_LIMIT));
+            }
+        }
+
+        return THREAD_MX_BEAN.getCurrentThreadCpuTime() - startCpuTimeNs;
+    }
+}
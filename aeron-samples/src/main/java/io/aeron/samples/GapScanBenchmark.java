@@ -0,0 +1,112 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.driver.Configuration;
+import io.aeron.driver.TermArrivalBitmap;
+import io.aeron.logbuffer.TermGapScanner;
+import io.aeron.logbuffer.TermGapScanner.GapHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to find a persistent gap in a term with {@link TermGapScanner} compared to {@link TermArrivalBitmap} for
+ * windows of 1 MB, 16 MB, and 128 MB. A window is filled with packets, apart from a single lost packet or a burst
+ * loss of half the window, just after the rebuild position.
+ */
+public class GapScanBenchmark
+{
+    private static final int[] WINDOW_LENGTHS = { 1024 * 1024, 16 * 1024 * 1024, 128 * 1024 * 1024 };
+    private static final int PACKET_LENGTH = 4096;
+    private static final int TERM_ID = 0;
+    private static final int PARTITION_INDEX = 0;
+    private static final long MEASUREMENT_NS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final GapHandler GAP_HANDLER = (termId, buffer, offset, length) -> gapLength = length;
+    private static int gapLength;
+
+    public static void main(final String[] args)
+    {
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(WINDOW_LENGTHS[WINDOW_LENGTHS.length - 1]);
+
+        System.out.format("%10s %12s %14s %14s %14s%n", "window", "loss", "gap (bytes)", "scanner (ns)", "bitmap (ns)");
+
+        for (final int windowLength : WINDOW_LENGTHS)
+        {
+            final UnsafeBuffer termBuffer = new UnsafeBuffer(byteBuffer, 0, windowLength);
+
+            run(termBuffer, windowLength, PACKET_LENGTH, "one packet");
+            run(termBuffer, windowLength, windowLength / 2, "half window");
+        }
+    }
+
+    private static void run(final UnsafeBuffer termBuffer, final int windowLength, final int lossLength, final String name)
+    {
+        final TermArrivalBitmap arrivalBitmap = new TermArrivalBitmap(windowLength, Configuration.LOSS_TRACKING_BLOCK_LENGTH);
+        termBuffer.setMemory(0, windowLength, (byte)0);
+
+        for (int offset = 0; offset < windowLength; offset += PACKET_LENGTH)
+        {
+            if (offset < PACKET_LENGTH || offset >= PACKET_LENGTH + lossLength)
+            {
+                termBuffer.putInt(offset, PACKET_LENGTH);
+                arrivalBitmap.onPacket(PARTITION_INDEX, offset);
+            }
+        }
+
+        final int rebuildOffset = PACKET_LENGTH;
+        final int hwmOffset = windowLength;
+
+        final double scannerNs = measure(
+            () -> TermGapScanner.scanForGap(termBuffer, TERM_ID, rebuildOffset, hwmOffset, GAP_HANDLER));
+        final int scannerGapLength = gapLength;
+
+        final double bitmapNs = measure(
+            () -> arrivalBitmap.scanForGap(termBuffer, PARTITION_INDEX, TERM_ID, rebuildOffset, hwmOffset, GAP_HANDLER));
+
+        if (gapLength != scannerGapLength)
+        {
+            throw new IllegalStateException("gap length mismatch: scanner=" + scannerGapLength + " bitmap=" + gapLength);
+        }
+
+        System.out.format(
+            "%8dMB %12s %14d %14.1f %14.1f%n", windowLength >> 20, name, gapLength, scannerNs, bitmapNs);
+    }
+
+    private static double measure(final Runnable scan)
+    {
+        for (int i = 0; i < 10; i++)
+        {
+            scan.run();
+        }
+
+        long iterations = 0;
+        final long start = System.nanoTime();
+        long elapsedNs;
+
+        do
+        {
+            scan.run();
+            iterations++;
+            elapsedNs = System.nanoTime() - start;
+        }
+        while (elapsedNs < MEASUREMENT_NS);
+
+        return (double)elapsedNs / iterations;
+    }
+}
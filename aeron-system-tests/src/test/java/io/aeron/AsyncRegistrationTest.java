@@ -0,0 +1,129 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.exceptions.RegistrationException;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class AsyncRegistrationTest
+{
+    public static final String CHANNEL = "aeron:ipc";
+    public static final String INVALID_CHANNEL = "aeron:udp?endpoint=";
+    public static final int SUBSCRIPTION_COUNT = 100;
+    public static final int FRAGMENT_COUNT_LIMIT = 10;
+    public static final int TERM_BUFFER_LENGTH = 64 * 1024;
+
+    @Test(timeout = 10000)
+    public void shouldAddManySubscriptionsAndPublicationsAsynchronously() throws Exception
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context().ipcTermBufferLength(TERM_BUFFER_LENGTH);
+
+        try (final MediaDriver ignore = MediaDriver.launch(ctx);
+             final Aeron client = Aeron.connect(new Aeron.Context()))
+        {
+            final long[] subscriptionIds = new long[SUBSCRIPTION_COUNT];
+            for (int i = 0; i < SUBSCRIPTION_COUNT; i++)
+            {
+                subscriptionIds[i] = client.asyncAddSubscription(CHANNEL, i);
+            }
+
+            final long[] publicationIds = new long[SUBSCRIPTION_COUNT];
+            for (int i = 0; i < SUBSCRIPTION_COUNT; i++)
+            {
+                publicationIds[i] = client.asyncAddPublication(CHANNEL, i);
+            }
+
+            final Subscription[] subscriptions = new Subscription[SUBSCRIPTION_COUNT];
+            final Publication[] publications = new Publication[SUBSCRIPTION_COUNT];
+            for (int i = 0; i < SUBSCRIPTION_COUNT; i++)
+            {
+                while (null == (subscriptions[i] = client.getSubscription(subscriptionIds[i])))
+                {
+                    Thread.yield();
+                }
+
+                while (null == (publications[i] = client.getPublication(publicationIds[i])))
+                {
+                    Thread.yield();
+                }
+
+                assertThat(subscriptions[i].streamId(), is(i));
+                assertThat(publications[i].streamId(), is(i));
+            }
+
+            final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[64]);
+            final AtomicInteger fragmentCount = new AtomicInteger();
+            final FragmentHandler fragmentHandler = (buffer, offset, length, header) -> fragmentCount.incrementAndGet();
+
+            for (int i = 0; i < SUBSCRIPTION_COUNT; i++)
+            {
+                while (publications[i].offer(srcBuffer) < 0L)
+                {
+                    Thread.yield();
+                }
+
+                while (subscriptions[i].poll(fragmentHandler, FRAGMENT_COUNT_LIMIT) == 0)
+                {
+                    Thread.yield();
+                }
+            }
+
+            assertThat(fragmentCount.get(), is(SUBSCRIPTION_COUNT));
+
+            for (int i = 0; i < SUBSCRIPTION_COUNT; i++)
+            {
+                client.asyncRemovePublication(publications[i]);
+                client.asyncRemoveSubscription(subscriptions[i]);
+
+                assertThat(publications[i].isClosed(), is(true));
+                assertThat(subscriptions[i].isClosed(), is(true));
+            }
+        }
+        finally
+        {
+            ctx.deleteAeronDirectory();
+        }
+    }
+
+    @Test(timeout = 10000, expected = RegistrationException.class)
+    public void shouldReportErrorForInvalidChannelWhenPolled() throws Exception
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context();
+
+        try (final MediaDriver ignore = MediaDriver.launch(ctx);
+             final Aeron client = Aeron.connect(new Aeron.Context()))
+        {
+            final long registrationId = client.asyncAddSubscription(INVALID_CHANNEL, 1);
+
+            while (null == client.getSubscription(registrationId))
+            {
+                Thread.yield();
+            }
+        }
+        finally
+        {
+            ctx.deleteAeronDirectory();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ConductorInvokerTest
+{
+    public static final String CHANNEL = "aeron:ipc";
+    public static final int STREAM_ID = 1;
+    public static final int TERM_BUFFER_LENGTH = 64 * 1024;
+    public static final int FRAGMENT_COUNT_LIMIT = 10;
+
+    @Test(timeout = 10000)
+    public void shouldExchangeMessagesWithConductorRunOnApplicationThread() throws Exception
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context().ipcTermBufferLength(TERM_BUFFER_LENGTH);
+        final AtomicInteger availableImageCount = new AtomicInteger();
+        final Aeron.Context clientCtx = new Aeron.Context()
+            .useConductorInvoker(true)
+            .availableImageHandler((image) -> availableImageCount.incrementAndGet());
+
+        try (final MediaDriver ignore = MediaDriver.launch(ctx);
+             final Aeron client = Aeron.connect(clientCtx);
+             final Publication publication = client.addPublication(CHANNEL, STREAM_ID))
+        {
+            final long registrationId = client.asyncAddSubscription(CHANNEL, STREAM_ID);
+
+            Subscription subscription;
+            while (null == (subscription = client.getSubscription(registrationId)))
+            {
+                client.invokeConductor();
+            }
+
+            while (availableImageCount.get() == 0)
+            {
+                client.invokeConductor();
+            }
+
+            final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[64]);
+            final AtomicInteger fragmentCount = new AtomicInteger();
+            final FragmentHandler fragmentHandler = (buffer, offset, length, header) -> fragmentCount.incrementAndGet();
+
+            while (publication.offer(srcBuffer) < 0L)
+            {
+                client.invokeConductor();
+            }
+
+            while (subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT) == 0)
+            {
+                client.invokeConductor();
+            }
+
+            assertThat(fragmentCount.get(), is(1));
+
+            subscription.close();
+        }
+        finally
+        {
+            ctx.deleteAeronDirectory();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.status.SegmentedCountersManager;
+import io.aeron.driver.status.SubscriberPos;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.Position;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test that the driver counters grow beyond the first segment to hold the positions of many streams, reuse freed
+ * counters, and that clients discover the segments added after they connect.
+ */
+public class CounterSegmentsTest
+{
+    public static final String CHANNEL = "aeron:ipc";
+    public static final int STREAM_ID = 1;
+    public static final int TERM_BUFFER_LENGTH = 64 * 1024;
+    public static final int FRAGMENT_COUNT_LIMIT = 10;
+    public static final int POSITION_COUNT = 100_000;
+
+    @Test(timeout = 20000)
+    public void shouldScalePositionCountersBeyondFirstSegment() throws Exception
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.INVOKER)
+            .ipcTermBufferLength(TERM_BUFFER_LENGTH);
+
+        try (final MediaDriver driver = MediaDriver.launch(ctx))
+        {
+            final Agent driverAgent = driver.sharedAgent();
+            final SegmentedCountersManager countersManager = ctx.segmentedCountersManager();
+            final int initialCount = countersManager.allocatedCount();
+
+            final Position[] positions = new Position[POSITION_COUNT];
+            for (int i = 0; i < POSITION_COUNT; i++)
+            {
+                positions[i] = SubscriberPos.allocate(countersManager, i, i, STREAM_ID, CHANNEL);
+            }
+
+            final int segmentCount = countersManager.segmentCount();
+            assertThat(segmentCount, greaterThan(1));
+            assertThat(countersManager.allocatedCount(), is(initialCount + POSITION_COUNT));
+
+            for (int i = 0; i < POSITION_COUNT; i += 2)
+            {
+                positions[i].close();
+            }
+
+            for (int i = 0; i < POSITION_COUNT; i += 2)
+            {
+                positions[i] = SubscriberPos.allocate(countersManager, i, i, STREAM_ID, CHANNEL);
+            }
+
+            assertThat(countersManager.segmentCount(), is(segmentCount));
+            assertThat(countersManager.allocatedCount(), is(initialCount + POSITION_COUNT));
+
+            final Aeron.Context clientCtx = new Aeron.Context().driverAgent(driverAgent);
+            try (final Aeron client = Aeron.connect(clientCtx);
+                 final Subscription subscription = client.addSubscription(CHANNEL, STREAM_ID);
+                 final Publication publication = client.addPublication(CHANNEL, STREAM_ID))
+            {
+                final SegmentedCountersReader countersReader = clientCtx.countersReader();
+                final Position lastPosition = positions[POSITION_COUNT - 1];
+                lastPosition.setOrdered(POSITION_COUNT);
+
+                assertThat(lastPosition.id(), greaterThanOrEqualTo(POSITION_COUNT));
+                assertThat(countersReader.getCounterValue(lastPosition.id()), is((long)POSITION_COUNT));
+                assertThat(countersReader.segmentCount(), greaterThanOrEqualTo(segmentCount));
+
+                final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[64]);
+                final AtomicInteger fragmentCount = new AtomicInteger();
+                final FragmentHandler fragmentHandler = (buffer, offset, length, header) -> fragmentCount.incrementAndGet();
+
+                while (publication.offer(srcBuffer) < 0L)
+                {
+                    driverAgent.doWork();
+                }
+
+                while (subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT) == 0)
+                {
+                    driverAgent.doWork();
+                }
+
+                assertThat(fragmentCount.get(), is(1));
+            }
+        }
+        finally
+        {
+            ctx.deleteAeronDirectory();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+public class DriverInvokerTest
+{
+    public static final String UDP_CHANNEL = "aeron:udp?endpoint=localhost:54325";
+    public static final String IPC_CHANNEL = "aeron:ipc";
+    public static final int STREAM_ID = 1;
+    public static final int TERM_BUFFER_LENGTH = 64 * 1024;
+    public static final int FRAGMENT_COUNT_LIMIT = 10;
+    public static final int MESSAGE_COUNT = 100;
+
+    @Test(timeout = 10000)
+    public void shouldExchangeMessagesOverUdpWithDriverInvokedByApplication() throws Exception
+    {
+        shouldExchangeMessagesWithDriverInvokedByApplication(UDP_CHANNEL);
+    }
+
+    @Test(timeout = 10000)
+    public void shouldExchangeMessagesOverIpcWithDriverInvokedByApplication() throws Exception
+    {
+        shouldExchangeMessagesWithDriverInvokedByApplication(IPC_CHANNEL);
+    }
+
+    private void shouldExchangeMessagesWithDriverInvokedByApplication(final String channel) throws Exception
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.INVOKER)
+            .publicationTermBufferLength(TERM_BUFFER_LENGTH)
+            .ipcTermBufferLength(TERM_BUFFER_LENGTH);
+
+        try (final MediaDriver driver = MediaDriver.launch(ctx))
+        {
+            final Agent driverAgent = driver.sharedAgent();
+            assertThat(driverAgent, notNullValue());
+
+            try (final Aeron client = Aeron.connect(new Aeron.Context().driverAgent(driverAgent));
+                 final Subscription subscription = client.addSubscription(channel, STREAM_ID);
+                 final Publication publication = client.addPublication(channel, STREAM_ID))
+            {
+                final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[64]);
+                final AtomicInteger fragmentCount = new AtomicInteger();
+                final FragmentHandler fragmentHandler =
+                    (buffer, offset, length, header) -> fragmentCount.incrementAndGet();
+
+                for (int i = 0; i < MESSAGE_COUNT; i++)
+                {
+                    while (publication.offer(srcBuffer) < 0L)
+                    {
+                        driverAgent.doWork();
+                    }
+
+                    while (subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT) == 0)
+                    {
+                        driverAgent.doWork();
+                    }
+                }
+
+                assertThat(fragmentCount.get(), is(MESSAGE_COUNT));
+            }
+        }
+        finally
+        {
+            ctx.deleteAeronDirectory();
+        }
+    }
+}
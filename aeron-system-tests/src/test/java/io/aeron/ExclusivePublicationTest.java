@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.collections.IntHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public class ExclusivePublicationTest
+{
+    public static final String UDP_CHANNEL = "aeron:udp?endpoint=localhost:54325";
+    public static final String IPC_CHANNEL = "aeron:ipc";
+    public static final int STREAM_ID = 1;
+    public static final int FRAGMENT_COUNT_LIMIT = 10;
+
+    @Test(timeout = 10000)
+    public void shouldReceiveUdpExclusivePublicationsAsSeparateImages() throws Exception
+    {
+        shouldReceiveExclusivePublicationsAsSeparateImages(UDP_CHANNEL);
+    }
+
+    @Test(timeout = 10000)
+    public void shouldReceiveIpcExclusivePublicationsAsSeparateImages() throws Exception
+    {
+        shouldReceiveExclusivePublicationsAsSeparateImages(IPC_CHANNEL);
+    }
+
+    private void shouldReceiveExclusivePublicationsAsSeparateImages(final String channel)
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context();
+        final IntHashSet sessionIds = new IntHashSet(-1);
+        final FragmentHandler fragmentHandler = (buffer, offset, length, header) -> sessionIds.add(header.sessionId());
+
+        try (final MediaDriver ignore = MediaDriver.launch(ctx);
+             final Aeron client = Aeron.connect(new Aeron.Context());
+             final Subscription subscription = client.addSubscription(channel, STREAM_ID);
+             final Publication publicationOne = client.addExclusivePublication(channel, STREAM_ID);
+             final Publication publicationTwo = client.addExclusivePublication(channel, STREAM_ID))
+        {
+            assertThat(publicationOne.sessionId(), is(not(publicationTwo.sessionId())));
+
+            final UnsafeBuffer srcBuffer = new UnsafeBuffer("Hello, World! here is a small message".getBytes());
+
+            while (publicationOne.offer(srcBuffer) < 0L)
+            {
+                Thread.yield();
+            }
+
+            while (publicationTwo.offer(srcBuffer) < 0L)
+            {
+                Thread.yield();
+            }
+
+            while (sessionIds.size() < 2)
+            {
+                if (subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT) == 0)
+                {
+                    Thread.yield();
+                }
+            }
+
+            assertThat(sessionIds.contains(publicationOne.sessionId()), is(true));
+            assertThat(sessionIds.contains(publicationTwo.sessionId()), is(true));
+        }
+        finally
+        {
+            ctx.deleteAeronDirectory();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.LogWakeup;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ImageWakeupTest
+{
+    public static final String IPC_CHANNEL = "aeron:ipc";
+    public static final int STREAM_ID = 1;
+    public static final int ROUNDS = 20;
+    public static final long WAKEUP_THRESHOLD_NS = LogWakeup.MAX_PARK_NS / 4;
+
+    @Test(timeout = 10000)
+    public void shouldWakeIpcSubscriberParkedInAwaitAvailableOnOffer() throws Exception
+    {
+        final AtomicLong offerTimeNs = new AtomicLong();
+        final AtomicLong wakeupCount = new AtomicLong();
+        final AtomicLong fastWakeupCount = new AtomicLong();
+
+        final MediaDriver.Context ctx = new MediaDriver.Context();
+
+        try (final MediaDriver ignore = MediaDriver.launch(ctx);
+             final Aeron client = Aeron.connect(new Aeron.Context());
+             final Subscription subscription = client.addSubscription(IPC_CHANNEL, STREAM_ID);
+             final Publication publication = client.addPublication(IPC_CHANNEL, STREAM_ID))
+        {
+            while (subscription.imageCount() == 0)
+            {
+                Thread.yield();
+            }
+
+            final Image image = subscription.images().get(0);
+            final FragmentHandler fragmentHandler = (buffer, offset, length, header) -> assertThat(length, is(64));
+            final Thread subscriber = new Thread(
+                () ->
+                {
+                    for (int i = 0; i < ROUNDS; i++)
+                    {
+                        if (image.awaitAvailable(TimeUnit.SECONDS.toNanos(5)))
+                        {
+                            if ((System.nanoTime() - offerTimeNs.get()) < WAKEUP_THRESHOLD_NS)
+                            {
+                                fastWakeupCount.incrementAndGet();
+                            }
+
+                            image.poll(fragmentHandler, 1);
+                        }
+
+                        wakeupCount.incrementAndGet();
+                    }
+                });
+            subscriber.start();
+
+            final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[64]);
+            for (int i = 0; i < ROUNDS; i++)
+            {
+                // long enough for the subscriber to have backed off to parking for the longest slice
+                Thread.sleep(20);
+
+                offerTimeNs.set(System.nanoTime());
+                while (publication.offer(srcBuffer) < 0L)
+                {
+                    Thread.yield();
+                }
+
+                while (wakeupCount.get() <= i)
+                {
+                    Thread.yield();
+                }
+            }
+
+            subscriber.join();
+        }
+        finally
+        {
+            ctx.deleteAeronDirectory();
+        }
+
+        assertThat(fastWakeupCount.get(), greaterThanOrEqualTo(ROUNDS * 3L / 4));
+    }
+}
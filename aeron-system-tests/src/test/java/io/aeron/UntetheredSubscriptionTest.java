@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014 - 2016 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class UntetheredSubscriptionTest
+{
+    public static final String UDP_CHANNEL = "aeron:udp?endpoint=localhost:54325";
+    public static final String IPC_CHANNEL = "aeron:ipc";
+    public static final String UNTETHERED_PARAM = "tether=false";
+    public static final int STREAM_ID = 1;
+    public static final int TERM_BUFFER_LENGTH = 64 * 1024;
+    public static final int FRAGMENT_COUNT_LIMIT = 10;
+
+    @Test(timeout = 10000)
+    public void shouldNotHoldBackUdpPublicationWithUntetheredSubscription() throws Exception
+    {
+        shouldNotHoldBackPublicationWithUntetheredSubscription(UDP_CHANNEL, UDP_CHANNEL + "|" + UNTETHERED_PARAM);
+    }
+
+    @Test(timeout = 10000)
+    public void shouldNotHoldBackIpcPublicationWithUntetheredSubscription() throws Exception
+    {
+        shouldNotHoldBackPublicationWithUntetheredSubscription(IPC_CHANNEL, IPC_CHANNEL + "?" + UNTETHERED_PARAM);
+    }
+
+    private void shouldNotHoldBackPublicationWithUntetheredSubscription(
+        final String channel, final String untetheredChannel)
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .publicationTermBufferLength(TERM_BUFFER_LENGTH)
+            .ipcTermBufferLength(TERM_BUFFER_LENGTH);
+
+        final AtomicBoolean isUntetheredImageUnavailable = new AtomicBoolean();
+        final Aeron.Context clientCtx = new Aeron.Context()
+            .unavailableImageHandler(
+                (image) ->
+                {
+                    if (image.subscription().channel().equals(untetheredChannel))
+                    {
+                        isUntetheredImageUnavailable.set(true);
+                    }
+                });
+
+        final FragmentHandler fragmentHandler = (buffer, offset, length, header) -> assertThat(length, is(64));
+
+        try (final MediaDriver ignore = MediaDriver.launch(ctx);
+             final Aeron client = Aeron.connect(clientCtx);
+             final Subscription tetheredSubscription = client.addSubscription(channel, STREAM_ID);
+             final Subscription untetheredSubscription = client.addSubscription(untetheredChannel, STREAM_ID);
+             final Publication publication = client.addPublication(channel, STREAM_ID))
+        {
+            final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[64]);
+
+            while (untetheredSubscription.imageCount() == 0)
+            {
+                Thread.yield();
+            }
+
+            while (!isUntetheredImageUnavailable.get() || publication.position() < (TERM_BUFFER_LENGTH * 4))
+            {
+                if (publication.offer(srcBuffer) < 0L)
+                {
+                    Thread.yield();
+                }
+
+                tetheredSubscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT);
+            }
+        }
+        finally
+        {
+            ctx.deleteAeronDirectory();
+        }
+    }
+}